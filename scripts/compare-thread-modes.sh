@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(Undertow worker 풀) vs 가상 스레드 모드 부하 비교
+#
+# 사용법: scripts/compare-thread-modes.sh <user> <password> [concurrency] [seconds]
+#   - 로컬 MariaDB(application.yml 의 spring.datasource)가 떠 있어야 함
+#   - 두 모드를 차례로 띄워 같은 시나리오를 돌리고 결과 표를 출력
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+USER_ID=${1:?user}; PASSWORD=${2:?password}
+CONCURRENCY=${3:-400}; SECONDS_=${4:-30}
+PORT=${PORT:-18091}
+PATHS=(--path=/api/boards/NORM/posts --path=/api/boards/BUS/posts --path=/api/menus --path=/api/me)
+
+./mvnw -q -B -DskipTests package
+./mvnw -q -B test-compile
+JAR=$(ls target/*.jar | grep -v original | head -1)
+
+for VIRTUAL in false true; do
+  LABEL=$([ "$VIRTUAL" = true ] && echo virtual || echo platform)
+  java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$VIRTUAL" \
+       --logging.level.org.springframework.security=WARN > "target/loadtest-$LABEL.log" 2>&1 &
+  APP=$!
+  trap 'kill $APP 2>/dev/null || true' EXIT
+  for _ in $(seq 60); do curl -fs "http://localhost:$PORT/login" > /dev/null && break; sleep 1; done
+
+  java -cp target/test-classes com.example.demo.loadtest.LoadDriver \
+       --base="http://localhost:$PORT" --user="$USER_ID" --password="$PASSWORD" \
+       --concurrency="$CONCURRENCY" --duration="$SECONDS_" --label="$LABEL" "${PATHS[@]}"
+
+  kill "$APP"; wait "$APP" 2>/dev/null || true
+done
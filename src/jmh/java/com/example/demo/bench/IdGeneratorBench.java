@@ -0,0 +1,56 @@
+// src/jmh/java/com/example/demo/bench/IdGeneratorBench.java
+package com.example.demo.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.id.RandomIdGenerator;
+import com.example.demo.id.TimeOrderedIdGenerator;
+
+/**
+ * 키 생성 비용: 예전 랜덤 UUID(SecureRandom) vs 시간순(UUID v7 / 16자 base32)
+ * 4 스레드가 같은 생성기를 두드려 단조 카운터(CAS) 경합까지 포함.
+ * 삽입 속도/인덱스 크기 비교는 datagen 프로필(app.datagen.ids=ordered|random)로 실제 DB 에서 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBench {
+
+  private final RandomIdGenerator random = new RandomIdGenerator();
+  private final TimeOrderedIdGenerator ordered = new TimeOrderedIdGenerator(1);
+
+  @Benchmark
+  public String randomUuid() {
+    return random.uuid();
+  }
+
+  @Benchmark
+  public String randomShortId() {
+    return random.shortId();
+  }
+
+  @Benchmark
+  public String orderedUuid() {
+    return ordered.uuid();
+  }
+
+  @Benchmark
+  public String orderedShortId() {
+    return ordered.shortId();
+  }
+}
@@ -0,0 +1,94 @@
+// src/jmh/java/com/example/demo/bench/JsonBench.java
+package com.example.demo.bench;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.PageDTO;
+import com.example.demo.dto.PostDto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 응답 JSON 직렬화 비용: 댓글 목록(List&lt;CommentDto&gt;), 게시판 페이지(PageDTO&lt;PostDto&gt;)
+ * ObjectMapper 는 Boot 와 같은 Jackson2ObjectMapperBuilder 기본값(JavaTimeModule 포함)으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBench {
+
+  @Param({"10", "50"})
+  int items;
+
+  private ObjectMapper mapper;
+  private List<CommentDto> comments;
+  private PageDTO<PostDto> page;
+
+  @Setup
+  public void setUp() {
+    mapper = Jackson2ObjectMapperBuilder.json().build();
+    LocalDateTime now = LocalDateTime.now();
+    String post = UUID.randomUUID().toString();
+
+    comments = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      CommentDto c = new CommentDto();
+      c.setUuid(UUID.randomUUID().toString());
+      c.setPostUuid(post);
+      c.setDepth(i % 3 == 0 ? 0 : 1);
+      c.setWriterId("user" + (i % 17));
+      c.setWriterName("user" + (i % 17));
+      c.setContent("댓글 내용입니다 " + i);
+      c.setStatus("ACTIVE");
+      c.setCreatedAt(now);
+      comments.add(c);
+    }
+
+    List<PostDto> posts = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      PostDto p = new PostDto();
+      p.setPostId(100_000L + i);
+      p.setBoardCode("BUS");
+      p.setTitle("제목 " + i);
+      p.setContent("본문 ".repeat(60));
+      p.setWriterId("user" + (i % 17));
+      p.setWriterName("사용자" + (i % 17));
+      p.setCreatedAt(now);
+      p.setUpdatedAt(now);
+      posts.add(p);
+    }
+    page = new PageDTO<>(posts, 12_345, 0, items);
+  }
+
+  @Benchmark
+  public byte[] commentList() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(comments);
+  }
+
+  @Benchmark
+  public byte[] postPage() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(page);
+  }
+}
@@ -0,0 +1,120 @@
+// src/jmh/java/com/example/demo/bench/SecurityFilterChainBench.java
+package com.example.demo.bench;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.example.demo.config.SecurityConfig;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+
+/**
+ * SecurityConfig 필터 체인을 모의 요청으로 통과시키는 비용
+ *
+ * - staticAsset    : GET /app.js (staticResourcesChain: 세션/CSRF/인가 생략)
+ * - publicPage     : GET /login (기본 체인 permitAll — 정적 체인 분리 전 staticAsset 이 거치던 경로와 같은 비용)
+ * - anonymousApi   : GET /api/boards/BUS/posts, 비로그인 → 401
+ * - sessionApi     : 같은 요청, 세션에 인증 정보 있음 → 컨트롤러까지 통과
+ * 전체 애플리케이션 대신 SecurityConfig + MVC 최소 구성만 띄운다(DB 불필요).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterChainBench {
+
+  @Configuration
+  @EnableWebMvc
+  @Import(SecurityConfig.class)
+  static class BenchConfig {
+    @Bean
+    UserDetailsService userDetailsService() {
+      return new InMemoryUserDetailsManager(User.withUsername("bench").password("{noop}x").roles("USER").build());
+    }
+  }
+
+  private AnnotationConfigWebApplicationContext ctx;
+  private Filter chain;
+  private MockHttpSession session;
+
+  @Setup
+  public void setUp() {
+    ctx = new AnnotationConfigWebApplicationContext();
+    ctx.setServletContext(new MockServletContext());
+    ctx.register(BenchConfig.class);
+    ctx.refresh();
+    chain = ctx.getBean("springSecurityFilterChain", Filter.class);
+
+    session = new MockHttpSession();
+    var auth = UsernamePasswordAuthenticationToken.authenticated("bench", null,
+        List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(auth));
+  }
+
+  @TearDown
+  public void tearDown() {
+    ctx.close();
+  }
+
+  private int run(String uri, MockHttpSession s) throws IOException, ServletException {
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+    req.setServletPath(uri);
+    if (s != null) req.setSession(s);
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    chain.doFilter(req, res, new MockFilterChain());
+    return res.getStatus();
+  }
+
+  @Benchmark
+  public int staticAsset() throws IOException, ServletException {
+    return run("/app.js", null);
+  }
+
+  @Benchmark
+  public int publicPage() throws IOException, ServletException {
+    return run("/login", null);
+  }
+
+  @Benchmark
+  public int anonymousApi() throws IOException, ServletException {
+    return run("/api/boards/BUS/posts", null);
+  }
+
+  @Benchmark
+  public int sessionApi() throws IOException, ServletException {
+    return run("/api/boards/BUS/posts", session);
+  }
+}
@@ -0,0 +1,72 @@
+// src/jmh/java/com/example/demo/dao/MenuTreeBench.java
+package com.example.demo.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MenuDao.findTree 의 조립 단계(대메뉴 + 소메뉴 → children) 비용
+ * 조립은 children 키를 덮어쓰기만 하므로 같은 입력을 반복 사용해도 결과가 같다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuTreeBench {
+
+  @Param({"8"})
+  int topMenus;
+
+  @Param({"5", "20"})
+  int childrenPerTop;
+
+  private List<Map<String, Object>> top;
+  private List<Map<String, Object>> sub;
+
+  @Setup
+  public void setUp() {
+    top = new ArrayList<>();
+    sub = new ArrayList<>();
+    for (int t = 0; t < topMenus; t++) {
+      String uuid = "top-" + t;
+      top.add(row(uuid, "대메뉴 " + t, 1, t, null));
+      for (int c = 0; c < childrenPerTop; c++) {
+        sub.add(row(uuid + "-" + c, "소메뉴 " + c, 2, c, uuid));
+      }
+    }
+  }
+
+  private static Map<String, Object> row(String uuid, String name, int depth, int priority, String parent) {
+    Map<String, Object> m = new HashMap<>();                       // queryForList 가 돌려주는 것과 같은 Map 행
+    m.put("uuid", uuid);
+    m.put("menu_name", name);
+    m.put("depth", depth);
+    m.put("priority", priority);
+    m.put("path", "/" + uuid);
+    m.put("template_url", "/tpl/" + uuid + ".html");
+    m.put("parent_uuid", parent);
+    return m;
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> assembleTree() {
+    return MenuDao.assembleTree(top, sub);
+  }
+}
@@ -0,0 +1,120 @@
+// src/jmh/java/com/example/demo/dao/RowMappingBench.java
+package com.example.demo.dao;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ResultSet → DTO 매핑 비용(PostDao.mapRow, CommentDao.RM)
+ * DB 없이 JDK CachedRowSet(메모리 ResultSet)에 한 페이지 분량을 채워 두고 매핑만 반복한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBench {
+
+  @Param({"10", "50"})
+  int rows;
+
+  private CachedRowSet posts;
+  private CachedRowSet comments;
+  private PostDao.SchemaInfo schema;
+
+  @Setup
+  public void setUp() throws SQLException {
+    schema = new PostDao.SchemaInfo();
+    schema.table = "post";
+    schema.id = "post_id";
+    schema.board = "board_code";
+    schema.title = "title";
+    schema.content = "content";
+    schema.writerId = "writer_id";
+    schema.writerName = "writer_name";
+    schema.createdAt = "created_at";
+    schema.updatedAt = "updated_at";
+
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    posts = rowSet(new String[] {"post_id", "board_code", "title", "content", "writer_id", "writer_name", "created_at", "updated_at"});
+    for (int i = 0; i < rows; i++) {
+      posts.moveToInsertRow();
+      posts.updateString(1, Integer.toString(100_000 + i));
+      posts.updateString(2, "BUS");
+      posts.updateString(3, "제목 " + i);
+      posts.updateString(4, "본문 ".repeat(60) + i);
+      posts.updateString(5, "user" + (i % 17));
+      posts.updateString(6, "사용자" + (i % 17));
+      posts.updateTimestamp(7, now);
+      posts.updateTimestamp(8, now);
+      posts.insertRow();
+      posts.moveToCurrentRow();
+    }
+
+    comments = rowSet(new String[] {"uuid", "post_uuid", "parent_uuid", "depth", "author_id", "content", "status", "created_at", "updated_at"});
+    String post = UUID.randomUUID().toString();
+    for (int i = 0; i < rows; i++) {
+      comments.moveToInsertRow();
+      comments.updateString(1, UUID.randomUUID().toString());
+      comments.updateString(2, post);
+      comments.updateString(3, null);
+      comments.updateInt(4, 0);
+      comments.updateString(5, "user" + (i % 17));
+      comments.updateString(6, "댓글 내용 " + i);
+      comments.updateString(7, "ACTIVE");
+      comments.updateTimestamp(8, now);
+      comments.updateTimestamp(9, null);
+      comments.insertRow();
+      comments.moveToCurrentRow();
+    }
+  }
+
+  private static CachedRowSet rowSet(String[] cols) throws SQLException {
+    RowSetMetaDataImpl md = new RowSetMetaDataImpl();
+    md.setColumnCount(cols.length);
+    for (int i = 0; i < cols.length; i++) {
+      md.setColumnName(i + 1, cols[i]);
+      md.setColumnLabel(i + 1, cols[i]);
+      md.setColumnType(i + 1, cols[i].endsWith("_at") ? Types.TIMESTAMP : "depth".equals(cols[i]) ? Types.INTEGER : Types.VARCHAR);
+      md.setNullable(i + 1, ResultSetMetaData.columnNullable);
+    }
+    CachedRowSet rs = RowSetProvider.newFactory().createCachedRowSet();
+    rs.setMetaData(md);
+    return rs;
+  }
+
+  @Benchmark
+  public void postMapRow(Blackhole bh) throws SQLException {
+    posts.beforeFirst();
+    while (posts.next()) bh.consume(PostDao.mapRow(posts, schema));
+  }
+
+  @Benchmark
+  public void commentMapRow(Blackhole bh) throws SQLException {
+    comments.beforeFirst();
+    int i = 0;
+    while (comments.next()) bh.consume(CommentDao.RM.mapRow(comments, i++));
+  }
+}
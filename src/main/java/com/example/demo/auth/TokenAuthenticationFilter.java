@@ -0,0 +1,46 @@
+// src/main/java/com/example/demo/auth/TokenAuthenticationFilter.java
+package com.example.demo.auth;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * access 토큰 → SecurityContext (무상태 모드 전용, SecurityConfig 가 체인에 직접 추가)
+ *
+ * 토큰의 sub/roles 만으로 Authentication 을 만든다(UserDetailsService/DB 조회 없음).
+ * 토큰이 없거나 무효면 아무것도 하지 않음 → 뒤쪽 인가 규칙이 401/로그인 페이지로 처리.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+  private final TokenService tokens;
+
+  public TokenAuthenticationFilter(TokenService tokens) {
+    this.tokens = tokens;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+    TokenService.Claims claims = tokens.fromRequest(req);
+    if (claims != null) {
+      List<GrantedAuthority> authorities = claims.roles().stream()
+          .<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+      SecurityContext ctx = SecurityContextHolder.createEmptyContext();
+      ctx.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(claims.subject(), null, authorities));
+      SecurityContextHolder.setContext(ctx);
+    }
+    chain.doFilter(req, res);
+  }
+}
@@ -0,0 +1,50 @@
+// src/main/java/com/example/demo/auth/TokenProperties.java
+package com.example.demo.auth;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 무상태(서명 토큰) 인증 설정 (application.yml: app.token.*)
+ *
+ * enabled=false(기본) 이면 기존 폼 로그인 + HttpSession 그대로.
+ * enabled=true 이면 세션을 만들지 않고, 로그인 성공 시 access/refresh 토큰(HS256 서명)을 발급한다.
+ *   secret          : 모든 노드가 같은 값을 써야 함(32바이트 이상). 비우면 기동마다 임의 생성(단일 노드 개발용)
+ *   previous-secret : 키 교체 중 이전 키(검증만, 서명은 secret)
+ */
+@ConfigurationProperties(prefix = "app.token")
+public class TokenProperties {
+
+  private boolean enabled = false;
+  private String issuer = "demo";
+  private String secret = "";
+  private String previousSecret = "";
+  private Duration accessTtl = Duration.ofMinutes(15);
+  private Duration refreshTtl = Duration.ofDays(14);
+  private Duration clockSkew = Duration.ofSeconds(30);               // 노드 간 시계 오차 허용
+  private String accessCookie = "ACCESS_TOKEN";
+  private String refreshCookie = "REFRESH_TOKEN";
+  private boolean cookieSecure = false;                              // HTTPS 종단이면 true
+
+  public boolean isEnabled() { return enabled; }
+  public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  public String getIssuer() { return issuer; }
+  public void setIssuer(String issuer) { this.issuer = issuer; }
+  public String getSecret() { return secret; }
+  public void setSecret(String secret) { this.secret = secret; }
+  public String getPreviousSecret() { return previousSecret; }
+  public void setPreviousSecret(String previousSecret) { this.previousSecret = previousSecret; }
+  public Duration getAccessTtl() { return accessTtl; }
+  public void setAccessTtl(Duration accessTtl) { this.accessTtl = accessTtl; }
+  public Duration getRefreshTtl() { return refreshTtl; }
+  public void setRefreshTtl(Duration refreshTtl) { this.refreshTtl = refreshTtl; }
+  public Duration getClockSkew() { return clockSkew; }
+  public void setClockSkew(Duration clockSkew) { this.clockSkew = clockSkew; }
+  public String getAccessCookie() { return accessCookie; }
+  public void setAccessCookie(String accessCookie) { this.accessCookie = accessCookie; }
+  public String getRefreshCookie() { return refreshCookie; }
+  public void setRefreshCookie(String refreshCookie) { this.refreshCookie = refreshCookie; }
+  public boolean isCookieSecure() { return cookieSecure; }
+  public void setCookieSecure(boolean cookieSecure) { this.cookieSecure = cookieSecure; }
+}
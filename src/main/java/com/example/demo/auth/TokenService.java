@@ -0,0 +1,199 @@
+// src/main/java/com/example/demo/auth/TokenService.java
+package com.example.demo.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseCookie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 서명 토큰 발급/검증 (JWT 호환 HS256: base64url(header).base64url(payload).base64url(HMAC))
+ *
+ * - 검증은 HMAC 1회 + JSON 파싱뿐 — DB/세션 조회 없음 → 어느 노드에서든 같은 결과(라운드로빈 가능)
+ * - access : sub + roles(권한 문자열) + exp, 요청마다 Authorization: Bearer 또는 ACCESS_TOKEN 쿠키로 전달
+ * - refresh: sub + exp(+jti), /api/auth/refresh 에서만 받음(쿠키 Path=/api/auth) → 재발급 시 DB 에서 권한 재조회
+ * - 외부 라이브러리 없이 JDK Mac 사용(스레드별 인스턴스 재사용)
+ */
+public class TokenService {
+
+  private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+  public static final String ACCESS = "access";
+  public static final String REFRESH = "refresh";
+
+  private static final String HEADER = b64("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+
+  /** 검증된 토큰 내용 */
+  public record Claims(String subject, String type, List<String> roles, long issuedAt, long expiresAt) {}
+
+  private final TokenProperties props;
+  private final ThreadLocal<Mac> signer;
+  private final ThreadLocal<Mac> previous;                           // 키 교체 중이 아니면 null
+
+  public TokenService(TokenProperties props) {
+    this.props = props;
+    byte[] key = props.getSecret() == null ? new byte[0] : props.getSecret().getBytes(StandardCharsets.UTF_8);
+    if (key.length == 0) {
+      key = new byte[32];
+      new SecureRandom().nextBytes(key);
+      log.warn("app.token.secret 미설정 — 임의 키 사용: 재기동 시 모든 토큰 무효, 여러 노드 간 공유 불가");
+    } else if (key.length < 32) {
+      throw new IllegalStateException("app.token.secret 은 32바이트 이상이어야 합니다.");
+    }
+    this.signer = mac(key);
+    String prev = props.getPreviousSecret();
+    this.previous = prev == null || prev.isEmpty() ? null : mac(prev.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public TokenProperties properties() {
+    return props;
+  }
+
+  /* ----------------------- 발급 ----------------------- */
+
+  public String issueAccess(String subject, Collection<String> roles) {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    claims.put("roles", List.copyOf(roles));
+    return issue(subject, ACCESS, props.getAccessTtl(), claims);
+  }
+
+  public String issueRefresh(String subject) {
+    return issue(subject, REFRESH, props.getRefreshTtl(), Map.of("jti", UUID.randomUUID().toString()));
+  }
+
+  private String issue(String subject, String type, Duration ttl, Map<String, Object> extra) {
+    long now = System.currentTimeMillis() / 1000;
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("iss", props.getIssuer());
+    body.put("sub", subject);
+    body.put("typ", type);
+    body.put("iat", now);
+    body.put("exp", now + ttl.toSeconds());
+    body.putAll(extra);
+    try {
+      String signingInput = HEADER + "." + b64(JSON.writeValueAsBytes(body));
+      return signingInput + "." + b64(signer.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    } catch (Exception e) {
+      throw new IllegalStateException("토큰 발급 실패", e);
+    }
+  }
+
+  /* ----------------------- 검증 ----------------------- */
+
+  /** 서명/발급자/만료/종류가 모두 맞으면 Claims, 아니면 null(예외 없음) */
+  public Claims verify(String token, String expectedType) {
+    if (token == null) return null;
+    int d1 = token.indexOf('.');
+    int d2 = token.lastIndexOf('.');
+    if (d1 <= 0 || d2 <= d1) return null;
+    byte[] input = token.substring(0, d2).getBytes(StandardCharsets.US_ASCII);
+    byte[] sig;
+    try {
+      sig = B64D.decode(token.substring(d2 + 1));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    if (!token.startsWith(HEADER + ".")) return null;                // alg 고정(HS256) — 헤더 조작 차단
+    if (!MessageDigest.isEqual(sig, signer.get().doFinal(input))
+        && (previous == null || !MessageDigest.isEqual(sig, previous.get().doFinal(input)))) {
+      return null;
+    }
+    try {
+      @SuppressWarnings("unchecked")
+      Map<String, Object> body = JSON.readValue(B64D.decode(token.substring(d1 + 1, d2)), Map.class);
+      long now = System.currentTimeMillis() / 1000;
+      long exp = ((Number) body.get("exp")).longValue();
+      if (now > exp + props.getClockSkew().toSeconds()) return null;
+      if (!props.getIssuer().equals(body.get("iss")) || !expectedType.equals(body.get("typ"))) return null;
+      List<String> roles = new ArrayList<>();
+      if (body.get("roles") instanceof List<?> l) l.forEach(r -> roles.add(String.valueOf(r)));
+      return new Claims((String) body.get("sub"), expectedType, roles,
+          ((Number) body.get("iat")).longValue(), exp);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /** 요청에서 access 토큰 찾기: Authorization: Bearer 우선, 없으면 쿠키 */
+  public Claims fromRequest(HttpServletRequest req) {
+    String h = req.getHeader("Authorization");
+    if (h != null && h.regionMatches(true, 0, "Bearer ", 0, 7)) return verify(h.substring(7).trim(), ACCESS);
+    String c = cookie(req, props.getAccessCookie());
+    return c == null ? null : verify(c, ACCESS);
+  }
+
+  /** RateLimitFilter 등 시큐리티 체인 밖에서 사용자명만 필요할 때 */
+  public String usernameOf(HttpServletRequest req) {
+    Claims c = fromRequest(req);
+    return c == null ? null : c.subject();
+  }
+
+  public static String cookie(HttpServletRequest req, String name) {
+    Cookie[] cookies = req.getCookies();
+    if (cookies == null) return null;
+    for (Cookie c : cookies) if (name.equals(c.getName())) return c.getValue();
+    return null;
+  }
+
+  /* ----------------------- 쿠키 ----------------------- */
+
+  /** access(Path=/) + refresh(Path=/api/auth) HttpOnly 쿠키 설정 */
+  public void writeCookies(HttpServletResponse res, String access, String refresh) {
+    res.addHeader("Set-Cookie", cookieHeader(props.getAccessCookie(), access, "/", props.getAccessTtl()));
+    if (refresh != null) {
+      res.addHeader("Set-Cookie", cookieHeader(props.getRefreshCookie(), refresh, "/api/auth", props.getRefreshTtl()));
+    }
+  }
+
+  public void clearCookies(HttpServletResponse res) {
+    res.addHeader("Set-Cookie", cookieHeader(props.getAccessCookie(), "", "/", Duration.ZERO));
+    res.addHeader("Set-Cookie", cookieHeader(props.getRefreshCookie(), "", "/api/auth", Duration.ZERO));
+  }
+
+  private String cookieHeader(String name, String value, String path, Duration maxAge) {
+    return ResponseCookie.from(name, value).httpOnly(true).secure(props.isCookieSecure())
+        .sameSite("Lax").path(path).maxAge(maxAge).build().toString();
+  }
+
+  /* ----------------------- 보조 ----------------------- */
+
+  private static ThreadLocal<Mac> mac(byte[] key) {
+    SecretKeySpec spec = new SecretKeySpec(key, "HmacSHA256");
+    return ThreadLocal.withInitial(() -> {
+      try {
+        Mac m = Mac.getInstance("HmacSHA256");
+        m.init(spec);
+        return m;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  private static String b64(byte[] b) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(b);
+  }
+}
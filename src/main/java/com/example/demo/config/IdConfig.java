@@ -0,0 +1,40 @@
+// src/main/java/com/example/demo/config/IdConfig.java
+package com.example.demo.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.id.IdGenerator;
+import com.example.demo.id.RandomIdGenerator;
+import com.example.demo.id.TimeOrderedIdGenerator;
+
+/**
+ * 기본키 생성기 선택 (app.ids.*)
+ *
+ * - strategy: ordered(기본, 시간순 UUID v7 / 16자 base32) | random(예전 랜덤 UUID)
+ * - node    : 0~1023 인스턴스 번호(shortId 에 들어감) — 여러 대를 띄우면 서로 다르게, 미지정(-1)이면 기동 시 난수
+ */
+@Configuration
+public class IdConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(IdConfig.class);
+
+  @Bean
+  public IdGenerator idGenerator(@Value("${app.ids.strategy:ordered}") String strategy,
+                                 @Value("${app.ids.node:-1}") int node) {
+    if ("random".equalsIgnoreCase(strategy)) return new RandomIdGenerator();
+    if (!"ordered".equalsIgnoreCase(strategy)) {
+      throw new IllegalStateException("app.ids.strategy 는 ordered | random: " + strategy);
+    }
+    if (node < 0) {
+      node = ThreadLocalRandom.current().nextInt(TimeOrderedIdGenerator.MAX_NODE + 1);
+      log.info("app.ids.node 미지정 — 이번 기동의 노드 번호 {}", node);
+    }
+    return new TimeOrderedIdGenerator(node);
+  }
+}
@@ -0,0 +1,104 @@
+// src/main/java/com/example/demo/config/MetricsConfig.java
+package com.example.demo.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.undertow.UndertowWebServer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
+
+import com.example.demo.dao.support.BodyCodec;
+import com.example.demo.dao.support.SlowQueryDataSource;
+import com.example.demo.logging.SamplingTurboFilter;
+import com.example.demo.service.board.BoardFrontPage;
+import com.example.demo.web.ConcurrencyLimitFilter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 운영 지표 설정
+ *
+ * - JVM/Hikari 풀/HTTP 요청 지표는 Actuator 자동 구성, Prometheus 포맷은 /actuator/prometheus
+ *   (management.server.port 로 분리된 포트, 127.0.0.1 에만 바인딩)
+ * - 여기서는 자동 구성에 없는 것만 추가:
+ *   1) DataSource → SlowQueryDataSource 래핑(app.slow-query.*)
+ *   2) Undertow(XNIO) 워커 스레드/대기열 게이지
+ *   3) 적응형 동시 처리 한도 게이지
+ *   4) 로그 샘플링으로 버린 수 / 비동기 로그 큐 남은 칸(logback-spring.xml)
+ *   5) 본문 압축 저장(BodyCodec) 건수/원본·저장 바이트
+ *   6) 게시판 첫 페이지 스냅샷(BoardFrontPage) 적중/재구성 수
+ */
+@Configuration
+public class MetricsConfig {
+
+  /** DataSource 빈을 느린 쿼리 로그/jdbc 추적 래퍼로 감싼다(BeanPostProcessor 라 static) */
+  @Bean
+  public static BeanPostProcessor slowQueryDataSourcePostProcessor(Environment env) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource ds) || bean instanceof SlowQueryDataSource) return bean;
+        boolean slowLog = env.getProperty("app.slow-query.enabled", Boolean.class, true);
+        boolean trace = env.getProperty("app.trace.enabled", Boolean.class, true);     // jdbc 추적 구간도 이 래퍼에서 기록
+        if (!slowLog && !trace) return bean;
+        return new SlowQueryDataSource(ds, slowLog ? env.getProperty("app.slow-query.threshold-ms", Long.class, 200L) : -1);
+      }
+    };
+  }
+
+  private final MeterRegistry registry;
+
+  public MetricsConfig(MeterRegistry registry, ConcurrencyLimitFilter concurrencyLimit, BodyCodec body,
+                       BoardFrontPage frontPage) {
+    this.registry = registry;
+    Gauge.builder("app.concurrency.limit", concurrencyLimit, f -> f.stats().limit())
+        .description("현재 적응형 동시 처리 한도").register(registry);
+    Gauge.builder("app.concurrency.inflight", concurrencyLimit, f -> f.stats().inflight())
+        .description("한도 필터를 통과해 처리 중인 요청 수").register(registry);
+    FunctionCounter.builder("app.logging.sampled.dropped", SamplingTurboFilter.class, c -> SamplingTurboFilter.dropped())
+        .description("로거별 샘플링으로 버린 로그 수").register(registry);
+    FunctionCounter.builder("app.body.compressed.writes", body, BodyCodec::compressedWrites)
+        .description("압축해 저장한 게시글/댓글 본문 수").register(registry);
+    FunctionCounter.builder("app.body.compressed.bytes", body, BodyCodec::compressedRawBytes)
+        .tag("kind", "raw").description("압축 저장한 본문의 원본 UTF-8 바이트").register(registry);
+    FunctionCounter.builder("app.body.compressed.bytes", body, BodyCodec::compressedStoredBytes)
+        .tag("kind", "stored").description("압축 저장한 본문의 실제 저장 바이트").register(registry);
+    FunctionCounter.builder("app.front_page.requests", frontPage, BoardFrontPage::hits)
+        .tag("result", "hit").description("스냅샷으로 바로 응답한 첫 페이지 요청").register(registry);
+    FunctionCounter.builder("app.front_page.requests", frontPage, BoardFrontPage::misses)
+        .tag("result", "miss").description("스냅샷이 없거나 오래되어 DB 를 읽은 첫 페이지 요청").register(registry);
+    FunctionCounter.builder("app.front_page.rebuilds", frontPage, BoardFrontPage::rebuilds)
+        .description("첫 페이지 스냅샷 전체 재구성 수").register(registry);
+    if (LoggerFactory.getILoggerFactory() instanceof LoggerContext lc
+        && lc.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).getAppender("ASYNC") instanceof AsyncAppender async) {
+      Gauge.builder("app.logging.queue.remaining", async, AsyncAppender::getRemainingCapacity)
+          .description("비동기 로그 큐 남은 칸(0 에 가까우면 버리기 시작)").register(registry);
+    }
+  }
+
+  /** 메인 서버(관리 포트 제외)가 뜬 뒤 XNIO 워커 지표 등록 */
+  @EventListener
+  public void onWebServerReady(WebServerInitializedEvent event) {
+    if (event.getApplicationContext().getServerNamespace() != null) return;     // "management" 자식 컨텍스트
+    if (!(event.getWebServer() instanceof UndertowWebServer uws) || uws.getUndertow() == null) return;
+    XnioWorker worker = uws.getUndertow().getWorker();
+    if (worker == null) return;
+    XnioWorkerMXBean mx = worker.getMXBean();
+    Gauge.builder("undertow.worker.threads.busy", mx, XnioWorkerMXBean::getBusyWorkerThreadCount).register(registry);
+    Gauge.builder("undertow.worker.threads", mx, XnioWorkerMXBean::getWorkerPoolSize).register(registry);
+    Gauge.builder("undertow.worker.threads.max", mx, XnioWorkerMXBean::getMaxWorkerPoolSize).register(registry);
+    Gauge.builder("undertow.worker.queue.size", mx, XnioWorkerMXBean::getWorkerQueueSize).register(registry);
+    Gauge.builder("undertow.io.threads", mx, XnioWorkerMXBean::getIoThreadCount).register(registry);
+  }
+}
@@ -1,22 +1,41 @@
 // src/main/java/com/example/demo/config/SecurityConfig.java
 package com.example.demo.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.example.demo.auth.TokenAuthenticationFilter;
+import com.example.demo.auth.TokenProperties;
+import com.example.demo.auth.TokenService;
+import com.example.demo.warmup.WarmupRunner;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(TokenProperties.class)
 public class SecurityConfig {
 
   @Bean
@@ -24,26 +43,76 @@ public class SecurityConfig {
     return new BCryptPasswordEncoder();
   }
 
+  /** 무상태 모드(app.token.enabled=true)에서만 등록 */
+  @Bean
+  @ConditionalOnProperty(prefix = "app.token", name = "enabled", havingValue = "true")
+  public TokenService tokenService(TokenProperties props) {
+    return new TokenService(props);
+  }
+
+  /** 인증과 무관한 정적 리소스(GET) — 요청 수의 대부분이라 별도 경량 체인으로 분리 */
+  static final String[] STATIC_RESOURCES = {
+      "/favicon.ico",
+      "/css/**", "/js/**", "/images/**", "/lib/**",
+      "/app.js",
+      "/index.html", "/users-new.html", "/roles.html", "/db-users.html",
+      "/tpl/**" // Angular partial templates
+  };
+
+  /**
+   * 정적 리소스 전용 체인(먼저 매칭)
+   *
+   * 세션/SecurityContext 로딩, CSRF, RequestCache, 익명 인증, 인가 매처를 모두 건너뛰고
+   * 보안 헤더(X-Content-Type-Options, X-Frame-Options 등)만 쓴다.
+   * Cache-Control 은 시큐리티 기본값(no-store) 대신 리소스 핸들러 설정(spring.web.resources.cache)을 따름 → 304 재검증 가능.
+   * 로그인/회원가입 화면은 CSRF 토큰이 필요하므로 여기 넣지 않는다(아래 기본 체인).
+   */
+  @Bean
+  @Order(0)
+  public SecurityFilterChain staticResourcesChain(HttpSecurity http) throws Exception {
+    PathPatternRequestMatcher.Builder path = PathPatternRequestMatcher.withDefaults();
+    RequestMatcher[] matchers = new RequestMatcher[STATIC_RESOURCES.length];
+    for (int i = 0; i < matchers.length; i++) {
+      matchers[i] = path.matcher(HttpMethod.GET, STATIC_RESOURCES[i]);
+    }
+    http
+      .securityMatcher(new OrRequestMatcher(matchers))
+      .headers(h -> h.cacheControl(c -> c.disable()))
+      .securityContext(AbstractHttpConfigurer::disable)
+      .sessionManagement(AbstractHttpConfigurer::disable)
+      .requestCache(AbstractHttpConfigurer::disable)
+      .csrf(AbstractHttpConfigurer::disable)
+      .anonymous(AbstractHttpConfigurer::disable)
+      .servletApi(AbstractHttpConfigurer::disable)
+      .logout(AbstractHttpConfigurer::disable)
+      .exceptionHandling(AbstractHttpConfigurer::disable);
+    return http.build();
+  }
+
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+  @Order(1)
+  public SecurityFilterChain filterChain(HttpSecurity http, ObjectProvider<TokenService> tokenProvider,
+                                         ObjectProvider<WarmupRunner> warmupProvider) throws Exception {
+    TokenService tokens = tokenProvider.getIfAvailable();          // null = 기존 세션 모드
+
     http
       .authorizeHttpRequests(auth -> auth
         // 0) CORS 프리플라이트 허용(필요 시)
         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
-        // 1) 정적 리소스/SPA 템플릿은 모두 공개
+        // 1) 화면 진입점은 공개(정적 리소스/SPA 템플릿은 staticResourcesChain 에서 먼저 처리)
         .requestMatchers(HttpMethod.GET,
-          "/", "/index.html",
-          "/login", "/signup",
-          "/error", "/error/**", "/favicon.ico",
-          "/css/**", "/js/**", "/images/**", "/lib/**",
-          "/app.js",
-          "/users-new.html", "/roles.html", "/db-users.html",
-          "/tpl/**" // Angular partial templates
+          "/", "/login", "/signup",
+          "/error", "/error/**"
         ).permitAll()
 
         // 2) 공개 API
         .requestMatchers("/api/bus/**").permitAll()
+        .requestMatchers(HttpMethod.POST, "/api/auth/token", "/api/auth/refresh", "/api/auth/logout").permitAll() // 무상태 모드 토큰 API
+
+        // 2-1) 운영 지표: 헬스/Prometheus 스크랩은 공개(관리 포트는 127.0.0.1 바인딩), 나머지 actuator 는 관리자
+        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
         // 3) 댓글 목록 GET만 공개(쓰기/수정/삭제는 인증 필요)
         .requestMatchers(HttpMethod.GET,
@@ -71,15 +140,25 @@ public class SecurityConfig {
       ))
 
       // 폼 로그인
-      .formLogin(form -> form
-        .loginPage("/login")
-        .loginProcessingUrl("/login")
-        .usernameParameter("username")
-        .passwordParameter("password")
-        .defaultSuccessUrl("/index.html", true)
-        .failureUrl("/login?error")
-        .permitAll()
-      )
+      .formLogin(form -> {
+        form
+          .loginPage("/login")
+          .loginProcessingUrl("/login")
+          .usernameParameter("username")
+          .passwordParameter("password")
+          .defaultSuccessUrl("/index.html", true)
+          .failureUrl("/login?error")
+          .permitAll();
+        if (tokens != null) {
+          // 무상태 모드: 세션 대신 access/refresh 쿠키 발급 후 같은 화면으로
+          form.successHandler((req, res, auth) -> {
+            tokens.writeCookies(res,
+                tokens.issueAccess(auth.getName(), auth.getAuthorities().stream().map(a -> a.getAuthority()).toList()),
+                tokens.issueRefresh(auth.getName()));
+            res.sendRedirect(req.getContextPath() + "/index.html");
+          });
+        }
+      })
 
       // 로그아웃 (연습 편의상 GET 허용)
       .logout(logout -> logout
@@ -98,6 +177,25 @@ public class SecurityConfig {
         new AntPathRequestMatcher("/api/**")
       ));
 
+    // 무상태 모드: 세션 생성/저장 없음 → 노드 간 세션 공유/스티키 세션 불필요
+    //  - 인증: TokenAuthenticationFilter 가 토큰 claims 로 SecurityContext 구성(DB 조회 없음)
+    //  - CSRF 토큰: 세션 대신 XSRF-TOKEN 쿠키(로그인/회원가입 폼)
+    if (tokens != null) {
+      http
+        .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .securityContext(c -> c.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+        .requestCache(c -> c.requestCache(new NullRequestCache()))
+        .csrf(csrf -> csrf.csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse()))
+        .logout(logout -> logout.addLogoutHandler((req, res, auth) -> tokens.clearCookies(res)))
+        .addFilterBefore(new TokenAuthenticationFilter(tokens), UsernamePasswordAuthenticationFilter.class);
+    }
+
+    // 기동 워밍업 요청(루프백 + 일회용 토큰)만 가상 사용자로 인증, 워밍업이 끝나면 통과만 함
+    WarmupRunner warmup = warmupProvider.getIfAvailable();
+    if (warmup != null) {
+      http.addFilterBefore(warmup.authenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+    }
+
     return http.build();
   }
 }
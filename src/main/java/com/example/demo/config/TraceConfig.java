@@ -0,0 +1,35 @@
+// src/main/java/com/example/demo/config/TraceConfig.java
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.trace.TraceInterceptor;
+import com.example.demo.trace.TracingJacksonConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 요청 추적(MVC 쪽) 연결
+ *
+ * - TraceInterceptor : filters → controller 구간 전환
+ * - Jackson 컨버터    : 기본 컨버터 대신 json.write 구간을 남기는 하위 클래스 등록
+ *   (같은 타입 빈이 있으면 Boot 자동 구성이 물러난다)
+ * 필터(TraceFilter) 등록/순서는 WebFilterConfig 참고.
+ */
+@Configuration
+public class TraceConfig implements WebMvcConfigurer {
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new TraceInterceptor());
+  }
+
+  @Bean
+  public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper mapper) {
+    return new TracingJacksonConverter(mapper);
+  }
+}
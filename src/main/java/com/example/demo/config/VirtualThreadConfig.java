@@ -0,0 +1,41 @@
+// src/main/java/com/example/demo/config/VirtualThreadConfig.java
+package com.example.demo.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 (opt-in: spring.threads.virtual.enabled=true, Java 21+)
+ *
+ * - 스프링 부트는 Tomcat/Jetty 만 자동으로 가상 스레드를 쓰므로 Undertow 는 여기서 직접 연결한다.
+ * - 서블릿 요청 처리(컨트롤러 → DAO → JDBC 블로킹 호출 포함)를 요청당 가상 스레드 하나에서 실행
+ *   → Undertow worker 풀 크기가 동시성 상한이 되지 않고, 커넥션 풀(Hikari)이 유일한 제한 장치가 된다.
+ * - 비활성(기본)일 때는 기존 Undertow worker 스레드 풀을 그대로 사용.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /** 요청 처리용 가상 스레드 실행기(컨텍스트 종료 시 close) */
+  @Bean(destroyMethod = "close")
+  public ExecutorService requestVirtualThreadExecutor() {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("req-vt-", 0).factory());           // 스레드 덤프에서 식별하기 쉽도록 이름 부여
+  }
+
+  @Bean
+  public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreads(
+      ExecutorService requestVirtualThreadExecutor) {
+    return factory -> factory.addDeploymentInfoCustomizers(di -> {
+      di.setExecutor(requestVirtualThreadExecutor);                   // 서블릿 디스패치(블로킹 핸들러 실행)
+      di.setAsyncExecutor(requestVirtualThreadExecutor);              // AsyncContext.start(...) 작업
+    });
+  }
+}
@@ -0,0 +1,66 @@
+// src/main/java/com/example/demo/config/WebFilterConfig.java
+package com.example.demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.auth.TokenService;
+import com.example.demo.trace.TraceFilter;
+import com.example.demo.trace.TraceRecorder;
+import com.example.demo.web.ConcurrencyLimitFilter;
+import com.example.demo.web.ConcurrencyLimitProperties;
+import com.example.demo.web.RateLimitFilter;
+import com.example.demo.web.RateLimitProperties;
+
+/**
+ * 서블릿 필터 등록/순서
+ *
+ * 순서(작을수록 먼저):
+ *   TraceFilter            : 가장 바깥(요청 제한/시큐리티 시간까지 추적 구간에 포함)
+ *   RateLimitFilter        : 시큐리티 체인 직전(폼 로그인 POST 까지 제한)
+ *   springSecurityFilterChain (SecurityProperties.DEFAULT_FILTER_ORDER = -100)
+ *   ConcurrencyLimitFilter : 시큐리티 직후(인증 실패 요청은 자리를 차지하지 않음), 컨트롤러 직전
+ */
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, ConcurrencyLimitProperties.class})
+public class WebFilterConfig {
+
+  @Bean
+  public FilterRegistrationBean<TraceFilter> traceFilterRegistration(TraceRecorder recorder) {
+    FilterRegistrationBean<TraceFilter> reg = new FilterRegistrationBean<>(new TraceFilter(recorder));
+    reg.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+    reg.addUrlPatterns("/*");
+    return reg;
+  }
+
+  @Bean
+  public RateLimitFilter rateLimitFilter(RateLimitProperties props, ObjectProvider<TokenService> tokens) {
+    TokenService t = tokens.getIfAvailable();                        // 무상태 모드면 토큰에서 사용자 식별
+    return new RateLimitFilter(props, t == null ? null : t::usernameOf);
+  }
+
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+    FilterRegistrationBean<RateLimitFilter> reg = new FilterRegistrationBean<>(filter);
+    reg.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+    reg.addUrlPatterns("/*");
+    return reg;
+  }
+
+  @Bean
+  public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties props) {
+    return new ConcurrencyLimitFilter(props);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter filter) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> reg = new FilterRegistrationBean<>(filter);
+    reg.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+    reg.addUrlPatterns("/*");
+    return reg;
+  }
+}
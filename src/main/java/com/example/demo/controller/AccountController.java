@@ -17,23 +17,28 @@ import com.example.demo.dao.IUserRoleDao;                                   // 
 import com.example.demo.dao.UserDao;                                        // 사용자 DAO 구현체(빈 이름 상수 제공)
 import com.example.demo.dao.UserRoleDao;                                    // 사용자-권한 매핑 DAO 구현체(빈 이름 상수 제공)
 import com.example.demo.domain.User;                                        // 도메인 엔티티(사용자)
+import com.example.demo.service.user.AccountPurgeService;                   // 탈퇴 후 글/댓글 백그라운드 정리
 
                                                                              /**
                                                                               * 내 계정 관련 REST 엔드포인트
                                                                               *  - DELETE /api/me : 로그인한 "나"를 삭제(권한 매핑 → 사용자 순서)
+                                                                              *    글/댓글 정리는 AccountPurgeService 가 커밋 후 배치로 처리(응답은 기다리지 않음)
                                                                               */
 @RestController                                                             // JSON을 반환하는 REST 컨트롤러로 등록
 public class AccountController {                                            // 클래스 시작
 
     private final IUserDao userDao;                                         // 사용자 CRUD 접근용 DAO
     private final IUserRoleDao userRoleDao;                                 // 사용자-권한 매핑 테이블 접근 DAO
+    private final AccountPurgeService purge;                                // 글/댓글 정리 작업 등록
 
     public AccountController(                                               // 생성자 주입(권장 방식)
             @Qualifier(UserDao.BEAN_QUALIFIER) IUserDao userDao,            // 같은 타입의 빈이 여러 개일 때 특정 구현체를 지목
-            @Qualifier(UserRoleDao.BEAN_QUALIFIER) IUserRoleDao userRoleDao // 위와 동일(역할 매핑 DAO)
+            @Qualifier(UserRoleDao.BEAN_QUALIFIER) IUserRoleDao userRoleDao, // 위와 동일(역할 매핑 DAO)
+            AccountPurgeService purge
     ) {
         this.userDao = userDao;                                             // 필드 초기화
         this.userRoleDao = userRoleDao;                                     // 필드 초기화
+        this.purge = purge;
     }
 
     /**
@@ -85,6 +90,9 @@ public class AccountController {                                            // 
         userRoleDao.deleteUserRolesByUserId(me.getUserId());                // 자식/매핑 테이블(ROLE 매핑) 먼저 삭제(FK 제약 충족)
         int rows = userDao.delete(me.getUserId());                          // 그 다음 실제 사용자 레코드 삭제(영향 행 수 반환)
 
+        // 4) 글/댓글 정리 작업 등록(같은 트랜잭션) — 실제 삭제는 커밋 후 백그라운드에서 배치로
+        if (rows > 0) purge.enqueue(me.getUserId());
+
         return (rows > 0) ? ResponseEntity.noContent().build()              // 삭제 성공 시 204 No Content
                           : ResponseEntity.notFound().build();              // race condition 등으로 이미 없으면 404
     }
@@ -0,0 +1,35 @@
+// src/main/java/com/example/demo/controller/AdminAccountPurgeController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.util.List;                                                    // 목록 응답
+
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RequestParam;              // 쿼리스트링 파라미터 바인딩
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.dao.AccountPurgeDao;                              // 작업 행(Job)
+import com.example.demo.service.user.AccountPurgeService;                 // 탈퇴 후 글/댓글 정리
+
+/**
+ * 관리자 전용 탈퇴 정리 작업 진행 현황
+ *
+ * - GET /api/admin/account-purges?limit=50 : 최근 갱신 순 작업 목록(상태, 삭제/탈퇴 표시 건수, 시도 횟수, 마지막 오류)
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ */
+@RestController
+@RequestMapping("/api/admin/account-purges")
+public class AdminAccountPurgeController {
+
+  private final AccountPurgeService purge;
+
+  public AdminAccountPurgeController(AccountPurgeService purge) {
+    this.purge = purge;
+  }
+
+  @GetMapping
+  public List<AccountPurgeDao.Job> list(@RequestParam(defaultValue = "50") int limit) {
+    return purge.recent(Math.min(Math.max(1, limit), 500));
+  }
+}
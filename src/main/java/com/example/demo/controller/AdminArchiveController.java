@@ -0,0 +1,41 @@
+// src/main/java/com/example/demo/controller/AdminArchiveController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import org.springframework.http.HttpStatus;                               // 202/409 상태코드
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.PostMapping;               // HTTP POST 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.service.board.ArchiveService;                     // 오래된 글/댓글 보관
+
+/**
+ * 관리자 전용 오래된 글/댓글 보관 현황
+ *
+ * - GET  /api/admin/archive     : 사용 여부, 실행 중 여부, 기준(older-than), 마지막 회차 시각/건수, 누적 건수, 마지막 오류
+ * - POST /api/admin/archive/run : 다음 주기를 기다리지 않고 한 회차 실행(202, 보관을 안 쓰면 409)
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ */
+@RestController
+@RequestMapping("/api/admin/archive")
+public class AdminArchiveController {
+
+  private final ArchiveService archive;
+
+  public AdminArchiveController(ArchiveService archive) {
+    this.archive = archive;
+  }
+
+  @GetMapping
+  public ArchiveService.Status status() {
+    return archive.status();
+  }
+
+  @PostMapping("/run")
+  public ResponseEntity<ArchiveService.Status> run() {
+    if (!archive.trigger()) return ResponseEntity.status(HttpStatus.CONFLICT).body(archive.status());
+    return ResponseEntity.accepted().body(archive.status());
+  }
+}
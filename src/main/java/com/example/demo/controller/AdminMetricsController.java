@@ -0,0 +1,56 @@
+// src/main/java/com/example/demo/controller/AdminMetricsController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.util.Map;                                                     // 그룹명 → 통계
+
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.dao.support.ReadCoalescer;                        // 동일 조회 합치기(single-flight) 통계 제공
+import com.example.demo.web.ConcurrencyLimitFilter;                       // 적응형 동시 처리 한도 상태 제공
+import com.example.demo.web.RateLimitFilter;                              // 쓰기 경로 요청 제한 통계 제공
+
+/**
+ * 관리자 전용 운영 지표 조회 컨트롤러
+ *
+ * - GET /api/admin/metrics/coalescing : 읽기 합치기 그룹별 호출/실행/합쳐진 수
+ * - GET /api/admin/metrics/rate-limit : 요청 제한 그룹별 허용/거절 수, 활성 버킷 수
+ * - GET /api/admin/metrics/concurrency : 현재 동시 처리 한도/지연, 우선순위별 통과/거절 수
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+public class AdminMetricsController {
+
+  private final ReadCoalescer coalescer;
+  private final RateLimitFilter rateLimit;
+  private final ConcurrencyLimitFilter concurrency;
+
+  public AdminMetricsController(ReadCoalescer coalescer, RateLimitFilter rateLimit,
+                                ConcurrencyLimitFilter concurrency) {
+    this.coalescer = coalescer;
+    this.rateLimit = rateLimit;
+    this.concurrency = concurrency;
+  }
+
+  /** 읽기 합치기 통계: calls = executed + coalesced */
+  @GetMapping("/coalescing")
+  public ResponseEntity<Map<String, ReadCoalescer.Stats>> coalescing() {
+    return ResponseEntity.ok(coalescer.stats());
+  }
+
+  /** 요청 제한 통계 */
+  @GetMapping("/rate-limit")
+  public ResponseEntity<Map<String, RateLimitFilter.Stats>> rateLimit() {
+    return ResponseEntity.ok(rateLimit.stats());
+  }
+
+  /** 적응형 동시 처리 한도 상태 */
+  @GetMapping("/concurrency")
+  public ResponseEntity<ConcurrencyLimitFilter.Stats> concurrency() {
+    return ResponseEntity.ok(concurrency.stats());
+  }
+}
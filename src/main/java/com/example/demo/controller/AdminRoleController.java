@@ -5,15 +5,13 @@ package com.example.demo.controller;                                      // 컨
 // ───────────────────────────────────────────────────────────────────────
 // JDK & Spring Web 임포트
 // ───────────────────────────────────────────────────────────────────────
-import java.util.List;                                                    // 다건(목록) 응답을 위한 List 컬렉션
-
 import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
 import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 요청을 메서드에 매핑하는 애너테이션
 import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix를 클래스에 부여
+import org.springframework.web.bind.annotation.RequestParam;              // 쿼리스트링 파라미터 바인딩
 import org.springframework.web.bind.annotation.RestController;            // @Controller + @ResponseBody: JSON 직렬화 컨트롤러
 
-import com.example.demo.dao.RoleDao;                                      // 권한(roles) 조회를 담당하는 DAO
-import com.example.demo.dto.RoleRow;                                      // 권한 목록의 한 행을 표현하는 DTO(뷰 모델)
+import com.example.demo.service.user.RoleIndex;                           // 사용자별 대표 권한 메모리 인덱스
 
 // ───────────────────────────────────────────────────────────────────────
 // 컨트롤러 설명
@@ -21,7 +19,8 @@ import com.example.demo.dto.RoleRow;                                      // 권
 /**
  * 관리자 전용 권한 조회 컨트롤러
  *
- * - GET /api/admin/roles : 모든 사용자에 대한 대표 권한 목록 조회
+ * - GET /api/admin/roles : 사용자 대표 권한 목록 키셋 페이지 조회 { items, next, total }
+ *   ?after=이전 응답의 next &size=페이지 크기 &role=ADMIN|USER &q=아이디 접두사
  *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
  *
  * 저장/수정은 프런트에서 PUT /api/roles/{username} 로 호출하며,
@@ -31,17 +30,20 @@ import com.example.demo.dto.RoleRow;                                      // 권
 @RequestMapping("/api/admin")                                             // 클래스 내 모든 핸들러에 /api/admin 접두사 적용
 public class AdminRoleController {                                        // 관리자 영역의 권한 관련 API 묶음
 
-  private final RoleDao roleDao;                                          // 권한 데이터를 DB에서 읽어오는 DAO 의존성
+  private final RoleIndex roleIndex;                                      // 대표 권한 인덱스(조회는 DB 를 타지 않음)
 
-  public AdminRoleController(RoleDao roleDao) {                           // 생성자 주입(권장): 스프링이 RoleDao 빈을 주입
-    this.roleDao = roleDao;                                               // 주입받은 DAO를 필드에 보관(불변성 보장)
+  public AdminRoleController(RoleIndex roleIndex) {                       // 생성자 주입(권장): 스프링이 RoleIndex 빈을 주입
+    this.roleIndex = roleIndex;                                           // 주입받은 인덱스를 필드에 보관(불변성 보장)
   }
 
-  /** 관리자 전용: 권한 목록 조회 */
+  /** 관리자 전용: 권한 목록 한 페이지 조회 */
   @GetMapping("/roles")                                                   // GET /api/admin/roles 요청을 이 메서드로 매핑
-  public ResponseEntity<List<RoleRow>> listRoles() {                      // 공개 메서드이고, HTTP 응답(ResponseEntity) 으로 RoleRow 객체 목록(List<RoleRow>) 을 JSON 바디에 담아 돌려줌.
-    List<RoleRow> rows = roleDao.findAllUserRoles();                      // DAO 호출로 전체 사용자-권한 요약 목록 조회
-    return ResponseEntity.ok(rows);                                       // 200 OK와 함께 조회 결과를 응답 바디로 반환
+  public ResponseEntity<RoleIndex.Slice> listRoles(
+      @RequestParam(required = false) String after,                       // 이전 페이지 마지막 아이디(커서)
+      @RequestParam(required = false) Integer size,                       // 페이지 크기(기본 app.roles.page-size)
+      @RequestParam(required = false) String role,                        // 권한 필터
+      @RequestParam(required = false) String q) {                         // 아이디 접두사 검색
+    return ResponseEntity.ok(roleIndex.page(after, size, role, q));       // 200 OK와 함께 한 페이지를 응답 바디로 반환
   }
 
   // 필요 시: 권한 일괄 갱신/추가/삭제 등의 관리자 전용 API를 여기에 추가하세요.
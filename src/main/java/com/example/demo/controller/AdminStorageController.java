@@ -0,0 +1,80 @@
+// src/main/java/com/example/demo/controller/AdminStorageController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.util.LinkedHashMap;                                           // 응답 필드 순서 유지
+import java.util.List;
+import java.util.Map;                                                     // 간단 JSON 응답
+import java.util.concurrent.atomic.AtomicReference;                       // 직전 보고 시점의 버퍼 풀 카운터
+
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.PostMapping;               // HTTP POST 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RequestParam;              // 쿼리스트링 파라미터 바인딩
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.dao.BodyStorageDao;                               // 본문 저장 공간 보고/기존 행 압축
+import com.example.demo.dao.BodyStorageDao.BufferPool;
+import com.example.demo.dao.support.BodyCodec;                            // 기동 후 압축 쓰기 통계
+
+/**
+ * 관리자 전용 본문 저장 공간 보고
+ *
+ * - GET  /api/admin/storage : post/comment 본문 저장 바이트 vs 원본 바이트(절약분), 테이블/인덱스 크기,
+ *                             InnoDB 버퍼 풀 적중률(누적 + 직전 보고 이후 구간), 기동 후 압축 쓰기 통계
+ * - POST /api/admin/storage/compress?table=post|comment&after=&limit=500
+ *                           : 기존 평문 행을 한 배치 압축 → 응답의 next 를 after 로 넘겨 반복(null 이면 끝)
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ *
+ * 적중률 변화는 압축 전/후(또는 백필 전/후)에 같은 부하를 주고 이 보고를 두 번 받아 window 값을 비교한다.
+ */
+@RestController
+@RequestMapping("/api/admin/storage")
+public class AdminStorageController {
+
+  private final BodyStorageDao storage;
+  private final BodyCodec body;
+  private final AtomicReference<BufferPool> lastPool = new AtomicReference<>();
+
+  public AdminStorageController(BodyStorageDao storage, BodyCodec body) {
+    this.storage = storage;
+    this.body = body;
+  }
+
+  @GetMapping
+  public Map<String, Object> report() {
+    Map<String, Object> out = new LinkedHashMap<>();
+    out.put("thresholdBytes", body.threshold());
+    out.put("tables", List.of(storage.report("post"), storage.report("comment")));
+
+    BufferPool now = storage.bufferPool();
+    if (now != null) {
+      Map<String, Object> pool = new LinkedHashMap<>();
+      pool.put("readRequests", now.readRequests());
+      pool.put("diskReads", now.diskReads());
+      pool.put("hitRate", now.hitRate());
+      BufferPool prev = lastPool.getAndSet(now);
+      if (prev != null) {                                            // 직전 보고 이후 구간 적중률
+        pool.put("window", new BufferPool(now.readRequests() - prev.readRequests(), now.diskReads() - prev.diskReads()));
+      }
+      out.put("bufferPool", pool);
+    }
+
+    out.put("writes", Map.of(
+        "compressed", body.compressedWrites(),
+        "rawBytes", body.compressedRawBytes(),
+        "storedBytes", body.compressedStoredBytes()));
+    return out;
+  }
+
+  @PostMapping("/compress")
+  public ResponseEntity<?> compress(@RequestParam String table,
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(defaultValue = "500") int limit) {
+    if (!"post".equalsIgnoreCase(table) && !"comment".equalsIgnoreCase(table)) {
+      return ResponseEntity.badRequest().body("table 은 post | comment 중 하나여야 합니다.");
+    }
+    return ResponseEntity.ok(storage.compress(table, after, Math.min(Math.max(1, limit), 5_000)));
+  }
+}
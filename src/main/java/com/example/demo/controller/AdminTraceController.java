@@ -0,0 +1,67 @@
+// src/main/java/com/example/demo/controller/AdminTraceController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.io.IOException;                                               // 파일 저장 실패
+import java.nio.file.Path;                                                // 내보낸 파일 경로
+import java.util.List;                                                    // 목록 응답
+import java.util.Map;                                                     // 간단 JSON 응답
+
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.PathVariable;              // 경로 변수 바인딩
+import org.springframework.web.bind.annotation.PostMapping;               // HTTP POST 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.trace.TraceRecord;                                // 완료된 요청 추적
+import com.example.demo.trace.TraceRecorder;                              // 느린 추적 보관/내보내기
+
+/**
+ * 관리자 전용 요청 추적 조회 컨트롤러
+ *
+ * - GET  /api/admin/traces            : 보관 중인 느린 추적 요약(최신순) + 통계
+ * - GET  /api/admin/traces/{traceId}  : 한 추적의 전체 구간
+ * - GET  /api/admin/traces/otlp       : 보관 중인 추적 전체를 OTLP/JSON 으로
+ * - POST /api/admin/traces/export     : 같은 내용을 서버 로컬 파일(app.trace.export-dir)로 저장
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ */
+@RestController
+@RequestMapping("/api/admin/traces")
+public class AdminTraceController {
+
+  /** 목록용 요약 */
+  public record Summary(String traceId, String name, long startEpochMillis, double durationMs, int spans) {}
+
+  private final TraceRecorder recorder;
+
+  public AdminTraceController(TraceRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> list() {
+    List<Summary> items = recorder.recent().stream()
+        .map(t -> new Summary(t.traceId(), t.name(), t.startEpochNanos() / 1_000_000L,
+            t.durationMillis(), t.spans().size()))
+        .toList();
+    return ResponseEntity.ok(Map.of("stats", recorder.stats(), "traces", items));
+  }
+
+  @GetMapping("/otlp")
+  public ResponseEntity<Map<String, Object>> otlp() {
+    return ResponseEntity.ok(recorder.toOtlp(recorder.recent()));
+  }
+
+  @GetMapping("/{traceId}")
+  public ResponseEntity<TraceRecord> one(@PathVariable String traceId) {
+    TraceRecord t = recorder.find(traceId);
+    return t == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(t);
+  }
+
+  @PostMapping("/export")
+  public ResponseEntity<Map<String, Object>> export() throws IOException {
+    Path file = recorder.exportToFile();
+    return ResponseEntity.ok(Map.of("file", file.toString(), "traces", recorder.recent().size()));
+  }
+}
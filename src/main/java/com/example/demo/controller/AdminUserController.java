@@ -0,0 +1,128 @@
+// src/main/java/com/example/demo/controller/AdminUserController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.nio.charset.StandardCharsets;                                 // 커서 인코딩
+import java.util.ArrayList;
+import java.util.Base64;                                                  // 커서를 URL 안전 문자열로
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;                // 페이지 크기 설정
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 매핑
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RequestParam;              // 쿼리스트링 파라미터 바인딩
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.dao.UserDao;                                      // users 조회(키셋 페이지 SQL)
+import com.example.demo.dao.UserDao.UserRow;                              // 비밀번호 제외 행
+import com.example.demo.service.user.RoleIndex;                           // 대표 권한(메모리 인덱스)
+import com.example.demo.sql.UsersSql;                                     // 정렬/검색 허용 컬럼
+
+/**
+ * 관리자 사용자 목록 (db-users 화면)
+ *
+ * - GET /api/admin/users : 사용자 + 대표 권한 키셋 페이지 { items, next }
+ *   ?after=이전 응답의 next &size=페이지 크기 &sort=user_id|name|email &dir=asc|desc
+ *   &field=user_id|name|email &q=접두사 &role=ADMIN|USER
+ *   (SecurityConfig에서 /api/admin/** 에 ROLE_ADMIN만 접근 가능)
+ *
+ * 사용자 행은 DB 에서 (sort, user_id) 인덱스 순으로 LIMIT 만큼만 읽고, 권한은 RoleIndex 에서 붙인다(조인 없음).
+ * 전체 건수(COUNT(*))는 페이지마다 테이블을 다 세야 하므로 주지 않는다 — 화면은 next 유무로 다음 페이지를 판단.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminUserController {
+
+  /** 목록 한 행(UserRow + 대표 권한) */
+  public record Item(String user_id, String name, String phone, String email, String role) {}
+
+  /** 한 페이지 — next 가 null 이면 마지막 페이지 */
+  public record Page(List<Item> items, String next) {}
+
+  private final UserDao userDao;
+  private final RoleIndex roleIndex;
+  private final int defaultPageSize;
+  private final int maxPageSize;
+
+  public AdminUserController(UserDao userDao, RoleIndex roleIndex,
+                             @Value("${app.roles.page-size:50}") int defaultPageSize,
+                             @Value("${app.roles.max-page-size:500}") int maxPageSize) {
+    this.userDao = userDao;
+    this.roleIndex = roleIndex;
+    this.maxPageSize = Math.max(1, maxPageSize);
+    this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+  }
+
+  @GetMapping
+  public ResponseEntity<?> list(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(defaultValue = "user_id") String sort,
+      @RequestParam(defaultValue = "asc") String dir,
+      @RequestParam(defaultValue = "user_id") String field,
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String role) {
+    sort = sort.toLowerCase(Locale.ROOT);
+    field = field.toLowerCase(Locale.ROOT);
+    if (!UsersSql.ADMIN_PAGE_COLUMNS.contains(sort) || !UsersSql.ADMIN_PAGE_COLUMNS.contains(field)) {
+      return ResponseEntity.badRequest().body("sort/field 는 " + UsersSql.ADMIN_PAGE_COLUMNS + " 중 하나여야 합니다.");
+    }
+    String[] cursor = decode(after);
+    if (after != null && !after.isEmpty() && cursor == null) {
+      return ResponseEntity.badRequest().body("잘못된 after 커서입니다.");
+    }
+    int limit = size == null ? defaultPageSize : Math.min(Math.max(1, size), maxPageSize);
+
+    // 권한 필터: ADMIN 은 소수 → 그 아이디들로 IN / NOT IN
+    List<String> include = List.of();
+    List<String> exclude = List.of();
+    String r = role == null ? "" : role.toUpperCase(Locale.ROOT);
+    if (r.contains("ADMIN")) {
+      include = roleIndex.adminIds();
+      if (include.isEmpty()) return ResponseEntity.ok(new Page(List.of(), null));
+    } else if (r.contains("USER")) {
+      exclude = roleIndex.adminIds();
+    }
+
+    List<UserRow> rows = userDao.findAdminPage(new UserDao.AdminPageQuery(
+        sort, "desc".equalsIgnoreCase(dir), field, q == null ? null : q.trim(),
+        cursor == null ? null : cursor[0], cursor == null ? null : cursor[1],
+        include, exclude, limit + 1));                                    // 한 건 더 읽어 다음 페이지 유무 판단
+
+    List<Item> items = new ArrayList<>(Math.min(rows.size(), limit));
+    for (int i = 0; i < rows.size() && i < limit; i++) {
+      UserRow u = rows.get(i);
+      items.add(new Item(u.user_id, u.name, u.phone, u.email, roleIndex.roleOf(u.user_id)));
+    }
+    String next = null;
+    if (rows.size() > limit) {
+      UserRow last = rows.get(limit - 1);
+      String value = switch (sort) {
+        case "name" -> last.name;
+        case "email" -> last.email;
+        default -> last.user_id;
+      };
+      next = encode(value, last.user_id);
+    }
+    return ResponseEntity.ok(new Page(items, next));
+  }
+
+  // 커서 = base64url("정렬값\0user_id") — 화면은 그대로 돌려보내기만 한다
+  private static String encode(String value, String userId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((value + '\0' + userId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String[] decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) return null;
+    try {
+      String s = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int sep = s.indexOf('\0');
+      return sep < 0 ? null : new String[] { s.substring(0, sep), s.substring(sep + 1) };
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
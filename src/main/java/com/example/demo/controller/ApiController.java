@@ -1,5 +1,7 @@
 package com.example.demo.controller;                 // 이 클래스가 속한 패키지 선언. 패키지명은 보통 도메인 역순+프로젝트 구조로 구성.
 
+import org.slf4j.Logger;                                            // SLF4J 로거(Logback 으로 출력)
+import org.slf4j.LoggerFactory;                                     // 클래스별 로거 생성
 import org.springframework.beans.factory.annotation.Value;         // application.yml(또는 properties) 값 주입에 사용하는 애너테이션 @Value
 import org.springframework.http.ResponseEntity;                    // HTTP 응답 본문/상태코드 등을 표현하는 스프링 타입
 import org.springframework.web.bind.annotation.GetMapping;         // HTTP GET 요청을 매핑하는 애너테이션
@@ -14,6 +16,7 @@ import org.springframework.web.client.RestTemplate;                 // 외부 HT
 // @RequestMapping : Spring MVC에서 제공하는 애너테이션으로, 클라이언트의 요청 URL을 특정 컨트롤러 메서드와 연결(매핑)시켜준다.
 @RequestMapping("/api/bus")                  // 이 컨트롤러의 모든 핸들러 메서드는 "/api/bus" 경로 하위로 매핑됨
 public class ApiController {                 // 버스 관련 API 엔드포인트를 제공하는 컨트롤러 클래스
+    private static final Logger log = LoggerFactory.getLogger(ApiController.class);
     // @Value: 스프링이 관리하는 객체에 외부 값(설정, 환경변수 등)을 자동으로 주입해주는 도구
     @Value("${daegu.base-url}")              // application.yml의 daegu.base-url 값을 주입
     private String baseUrl;                  // 대구 공공데이터 API의 기본 URL (예: getBasic02 같은 엔드포인트)
@@ -45,9 +48,9 @@ public class ApiController {                 // 버스 관련 API 엔드포인
         // rt.getForObject(url, String.class) = URL로 GET 요청 보내고, 응답 body를 String으로 반환
         String body = rt.getForObject(url, String.class);   // RestTemplate로 GET 호출 후, 응답 본문을 String으로 수신(에러면 예외 발생)
 
-        // 디버그 로그
-        System.out.println("최종 호출 URL: " + url);        // 실제 최종적으로 호출된 URL을 콘솔에 출력(디버깅용)
-        System.out.println("API 응답: " + body);            // 응답 본문을 콘솔에 출력(개발 단계에서 확인용)
+        // 디버그 로그(URL 에는 서비스 키가 들어 있으므로 남기지 않음)
+        log.debug("버스 정류소 API 호출 pageNo={} numOfRows={} 응답 {}자",
+                pageNo, numOfRows, body == null ? 0 : body.length());
 
         return ResponseEntity.ok(body);                     // HTTP 200 OK로 수신한 본문을 그대로 클라이언트에게 반환
     }
@@ -2,9 +2,15 @@
 
 package com.example.demo.controller;                                  // 컨트롤러 클래스가 속한 패키지
 
+import java.io.IOException;                                            // 첨부 저장/전송 입출력 예외
+import java.nio.charset.StandardCharsets;                             // 첨부 파일명(UTF-8) Content-Disposition
+import java.util.ArrayList;
 import java.util.List;                                                // 목록 타입 사용을 위한 import
 
+import org.springframework.beans.factory.annotation.Value;           // app.batch.* 설정 주입
+import org.springframework.http.ContentDisposition;                   // 다운로드 파일명 헤더(filename*=UTF-8'')
 import org.springframework.http.HttpStatus;                           // HTTP 상태코드 상수(403/404 등) 사용
+import org.springframework.http.MediaType;                            // text/event-stream 등 미디어 타입 상수
 import org.springframework.http.ResponseEntity;                       // 응답 본문/상태를 함께 반환할 때 사용
 import org.springframework.security.core.Authentication;              // 현재 인증 정보(로그인 사용자/권한) 접근 인터페이스
 import org.springframework.security.core.GrantedAuthority;            // 권한 한 개(예: "ROLE_ADMIN") 표현 타입
@@ -14,22 +20,53 @@ import org.springframework.web.bind.annotation.PathVariable;          // URL 경
 import org.springframework.web.bind.annotation.PostMapping;           // HTTP POST 매핑 애너테이션
 import org.springframework.web.bind.annotation.PutMapping;            // HTTP PUT 매핑 애너테이션
 import org.springframework.web.bind.annotation.RequestBody;           // 요청 JSON 본문을 객체로 바인딩
+import org.springframework.web.bind.annotation.RequestHeader;         // 요청 헤더 바인딩(Last-Event-ID)
 import org.springframework.web.bind.annotation.RequestMapping;        // 공통 URL prefix 지정
 import org.springframework.web.bind.annotation.RequestParam;          // 쿼리스트링 파라미터(page/size 등) 바인딩
 import org.springframework.web.bind.annotation.RestController;        // @Controller + @ResponseBody(메서드 반환을 JSON으로 직렬화)
+import org.springframework.web.multipart.MultipartFile;               // 멀티파트 파트(Undertow 임시 파일)
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // Server-Sent Events 응답
 
+import com.example.demo.dao.AttachmentDao.Attachment;                 // 첨부 메타데이터 행
+import com.example.demo.dao.CommentDao;                               // 댓글 DAO(글 열기 묶음 응답)
 import com.example.demo.dao.PostDao;                                  // 게시글 관련 DB 접근 DAO
+import com.example.demo.dto.CommentDto;                               // 댓글 DTO
 import com.example.demo.dto.PageDTO;                                  // 페이지네이션 응답 DTO(목록/전체건수/페이지/사이즈)
 import com.example.demo.dto.PostDto;                                  // 게시글 데이터 전송 객체
+import com.example.demo.dto.PostViewDto;                              // 글 + 첫 댓글 묶음 + 첨부(글 열기 한 번에)
+import com.example.demo.service.board.AttachmentService;              // 첨부파일 저장소(내용 주소) + 메타데이터
+import com.example.demo.service.board.BoardFeedBroadcaster;           // 게시판 실시간 피드(SSE) 브로드캐스터
+import com.example.demo.service.board.BoardFrontPage;                 // 게시판 첫 페이지 스냅샷(미리 직렬화한 JSON)
+import com.example.demo.web.ZeroCopyFileSender;                       // ETag/Range + sendfile 다운로드
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController                                                       // REST API 컨트롤러 선언(JSON 반환)
 @RequestMapping("/api")                                              // 이 클래스의 모든 핸들러는 "/api" 하위 경로
 public class BoardController {
 
     private final PostDao postDao;                                    // 의존 DAO(게시글 CRUD/카운트/조건부 업데이트 등)
-
-    public BoardController(PostDao postDao) {                         // 생성자 주입(스프링이 PostDao 빈을 주입)
+    private final BoardFeedBroadcaster feed;                          // 게시판별 실시간 피드(SSE)
+    private final AttachmentService attachments;                      // 게시글 첨부파일
+    private final BoardFrontPage frontPage;                           // 게시판별 첫 페이지 스냅샷
+    private final CommentDao commentDao;                              // 글 열기 묶음 응답의 댓글
+    private final int maxBatchKeys;                                   // 일괄 조회 한 요청의 최대 키 수
+    private final int firstComments;                                  // 글 열기 묶음의 기본 댓글 수
+
+    private static final int MAX_FIRST_COMMENTS = 500;                // ?comments= 상한
+
+    public BoardController(PostDao postDao, BoardFeedBroadcaster feed, AttachmentService attachments,
+                           BoardFrontPage frontPage, CommentDao commentDao,
+                           @Value("${app.batch.max-keys:50}") int maxBatchKeys,
+                           @Value("${app.batch.first-comments:50}") int firstComments) { // 생성자 주입(스프링이 빈을 주입)
         this.postDao = postDao;                                       // 필드에 할당
+        this.feed = feed;
+        this.attachments = attachments;
+        this.frontPage = frontPage;
+        this.commentDao = commentDao;
+        this.maxBatchKeys = Math.max(1, maxBatchKeys);
+        this.firstComments = firstComments;
     }
 
     /* =========================
@@ -49,18 +86,40 @@ public class BoardController {
      * 게시글
      * ========================= */
 
-    /** 게시판 코드별 목록 조회 + 페이지네이션 (code 예: "BUS", "NORM") */
+    /**
+     * 게시판 코드별 목록 조회 + 페이지네이션 (code 예: "BUS", "NORM")
+     * - 첫 페이지(page=0)는 메모리 스냅샷의 미리 직렬화한 JSON 을 그대로 응답(BoardFrontPage, DB 조회 없음)
+     */
     @GetMapping("/boards/{code}/posts")                               // 예: GET /api/boards/BUS/posts?page=0&size=10
-    public PageDTO<PostDto> list(                                     // 페이지 DTO(PostDto 목록/카운트/페이지/사이즈) 반환
+    public ResponseEntity<?> list(                                    // 페이지 DTO(PostDto 목록/카운트/페이지/사이즈) 반환
             // @PathVariable은 Spring MVC(스프링 프레임워크) 에서 URL 경로의 일부를 변수처럼 받아오는 기능
             @PathVariable String code,                                 // 경로 변수로 게시판 코드 수신("BUS"/"NORM" 등)
             // defaultvalue: "값이 주어지지 않았을 때 대신 사용되는 “미리 정해둔 값”
             @RequestParam(defaultValue = "0") int page,                // 쿼리 파라미터 page(기본 0)
             @RequestParam(defaultValue = "10") int size) {             // 쿼리 파라미터 size(기본 10)
 
+        if (page == 0) {
+            byte[] json = frontPage.json(code, size);                  // 스냅샷에 없는 크기면 null → 아래 DB 조회
+            if (json != null) return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+        }
         long total = postDao.countByBoard(code);                       // 전체 행 수(해당 게시판 코드의 게시글 총 개수) 조회
         List<PostDto> rows = postDao.findByBoardPaged(code, page, size);// 해당 페이지의 게시글 목록 조회(limit/offset 적용)
-        return new PageDTO<>(rows, total, page, size);                 // 프런트가 바로 쓰기 좋은 페이지 응답으로 래핑해 반환
+        return ResponseEntity.ok(new PageDTO<>(rows, total, page, size)); // 프런트가 바로 쓰기 좋은 페이지 응답으로 래핑해 반환
+    }
+
+    /**
+     * 게시판 실시간 피드 구독(SSE): 목록 폴링 대신 새 글/수정/삭제 알림을 push 로 받는다.
+     * - 이벤트: created | updated | deleted (data: {id, type, boardCode, key}), reset(재개 불가 → 전체 재조회)
+     * - 재접속 시 브라우저가 보내는 Last-Event-ID(또는 ?lastEventId=) 이후 이벤트를 재전송
+     * - 없는 게시판 코드는 404(구독 맵에 아무 코드나 쌓이지 않도록)
+     */
+    @GetMapping(value = "/boards/{code}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(
+            @PathVariable String code,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        if (!postDao.boardExists(code)) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(feed.subscribe(code, lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam));
     }
 
     /* =========================
@@ -104,6 +163,36 @@ public class BoardController {
         return ResponseEntity.ok(p);
     }
 
+    /* =========================
+     * 일괄 조회(왕복 줄이기)
+     * - 목록 API 와 같은 공개 범위(로그인 사용자 누구나) — 작성자/관리자 제한은 편집용 단건 조회에만 둔다.
+     * ========================= */
+
+    /** 여러 글을 한 번에: 숫자 PK/uuid 섞어서 최대 app.batch.max-keys 개, 요청 순서대로(없는 키는 빠짐) */
+    @GetMapping("/posts/batch")                                       // 예: GET /api/posts/batch?ids=12,550e8400-...,15
+    public ResponseEntity<?> getBatch(@RequestParam("ids") List<String> ids) {
+        if (ids.size() > maxBatchKeys) {
+            return ResponseEntity.badRequest().body("한 번에 조회할 수 있는 글은 최대 " + maxBatchKeys + "개입니다.");
+        }
+        return ResponseEntity.ok(postDao.findByKeys(ids));
+    }
+
+    /**
+     * 글 열기 묶음: 글 + 댓글 앞쪽 최대 comments 건 + 첨부 목록 (글/댓글/첨부 세 번 요청하던 것을 한 번으로)
+     * - 댓글 목록은 단일 댓글 조회와 같은 합치기(ReadCoalescer) 경로를 탄다.
+     */
+    @GetMapping("/posts/{id}/view")                                   // 예: GET /api/posts/550e8400-.../view?comments=50
+    public ResponseEntity<PostViewDto> view(@PathVariable String id,
+                                            @RequestParam(required = false) Integer comments) {
+        PostDto p = loadOneByIdOrKey(id);
+        if (p == null) return ResponseEntity.notFound().build();
+        String key = postKey(p);
+        int limit = Math.max(0, Math.min(comments != null ? comments : firstComments, MAX_FIRST_COMMENTS));
+        List<CommentDto> all = commentDao.findByPost(key);
+        List<CommentDto> first = all.size() > limit ? List.copyOf(all.subList(0, limit)) : all;
+        return ResponseEntity.ok(new PostViewDto(p, first, all.size(), attachments.list(key)));
+    }
+
     /** 게시글 생성 */
     @PostMapping("/boards/{code}/posts")                              // 예: POST /api/boards/NORM/posts (JSON 본문으로 글 데이터)
     public ResponseEntity<PostDto> create(                            // 생성된 글 데이터를 본문으로 200 OK 반환
@@ -200,4 +289,79 @@ public class BoardController {
                 ? ResponseEntity.notFound().build()                    // 관리자: 404
                 : ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // 일반: 403
     }
+
+    /* =========================
+     * 첨부파일
+     * ========================= */
+
+    /** 게시글 키(uuid 또는 숫자 PK 문자열) — 첨부 행의 post_key, PostChangedEvent.key 와 같은 값 */
+    private static String postKey(PostDto p) {
+        return p.getUuid() != null ? p.getUuid() : String.valueOf(p.getPostId());
+    }
+
+    /** 글의 첨부 목록 */
+    @GetMapping("/posts/{id}/attachments")                            // 예: GET /api/posts/550e8400-.../attachments
+    public ResponseEntity<List<Attachment>> listAttachments(@PathVariable String id) {
+        PostDto p = loadOneByIdOrKey(id);
+        if (p == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(attachments.list(postKey(p)));
+    }
+
+    /**
+     * 첨부 업로드(multipart/form-data, 파트 이름 file — 여러 개 가능): 관리자 또는 글 작성자만
+     * - 파트는 Undertow 가 임시 파일로 받아 두므로 힙에 파일 전체를 올리지 않는다(크기 제한: spring.servlet.multipart.*)
+     */
+    @PostMapping(value = "/posts/{id}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@PathVariable String id,
+                                    @RequestParam("file") List<MultipartFile> files,
+                                    Authentication auth) throws IOException {
+        PostDto p = loadOneByIdOrKey(id);
+        if (p == null) return ResponseEntity.notFound().build();
+        String me = username(auth);
+        if (!(isAdmin(auth) || (me != null && me.equals(p.getWriterId())))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        String key = postKey(p);
+        List<MultipartFile> parts = files.stream().filter(f -> !f.isEmpty()).toList();
+        if (parts.isEmpty()) return ResponseEntity.badRequest().body("업로드할 파일이 없습니다.");
+        if (parts.size() > attachments.remaining(key)) {
+            return ResponseEntity.badRequest().body("첨부파일 개수 한도를 넘었습니다.");
+        }
+        List<Attachment> saved = new ArrayList<>(parts.size());
+        for (MultipartFile f : parts) saved.add(attachments.save(key, me, f));
+        return ResponseEntity.ok(saved);
+    }
+
+    /**
+     * 첨부 다운로드: ETag(내용 해시) + Range 지원, 본문은 sendfile 로 전송(힙/사용자 공간 복사 없음)
+     * - 이미지(svg 제외)는 inline, 나머지는 attachment 로 내려 업로드한 HTML 등이 이 사이트에서 열리지 않게 한다.
+     * - 첨부 id 의 내용은 바뀌지 않으므로 브라우저가 오래 캐시해도 된다.
+     */
+    @GetMapping("/attachments/{uuid}")                               // 예: GET /api/attachments/0190f3c2-...
+    public void download(@PathVariable String uuid, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        Attachment a = attachments.find(uuid);
+        if (a == null) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        boolean inline = a.contentType().startsWith("image/") && !a.contentType().startsWith("image/svg");
+        String disposition = (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(a.filename(), StandardCharsets.UTF_8).build().toString();
+        boolean sent = ZeroCopyFileSender.send(req, res, attachments.path(a.sha256()), "\"" + a.sha256() + "\"",
+                a.contentType(), disposition, "private, max-age=31536000, immutable");
+        if (!sent) res.sendError(HttpServletResponse.SC_NOT_FOUND);    // 행은 있는데 파일이 없음(저장소 유실)
+    }
+
+    /** 첨부 삭제: 관리자 또는 올린 사람만 */
+    @DeleteMapping("/attachments/{uuid}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable String uuid, Authentication auth) {
+        Attachment a = attachments.find(uuid);
+        if (a == null) return ResponseEntity.notFound().build();
+        String me = username(auth);
+        if (!(isAdmin(auth) || (me != null && me.equals(a.uploaderId())))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return attachments.remove(a) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.demo.controller;                        // 이 파일이 속한 패키지 경로(네임스페이스)
 
 import java.util.List;                                      // 목록 반환을 위해 List 컬렉션을 사용
+import java.util.Map;                                       // 일괄 조회 응답(게시글 키 → 댓글 목록)
 
+import org.springframework.beans.factory.annotation.Value;  // app.batch.max-keys 설정 주입
 import org.springframework.http.ResponseEntity;             // (현재 메서드들에선 안 쓰이지만) 응답 래핑용 타입
 import org.springframework.security.core.Authentication;    // (현재 메서드들에선 안 쓰이지만) 로그인 사용자 정보 접근용
 import org.springframework.web.bind.annotation.DeleteMapping;// REST: DELETE 핸들러 애너테이션(지금 파일에선 미사용)
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;  // REST: POST 핸
 import org.springframework.web.bind.annotation.PutMapping;   // REST: PUT 핸들러 애너테이션(지금 파일에선 미사용)
 import org.springframework.web.bind.annotation.RequestBody;  // 요청 본문 바인딩(@RequestBody)을 위해 import(지금 메서드들엔 미사용)
 import org.springframework.web.bind.annotation.RequestMapping;// 공통 URL prefix 매핑 애너테이션
+import org.springframework.web.bind.annotation.RequestParam; // 쿼리 파라미터(?posts=a,b) 바인딩
 import org.springframework.web.bind.annotation.RestController;// REST 컨트롤러(응답을 JSON 등으로 직렬화)
 
 import com.example.demo.dao.CommentDao;                     // 댓글 데이터를 DB에서 읽어오는 DAO 의존성
@@ -21,9 +24,12 @@ import com.example.demo.dto.CommentDto;                     // 댓글 한 건(
 public class CommentController {                            // 댓글 관련 HTTP API를 제공하는 컨트롤러 클래스
 
     private final CommentDao commentDao;                    // DB 접근을 위임할 DAO 의존성(불변)
+    private final int maxBatchKeys;                         // 일괄 조회 한 요청의 최대 게시글 수
 
-    public CommentController(CommentDao commentDao) {       // 생성자 주입: 스프링이 CommentDao 빈을 넣어줌
+    public CommentController(CommentDao commentDao,         // 생성자 주입: 스프링이 CommentDao 빈을 넣어줌
+                             @Value("${app.batch.max-keys:50}") int maxBatchKeys) {
         this.commentDao = commentDao;                       // 주입된 DAO를 필드에 보관
+        this.maxBatchKeys = Math.max(1, maxBatchKeys);
     }
 
     /* ---------- 목록 조회 ---------- */                    // 섹션 구분 주석: 이 아래는 "조회" 계열 API
@@ -43,6 +49,16 @@ public class CommentController {                            // 댓글 관련 HTT
     public List<CommentDto> listByPostKey(@PathVariable String postKey) {
         return commentDao.findByPostKey(postKey);           // 명시적으로 문자열 키 전용 DAO 메서드에 위임
     }                                                       //  - 위 라우트가 있는 이유: 숫자 ID 경로와 명확히 구분하여 라우팅 충돌 방지
+
+    // 여러 게시글(숫자 ID 문자열/uuid)의 댓글을 한 번에          // 목록 화면에서 여러 글의 댓글을 펼칠 때 글마다 요청하지 않도록
+    @GetMapping("/comments/batch")                          // 예: GET /api/comments/batch?posts=12,e3f2-...-9a
+    public ResponseEntity<?> listByPosts(@RequestParam("posts") List<String> posts) {
+        if (posts.size() > maxBatchKeys) {                  // IN (...) 목록 길이 제한
+            return ResponseEntity.badRequest().body("한 번에 조회할 수 있는 글은 최대 " + maxBatchKeys + "개입니다.");
+        }
+        Map<String, List<CommentDto>> byPost = commentDao.findByPosts(posts); // 게시글 키 → 댓글 목록(요청 순서)
+        return ResponseEntity.ok(byPost);
+    }
                                                           // 클래스 끝
 
     /* ---------- 댓글 등록(최상위) ---------- */
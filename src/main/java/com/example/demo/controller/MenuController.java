@@ -2,6 +2,8 @@
 
 package com.example.demo.controller;                                     // 컨트롤러 클래스가 위치한 패키지(네임스페이스)
 
+import org.slf4j.Logger;                                                  // SLF4J 로거(Logback 으로 출력)
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;                              // HTTP 상태코드 상수(예: 200, 500 등)
 import org.springframework.http.ResponseEntity;                           // 상태코드/헤더/바디를 함께 담아 반환하는 래퍼
 import org.springframework.web.bind.annotation.GetMapping;                // HTTP GET 요청을 메서드에 매핑하는 애너테이션
@@ -23,6 +25,8 @@ import com.example.demo.dao.MenuDao;                                      // 메
 @RequestMapping("/api")                                                   // 클래스 내 모든 엔드포인트 앞에 "/api" 접두사 부여
 public class MenuController {
 
+    private static final Logger log = LoggerFactory.getLogger(MenuController.class);
+
     private final MenuDao dao;                                            // 메뉴 데이터를 제공하는 DAO 필드(불변)
 
     public MenuController(MenuDao dao) {                                  // 생성자 주입(권장 방식)
@@ -39,7 +43,7 @@ public class MenuController {
                                           : dao.findByDepth(depth);       // 특정 깊이의 노드만
             return ResponseEntity.ok(body);                               // 200 OK + 조회 결과(JSON 직렬화)
         } catch (Exception e) {
-            e.printStackTrace();                                          // 간단한 콘솔 로깅(운영에선 로거 사용 권장)
+            log.error("메뉴 조회 실패 depth={}", depth, e);                  // 스택트레이스 포함 ERROR 로그
             // 500 Internal Server Error와 사용자 친화적 메시지 반환
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                                  .body("메뉴 데이터를 불러오지 못했습니다."); // 에러 메시지 바디
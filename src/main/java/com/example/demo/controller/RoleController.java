@@ -2,20 +2,30 @@
 
 package com.example.demo.controller;                                     // 컨트롤러 클래스가 속한 패키지(네임스페이스)
 
+import java.util.ArrayList;                                              // 일괄 결과 목록
+import java.util.LinkedHashMap;                                          // 입력 순서를 유지하는 user_id → role_id
 import java.util.List;                                                   // 다건(목록) 반환을 위한 List 컬렉션
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;                                                // 아이디(대소문자 무시) → 마지막 요청 위치
 
+import org.springframework.beans.factory.annotation.Qualifier;           // 같은 타입 빈 중 특정 구현 선택
+import org.springframework.beans.factory.annotation.Value;               // 일괄 변경 최대 건수 설정
 import org.springframework.http.ResponseEntity;                          // 상태코드+본문을 함께 담는 응답 래퍼
-import org.springframework.jdbc.core.JdbcTemplate;                       // 간단한 SQL 실행을 돕는 스프링 JDBC 유틸
 import org.springframework.security.access.prepost.PreAuthorize;         // 메서드 단 권한 체크 애너테이션(@EnableMethodSecurity 필요)
+import org.springframework.transaction.annotation.Transactional;         // 일괄 변경을 한 트랜잭션으로
 import org.springframework.web.bind.annotation.GetMapping;               // HTTP GET 매핑
 import org.springframework.web.bind.annotation.PathVariable;             // URL 경로 변수 바인딩
 import org.springframework.web.bind.annotation.PutMapping;               // HTTP PUT 매핑
 import org.springframework.web.bind.annotation.RequestBody;              // JSON 본문 → 객체 바인딩
 import org.springframework.web.bind.annotation.RequestMapping;           // 클래스 레벨 공통 URL prefix
+import org.springframework.web.bind.annotation.RequestParam;             // 쿼리스트링 파라미터 바인딩
 import org.springframework.web.bind.annotation.RestController;           // @Controller + @ResponseBody (JSON 직렬화)
 
-import com.example.demo.dao.RoleDao;                                     // 권한 관련 조회 DAO
+import com.example.demo.dao.IUserRoleDao;                                // users_roles DAO(일괄 치환 배치 경로)
+import com.example.demo.dao.UserRoleDao;                                 // 빈 이름 상수
 import com.example.demo.dto.RoleRow;                                     // 권한 목록의 한 행을 표현하는 DTO
+import com.example.demo.service.user.RoleIndex;                          // 사용자별 대표 권한 메모리 인덱스
 
 /**
  * 권한 조회/수정 컨트롤러
@@ -24,19 +34,35 @@ import com.example.demo.dto.RoleRow;                                     // 권
 @RequestMapping("/api/roles")                                            // 이 클래스의 모든 엔드포인트 앞에 "/api/roles" 접두사
 public class RoleController {
 
-  private final RoleDao roleDao;                                         // 권한 목록 조회용 DAO 의존성
-  private final JdbcTemplate jdbc;                                       // 직접 SQL 업데이트/검증을 위한 JdbcTemplate
+  private final RoleIndex roleIndex;                                     // 대표 권한 인덱스(조회는 DB 를 타지 않음)
+  private final IUserRoleDao userRoleDao;                                // 권한 치환(단건/일괄 모두 같은 배치 경로)
+  private final int bulkMaxItems;                                        // 일괄 변경 한 요청의 최대 건수
 
-  public RoleController(RoleDao roleDao, JdbcTemplate jdbc) {            // 생성자 주입(권장 방식)
-    this.roleDao = roleDao;                                              // 주입받은 DAO를 필드에 보관
-    this.jdbc = jdbc;                                                    // 주입받은 JdbcTemplate을 필드에 보관
+  public RoleController(RoleIndex roleIndex,                             // 생성자 주입(권장 방식)
+                        @Qualifier(UserRoleDao.BEAN_QUALIFIER) IUserRoleDao userRoleDao,
+                        @Value("${app.roles.bulk-max-items:1000}") int bulkMaxItems) {
+    this.roleIndex = roleIndex;                                          // 주입받은 인덱스를 필드에 보관
+    this.userRoleDao = userRoleDao;
+    this.bulkMaxItems = bulkMaxItems;
   }
 
-  /** 모든 사용자 + 대표 권한 조회 */
+  /**
+   * 사용자 + 대표 권한 조회
+   * - 파라미터가 하나라도 있으면 키셋 페이지: { items, next, total }
+   *   after=이전 응답의 next, size=페이지 크기, role=ADMIN|USER, q=아이디 접두사
+   * - 파라미터가 없으면 예전처럼 전체 배열(사용자 화면의 권한 합치기용)
+   */
   @GetMapping                                                            // GET /api/roles
-  public ResponseEntity<List<RoleRow>> listAll() {                       // 200 OK + List<RoleRow> 반환
-    List<RoleRow> rows = roleDao.findAllUserRoles();                     // DAO 호출로 전체 사용자 대표 권한 목록 조회
-    return ResponseEntity.ok(rows);                                      // 200 OK와 함께 결과 리스트 반환
+  public ResponseEntity<?> listAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String role,
+      @RequestParam(required = false) String q) {
+    if (after == null && size == null && role == null && q == null) {
+      List<RoleRow> rows = roleIndex.all();                              // 전체 목록(인덱스에서 바로)
+      return ResponseEntity.ok(rows);
+    }
+    return ResponseEntity.ok(roleIndex.page(after, size, role, q));      // 200 OK + 한 페이지
   }
 
   /** 요청 바디 DTO 모델(클래스 내부에 정의) */
@@ -49,6 +75,7 @@ public class RoleController {
   /** 특정 사용자 대표 권한 변경 (관리자 전용 API) */
   @PutMapping("/{username}")                                             // PUT /api/roles/{username}
   @PreAuthorize("hasRole('ADMIN')")                                      // ADMIN 권한을 가진 사용자만 실행 가능
+  @Transactional                                                         // 기존 권한 삭제 + 새 권한 삽입을 한 트랜잭션으로
   public ResponseEntity<?> updateRole(
       @PathVariable String username,                                      // 경로 변수로 사용자 식별자(user_id) 수신
       @RequestBody UpdateRoleReq body                                     // JSON 본문을 UpdateRoleReq로 역직렬화
@@ -58,25 +85,74 @@ public class RoleController {
       return ResponseEntity.badRequest().body("username/role 이 필요합니다."); // 400 Bad Request + 메시지
     }
 
-    // 클라이언트는 "ROLE_USER|ROLE_ADMIN" 형태로 보낼 수 있으나
-    // DB에는 접두어 없는 "USER|ADMIN"만 저장한다고 가정 → 접두어 제거/정규화
-    final String dbRole = body.role.toUpperCase().contains("ADMIN") ? "ADMIN" : "USER";
-
-    // 사용자 존재 확인(없으면 404)
-    // queryForObject는 Spring JdbcTemplate/NamedParameterJdbcTemplate가 ‘결과가 정확히 1개’인 조회를 실행할 때 쓰는 메서드
-    // “integer(정수)”는 소수점 없는 수
-    Integer exists = jdbc.queryForObject(                                 // COUNT(*)로 존재 여부 확인
-        "SELECT COUNT(*) FROM users WHERE user_id = ?",
-        Integer.class, username
-    );
-    if (exists == null || exists == 0) {                                  // 조회 결과가 0이면 미존재
+    // 대표 권한은 1건만 유지하는 정책: 기존 매핑 제거 후 새 매핑 삽입(치환) — 일괄 변경과 같은 DAO 경로
+    Set<String> applied = userRoleDao.replaceRoles(Map.of(username, dbRole(body.role)));
+    if (applied.isEmpty()) {                                              // users 에 없는 아이디
       return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다: " + username); // 404 Not Found
     }
-
-    // 대표 권한은 1건만 유지하는 정책: 기존 매핑 제거 후 새 매핑 삽입(치환)
-    jdbc.update("DELETE FROM users_roles WHERE user_id = ?", username);   // 기존 권한 모두 삭제
-    jdbc.update("INSERT INTO users_roles(user_id, role_id) VALUES (?, ?)",
-                username, dbRole);                                        // 새 대표 권한 1건 삽입
     return ResponseEntity.noContent().build();                            // 성공 시 204 No Content(바디 없음)
   }
+
+  /** 일괄 변경 요청의 한 건 */
+  public static class BulkItem {
+    public String username;                                               // users.user_id
+    public String role;     // "ROLE_USER" | "ROLE_ADMIN"
+  }
+
+  /** 일괄 변경 결과의 한 건: status = UPDATED | NOT_FOUND | INVALID | DUPLICATE(같은 아이디가 뒤에 다시 나옴 — 마지막 것만 적용) */
+  public record BulkResult(String username, String role, String status) {}
+
+  /** 일괄 변경 응답 */
+  public record BulkResponse(int applied, List<BulkResult> results) {}
+
+  /**
+   * 여러 사용자 대표 권한 일괄 변경 (관리자 전용 API)
+   * - 본문: [{ "username": "...", "role": "ROLE_ADMIN" }, ...] (최대 app.roles.bulk-max-items 건)
+   * - 한 트랜잭션 안에서 존재 확인/삭제/삽입을 각각 JDBC 배치로 실행 → 요청 1번, 왕복 몇 번
+   * - 없는 사용자는 NOT_FOUND 로 건너뛰고 나머지는 반영, DB 오류면 전부 롤백(500)
+   */
+  @PutMapping                                                            // PUT /api/roles
+  @PreAuthorize("hasRole('ADMIN')")
+  @Transactional
+  public ResponseEntity<?> updateRoles(@RequestBody List<BulkItem> items) {
+    if (items == null || items.isEmpty()) {
+      return ResponseEntity.badRequest().body("변경할 항목이 없습니다.");
+    }
+    if (items.size() > bulkMaxItems) {
+      return ResponseEntity.badRequest().body("한 번에 최대 " + bulkMaxItems + "건까지 변경할 수 있습니다.");
+    }
+
+    Map<String, Integer> lastIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER); // 같은 아이디(대소문자 무시, DB 와 같음)는 마지막 위치만 적용
+    for (int i = 0; i < items.size(); i++) {
+      BulkItem it = items.get(i);
+      if (it == null || it.username == null || it.username.isBlank() || it.role == null) continue;
+      lastIndex.put(it.username, i);
+    }
+    Map<String, String> roleByUser = new LinkedHashMap<>();              // 유효한 항목: user_id → DB role
+    for (int i = 0; i < items.size(); i++) {
+      BulkItem it = items.get(i);
+      Integer last = it == null || it.username == null ? null : lastIndex.get(it.username);
+      if (last != null && last == i) roleByUser.put(it.username, dbRole(it.role)); // 요청 순서대로
+    }
+    Set<String> applied = userRoleDao.replaceRoles(roleByUser);
+
+    List<BulkResult> results = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      BulkItem it = items.get(i);
+      String user = it == null ? null : it.username;
+      String role = it == null || it.role == null ? null : "ROLE_" + dbRole(it.role);
+      String status;
+      if (role == null || user == null || user.isBlank()) status = "INVALID";
+      else if (lastIndex.get(user) != i) status = "DUPLICATE";
+      else status = applied.contains(user) ? "UPDATED" : "NOT_FOUND";
+      results.add(new BulkResult(user, role, status));
+    }
+    return ResponseEntity.ok(new BulkResponse(applied.size(), results));
+  }
+
+  // 클라이언트는 "ROLE_USER|ROLE_ADMIN" 형태로 보낼 수 있으나
+  // DB에는 접두어 없는 "USER|ADMIN"만 저장한다고 가정 → 접두어 제거/정규화
+  private static String dbRole(String role) {
+    return role.toUpperCase().contains("ADMIN") ? "ADMIN" : "USER";
+  }
 }
@@ -0,0 +1,101 @@
+// src/main/java/com/example/demo/controller/TokenController.java
+
+package com.example.demo.controller;                                      // 컨트롤러 클래스의 패키지 경로(네임스페이스)
+
+import java.util.List;                                                    // 권한 문자열 목록
+import java.util.Map;                                                     // 요청/응답 JSON
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // app.token.enabled=true 일 때만 등록
+import org.springframework.http.ResponseEntity;                           // HTTP 상태코드/헤더/본문을 담는 응답 래퍼
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // 아이디/비밀번호 인증 요청
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration; // 전역 AuthenticationManager
+import org.springframework.security.core.Authentication;                  // 인증 결과
+import org.springframework.security.core.AuthenticationException;         // 인증 실패
+import org.springframework.security.core.GrantedAuthority;                // 권한 문자열
+import org.springframework.security.core.userdetails.UserDetails;         // 재발급 시 DB 재조회 결과
+import org.springframework.security.core.userdetails.UserDetailsService;  // MemberUserDetailsService
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.PostMapping;               // HTTP POST 매핑
+import org.springframework.web.bind.annotation.RequestBody;               // JSON 본문
+import org.springframework.web.bind.annotation.RequestMapping;            // 공통 URL prefix
+import org.springframework.web.bind.annotation.RestController;            // JSON 직렬화 컨트롤러
+
+import com.example.demo.auth.TokenService;                                // 서명 토큰 발급/검증
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 무상태 모드 토큰 API (app.token.enabled=true 일 때만 등록, SecurityConfig 에서 /api/auth/** 공개)
+ *
+ * - POST /api/auth/token   : {username, password} → access/refresh 발급(본문 + HttpOnly 쿠키)
+ * - POST /api/auth/refresh : refresh 토큰(본문 refreshToken 또는 쿠키) → 새 access/refresh
+ *                            이때만 DB 에서 사용자/권한을 다시 읽음(권한 변경/탈퇴는 access 만료 후 반영)
+ * - POST /api/auth/logout  : 쿠키 삭제(서버 상태 없음 → 이미 발급된 access 는 만료까지 유효)
+ * 폼 로그인(POST /login)도 무상태 모드에서는 같은 쿠키를 발급한다(SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(prefix = "app.token", name = "enabled", havingValue = "true")
+public class TokenController {
+
+  private final TokenService tokens;
+  private final AuthenticationConfiguration authConfig;
+  private final UserDetailsService userDetailsService;
+
+  public TokenController(TokenService tokens, AuthenticationConfiguration authConfig,
+                         UserDetailsService userDetailsService) {
+    this.tokens = tokens;
+    this.authConfig = authConfig;
+    this.userDetailsService = userDetailsService;
+  }
+
+  @PostMapping("/token")
+  public ResponseEntity<?> token(@RequestBody Map<String, String> body, HttpServletResponse res) {
+    Authentication auth;
+    try {
+      auth = authConfig.getAuthenticationManager().authenticate(UsernamePasswordAuthenticationToken.unauthenticated(
+          body.getOrDefault("username", ""), body.getOrDefault("password", "")));
+    } catch (AuthenticationException e) {
+      return ResponseEntity.status(401).body(Map.of("error", "invalid_credentials"));
+    } catch (Exception e) {
+      return ResponseEntity.internalServerError().build();
+    }
+    return issue(auth.getName(), auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(), res);
+  }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<?> refresh(@RequestBody(required = false) Map<String, String> body,
+                                   HttpServletRequest req, HttpServletResponse res) {
+    String raw = body == null ? null : body.get("refreshToken");
+    if (raw == null) raw = TokenService.cookie(req, tokens.properties().getRefreshCookie());
+    TokenService.Claims claims = tokens.verify(raw, TokenService.REFRESH);
+    if (claims == null) return ResponseEntity.status(401).body(Map.of("error", "invalid_refresh_token"));
+
+    UserDetails user;
+    try {
+      user = userDetailsService.loadUserByUsername(claims.subject());
+    } catch (UsernameNotFoundException e) {
+      tokens.clearCookies(res);
+      return ResponseEntity.status(401).body(Map.of("error", "user_not_found"));
+    }
+    return issue(user.getUsername(), user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(), res);
+  }
+
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(HttpServletResponse res) {
+    tokens.clearCookies(res);
+    return ResponseEntity.noContent().build();
+  }
+
+  private ResponseEntity<Map<String, Object>> issue(String username, List<String> roles, HttpServletResponse res) {
+    String access = tokens.issueAccess(username, roles);
+    String refresh = tokens.issueRefresh(username);
+    tokens.writeCookies(res, access, refresh);
+    return ResponseEntity.ok(Map.of(
+        "tokenType", "Bearer",
+        "accessToken", access,
+        "refreshToken", refresh,
+        "expiresIn", tokens.properties().getAccessTtl().toSeconds()));
+  }
+}
@@ -0,0 +1,100 @@
+// src/main/java/com/example/demo/dao/AccountPurgeDao.java
+
+package com.example.demo.dao;                                             // DAO 클래스가 속한 패키지(네임스페이스)
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;                        // SQL 실행을 간편화하는 스프링 JDBC 유틸
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;                         // 영속 계층 컴포넌트 표시
+
+/**
+ * 계정 삭제 후 글/댓글 정리 작업 상태 (account_purge 테이블, AccountPurgeService 가 사용)
+ *
+ * - 사용자당 한 행: 상태(PENDING → RUNNING → DONE | FAILED) + 지금까지 처리한 건수 + 시도 횟수/마지막 오류
+ * - 건수는 배치마다 누적 → 중간에 끊겨도 어디까지 했는지 보이고, 재개는 "남은 행을 다시 찾기"라 상태가 따로 필요 없다.
+ * - 테이블은 기동 시 SchemaInitializer 가 만든다(DDL).
+ */
+@Repository
+@DependsOn("schemaInitializer")                                           // 테이블이 먼저 있어야 함
+public class AccountPurgeDao {
+
+  static final String DDL =
+      "CREATE TABLE IF NOT EXISTS account_purge ("
+    + " user_id             VARCHAR(50)  NOT NULL PRIMARY KEY,"
+    + " status              VARCHAR(20)  NOT NULL,"
+    + " posts_deleted       BIGINT       NOT NULL DEFAULT 0,"
+    + " comments_deleted    BIGINT       NOT NULL DEFAULT 0,"
+    + " comments_tombstoned BIGINT       NOT NULL DEFAULT 0,"
+    + " attempts            INT          NOT NULL DEFAULT 0,"
+    + " last_error          VARCHAR(500),"
+    + " created_at          TIMESTAMP    DEFAULT CURRENT_TIMESTAMP,"
+    + " updated_at          TIMESTAMP    DEFAULT CURRENT_TIMESTAMP)";
+
+  /** 작업 한 건(관리자 진행 현황 응답) */
+  public record Job(String userId, String status, long postsDeleted, long commentsDeleted, long commentsTombstoned,
+                    int attempts, String lastError, LocalDateTime createdAt, LocalDateTime updatedAt) {}
+
+  private static final RowMapper<Job> RM = (rs, i) -> new Job(
+      rs.getString("user_id"), rs.getString("status"),
+      rs.getLong("posts_deleted"), rs.getLong("comments_deleted"), rs.getLong("comments_tombstoned"),
+      rs.getInt("attempts"), rs.getString("last_error"),
+      toLocal(rs.getTimestamp("created_at")), toLocal(rs.getTimestamp("updated_at")));
+
+  private final JdbcTemplate jdbc;
+
+  public AccountPurgeDao(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** 작업 등록(같은 아이디로 다시 탈퇴한 경우 기존 행을 PENDING 으로 되돌림) — 호출 측 트랜잭션에 참여 */
+  public void enqueue(String userId) {
+    int n = jdbc.update("UPDATE account_purge SET status = 'PENDING', attempts = 0, last_error = NULL, updated_at = NOW() "
+        + "WHERE user_id = ?", userId);
+    if (n == 0) jdbc.update("INSERT INTO account_purge(user_id, status) VALUES (?, 'PENDING')", userId);
+  }
+
+  /** 끝나지 않은 작업(중단된 RUNNING 포함) 중 시도 횟수가 남은 것 */
+  public List<String> findUnfinished(int maxAttempts) {
+    return jdbc.queryForList("SELECT user_id FROM account_purge WHERE status <> 'DONE' AND attempts < ? ORDER BY created_at",
+        String.class, maxAttempts);
+  }
+
+  public void start(String userId) {
+    jdbc.update("UPDATE account_purge SET status = 'RUNNING', updated_at = NOW() WHERE user_id = ?", userId);
+  }
+
+  /** 배치 하나 처리 후 건수 누적 */
+  public void progress(String userId, long posts, long commentsDeleted, long commentsTombstoned) {
+    jdbc.update("UPDATE account_purge SET posts_deleted = posts_deleted + ?, comments_deleted = comments_deleted + ?, "
+        + "comments_tombstoned = comments_tombstoned + ?, updated_at = NOW() WHERE user_id = ?",
+        posts, commentsDeleted, commentsTombstoned, userId);
+  }
+
+  public void finish(String userId) {
+    jdbc.update("UPDATE account_purge SET status = 'DONE', last_error = NULL, updated_at = NOW() WHERE user_id = ?", userId);
+  }
+
+  public void fail(String userId, String error) {
+    String e = error == null ? null : error.length() > 500 ? error.substring(0, 500) : error;
+    jdbc.update("UPDATE account_purge SET status = 'FAILED', attempts = attempts + 1, last_error = ?, updated_at = NOW() "
+        + "WHERE user_id = ?", e, userId);
+  }
+
+  public Job find(String userId) {
+    List<Job> list = jdbc.query("SELECT * FROM account_purge WHERE user_id = ?", RM, userId);
+    return list.isEmpty() ? null : list.get(0);
+  }
+
+  /** 최근 갱신 순 */
+  public List<Job> findRecent(int limit) {
+    return jdbc.query("SELECT * FROM account_purge ORDER BY updated_at DESC LIMIT ?", RM, limit);
+  }
+
+  private static LocalDateTime toLocal(Timestamp ts) {
+    return ts == null ? null : ts.toLocalDateTime();
+  }
+}
@@ -0,0 +1,92 @@
+// src/main/java/com/example/demo/dao/AttachmentDao.java
+
+package com.example.demo.dao;                                             // DAO 클래스가 속한 패키지(네임스페이스)
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;                        // SQL 실행을 간편화하는 스프링 JDBC 유틸
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;                         // 영속 계층 컴포넌트 표시
+
+/**
+ * 게시글 첨부파일 메타데이터 (post_attachment 테이블, 파일 자체는 AttachmentService 의 내용 주소 저장소)
+ *
+ * - 첨부 한 건 = 한 행: 게시글 키(uuid 또는 숫자 PK 문자열) + 내용 해시(sha256, 저장소 파일명) + 원래 파일명/형식/크기
+ * - 같은 내용을 여러 번 올리면 행은 여러 개, 파일은 하나(sha256 공유) → 파일 삭제는 참조 행이 없을 때만
+ * - 테이블은 기동 시 SchemaInitializer 가 만든다(DDL, INDEXES).
+ */
+@Repository
+@DependsOn("schemaInitializer")                                           // 테이블이 먼저 있어야 함
+public class AttachmentDao {
+
+  static final String DDL =
+      "CREATE TABLE IF NOT EXISTS post_attachment ("
+    + " uuid         VARCHAR(36)  NOT NULL PRIMARY KEY,"
+    + " post_key     VARCHAR(64)  NOT NULL,"
+    + " sha256       CHAR(64)     NOT NULL,"
+    + " filename     VARCHAR(255) NOT NULL,"
+    + " content_type VARCHAR(100) NOT NULL,"
+    + " size_bytes   BIGINT       NOT NULL,"
+    + " uploader_id  VARCHAR(50),"
+    + " created_at   TIMESTAMP    DEFAULT CURRENT_TIMESTAMP)";
+
+  static final String[] INDEXES = {
+      "CREATE INDEX IF NOT EXISTS idx_attachment_post ON post_attachment(post_key)",  // 글별 목록/삭제
+      "CREATE INDEX IF NOT EXISTS idx_attachment_sha ON post_attachment(sha256)"      // 파일 참조 확인
+  };
+
+  /** 첨부 한 건(목록/다운로드 응답) */
+  public record Attachment(String uuid, String postKey, String sha256, String filename, String contentType,
+                           long size, String uploaderId, LocalDateTime createdAt) {}
+
+  private static final RowMapper<Attachment> RM = (rs, i) -> new Attachment(
+      rs.getString("uuid"), rs.getString("post_key"), rs.getString("sha256"), rs.getString("filename"),
+      rs.getString("content_type"), rs.getLong("size_bytes"), rs.getString("uploader_id"),
+      toLocal(rs.getTimestamp("created_at")));
+
+  private final JdbcTemplate jdbc;
+
+  public AttachmentDao(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public void insert(Attachment a) {
+    jdbc.update("INSERT INTO post_attachment(uuid, post_key, sha256, filename, content_type, size_bytes, uploader_id) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+        a.uuid(), a.postKey(), a.sha256(), a.filename(), a.contentType(), a.size(), a.uploaderId());
+  }
+
+  public Attachment find(String uuid) {
+    List<Attachment> list = jdbc.query("SELECT * FROM post_attachment WHERE uuid = ?", RM, uuid);
+    return list.isEmpty() ? null : list.get(0);
+  }
+
+  /** 글의 첨부(올린 순) */
+  public List<Attachment> findByPost(String postKey) {
+    return jdbc.query("SELECT * FROM post_attachment WHERE post_key = ? ORDER BY created_at, uuid", RM, postKey);
+  }
+
+  public int delete(String uuid) {
+    return jdbc.update("DELETE FROM post_attachment WHERE uuid = ?", uuid);
+  }
+
+  /** 글 삭제 시 — 지운 행들이 가리키던 해시(파일 정리 후보)를 돌려준다 */
+  public List<String> deleteByPost(String postKey) {
+    List<String> shas = jdbc.queryForList("SELECT DISTINCT sha256 FROM post_attachment WHERE post_key = ?",
+        String.class, postKey);
+    if (!shas.isEmpty()) jdbc.update("DELETE FROM post_attachment WHERE post_key = ?", postKey);
+    return shas;
+  }
+
+  /** 같은 내용 파일을 가리키는 행이 남아 있는지(없으면 파일 삭제 가능) */
+  public boolean isReferenced(String sha256) {
+    return !jdbc.queryForList("SELECT 1 FROM post_attachment WHERE sha256 = ? LIMIT 1", Integer.class, sha256).isEmpty();
+  }
+
+  private static LocalDateTime toLocal(Timestamp ts) {
+    return ts == null ? null : ts.toLocalDateTime();
+  }
+}
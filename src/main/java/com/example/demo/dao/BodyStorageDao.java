@@ -0,0 +1,145 @@
+// src/main/java/com/example/demo/dao/BodyStorageDao.java
+
+package com.example.demo.dao;                                             // DAO 클래스가 속한 패키지(네임스페이스)
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;                        // SQL 실행을 간편화하는 스프링 JDBC 유틸
+import org.springframework.stereotype.Repository;                         // 영속 계층 컴포넌트 표시
+
+import com.example.demo.dao.support.BodyCodec;                            // 본문 저장 형식(압축 표식)
+
+/**
+ * 게시글/댓글 본문 저장 공간 보고 + 기존 행 압축(관리자 /api/admin/storage)
+ *
+ * - report     : 행 수, 압축 행 수, 본문 저장 바이트 vs 원본 바이트(압축 행만 풀어서 셈 — 스트리밍, 관리자용)
+ *                + MariaDB information_schema 의 테이블/인덱스 크기(다른 DB 면 null)
+ * - bufferPool : InnoDB 버퍼 풀 논리 읽기/디스크 읽기 누적값(SHOW GLOBAL STATUS, 다른 DB 면 null)
+ * - compress   : PK 순 키셋으로 limit 건씩 읽어 평문이면서 임계값 이상인 본문만 압축본으로 바꿈.
+ *                읽은 값 그대로일 때만 UPDATE(그 사이 수정된 글은 건너뜀), updated_at/이벤트는 건드리지 않음.
+ */
+@Repository
+public class BodyStorageDao {
+
+  private static final int FETCH_SIZE = 500;
+
+  /** 테이블 하나의 본문 저장 현황 */
+  public record TableReport(String table, long rows, long compressedRows, long storedBytes, long rawBytes,
+                            Long dataLength, Long indexLength) {
+    public long savedBytes() { return rawBytes - storedBytes; }
+  }
+
+  /** 버퍼 풀 누적 카운터 — 두 시점의 차이로 적중률 변화를 본다 */
+  public record BufferPool(long readRequests, long diskReads) {
+    public Double hitRate() { return readRequests == 0 ? null : 1.0 - (double) diskReads / readRequests; }
+  }
+
+  /** 기존 행 압축 한 배치 결과 — next 가 null 이면 끝 */
+  public record Backfill(String table, int scanned, int compressed, String next) {}
+
+  private record Target(String table, String id, String content) {}
+
+  private final JdbcTemplate jdbc;
+  private final PostDao postDao;
+  private final BodyCodec body;
+
+  public BodyStorageDao(JdbcTemplate jdbc, PostDao postDao, BodyCodec body) {
+    this.jdbc = jdbc;
+    this.postDao = postDao;
+    this.body = body;
+  }
+
+  /** @param which post | comment */
+  public TableReport report(String which) {
+    Target t = target(which);
+    String like = BodyCodec.MARKER + "%";
+    Map<String, Object> all = jdbc.queryForMap(
+        "SELECT COUNT(*) AS n, COALESCE(SUM(OCTET_LENGTH(" + t.content + ")), 0) AS b FROM " + t.table);
+    Map<String, Object> packed = jdbc.queryForMap(
+        "SELECT COUNT(*) AS n, COALESCE(SUM(OCTET_LENGTH(" + t.content + ")), 0) AS b FROM " + t.table +
+        " WHERE " + t.content + " LIKE ?", like);
+    long stored = num(all.get("b"));
+    LongAdder raw = new LongAdder();
+    raw.add(stored - num(packed.get("b")));                             // 평문 행은 저장 바이트 = 원본 바이트
+    jdbc.query(con -> {
+      PreparedStatement ps = con.prepareStatement(
+          "SELECT " + t.content + " FROM " + t.table + " WHERE " + t.content + " LIKE ?");
+      ps.setString(1, like);
+      ps.setFetchSize(FETCH_SIZE);
+      return ps;
+    }, rs -> { raw.add(BodyCodec.decode(rs.getString(1)).getBytes(StandardCharsets.UTF_8).length); });
+
+    Long data = null;
+    Long index = null;
+    try {
+      Map<String, Object> size = jdbc.queryForMap(
+          "SELECT data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+          t.table.replace("`", ""));
+      data = num(size.get("data_length"));
+      index = num(size.get("index_length"));
+    } catch (DataAccessException ignore) {}                            // H2 등: 크기 컬럼 없음
+    return new TableReport(t.table.replace("`", ""), num(all.get("n")), num(packed.get("n")), stored, raw.sum(),
+        data, index);
+  }
+
+  /** InnoDB 버퍼 풀 카운터(지원하지 않는 DB 면 null) */
+  public BufferPool bufferPool() {
+    try {
+      long[] v = new long[2];
+      jdbc.query("SHOW GLOBAL STATUS LIKE 'Innodb_buffer_pool_read%'", rs -> {
+        String name = rs.getString(1);
+        if ("Innodb_buffer_pool_read_requests".equalsIgnoreCase(name)) v[0] = rs.getLong(2);
+        if ("Innodb_buffer_pool_reads".equalsIgnoreCase(name)) v[1] = rs.getLong(2);
+      });
+      return new BufferPool(v[0], v[1]);
+    } catch (DataAccessException e) {
+      return null;
+    }
+  }
+
+  /** 기존 평문 행 압축(after 다음 PK 부터 limit 건 검사) */
+  public Backfill compress(String which, String after, int limit) {
+    Target t = target(which);
+    List<Object> args = new ArrayList<>(2);
+    String where = "";
+    if (after != null && !after.isEmpty()) {
+      where = " WHERE " + t.id + " > ?";
+      args.add(after.matches("\\d+") ? (Object) Long.parseLong(after) : after);
+    }
+    args.add(limit);
+    List<String[]> rows = jdbc.query(
+        "SELECT " + t.id + ", " + t.content + " FROM " + t.table + where + " ORDER BY " + t.id + " LIMIT ?",
+        (rs, i) -> new String[] { rs.getString(1), rs.getString(2) }, args.toArray());
+
+    int compressed = 0;
+    for (String[] r : rows) {
+      String content = r[1];
+      if (content == null || BodyCodec.isEncoded(content)) continue;
+      String packed = body.encode(content);
+      if (packed.equals(content)) continue;                            // 짧거나 이득 없음
+      Object id = r[0].matches("\\d+") ? (Object) Long.parseLong(r[0]) : r[0];
+      compressed += jdbc.update("UPDATE " + t.table + " SET " + t.content + " = ? WHERE " + t.id + " = ? AND " +
+          t.content + " = ?", packed, id, content);
+    }
+    String next = rows.size() < limit ? null : rows.get(rows.size() - 1)[0];
+    return new Backfill(t.table.replace("`", ""), rows.size(), compressed, next);
+  }
+
+  private Target target(String which) {
+    if ("comment".equalsIgnoreCase(which)) return new Target("`comment`", "`uuid`", "`content`");
+    if (!"post".equalsIgnoreCase(which)) throw new IllegalArgumentException("table 은 post | comment: " + which);
+    PostDao.SchemaInfo s = postDao.schema();
+    if (s.id == null || s.content == null) throw new IllegalStateException("게시글 PK/본문 컬럼을 찾지 못했습니다.");
+    return new Target(s.table, s.id, s.content);
+  }
+
+  private static long num(Object o) {
+    return o == null ? 0L : ((Number) o).longValue();
+  }
+}
@@ -1,27 +1,85 @@
 // src/main/java/com/example/demo/dao/CommentDao.java
 package com.example.demo.dao;
 
+import java.util.ArrayList;                           // 일괄 조회: 게시글별 목록
+import java.util.Collections;                         // IN (?, ?, ...) 자리표시자
+import java.util.LinkedHashMap;                       // 일괄 조회: 요청 순서 유지
 import java.util.List;                                // 목록 반환용
-import java.util.UUID;                                // uuid 생성용
+import java.util.Map;                                 // 게시글 키 → 댓글 목록
 
 import org.springframework.dao.DataAccessException;   // 스프링 데이터 접근 예외
 import org.springframework.jdbc.core.JdbcTemplate;    // SQL 실행 편의 클래스
 import org.springframework.jdbc.core.RowMapper;       // ResultSet → 객체 매핑 인터페이스
 import org.springframework.stereotype.Repository;     // DAO 스테레오타입
 
+import com.example.demo.dao.support.ArchiveTables;    // 오래된 댓글 보관 테이블(comment_archive)
+import com.example.demo.dao.support.BodyCodec;        // 긴 본문 압축 저장
+import com.example.demo.dao.support.ReadCoalescer;    // 동시 동일 조회 합치기(single-flight)
 import com.example.demo.dto.CommentDto;               // 댓글 DTO
+import com.example.demo.id.IdGenerator;               // uuid 생성(시간순)
 
 @Repository                                          // 스프링 빈 등록(컴포넌트 스캔 대상)
 public class CommentDao {
 
   private final JdbcTemplate jdbc;                   // 의존하는 JDBC 템플릿
-  public CommentDao(JdbcTemplate jdbc) { this.jdbc = jdbc; } // 생성자 주입
+  private final ReadCoalescer coalescer;             // 인기 글 댓글 목록 폭주 시 동일 조회를 한 번으로 합침
+  private final IdGenerator ids;                     // 새 댓글 uuid
+  private final BodyCodec body;                      // 본문 저장 형식(긴 본문은 압축)
+  private final ArchiveTables archive;               // 보관된 댓글(조회 시 함께 읽고, 수정/삭제 시 되돌림)
+
+  public CommentDao(JdbcTemplate jdbc, ReadCoalescer coalescer, IdGenerator ids, BodyCodec body,
+                    ArchiveTables archive) {         // 생성자 주입
+    this.jdbc = jdbc;
+    this.coalescer = coalescer;
+    this.ids = ids;
+    this.body = body;
+    this.archive = archive;
+  }
 
   /** 실제 테이블: 예약어 충돌 대비 백틱 사용 */
   private static final String TBL = "`comment`";     // MySQL에서 comment가 예약어일 수 있어 백틱으로 감쌈
 
+  private static final String COLS =
+      "`uuid`,`post_uuid`,`parent_uuid`,`depth`,`author_id`,`content`,`status`,`created_at`,`updated_at`";
+
+  /** 보관 테이블 이름 — 보관을 안 쓰면 null */
+  private String archiveOf() {
+    return archive.enabled() ? ArchiveTables.table("comment") : null;
+  }
+
+  /** 보관된 댓글이면 hot 테이블로 되돌림 — 수정/삭제는 hot 에서만 하므로, 0건이면 되돌린 뒤 한 번 더 시도 */
+  private boolean restored(String uuid) {
+    return archiveOf() != null && archive.restore("comment", "uuid", uuid);
+  }
+
+  /** 작성자 본인의 보관된 댓글일 때만 되돌림(남의 댓글은 보관 테이블에 그대로) */
+  private boolean restoredIfAuthor(String uuid, String authorId) {
+    String arch = archiveOf();
+    return arch != null && authorId != null
+        && !jdbc.queryForList("SELECT 1 FROM " + arch + " WHERE `uuid` = ? AND `author_id` = ?",
+                              Integer.class, uuid, authorId).isEmpty()
+        && archive.restore("comment", "uuid", uuid);
+  }
+
+  /**
+   * 조건에 맞는 댓글 — 보관 테이블이 있으면 두 테이블을 같은 조건으로 읽어 UNION ALL 후 정렬
+   * (보관된 글에도 새 댓글은 hot 에 쌓이고, 보관 중 끊긴 글은 댓글이 두 곳에 나뉠 수 있으므로 항상 둘 다 읽는다)
+   */
+  private List<CommentDto> select(String where, String orderBy, Object... args) {
+    String arch = archiveOf();
+    if (arch == null) {
+      return jdbc.query("SELECT " + COLS + " FROM " + TBL + " WHERE " + where + " ORDER BY " + orderBy, RM, args);
+    }
+    Object[] both = new Object[args.length * 2];
+    System.arraycopy(args, 0, both, 0, args.length);
+    System.arraycopy(args, 0, both, args.length, args.length);
+    return jdbc.query("SELECT * FROM (SELECT " + COLS + " FROM " + TBL + " WHERE " + where +
+                      " UNION ALL SELECT " + COLS + " FROM " + arch + " WHERE " + where + ") c ORDER BY " + orderBy,
+                      RM, both);
+  }
+
   /** ResultSet → DTO 매핑기 */
-  private static final RowMapper<CommentDto> RM = (rs, i) -> {  // 한 행을 CommentDto로 변환
+  static final RowMapper<CommentDto> RM = (rs, i) -> {          // 한 행을 CommentDto로 변환(패키지 공개: 매핑 벤치마크용)
     CommentDto c = new CommentDto();
     c.setUuid(rs.getString("uuid"));                            // 댓글 uuid
     c.setPostUuid(rs.getString("post_uuid"));                   // 소속 게시글 uuid
@@ -30,7 +88,7 @@ public class CommentDao {
     c.setWriterId(rs.getString("author_id"));                   // 작성자 ID
     // writerName 컬럼이 없으니 임시로 동일 값 사용
     c.setWriterName(rs.getString("author_id"));                 // 작성자 표시용 이름(임시로 author_id 재사용)
-    c.setContent(rs.getString("content"));                      // 본문
+    c.loadContent(rs.getString("content"));                     // 본문(압축 저장분은 getContent() 때 해제)
     c.setStatus(getSafe(rs, "status"));                         // 상태(드라이버/스키마에 따라 없을 수 있어 안전 조회)
     var cAt = rs.getTimestamp("created_at");                    // 생성시간
     if (cAt != null) c.setCreatedAt(cAt.toLocalDateTime());
@@ -47,13 +105,33 @@ public class CommentDao {
 
   /** 게시글의 모든 댓글 조회(부모 → 자식, 시간 순으로 안정 정렬) */
   public List<CommentDto> findByPost(String postUuid) {
-    final String sql =
-        "SELECT `uuid`,`post_uuid`,`parent_uuid`,`depth`,`author_id`,`content`,`status`,`created_at`,`updated_at` " +
-        "FROM " + TBL + " " +
-        "WHERE `post_uuid` = ? " +
+    return coalescer.load("comment.byPost", String.valueOf(postUuid), () -> queryByPost(postUuid));
+  }
+
+  private List<CommentDto> queryByPost(String postUuid) {
+    return select("`post_uuid` = ?",
         // COALESCE(parent_uuid, uuid): 부모가 없으면 자기 자신을 그룹 키로 사용 → 부모 그룹별 정렬
-        "ORDER BY COALESCE(`parent_uuid`, `uuid`) ASC, `depth` ASC, `created_at` ASC, `uuid` ASC";
-    return jdbc.query(sql, RM, postUuid);                        // 매퍼(RM)로 목록 반환
+        "COALESCE(`parent_uuid`, `uuid`) ASC, `depth` ASC, `created_at` ASC, `uuid` ASC",
+        postUuid);                                               // 매퍼(RM)로 목록 반환
+  }
+
+  /**
+   * 여러 게시글의 댓글을 한 번에 조회 — post_uuid IN (...) 한 문장
+   * - 반환: 요청 순서의 게시글 키 → 댓글 목록(findByPost 와 같은 정렬, 댓글 없으면 빈 목록)
+   */
+  public Map<String, List<CommentDto>> findByPosts(List<String> postUuids) {
+    List<String> keys = postUuids.stream().filter(k -> k != null && !k.isBlank()).distinct().toList();
+    Map<String, List<CommentDto>> out = new LinkedHashMap<>();
+    for (String k : keys) out.put(k, new ArrayList<>());
+    if (keys.isEmpty()) return out;
+    List<CommentDto> rows = select("`post_uuid` IN (" + placeholders(keys.size()) + ")",
+        "`post_uuid`, COALESCE(`parent_uuid`, `uuid`) ASC, `depth` ASC, `created_at` ASC, `uuid` ASC",
+        keys.toArray());
+    for (CommentDto c : rows) {
+      List<CommentDto> list = out.get(c.getPostUuid());
+      if (list != null) list.add(c);
+    }
+    return out;
   }
 
   /** 키 라우트용 별칭 */
@@ -63,23 +141,23 @@ public class CommentDao {
 
   /** ✅ 부모 댓글의 post_uuid 조회 (대댓글 등록 시 동일 게시글 검증용) */
   public String findPostUuidByCommentUuid(String commentUuid) {
-    try {
-      return jdbc.queryForObject(
-          "SELECT `post_uuid` FROM " + TBL + " WHERE `uuid` = ?",
-          String.class, commentUuid);                            // 단일 값 조회
-    } catch (Exception e) {
-      return null;                                               // 없거나 에러 시 null
-    }
+    return column("post_uuid", String.class, commentUuid);       // 단일 값 조회(없거나 에러 시 null)
   }
 
   /** 부모 댓글의 depth 조회 (대댓글 depth 계산) */
   private Integer findDepthByUuid(String parentUuid) {
+    return column("depth", Integer.class, parentUuid);           // 부모의 깊이 반환(없으면 null)
+  }
+
+  /** uuid 한 건의 컬럼 값 — hot 에 없으면 보관 테이블(보관된 댓글에 다는 대댓글) */
+  private <T> T column(String col, Class<T> type, String uuid) {
     try {
-      return jdbc.queryForObject(
-          "SELECT `depth` FROM " + TBL + " WHERE `uuid` = ?",
-          Integer.class, parentUuid);                            // 부모의 깊이 반환
-    } catch (Exception e) {
-      return null;                                               // 없으면 null
+      List<T> v = jdbc.queryForList("SELECT `" + col + "` FROM " + TBL + " WHERE `uuid` = ?", type, uuid);
+      String arch = v.isEmpty() ? archiveOf() : null;
+      if (arch != null) v = jdbc.queryForList("SELECT `" + col + "` FROM " + arch + " WHERE `uuid` = ?", type, uuid);
+      return v.isEmpty() ? null : v.get(0);
+    } catch (DataAccessException e) {
+      return null;                                               // 에러 시 null
     }
   }
 
@@ -120,14 +198,14 @@ public class CommentDao {
     }
 
     String newUuid = trimOrNull(d.getUuid());                    // ← 클라이언트가 UUID를 줬는지 확인
-    if (newUuid == null) newUuid = UUID.randomUUID().toString(); // ← 없으면 서버가 새 UUID 생성
+    if (newUuid == null) newUuid = ids.uuid();                   // ← 없으면 서버가 새 UUID 생성(시간순 v7)
 
     final String sql =
         "INSERT INTO " + TBL +                                   // ← 대상 테이블 상수(TBL) 사용
         " (`uuid`,`post_uuid`,`parent_uuid`,`depth`,`author_id`,`content`,`status`,`created_at`,`updated_at`) " +
         "VALUES (?, ?, ?, ?, ?, ?, 'PUBLISHED', NOW(), NOW())";  // ← status 기본값 PUBLISHED, 시간은 NOW()
 
-    jdbc.update(sql, newUuid, postUuid, parentUuid, depth, authorId, content); // ← PreparedStatement 바인딩 후 INSERT 실행
+    jdbc.update(sql, newUuid, postUuid, parentUuid, depth, authorId, body.encode(content)); // ← 바인딩 후 INSERT(긴 본문은 압축)
 
     // 응답 DTO 갱신(호출자에게 실제 저장된 값 반영)
     d.setUuid(newUuid);                                          // ← 생성/확정된 UUID를 DTO에 반영
@@ -152,14 +230,17 @@ public class CommentDao {
     final String sql =
         "UPDATE " + TBL + " SET `content` = ?, `updated_at` = NOW() WHERE `uuid` = ?"; 
         // ← 파라미터 바인딩(?, ?) 사용하는 안전한 UPDATE 문. 수정 시각은 DB의 NOW()로 갱신
+    final String stored = body.encode(content);                      // ← 긴 본문은 압축해 저장
 
+    int n;
     try {
-      return jdbc.update(sql, content, uuid);                        // ← JdbcTemplate로 실행: 영향받은 행 수(0/1)를 반환
+      n = jdbc.update(sql, stored, uuid);                            // ← JdbcTemplate로 실행: 영향받은 행 수(0/1)를 반환
     } catch (DataAccessException e) {
       // 특정 드라이버에서 NOW()가 문제될 때 대체
       final String sql2 = "UPDATE " + TBL + " SET `content` = ? WHERE `uuid` = ?";
-      return jdbc.update(sql2, content, uuid);                       // ← 호환 모드: updated_at은 갱신하지 않음
+      n = jdbc.update(sql2, stored, uuid);                           // ← 호환 모드: updated_at은 갱신하지 않음
     }
+    return n == 0 && restored(uuid) ? updateContentByUuidAdmin(uuid, content) : n; // ← 보관된 댓글이면 되돌린 뒤 다시
 }
 
 
@@ -168,13 +249,16 @@ public class CommentDao {
     final String sql =
         "UPDATE " + TBL + " SET `content` = ?, `updated_at` = NOW() WHERE `uuid` = ? AND `author_id` = ?";
         // ← 동일하지만 WHERE 절에 author_id 조건이 추가되어 "본인 글"만 수정 가능
+    final String stored = body.encode(content);                      // ← 긴 본문은 압축해 저장
 
+    int n;
     try {
-      return jdbc.update(sql, content, uuid, authorId);              // ← 실행 후 영향 행 수 반환(0이면 uuid가 없거나 작성자 불일치)
+      n = jdbc.update(sql, stored, uuid, authorId);                  // ← 실행 후 영향 행 수(0이면 uuid가 없거나 작성자 불일치)
     } catch (DataAccessException e) {
       final String sql2 = "UPDATE " + TBL + " SET `content` = ? WHERE `uuid` = ? AND `author_id` = ?";
-      return jdbc.update(sql2, content, uuid, authorId);             // ← 호환 모드: updated_at 미갱신
+      n = jdbc.update(sql2, stored, uuid, authorId);                 // ← 호환 모드: updated_at 미갱신
     }
+    return n == 0 && restoredIfAuthor(uuid, authorId) ? updateContentByUuidAndAuthor(uuid, content, authorId) : n; // ← 보관된 내 댓글 → 되돌린 뒤 다시
 }
 
   /* ----------------------- 삭제 ----------------------- */
@@ -182,13 +266,72 @@ public class CommentDao {
   /** 강제 삭제(관리자): uuid 로 삭제 */
   public int deleteByUuid(String uuid) {
     final String sql = "DELETE FROM " + TBL + " WHERE `uuid` = ?"; // 관리자 무제한 삭제
-    return jdbc.update(sql, uuid);
+    int n = jdbc.update(sql, uuid);
+    return n == 0 && restored(uuid) ? deleteByUuid(uuid) : n;      // 보관된 댓글 → 되돌린 뒤 다시
   }
 
   /** 본인만 삭제: uuid + author_id 일치 */
   public int deleteByUuidAndAuthor(String uuid, String authorId) {
     final String sql = "DELETE FROM " + TBL + " WHERE `uuid` = ? AND `author_id` = ?"; // 소유자 제약
-    return jdbc.update(sql, uuid, authorId);
+    int n = jdbc.update(sql, uuid, authorId);
+    return n == 0 && restoredIfAuthor(uuid, authorId) ? deleteByUuidAndAuthor(uuid, authorId) : n; // 보관된 내 댓글만 되돌림
+  }
+
+  /* ----------------------- 계정 삭제 후 정리(AccountPurgeService) ----------------------- */
+
+  /** 주어진 게시글들의 댓글을 최대 limit 건 삭제 — 키를 먼저 골라 PK 로 지움(한 문장이 잡는 잠금 범위 제한), hot 을 다 지운 뒤 보관분 */
+  public int deleteByPosts(List<String> postUuids, int limit) {
+    if (postUuids.isEmpty()) return 0;
+    int n = deleteByPostsIn(TBL, postUuids, limit);
+    String arch = n == 0 ? archiveOf() : null;
+    if (arch == null) return n;
+    return deleteByPostsIn(arch, postUuids, limit);
+  }
+
+  private int deleteByPostsIn(String table, List<String> postUuids, int limit) {
+    String in = placeholders(postUuids.size());
+    Object[] args = new Object[postUuids.size() + 1];
+    for (int i = 0; i < postUuids.size(); i++) args[i] = postUuids.get(i);
+    args[postUuids.size()] = limit;
+    List<String> keys = jdbc.queryForList(
+        "SELECT `uuid` FROM " + table + " WHERE `post_uuid` IN (" + in + ") LIMIT ?", String.class, args);
+    if (keys.isEmpty()) return 0;
+    return jdbc.update("DELETE FROM " + table + " WHERE `uuid` IN (" + placeholders(keys.size()) + ")", keys.toArray());
+  }
+
+  /**
+   * 작성자의 댓글 최대 limit 건을 탈퇴 표시로 바꿈(status=DELETED, 내용/작성자 제거)
+   * 행은 남겨 다른 사람의 대댓글이 가리키는 부모(parent_uuid)와 depth 트리를 유지한다.
+   */
+  public int tombstoneByAuthor(String authorId, int limit) {
+    int n = tombstoneByAuthorIn(TBL, authorId, limit);
+    String arch = n == 0 ? archiveOf() : null;                  // hot 을 다 바꾼 뒤 보관분
+    return arch == null ? n : tombstoneByAuthorIn(arch, authorId, limit);
+  }
+
+  private int tombstoneByAuthorIn(String table, String authorId, int limit) {
+    List<String> keys = jdbc.queryForList(
+        "SELECT `uuid` FROM " + table + " WHERE `author_id` = ? LIMIT ?", String.class, authorId, limit);
+    if (keys.isEmpty()) return 0;
+    return jdbc.update("UPDATE " + table + " SET `status` = 'DELETED', `content` = '', `author_id` = NULL, `updated_at` = NOW() "
+        + "WHERE `uuid` IN (" + placeholders(keys.size()) + ")", keys.toArray());
+  }
+
+  /* ----------------------- 보관(ArchiveService) ----------------------- */
+
+  /** 주어진 게시글들의 hot 댓글을 최대 limit 건 보관 테이블로 옮김(글보다 먼저 — 중간에 끊겨도 글이 hot 에 남아 다음에 이어서) */
+  public int archiveByPosts(List<String> postUuids, int limit) {
+    if (postUuids.isEmpty() || archiveOf() == null) return 0;
+    Object[] args = new Object[postUuids.size() + 1];
+    for (int i = 0; i < postUuids.size(); i++) args[i] = postUuids.get(i);
+    args[postUuids.size()] = limit;
+    List<String> keys = jdbc.queryForList(
+        "SELECT `uuid` FROM " + TBL + " WHERE `post_uuid` IN (" + placeholders(postUuids.size()) + ") LIMIT ?", String.class, args);
+    return archive.move("comment", "uuid", keys);
+  }
+
+  private static String placeholders(int n) {
+    return String.join(",", Collections.nCopies(n, "?"));
   }
 
   /** 과거 인터페이스 호환(숫자 PK 없음) */
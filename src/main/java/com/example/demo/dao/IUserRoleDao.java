@@ -4,6 +4,8 @@
 package com.example.demo.dao;                                          // DAO 인터페이스가 속한 패키지(네임스페이스)
 
 import java.util.List;                                                 // 다건 결과(역할 목록) 반환을 위한 컬렉션 타입
+import java.util.Map;                                                  // 일괄 변경 입력(user_id → role_id)
+import java.util.Set;                                                  // 일괄 변경 결과(반영된 user_id)
 
 /**
  * users_roles 매핑 테이블 DAO 계약.                                  // 영속 계층 계약(Port) 정의부
@@ -36,4 +38,13 @@ public interface IUserRoleDao {                                         // 역
 
   /** 이메일로 사용자의 보유 역할 목록 조회 (users 조인) */              // SELECT ... FROM users_roles JOIN users
   List<String> findRolesByEmail(String email);                          // 로그인 시 이메일 기반 권한 적재 등에 유용
+
+  /**
+   * 여러 사용자의 역할을 한 번에 치환(사용자마다 기존 역할 전부 삭제 → roleId 1건).
+   * 존재 확인(IN), DELETE, INSERT 를 각각 JDBC 배치로 실행하므로 호출 측 @Transactional 안에서 부르면
+   * 전부 반영되거나 전부 롤백된다. 다른 메서드와 달리 SQL 오류는 0 대신 예외(DataAccessException)로 알린다.
+   * @param roleByUser user_id → role_id ("USER"/"ADMIN")
+   * @return 실제로 반영된 user_id (users 에 없는 아이디는 빠짐, 같은 사용자를 대소문자만 다르게 여러 번 보내면 마지막 표기만)
+   */
+  Set<String> replaceRoles(Map<String, String> roleByUser);
 }
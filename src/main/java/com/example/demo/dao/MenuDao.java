@@ -42,7 +42,11 @@ public class MenuDao {
   public List<Map<String,Object>> findTree() {
     var top = findByDepth(1);                                         // ① 대메뉴(루트 노드들) 조회
     var sub = findByDepth(2);                                         // ② 소메뉴(모든 자식 후보) 조회
+    return assembleTree(top, sub);                                    // ③ 조립
+  }
 
+  /** 대메뉴 목록에 children 을 달아 반환(DB 없이 단독 호출 가능 — 벤치마크용 패키지 공개) */
+  static List<Map<String,Object>> assembleTree(List<Map<String,Object>> top, List<Map<String,Object>> sub) {
     // 부모 uuid → 소메뉴 리스트 를 빠르게 찾기 위한 인덱스 맵 구성
     Map<String, List<Map<String,Object>>> byParent = new HashMap<>(); // 키: parent_uuid, 값: 그 부모의 자식 목록
 
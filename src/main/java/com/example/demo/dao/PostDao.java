@@ -7,30 +7,56 @@ import java.sql.PreparedStatement;              // PreparedStatement
 import java.sql.ResultSet;                      // 쿼리 결과 집합
 import java.sql.SQLException;                   // SQL 예외
 import java.sql.Statement;                      // 일반 Statement(키 반환 옵션 등)
+import java.sql.Timestamp;                      // 보관 기준 시각 바인딩
+import java.time.LocalDateTime;                 // 보관 기준 시각
 import java.util.ArrayList;                     // 가변 리스트
 import java.util.Collections;                   // 컬렉션 유틸(채우기 등)
+import java.util.HashMap;                       // 일괄 조회 결과를 키 순서로 재배열
 import java.util.HashSet;                       // 중복 제거 Set
 import java.util.List;                          // 리스트 인터페이스
+import java.util.Map;                           // 맵 인터페이스
 import java.util.Set;                           // Set 인터페이스
 
 import javax.sql.DataSource;                    // 커넥션 풀/DS
 
+import org.springframework.context.ApplicationEventPublisher;       // 쓰기 후 변경 이벤트 발행(실시간 피드)
 import org.springframework.dao.DataAccessException;                 // 스프링 데이터 접근 예외
 import org.springframework.jdbc.core.JdbcTemplate;                  // JDBC 편의 추상화
 import org.springframework.jdbc.support.GeneratedKeyHolder;         // 자동생성 키 수신 도우미
 import org.springframework.jdbc.support.KeyHolder;                  // 키 홀더 인터페이스
 import org.springframework.stereotype.Repository;                   // 스테레오타입: DAO 컴포넌트
 
+import com.example.demo.dao.support.ArchiveTables; // 오래된 글 보관 테이블(post_archive)
+import com.example.demo.dao.support.BodyCodec;  // 긴 본문 압축 저장
+import com.example.demo.dao.support.ReadCoalescer; // 동시 동일 조회 합치기(single-flight)
 import com.example.demo.dto.PostDto;            // 게시글 DTO
+import com.example.demo.id.IdGenerator;         // uuid PK 생성(시간순)
+import com.example.demo.service.board.PostChangedEvent; // 게시글 변경 알림 이벤트
+import com.example.demo.trace.Span;             // 요청 추적 구간
+import com.example.demo.trace.Tracing;          // 요청 추적 진입점
 
 @Repository                                    // 스프링 빈 등록(DAO)
 public class PostDao {
 
     private final JdbcTemplate jdbc;           // SQL 실행용 템플릿
-    public PostDao(JdbcTemplate jdbc) { this.jdbc = jdbc; }  // 생성자 주입
+    private final ApplicationEventPublisher events;           // 변경 이벤트 발행기(BoardFeedBroadcaster 가 구독)
+    private final ReadCoalescer coalescer;                    // 인기 글 폭주 시 동일 조회를 한 번으로 합침
+    private final IdGenerator ids;                            // uuid PK 스키마의 새 글 키
+    private final BodyCodec body;                             // 본문 저장 형식(긴 본문은 압축)
+    private final ArchiveTables archive;                      // 보관된 글(조회 시 대체, 수정/삭제 시 되돌림)
+
+    public PostDao(JdbcTemplate jdbc, ApplicationEventPublisher events, ReadCoalescer coalescer,
+                   IdGenerator ids, BodyCodec body, ArchiveTables archive) { // 생성자 주입
+        this.jdbc = jdbc;
+        this.events = events;
+        this.coalescer = coalescer;
+        this.ids = ids;
+        this.body = body;
+        this.archive = archive;
+    }
 
-    /** post 테이블 스키마(컬럼명 캐시) */
-    private static final class SchemaInfo {    // 내부 전용: 테이블/컬럼명을 동적으로 탐지해 보관
+    /** post 테이블 스키마(컬럼명 캐시) — 패키지 공개: 매핑 벤치마크(src/jmh)에서 직접 구성 */
+    static final class SchemaInfo {            // 내부 전용: 테이블/컬럼명을 동적으로 탐지해 보관
         String table;                          // 실제 테이블명(post 또는 posts)
         String id;                             // PK 컬럼명(post_id | id | uuid)
         String board;       // post 내부의 보드 식별 컬럼 (board_code or board_uuid)
@@ -87,38 +113,51 @@ public class PostDao {
         return s != null && s.matches("\\d+");
     }
 
+    /** 탐지된 스키마(같은 패키지의 BodyStorageDao 가 테이블/컬럼명을 얻을 때) */
+    SchemaInfo schema() {
+        return ensurePostResolved();
+    }
+
     // 스키마(테이블/컬럼) 자동 탐지 후 캐시, 이후 재사용
     private SchemaInfo ensurePostResolved() {
         var s = cachedPost;                // 먼저 캐시 조회
         if (s != null) return s;
 
-        synchronized (this) {             // 다중 스레드 초기화 동시성 제어
-            if (cachedPost != null) return cachedPost;
-            try (Connection conn = requireDs().getConnection()) {
-                var md = conn.getMetaData();
-                String table = findFirstTable(md, List.of("post", "posts"));   // post|posts 중 실제 존재 탐색
-                if (table == null) throw new IllegalStateException("게시판 테이블(post|posts)을 찾을 수 없습니다.");
-                var cols = listColumns(md, table);                              // 컬럼 목록 수집
-
-                var si = new SchemaInfo();
-                si.table = table;                                              // 실제 테이블명
-                si.id = pick(cols, "post_id", "id", "uuid");                   // PK 컬럼 후보 중 선택
-                si.board = pick(cols, "board_code", "board_uuid", "boardcd", "board"); // 보드 식별 컬럼 후보
-                si.title = pick(cols, "title");
-                si.content = pick(cols, "content", "contents", "body");
-                si.writerId = pick(cols, "writer_id", "author_id");
-                si.writerName = pick(cols, "writer_name", "author_name", "nickname", "name");
-                si.createdAt = pick(cols, "created_at", "write_dt", "createdat");
-                si.updatedAt = pick(cols, "updated_at", "update_dt", "updatedat");
-
-                cachedPost = si;                                               // 캐시 저장
-                return si;
-            } catch (SQLException e) {
-                throw new IllegalStateException("스키마 탐지 실패(post): " + e.getMessage(), e);
+        try (Span span = Tracing.start("PostDao.schema")) {   // 첫 요청의 메타데이터 탐지 비용(잠금 대기 포함) 추적
+            synchronized (this) {             // 다중 스레드 초기화 동시성 제어
+                if (cachedPost != null) return cachedPost;
+                try (Connection conn = requireDs().getConnection()) {
+                    var md = conn.getMetaData();
+                    String table = findFirstTable(md, List.of("post", "posts"));   // post|posts 중 실제 존재 탐색
+                    if (table == null) throw new IllegalStateException("게시판 테이블(post|posts)을 찾을 수 없습니다.");
+                    span.attr("table", table);                                     // 어느 테이블로 탐지됐는지
+                    var cols = listColumns(md, table);                              // 컬럼 목록 수집
+
+                    var si = new SchemaInfo();
+                    si.table = table;                                              // 실제 테이블명
+                    si.id = pick(cols, "post_id", "id", "uuid");                   // PK 컬럼 후보 중 선택
+                    si.board = pick(cols, "board_code", "board_uuid", "boardcd", "board"); // 보드 식별 컬럼 후보
+                    si.title = pick(cols, "title");
+                    si.content = pick(cols, "content", "contents", "body");
+                    si.writerId = pick(cols, "writer_id", "author_id");
+                    si.writerName = pick(cols, "writer_name", "author_name", "nickname", "name");
+                    si.createdAt = pick(cols, "created_at", "write_dt", "createdat");
+                    si.updatedAt = pick(cols, "updated_at", "update_dt", "updatedat");
+
+                    cachedPost = si;                                               // 캐시 저장
+                    return si;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("스키마 탐지 실패(post): " + e.getMessage(), e);
+                }
             }
         }
     }
 
+    /** 활성 게시판 코드인지(실시간 피드 구독 등 URL 의 코드 확인용) */
+    public boolean boardExists(String boardCode) {
+        return boardCode != null && findBoardUuidByCode(boardCode) != null;
+    }
+
     /* ====== 보조: board_code → board.uuid 변환 ====== */
     private String findBoardUuidByCode(String boardCode) {
         // board 테이블은 코드에 관계없이 고정(프로젝트 스키마 기준)
@@ -126,13 +165,86 @@ public class PostDao {
         List<String> list = jdbc.query(sql, (rs, i) -> rs.getString(1), boardCode); // 단일 컬럼 매핑
         return list.isEmpty() ? null : list.get(0);                                 // 없으면 null, 있으면 첫 값
     }
-    private boolean boardColumnIsUuid(SchemaInfo s) {
+    private static boolean boardColumnIsUuid(SchemaInfo s) {
         return s.board != null && "board_uuid".equalsIgnoreCase(s.board); // 보드 컬럼이 uuid 타입인지 판별
     }
 
+    /* ====== 보조: 게시글 PK → board_code (변경 이벤트용, 실패 시 null) ====== */
+    private String findBoardCodeOf(SchemaInfo s, Object idParam) {
+        if (s.id == null || s.board == null || idParam == null) return null;
+        try {
+            String sql = boardColumnIsUuid(s)
+                ? "SELECT b.board_code FROM " + s.table + " p JOIN board b ON p." + s.board + " = b.uuid WHERE p." + s.id + " = ?"
+                : "SELECT " + s.board + " FROM " + s.table + " WHERE " + s.id + " = ?";
+            List<String> list = jdbc.query(sql, (rs, i) -> rs.getString(1), idParam);
+            return list.isEmpty() ? null : list.get(0);
+        } catch (DataAccessException e) {
+            return null;                                                    // 못 찾으면 전체 게시판으로 알림
+        }
+    }
+
+    /**
+     * 요청이 알려 준 게시판 조건(" AND 게시판 = ?") — 맞는 글만 바뀌므로 이벤트의 게시판 코드를 따로 조회하지 않아도 됨.
+     * 게시판 컬럼이 없거나 코드가 없으면 "" (호출 측은 findBoardCodeOf 로 조회)
+     */
+    private String boardGuard(SchemaInfo s, String boardCode) {
+        if (s.board == null || boardCode == null || boardCode.isBlank()) return "";
+        return boardColumnIsUuid(s)
+            ? " AND " + s.board + " = (SELECT uuid FROM board WHERE board_code = ?)"
+            : " AND " + s.board + " = ?";
+    }
+
+    private void publish(PostChangedEvent.Type type, String boardCode, Object key) {
+        events.publishEvent(new PostChangedEvent(type, boardCode, key == null ? null : String.valueOf(key)));
+    }
+
+    /* ====== 보조: 보관 테이블(ArchiveService 가 오래된 글을 옮겨 둠) ====== */
+    /** 보관 테이블 이름 — 보관을 안 쓰면 null */
+    private String archiveOf(SchemaInfo s) {
+        return s.id != null && archive.enabled() ? ArchiveTables.table(s.table) : null;
+    }
+
+    /** 보관된 글이면 hot 테이블로 되돌림 — 수정/삭제는 hot 에서만 하므로, 0건이면 되돌린 뒤 한 번 더 시도 */
+    private boolean restored(SchemaInfo s, Object idParam) {
+        return archiveOf(s) != null && archive.restore(s.table, s.id, idParam);
+    }
+
+    /** 작성자 본인의 보관된 글일 때만 되돌림(남의 글은 보관 테이블에 그대로) */
+    private boolean restoredIfOwner(SchemaInfo s, Object idParam, String ownerId) {
+        String arch = archiveOf(s);
+        return arch != null && owns(s, arch, idParam, ownerId) && archive.restore(s.table, s.id, idParam);
+    }
+
+    /** hot 테이블에 ownerId 가 쓴 글 idParam 이 있으면 [게시판 코드(없으면 null)], 없으면 빈 목록 */
+    private List<String> ownedBoardCode(SchemaInfo s, Object idParam, String ownerId) {
+        if (ownerId == null) return List.of();
+        String sql = boardColumnIsUuid(s)
+            ? "SELECT b.board_code FROM " + s.table + " p LEFT JOIN board b ON p." + s.board + " = b.uuid" +
+              " WHERE p." + s.id + " = ? AND p." + s.writerId + " = ?"
+            : "SELECT " + (s.board != null ? s.board : "NULL") + " FROM " + s.table +
+              " WHERE " + s.id + " = ? AND " + s.writerId + " = ?";
+        return jdbc.query(sql, (rs, i) -> rs.getString(1), idParam, ownerId);
+    }
+
+    /** table 에 ownerId 가 쓴 글 idParam 이 있는지 */
+    private boolean owns(SchemaInfo s, String table, Object idParam, String ownerId) {
+        return ownerId != null && !jdbc.queryForList(
+                "SELECT 1 FROM " + table + " WHERE " + s.id + " = ? AND " + s.writerId + " = ?",
+                Integer.class, idParam, ownerId).isEmpty();
+    }
+
     // ───────────────────────── 목록 조회 ─────────────────────────
     public List<PostDto> findByBoard(String code) {
         var s = ensurePostResolved();                          // 스키마 확보
+        List<PostDto> hot = listIn(s, s.table, code);
+        String arch = archiveOf(s);
+        if (arch == null) return hot;
+        List<PostDto> all = new ArrayList<>(hot);              // 보관분(오래된 글)은 뒤에
+        all.addAll(listIn(s, arch, code));
+        return all;
+    }
+
+    private List<PostDto> listIn(SchemaInfo s, String table, String code) {
         String orderBy =                                       // 정렬 기준 우선순위: id > createdAt > updatedAt > title
             (s.id != null) ? s.id :
             (s.createdAt != null) ? s.createdAt :
@@ -142,14 +254,14 @@ public class PostDao {
             // JOIN으로 code→uuid 매칭
             String sql =
                 "SELECT p.* " +
-                "FROM " + s.table + " p " +
+                "FROM " + table + " p " +
                 "JOIN board b ON p." + s.board + " = b.uuid " +
                 "WHERE b.board_code = ? " +
                 "ORDER BY " + orderBy + " DESC";
             return jdbc.query(sql, (rs, i) -> mapRow(rs, s), code);
         } else {                                               // post.board_code 스키마
             String sql =
-                "SELECT * FROM " + s.table +
+                "SELECT * FROM " + table +
                 " WHERE " + s.board + " = ? " +
                 " ORDER BY " + orderBy + " DESC";
             return jdbc.query(sql, (rs, i) -> mapRow(rs, s), code);
@@ -157,13 +269,23 @@ public class PostDao {
     }
 
     public long countByBoard(String code) {
+        return coalescer.load("post.countByBoard", code, () -> queryCountByBoard(code));
+    }
+
+    private long queryCountByBoard(String code) {
+        var s = ensurePostResolved();
+        long hot = countIn(s, s.table, code);
+        String arch = archiveOf(s);                            // 보관분 건수는 ArchiveTables 가 잠시 기억(목록마다 COUNT 안 함)
+        return arch == null ? hot : hot + archive.count("post:" + code, () -> countIn(s, arch, code));
+    }
+
+    private long countIn(SchemaInfo s, String table, String code) {
         // ensurePostResolved()는 PostDao가 처음 사용할 때 DB 스키마(테이블/컬럼명)를 자동으로 탐지해 캐시에 저장하고, 
         // 그 이후에는 캐시된 결과를 돌려주는 초기화+캐싱 메서드
-        var s = ensurePostResolved();
         if (boardColumnIsUuid(s)) { // boardColumnIsUuid(s)는 PostDao 안의 아주 작은 헬퍼 메서드
             String sql =
                 "SELECT COUNT(*) " +                                         // 1) 전체 행(레코드) 개수를 세기 위한 COUNT 쿼리의 SELECT 부분
-                "FROM " + s.table + " p JOIN board b ON p." + s.board + " = b.uuid " + 
+                "FROM " + table + " p JOIN board b ON p." + s.board + " = b.uuid " + 
                 // 2) FROM 절: 게시글 테이블(s.table)을 p라는 별칭으로 사용하고,
                 //    board 테이블을 b라는 별칭으로 JOIN.
                 //    JOIN 조건: p.(게시글의 보드 FK 컬럼 = s.board) = b.uuid
@@ -174,7 +296,7 @@ public class PostDao {
             return cnt == null ? 0L : cnt;
         } else {                                                              // 앞의 if (boardColumnIsUuid(s)) 아닐 때 실행되는 분기.
             String sql =
-            "SELECT COUNT(*) FROM " + s.table + " WHERE " + s.board + " = ?"; 
+            "SELECT COUNT(*) FROM " + table + " WHERE " + s.board + " = ?"; 
         // SQL 문자열 조립:
         // - s.table : 게시글 테이블 이름 (예: "posts")
         // - s.board : 게시글 테이블 안에서 보드를 가리키는 FK 컬럼명 (예: "board_id")
@@ -198,26 +320,43 @@ public class PostDao {
     }
 
     public List<PostDto> findByBoardPaged(String code, int page, int size) {
+        return coalescer.load("post.byBoardPaged", code + ':' + page + ':' + size,
+                () -> queryByBoardPaged(code, page, size));
+    }
+
+    private List<PostDto> queryByBoardPaged(String code, int page, int size) {
         // ensurePostResolved()는 “게시글 테이블에 대한 컬럼/테이블 이름들을 한 번 해석(Resolve)해서, 이후엔 그 정보를 재사용하도록 보장”하는 헬퍼
     var s = ensurePostResolved();                 // 게시글 테이블 메타정보를 준비/보장.
                                                   // 예: s.table(테이블명), s.board(보드 FK 컬럼명),
                                                   //     s.id(기본키 컬럼명), s.createdAt/s.updatedAt(시간 컬럼명) 등.
 
+    int offset = Math.max(0, page) * Math.max(1, size); // 페이지네이션 offset 계산.
+                                                         // page 음수 방지(최소 0), size 최소 1 보장 → 안전한 곱셈.
+
+    List<PostDto> hot = pageIn(s, s.table, code, size, offset);
+    String arch = archiveOf(s);
+    if (arch == null || hot.size() >= size) return hot;
+
+    // 보관분은 hot 글 전체 뒤에 이어지는 페이지로 본다(보관 = 오래된 글 → 최신순 목록의 끝쪽)
+    long hotTotal = hot.isEmpty() && offset > 0 ? countIn(s, s.table, code) : offset + hot.size();
+    List<PostDto> out = new ArrayList<>(hot);
+    out.addAll(pageIn(s, arch, code, size - hot.size(), (int) Math.max(0, offset - hotTotal)));
+    return out;
+}
+
+    private List<PostDto> pageIn(SchemaInfo s, String table, String code, int size, int offset) {
     String orderBy =
         (s.id != null) ? s.id :                   // 1순위: PK(보통 자동 증가 id)가 있으면 그 컬럼으로 정렬
         (s.createdAt != null) ? s.createdAt :     // 2순위: 생성일 컬럼이 있으면 그걸로 정렬
         (s.updatedAt != null) ? s.updatedAt :     // 3순위: 수정일 컬럼이 있으면 그걸로 정렬
         s.title;                                  // 마지막 fallback: 제목 컬럼으로 정렬(최악의 경우라도 정렬 가능하게)
 
-    int offset = Math.max(0, page) * Math.max(1, size); // 페이지네이션 offset 계산.
-                                                         // page 음수 방지(최소 0), size 최소 1 보장 → 안전한 곱셈.
-
     if (boardColumnIsUuid(s)) {                  // 게시글 테이블의 보드 참조 컬럼(s.board)이 UUID 타입인지 판별.
                                                  // - UUID면 보통 게시글.p.board_uuid = board.uuid 형태라 JOIN 필요
                                                  // - 숫자 FK라면 바로 WHERE p.board_id = ? 로 필터링 가능
         String sql =
             "SELECT p.* " +
-            "FROM " + s.table + " p JOIN board b ON p." + s.board + " = b.uuid " + // 게시글과 board 테이블을 UUID로 조인
+            "FROM " + table + " p JOIN board b ON p." + s.board + " = b.uuid " + // 게시글과 board 테이블을 UUID로 조인
             "WHERE b.board_code = ? " +                                             // 외부에서 받은 보드 코드로 필터
             "ORDER BY " + orderBy + " DESC LIMIT ? OFFSET ?";                       // 최신순(내림차순) + 페이지네이션
         return jdbc.query(                                                          // Spring JdbcTemplate 질의 실행
@@ -227,7 +366,7 @@ public class PostDao {
         );
     } else {
         String sql =
-            "SELECT * FROM " + s.table +                                            // 조인 없이 바로 게시글 테이블 조회
+            "SELECT * FROM " + table +                                              // 조인 없이 바로 게시글 테이블 조회
             " WHERE " + s.board + " = ? " +                                         // 숫자 FK 등인 경우: 보드 식별값으로 직접 필터링
             " ORDER BY " + orderBy + " DESC LIMIT ? OFFSET ?";                      // 동일하게 최신순 + 페이지네이션
         return jdbc.query(
@@ -239,8 +378,8 @@ public class PostDao {
 }
 
 
-    // ResultSet → PostDto 매핑(스키마 유연성 고려, 컬럼 존재 시만 읽음)
-    private PostDto mapRow(ResultSet rs, SchemaInfo s) throws SQLException {
+    // ResultSet → PostDto 매핑(스키마 유연성 고려, 컬럼 존재 시만 읽음) — 상태 없음, 벤치마크용으로 패키지 공개
+    static PostDto mapRow(ResultSet rs, SchemaInfo s) throws SQLException {
         var d = new PostDto();
 
         if (s.id != null) {                                     // PK 컬럼이 있을 때만 시도
@@ -258,7 +397,7 @@ public class PostDao {
         }
 
         if (s.title != null)      { try { d.setTitle(rs.getString(s.title)); } catch (SQLException ignore) {} }
-        if (s.content != null)    { try { d.setContent(rs.getString(s.content)); } catch (SQLException ignore) {} }
+        if (s.content != null)    { try { d.loadContent(rs.getString(s.content)); } catch (SQLException ignore) {} } // 압축 해제는 읽을 때
         if (s.writerId != null)   { try { d.setWriterId(rs.getString(s.writerId)); } catch (SQLException ignore) {} }
         if (s.writerName != null) { try { d.setWriterName(rs.getString(s.writerName)); } catch (SQLException ignore) {} }
         if (s.createdAt != null)  { try { var ts = rs.getTimestamp(s.createdAt); if (ts != null) d.setCreatedAt(ts.toLocalDateTime()); } catch (SQLException ignore) {} }
@@ -277,7 +416,7 @@ public class PostDao {
         boolean idIsUuid = (s.id != null && "uuid".equalsIgnoreCase(s.id)); // PK가 uuid 컬럼인지 여부
         String generatedUuid = null;
         if (idIsUuid) {                              // uuid PK 스키마면 서버에서 UUID 생성해 함께 INSERT
-            generatedUuid = java.util.UUID.randomUUID().toString();
+            generatedUuid = ids.uuid();              // 시간순(v7) — PK 인덱스 끝에 추가
             cols.add(s.id); vals.add(generatedUuid);
         }
 
@@ -291,7 +430,7 @@ public class PostDao {
         }
 
         cols.add(s.title);   vals.add(d.getTitle());            // 제목
-        cols.add(s.content); vals.add(d.getContent());          // 본문
+        cols.add(s.content); vals.add(body.encode(d.getContent())); // 본문(임계값 이상이면 압축)
 
         if (s.writerId != null)   { cols.add(s.writerId);   vals.add(d.getWriterId()); }
         if (s.writerName != null) { cols.add(s.writerName); vals.add(d.getWriterName()); }
@@ -328,9 +467,15 @@ public class PostDao {
             }, kh);
         }
 
-        if (idIsUuid) { d.setUuid(generatedUuid); return null; } // uuid PK면 DB 자동키 없음 → 응답 DTO에 uuid만 채움
+        if (idIsUuid) {                                          // uuid PK면 DB 자동키 없음 → 응답 DTO에 uuid만 채움
+            d.setUuid(generatedUuid);
+            publish(PostChangedEvent.Type.CREATED, d.getBoardCode(), generatedUuid);
+            return null;
+        }
         Number key = kh.getKey();                                // 숫자 PK 스키마면 생성된 키 수신
-        return (key != null) ? key.longValue() : null;           // 있으면 long 변환 반환, 없으면 null
+        Long id = (key != null) ? key.longValue() : null;        // 있으면 long 변환, 없으면 null
+        publish(PostChangedEvent.Type.CREATED, d.getBoardCode(), id);
+        return id;
     }
 
     // ───────────────────────── 수정(Update: 관리자 전용) ─────────────────────────
@@ -347,13 +492,20 @@ public class PostDao {
           .append(s.title).append(" = ?, ")
           .append(s.content).append(" = ?");                     // 제목/내용 변경
         params.add(d.getTitle());
-        params.add(d.getContent());
+        params.add(body.encode(d.getContent()));
 
         if (s.updatedAt != null) sb.append(", ").append(s.updatedAt).append(" = NOW()"); // 수정시간 갱신(있을 때만)
         sb.append(" WHERE ").append(s.id).append(" = ?");        // PK 조건
         params.add(idParam);
-
-        return jdbc.update(sb.toString(), params.toArray());     // 실행 후 영향 행 수 반환
+        String guard = boardGuard(s, d.getBoardCode());          // 게시판 코드를 보냈으면 그 게시판 글일 때만
+        sb.append(guard);
+        if (!guard.isEmpty()) params.add(d.getBoardCode());
+
+        int n = jdbc.update(sb.toString(), params.toArray());    // 실행 후 영향 행 수
+        if (n == 0 && restored(s, idParam)) return update(d);    // 보관된 글 → hot 으로 되돌린 뒤 다시
+        if (n > 0) publish(PostChangedEvent.Type.UPDATED,
+                           guard.isEmpty() ? findBoardCodeOf(s, idParam) : d.getBoardCode(), idParam);
+        return n;
     }
 
     // ───────────────────────── 수정(Update: 작성자 본인만) ─────────────────────────
@@ -365,20 +517,30 @@ public class PostDao {
         if (s.id == null || idParam == null)
             throw new IllegalStateException("PK가 없어 수정할 수 없습니다.");
 
+        String guard = boardGuard(s, d.getBoardCode());          // 게시판 코드를 보냈으면 그 게시판 글일 때만
         String sql = "UPDATE " + s.table +
                 " SET " + s.title + " = ?, " + s.content + " = ?" +
                 (s.updatedAt != null ? (", " + s.updatedAt + " = NOW()") : "") +
-                " WHERE " + s.id + " = ? AND " + s.writerId + " = ?"; // PK + 작성자 일치 조건
+                " WHERE " + s.id + " = ? AND " + s.writerId + " = ?" + guard; // PK + 작성자 일치 조건
 
+        String content = body.encode(d.getContent());
+        Object[] args = guard.isEmpty()
+                ? new Object[] { d.getTitle(), content, idParam, ownerId }
+                : new Object[] { d.getTitle(), content, idParam, ownerId, d.getBoardCode() };
+        int n;
         try {
-            return jdbc.update(sql, d.getTitle(), d.getContent(), idParam, ownerId);
+            n = jdbc.update(sql, args);
         } catch (Exception e) {
             // updatedAt 컬럼 없는 스키마 호환(예전 DB)
             String sql2 = "UPDATE " + s.table +
                     " SET " + s.title + " = ?, " + s.content + " = ?" +
-                    " WHERE " + s.id + " = ? AND " + s.writerId + " = ?";
-            return jdbc.update(sql2, d.getTitle(), d.getContent(), idParam, ownerId);
+                    " WHERE " + s.id + " = ? AND " + s.writerId + " = ?" + guard;
+            n = jdbc.update(sql2, args);
         }
+        if (n == 0 && restoredIfOwner(s, idParam, ownerId)) return updateIfOwner(d, ownerId); // 보관된 내 글 → 되돌린 뒤 다시
+        if (n > 0) publish(PostChangedEvent.Type.UPDATED,
+                           guard.isEmpty() ? findBoardCodeOf(s, idParam) : d.getBoardCode(), idParam);
+        return n;
     }
 
     // ───────────────────────── 삭제(Delete: 관리자 전용) ─────────────────────────
@@ -386,7 +548,11 @@ public class PostDao {
         var s = ensurePostResolved();
         if (s.id == null) throw new IllegalStateException("PK가 없어 삭제할 수 없습니다.");
         Object param = isNumericString(idOrNumber) ? Long.parseLong(idOrNumber) : idOrNumber; // 숫자/문자 키 모두 지원
-        return jdbc.update("DELETE FROM " + s.table + " WHERE " + s.id + " = ?", param);
+        String boardCode = findBoardCodeOf(s, param);            // 삭제 전에 게시판 코드 확보(이벤트용)
+        int n = jdbc.update("DELETE FROM " + s.table + " WHERE " + s.id + " = ?", param);
+        if (n == 0 && restored(s, param)) return deleteAny(idOrNumber); // 보관된 글 → 되돌린 뒤 다시(이벤트/게시판 코드는 평소 경로)
+        if (n > 0) publish(PostChangedEvent.Type.DELETED, boardCode, param);
+        return n;
     }
 
     // ───────────────────────── 삭제(Delete: 작성자 본인만) ─────────────────────────
@@ -394,33 +560,104 @@ public class PostDao {
         var s = ensurePostResolved();
         if (s.id == null || s.writerId == null) return 0;        // 작성자 검증 불가 시 실패
 
+        Object param = isNumericString(idOrNumber) ? Long.parseLong(idOrNumber) : idOrNumber;
+        List<String> owned = ownedBoardCode(s, param, ownerId);  // 소유 확인 + 게시판 코드(이벤트용)를 한 번에
+        if (owned.isEmpty()) {                                   // 내 글이 아니면 댓글도 건드리지 않음
+            return restoredIfOwner(s, param, ownerId) ? deleteIfOwner(idOrNumber, ownerId) : 0; // 보관된 내 글 → 되돌린 뒤 다시
+        }
+
         // 댓글이 있으면 함께 삭제 시도(FK 제약/스키마 차이 대비 try-catch로 무시 가능 처리)
         try {
             jdbc.update("DELETE FROM comment WHERE post_uuid = ? OR post_id = ?", idOrNumber, idOrNumber);
         } catch (Exception ignore) {}
+        if (archive.enabled()) {                                 // 보관된 댓글도
+            try {
+                jdbc.update("DELETE FROM " + ArchiveTables.table("comment") + " WHERE post_uuid = ? OR post_id = ?",
+                            idOrNumber, idOrNumber);
+            } catch (Exception ignore) {}
+        }
 
-        Object param = isNumericString(idOrNumber) ? Long.parseLong(idOrNumber) : idOrNumber;
         String sql = "DELETE FROM " + s.table +
                      " WHERE " + s.id + " = ? AND " + s.writerId + " = ?"; // PK + 소유자 일치 조건
-        return jdbc.update(sql, param, ownerId);
+        int n = jdbc.update(sql, param, ownerId);
+        if (n > 0) publish(PostChangedEvent.Type.DELETED, owned.get(0), param);
+        return n;
+    }
+
+    // ───────────────────────── 작성자 글 일괄 정리(계정 삭제 후 AccountPurgeService) ─────────────────────────
+    /** 게시글 키 + 게시판 코드(삭제 알림용) */
+    public record PostKey(String key, String boardCode) {}
+
+    /** 작성자 글 최대 limit 건의 키(작성자 컬럼이 없는 스키마면 빈 목록) — hot 글을 다 고른 뒤 보관된 글 */
+    public List<PostKey> findKeysByWriter(String writerId, int limit) {
+        var s = ensurePostResolved();
+        if (s.id == null || s.writerId == null) return List.of();
+        List<PostKey> keys = keysByWriterIn(s, s.table, writerId, limit);
+        String arch = keys.isEmpty() ? archiveOf(s) : null;
+        return arch == null ? keys : keysByWriterIn(s, arch, writerId, limit);
+    }
+
+    private List<PostKey> keysByWriterIn(SchemaInfo s, String table, String writerId, int limit) {
+        String sql = boardColumnIsUuid(s)
+            ? "SELECT p." + s.id + ", b.board_code FROM " + table + " p LEFT JOIN board b ON p." + s.board + " = b.uuid" +
+              " WHERE p." + s.writerId + " = ? LIMIT ?"
+            : "SELECT " + s.id + ", " + (s.board != null ? s.board : "NULL") + " FROM " + table +
+              " WHERE " + s.writerId + " = ? LIMIT ?";
+        return jdbc.query(sql, (rs, i) -> new PostKey(rs.getString(1), rs.getString(2)), writerId, limit);
+    }
+
+    /** findKeysByWriter 로 고른 글 일괄 삭제(댓글은 호출 측이 먼저 지움) — 글마다 DELETED 이벤트 */
+    public int deleteByKeys(String writerId, List<PostKey> keys) {
+        var s = ensurePostResolved();
+        if (keys.isEmpty() || s.id == null || s.writerId == null) return 0;
+        List<Object> args = new ArrayList<>(keys.size() + 1);
+        for (PostKey k : keys) args.add(isNumericString(k.key()) ? Long.parseLong(k.key()) : k.key());
+        args.add(writerId);
+        String where = " WHERE " + s.id + " IN (" +
+                       String.join(",", Collections.nCopies(keys.size(), "?")) + ") AND " + s.writerId + " = ?";
+        int n = jdbc.update("DELETE FROM " + s.table + where, args.toArray());
+        String arch = archiveOf(s);
+        if (arch != null && n < keys.size()) {                   // 보관된 글(findKeysByWriter 가 보관 테이블에서 고른 경우)
+            int m = jdbc.update("DELETE FROM " + arch + where, args.toArray());
+            if (m > 0) archive.changed();
+            n += m;
+        }
+        if (n > 0) keys.forEach(k -> publish(PostChangedEvent.Type.DELETED, k.boardCode(), k.key()));
+        return n;
     }
 
     // ───────────────────────── 🔎 단건 조회(편집 화면에서 사용) ─────────────────────────
     /** 숫자 PK로 단건 조회 */
     public PostDto findById(Long id) {
         if (id == null) return null;
-        var s = ensurePostResolved();
-        String sql = "SELECT * FROM " + s.table + " WHERE " + s.id + " = ?";
-        List<PostDto> list = jdbc.query(sql, (rs, i) -> mapRow(rs, s), id);
-        return list.isEmpty() ? null : list.get(0);
+        return coalescer.load("post.byId", String.valueOf(id), () -> queryById(id));
+    }
+
+    private PostDto queryById(Long id) {
+        return queryOne(id);
     }
 
     /** UUID/문자열 키로 단건 조회 */
     public PostDto findByKey(String key) {
         if (key == null || key.isBlank()) return null;
+        return coalescer.load("post.byKey", key, () -> queryByKey(key));
+    }
+
+    private PostDto queryByKey(String key) {
+        return queryOne(key);
+    }
+
+    /** hot 테이블에 없으면 보관 테이블에서(오래된 글 링크/검색 결과 등) */
+    private PostDto queryOne(Object idParam) {
         var s = ensurePostResolved();
-        String sql = "SELECT * FROM " + s.table + " WHERE " + s.id + " = ?";
-        List<PostDto> list = jdbc.query(sql, (rs, i) -> mapRow(rs, s), key);
+        PostDto p = oneIn(s, s.table, idParam);
+        String arch = p == null ? archiveOf(s) : null;
+        return arch == null ? p : oneIn(s, arch, idParam);
+    }
+
+    private PostDto oneIn(SchemaInfo s, String table, Object idParam) {
+        String sql = "SELECT * FROM " + table + " WHERE " + s.id + " = ?";
+        List<PostDto> list = jdbc.query(sql, (rs, i) -> mapRow(rs, s), idParam);
         return list.isEmpty() ? null : list.get(0);
     }
 
@@ -429,4 +666,52 @@ public class PostDao {
         if (idOrKey == null || idOrKey.isBlank()) return null;
         return isNumericString(idOrKey) ? findById(Long.parseLong(idOrKey)) : findByKey(idOrKey);
     }
+
+    /**
+     * 여러 글을 한 번에 조회(숫자 PK/uuid 섞어도 됨) — IN (...) 한 문장(hot 에 없던 키만 보관 테이블에서 한 번 더)
+     * - 반환 순서는 keys 순서, 없는 키는 빠짐, 중복 키는 한 번만
+     */
+    public List<PostDto> findByKeys(List<String> keys) {
+        var s = ensurePostResolved();
+        List<String> distinct = keys.stream().filter(k -> k != null && !k.isBlank()).distinct().toList();
+        if (distinct.isEmpty() || s.id == null) return List.of();
+        Map<String, PostDto> byKey = new HashMap<>();
+        byKeysIn(s, s.table, distinct, byKey);
+        String arch = byKey.size() < distinct.size() ? archiveOf(s) : null;
+        if (arch != null) byKeysIn(s, arch, distinct.stream().filter(k -> !byKey.containsKey(k)).toList(), byKey);
+        List<PostDto> out = new ArrayList<>(byKey.size());
+        for (String k : distinct) {
+            PostDto p = byKey.get(k);
+            if (p != null) out.add(p);
+        }
+        return out;
+    }
+
+    private void byKeysIn(SchemaInfo s, String table, List<String> keys, Map<String, PostDto> into) {
+        List<Object> args = new ArrayList<>(keys.size());
+        for (String k : keys) args.add(isNumericString(k) ? Long.parseLong(k) : k);
+        String sql = "SELECT * FROM " + table + " WHERE " + s.id + " IN (" +
+                     String.join(",", Collections.nCopies(keys.size(), "?")) + ")";
+        for (PostDto p : jdbc.query(sql, (rs, i) -> mapRow(rs, s), args.toArray())) {
+            into.put(p.getUuid() != null ? p.getUuid() : String.valueOf(p.getPostId()), p);
+        }
+    }
+
+    // ───────────────────────── 보관(ArchiveService) ─────────────────────────
+    /** created_at 이 cutoff 보다 오래된 글 최대 limit 건의 키(보관을 안 쓰거나 작성일 컬럼이 없으면 빈 목록) */
+    public List<String> findArchivableKeys(LocalDateTime cutoff, int limit) {
+        var s = ensurePostResolved();
+        if (s.createdAt == null || archiveOf(s) == null) return List.of();
+        return jdbc.queryForList("SELECT " + s.id + " FROM " + s.table + " WHERE " + s.createdAt + " < ? LIMIT ?",
+                                 String.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /** 고른 글을 보관 테이블로 옮김(댓글은 호출 측이 먼저 옮김) — 글 내용은 그대로라 변경 이벤트 없음 */
+    public int archive(List<String> keys) {
+        var s = ensurePostResolved();
+        if (keys.isEmpty() || archiveOf(s) == null) return 0;
+        List<Object> args = new ArrayList<>(keys.size());
+        for (String k : keys) args.add(isNumericString(k) ? Long.parseLong(k) : k);
+        return archive.move(s.table, s.id, args);
+    }
 }
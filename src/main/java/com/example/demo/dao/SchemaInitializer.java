@@ -0,0 +1,159 @@
+// src/main/java/com/example/demo/dao/SchemaInitializer.java
+
+package com.example.demo.dao;                                             // DAO 클래스가 속한 패키지(네임스페이스)
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;                        // SQL 실행을 간편화하는 스프링 JDBC 유틸
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dao.support.ArchiveTables;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 앱이 직접 관리하는 테이블을 기동 시 한 번 만든다 — account_purge, post_attachment,
+ * 보관 테이블 post_archive / comment_archive(app.archive.enabled 일 때)
+ *
+ * - 마이그레이션 도구가 없으므로 CREATE TABLE/INDEX IF NOT EXISTS (몇 번을 돌려도 같음)
+ * - 요청 처리 중에는 DDL 을 돌리지 않는다: MariaDB 는 DDL 앞에서 열린 트랜잭션을 암묵적으로 COMMIT 한다.
+ *   이 테이블들을 쓰는 빈은 @DependsOn("schemaInitializer") 로 이 빈 뒤에 만들어진다.
+ * - 실패하면 기동을 멈춘다(기능을 조용히 끄지 않음). DDL 권한이 없는 DB 는 미리 만들어 두고 app.schema.create=false.
+ * - 보관 테이블은 hot 과 같은 컬럼(같은 순서)이어야 한다(ArchiveTables 가 INSERT ... SELECT * 로 옮김):
+ *     MariaDB/MySQL : CREATE TABLE ... LIKE hot (PK/인덱스까지 복사)
+ *     그 외(H2 등)  : CREATE TABLE ... AS SELECT * FROM hot WHERE 1 = 0 + hot 의 PK/인덱스를 메타데이터로 읽어 추가
+ *   hot 테이블에 컬럼을 추가하면 보관 테이블에도 같은 순서로 추가해야 한다.
+ */
+@Component
+public class SchemaInitializer {
+
+  private static final Logger log = LoggerFactory.getLogger(SchemaInitializer.class);
+
+  private final JdbcTemplate jdbc;
+  private final boolean create;
+  private final boolean archive;
+
+  public SchemaInitializer(JdbcTemplate jdbc,
+                           @Value("${app.schema.create:true}") boolean create,
+                           @Value("${app.archive.enabled:false}") boolean archive) {
+    this.jdbc = jdbc;
+    this.create = create;
+    this.archive = archive;
+  }
+
+  @PostConstruct
+  public void create() {
+    if (!create) {
+      log.info("app.schema.create=false — account_purge 등은 미리 만들어져 있어야 합니다.");
+      return;
+    }
+    execute("account_purge", AccountPurgeDao.DDL);
+    execute("post_attachment", AttachmentDao.DDL);
+    execute("post_attachment", AttachmentDao.INDEXES);
+    if (archive) {
+      archive(hotTable("post", "posts"));                              // PostDao 와 같은 후보
+      archive("comment");
+    }
+  }
+
+  private void execute(String table, String... ddl) {
+    try {
+      for (String sql : ddl) jdbc.execute(sql);
+    } catch (DataAccessException e) {
+      throw failed(table, e);
+    }
+  }
+
+  private void archive(String hot) {
+    String table = ArchiveTables.table(hot);
+    try {
+      jdbc.execute("CREATE TABLE IF NOT EXISTS " + table + " LIKE `" + hot + "`");
+      return;
+    } catch (DataAccessException notMysql) {
+      log.debug("CREATE TABLE ... LIKE 미지원 — AS SELECT 로 만듦: {}", notMysql.toString());
+    }
+    try {
+      if (exists(table)) return;
+      List<String> ddl = new ArrayList<>();
+      List<String> pk = primaryKey(hot);
+      for (String col : pk) ddl.add("ALTER TABLE " + table + " ALTER COLUMN " + col + " SET NOT NULL"); // AS SELECT 는 NOT NULL 을 안 옮김
+      if (!pk.isEmpty()) ddl.add("ALTER TABLE " + table + " ADD PRIMARY KEY (" + String.join(", ", pk) + ")");
+      indexes(hot).forEach((name, cols) ->
+          ddl.add("CREATE INDEX IF NOT EXISTS " + table + "_" + name + " ON " + table + " (" + String.join(", ", cols) + ")"));
+      jdbc.execute("CREATE TABLE " + table + " AS SELECT * FROM `" + hot + "` WHERE 1 = 0");
+      for (String sql : ddl) jdbc.execute(sql);
+    } catch (DataAccessException e) {
+      throw failed(table, e);
+    }
+  }
+
+  private boolean exists(String table) {
+    try {
+      jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE 1 = 0", Long.class);
+      return true;
+    } catch (DataAccessException e) {
+      return false;
+    }
+  }
+
+  /* ====== 메타데이터(보관 테이블을 AS SELECT 로 만들 때만) ====== */
+
+  private String hotTable(String... cands) {
+    return jdbc.execute((ConnectionCallback<String>) con -> {
+      DatabaseMetaData md = con.getMetaData();
+      for (String c : cands) {
+        for (String t : List.of(c, c.toUpperCase())) {                   // 대/소문자 변형도 시도
+          try (ResultSet rs = md.getTables(null, null, t, null)) {
+            if (rs.next()) return rs.getString("TABLE_NAME");
+          }
+        }
+      }
+      throw new IllegalStateException("보관할 테이블을 찾을 수 없습니다: " + String.join("|", cands));
+    });
+  }
+
+  /** PK 컬럼(순서대로) */
+  private List<String> primaryKey(String hot) {
+    return jdbc.execute((ConnectionCallback<List<String>>) con -> {
+      Map<Integer, String> cols = new TreeMap<>();
+      try (ResultSet rs = con.getMetaData().getPrimaryKeys(null, null, hot)) {
+        while (rs.next()) cols.put(rs.getInt("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+      }
+      return new ArrayList<>(cols.values());
+    });
+  }
+
+  /** 유니크가 아닌 인덱스 이름 → 컬럼(순서대로) */
+  private Map<String, List<String>> indexes(String hot) {
+    return jdbc.execute((ConnectionCallback<Map<String, List<String>>>) con -> {
+      Map<String, List<String>> byName = new LinkedHashMap<>();
+      try (ResultSet rs = con.getMetaData().getIndexInfo(null, null, hot, false, false)) {
+        while (rs.next()) {
+          String name = rs.getString("INDEX_NAME");
+          String col = rs.getString("COLUMN_NAME");
+          if (name == null || col == null || !rs.getBoolean("NON_UNIQUE")) continue; // 통계 행 / PK·유니크(PK 는 따로)
+          byName.computeIfAbsent(name.toLowerCase(), k -> new ArrayList<>()).add(col);
+        }
+      } catch (SQLException e) {
+        log.debug("{} 인덱스 정보를 읽지 못해 보관 테이블 인덱스를 건너뜀: {}", hot, e.toString());
+      }
+      return byName;
+    });
+  }
+
+  private static IllegalStateException failed(String table, DataAccessException e) {
+    return new IllegalStateException(table + " 테이블을 만들 수 없습니다(미리 만들고 app.schema.create=false 로 건너뛸 수 있음)", e);
+  }
+}
@@ -3,18 +3,24 @@
 package com.example.demo.dao;                                         // DAO 클래스가 속한 패키지(네임스페이스)
 
 import java.sql.Connection;                                           // JDBC 커넥션 객체 타입
-import java.sql.DriverManager;                                        // 커넥션을 직접 여는 유틸(커넥션 풀 미사용)
 import java.sql.PreparedStatement;                                    // 바인딩 가능한(파라미터화된) SQL 구문
 import java.sql.ResultSet;                                            // SELECT 결과를 순회하는 커서
 import java.sql.SQLException;                                         // JDBC 작업 중 발생하는 체크 예외
 import java.util.ArrayList;                                           // 가변 리스트 구현체
+import java.util.Collection;                                          // 권한 필터용 아이디 목록
 import java.util.List;                                                // 리스트 인터페이스
 import java.util.Optional;                                            // 널-안전 단건 반환 컨테이너(Optional)
 
-import org.springframework.beans.factory.annotation.Value;            // application.properties 값 주입
+import javax.sql.DataSource;                                          // 커넥션 풀(HikariCP) DataSource
+
+import org.slf4j.Logger;                                                 // SLF4J 로거(Logback 으로 출력)
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;           // 쓰기 후 권한 변경 이벤트 발행(RoleIndex)
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy; // @Transactional 경계 안에서는 같은 커넥션 재사용
 import org.springframework.stereotype.Repository;                     // 영속 계층 스테레오타입 애너테이션
 
 import com.example.demo.domain.User;                                  // users 테이블과 매핑되는 도메인 엔티티
+import com.example.demo.service.user.UserRolesChangedEvent;          // 사용자/권한 변경 알림
 import com.example.demo.sql.UsersSql;                                 // users 테이블용 SQL 문자열 모음 유틸
 
 /**
@@ -24,11 +30,24 @@ import com.example.demo.sql.UsersSql;                                 // users 
 @Repository(UserDao.BEAN_QUALIFIER)                                   // 이 클래스를 Repository 빈으로 등록(이름 지정)
 public class UserDao implements IUserDao {                             // IUserDao 인터페이스의 구현체
 
+  private static final Logger log = LoggerFactory.getLogger(UserDao.class);
+
   public static final String BEAN_QUALIFIER = "userDao";               // @Qualifier에서 사용할 빈 이름 상수
 
-  @Value("${app.db.url}")      private String url;                     // DB 접속 URL (예: jdbc:mysql://...)
-  @Value("${app.db.username}") private String username;                // DB 사용자명
-  @Value("${app.db.password}") private String password;                // DB 비밀번호
+  // 커넥션 풀(DataSource)에서 커넥션을 빌려 씀 → 동시 DB 작업 수는 풀 크기(spring.datasource.hikari.maximum-pool-size)가 제한
+  // TransactionAwareDataSourceProxy: 트랜잭션 중이면 close()가 실제 반납 대신 트랜잭션 커넥션 유지
+  private final DataSource dataSource;
+  private final ApplicationEventPublisher events;                      // 변경 이벤트 발행기(RoleIndex 가 커밋 후 반영)
+
+  public UserDao(DataSource dataSource, ApplicationEventPublisher events) {
+    this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    this.events = events;
+  }
+
+  private int changed(String userId, int rows) {                       // 실제로 바뀐 경우에만 알림
+    if (rows > 0) events.publishEvent(new UserRolesChangedEvent(userId));
+    return rows;
+  }
 
   // ───────────────────────────────────────────────────────────────────────────
   // 공용 매핑 (모든 컬럼 포함: password 포함)
@@ -64,44 +83,68 @@ public class UserDao implements IUserDao {                             // IUserD
   public List<User> findAll() {                                        // 모든 사용자 전체 조회
     final String sql = UsersSql.selectAll();                           // 공통 SELECT + 정렬 SQL 가져오기
     List<User> list = new ArrayList<>();                               // 결과 담을 리스트
-    try (Connection c = DriverManager.getConnection(url, username, password); // 커넥션 열기(try-with-resources)
+    try (Connection c = dataSource.getConnection(); // 커넥션 열기(try-with-resources)
          PreparedStatement ps = c.prepareStatement(sql);               // PreparedStatement 생성
          ResultSet rs = ps.executeQuery()) {                           // 쿼리 실행 → 결과 커서 획득
           // rs.next()는 JDBC의 ResultSet에서 커서를 다음 행으로 한 칸 이동시키고, **그 행이 존재하면 true, 없으면 false**를 돌려주는 메서드
           // mapRow는 Spring JDBC의 RowMapper<T> 인터페이스가 가진 메서드로, ResultSet의 “한 행(row)”을 자바 객체로 변환할 때 호출
       while (rs.next()) list.add(mapRow(rs));                          // 각 행을 User로 매핑해 리스트에 추가
     } catch (SQLException e) {
-      e.printStackTrace();                                             // 간단 로깅(실무에선 로거 사용 권장)
+      log.error("findAll 실패", e);                                      // 스택트레이스 포함 ERROR 로그
     }
     return list;                                                       // 실패 시 빈 리스트 반환
   }
 
   /**
-   * 관리자 목록 화면 등에서 사용하는 "비밀번호 제거된" 목록.
-   * 컬럼: user_id, name, phone, email
+   * 관리자 목록 키셋 페이지 조건
+   * - sort/field  : user_id | name | email (UsersSql.ADMIN_PAGE_COLUMNS)
+   * - prefix      : field 접두사 검색어(null 이면 전체)
+   * - afterValue/afterId : 이전 페이지 마지막 행의 (sort 값, user_id) — 없으면 처음부터
+   * - includeIds/excludeIds : 권한 필터용 user_id 목록(RoleIndex 의 ADMIN 집합 등), 비어 있으면 조건 없음
    */
-  public List<UserRow> findAllForAdminList() {                         // 경량 행 전용 목록 조회
-    final String sql = """
-        SELECT user_id, name, phone, email
-          FROM users
-         ORDER BY user_id
-        """;                                                           // 비밀번호 제외 SELECT
+  public record AdminPageQuery(String sort, boolean desc, String field, String prefix,
+                               String afterValue, String afterId,
+                               Collection<String> includeIds, Collection<String> excludeIds, int limit) {}
+
+  /** 관리자 사용자 목록 한 페이지(비밀번호 제외, 인덱스 범위 스캔 + LIMIT) */
+  public List<UserRow> findAdminPage(AdminPageQuery q) {
+    boolean prefix = q.prefix() != null && !q.prefix().isEmpty();
+    boolean after = q.afterId() != null;
+    final String sql = UsersSql.adminPage(q.sort(), q.desc(), q.field(), prefix, after,
+        q.includeIds().size(), q.excludeIds().size());
     List<UserRow> list = new ArrayList<>();
-    try (Connection c = DriverManager.getConnection(url, username, password);
-         PreparedStatement ps = c.prepareStatement(sql);
-         ResultSet rs = ps.executeQuery()) {
-      while (rs.next()) {                                              // 한 행씩 UserRow로 생성
-        list.add(new UserRow(
-            rs.getString("user_id"),
-            rs.getString("name"),
-            rs.getString("phone"),
-            rs.getString("email")
-        ));
+    try (Connection c = dataSource.getConnection();
+         PreparedStatement ps = c.prepareStatement(sql)) {
+      int i = 1;
+      if (prefix) ps.setString(i++, escapeLike(q.prefix()) + "%");    // LIKE 'q%'(와일드카드 문자는 이스케이프)
+      if (after) {
+        if (!q.sort().equals("user_id")) {
+          ps.setString(i++, q.afterValue());
+          ps.setString(i++, q.afterValue());
+        }
+        ps.setString(i++, q.afterId());
+      }
+      for (String id : q.includeIds()) ps.setString(i++, id);
+      for (String id : q.excludeIds()) ps.setString(i++, id);
+      ps.setInt(i, q.limit());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {                                            // 한 행씩 UserRow로 생성
+          list.add(new UserRow(
+              rs.getString("user_id"),
+              rs.getString("name"),
+              rs.getString("phone"),
+              rs.getString("email")
+          ));
+        }
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("findAdminPage 실패", e);
     }
-    return list;                                                       // 경량 목록 반환
+    return list;
+  }
+
+  private static String escapeLike(String s) {                         // LIKE 기본 이스케이프 문자(\)
+    return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
   }
 
   /** PK(user_id) 단건 조회 */
@@ -109,14 +152,14 @@ public class UserDao implements IUserDao {                             // IUserD
   public Optional<User> findById(String userId) {                      // user_id로 단건 조회
     // Optional<T>로 “없음”을 명시적으로 표현해 NPE를 방지
     final String sql = UsersSql.selectById();                          // WHERE user_id = ? SQL
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, userId);                                         // 1번째 파라미터 바인딩
       try (ResultSet rs = ps.executeQuery()) {                         // 실행
         if (rs.next()) return Optional.of(mapRow(rs));                 // 결과 있으면 User로 매핑해 반환
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("findById 실패", e);
     }
     return Optional.empty();                                           // 없으면 empty
   }
@@ -125,14 +168,14 @@ public class UserDao implements IUserDao {                             // IUserD
   @Override
   public Optional<User> findByEmail(String email) {                    // email로 단건 조회
     final String sql = UsersSql.selectByEmail();                       // WHERE email = ? SQL
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, email);                                          // 1번째 파라미터 바인딩
       try (ResultSet rs = ps.executeQuery()) {
         if (rs.next()) return Optional.of(mapRow(rs));                 // 결과 있으면 매핑해서 반환
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("findByEmail 실패", e);
     }
     return Optional.empty();                                           // 없거나 실패 시 empty
   }
@@ -144,7 +187,7 @@ public class UserDao implements IUserDao {                             // IUserD
   @Override
   public String insert(User entity) {                                  // 새 사용자 한 명 추가
     final String sql = UsersSql.insert();                              // INSERT SQL(자리표시자 포함)
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
 
       ps.setString(1, entity.getUserId());                             // user_id(앱이 생성해 전달)
@@ -154,10 +197,10 @@ public class UserDao implements IUserDao {                             // IUserD
       ps.setString(4, entity.getEmail());                              // email(UNIQUE)
       ps.setString(5, entity.getPassword());                           // password(해시된 값 저장 전제)
 
-      int rows = ps.executeUpdate();                                   // 영향 행 수
+      int rows = changed(entity.getUserId(), ps.executeUpdate());      // 영향 행 수
       return rows > 0 ? entity.getUserId() : null;                     // 성공이면 PK 반환, 아니면 null
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("insert 실패", e);
       return null;                                                     // 실패 시 null
     }
   }
@@ -166,7 +209,7 @@ public class UserDao implements IUserDao {                             // IUserD
   @Override
   public int update(String userId, User patch) {                       // 일부 필드만 갱신(널은 유지)
     final String sql = UsersSql.update();                              // COALESCE 기반 UPDATE SQL
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
 
       ps.setString(1, patch.getName());                                // 새 name 또는 null
@@ -177,7 +220,7 @@ public class UserDao implements IUserDao {                             // IUserD
 
       return ps.executeUpdate();                                       // 영향 행 수(0/1)
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("갱신 실패", e);
       return 0;                                                        // 예외 시 0
     }
   }
@@ -186,14 +229,14 @@ public class UserDao implements IUserDao {                             // IUserD
   @Override
   public int delete(String userId) {                                   // user_id 기준 삭제
     final String sql = UsersSql.delete();                              // DELETE SQL
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
           // ps.setString(...)는 JDBC PreparedStatement의 파라미터에 문자열 값을 넣는 메서드
       ps.setString(1, userId);                                         // WHERE user_id 바인딩
       // executeUpdate()는 JDBC에서 INSERT, UPDATE, DELETE, DDL 같은 데이터를 바꾸는 SQL을 실행할 때 쓰는 메서드
-      return ps.executeUpdate();                                       // 삭제된 행 수 반환(0/1)
+      return changed(userId, ps.executeUpdate());                      // 삭제된 행 수 반환(0/1)
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("delete 실패", e);
       return 0;                                                        // 예외 시 0
     }
   }
@@ -4,26 +4,52 @@
 package com.example.demo.dao;                                        // DAO 클래스가 속한 패키지(네임스페이스)
 
 import java.sql.Connection;                                          // JDBC 커넥션 타입
-import java.sql.DriverManager;                                       // 커넥션 풀 없이 직접 커넥션 여는 유틸
 import java.sql.PreparedStatement;                                   // 파라미터 바인딩 가능한 SQL 문
 import java.sql.ResultSet;                                           // SELECT 결과 집합 커서
 import java.sql.SQLException;                                        // JDBC 작업 중 발생하는 체크 예외 타입
 import java.util.ArrayList;                                          // 가변 리스트 구현체
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;                                      // 일괄 변경 결과(입력 순서 유지)
 import java.util.List;                                               // 리스트 인터페이스
+import java.util.Map;                                                // 일괄 변경 입력
+import java.util.Set;
+import java.util.TreeMap;                                            // 대소문자 무시 아이디 매칭
 
-import org.springframework.beans.factory.annotation.Value;           // application.properties 값 주입(@Value)
+import javax.sql.DataSource;                                          // 커넥션 풀(HikariCP) DataSource
+
+import org.slf4j.Logger;                                                 // SLF4J 로거(Logback 으로 출력)
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;           // 쓰기 후 권한 변경 이벤트 발행(RoleIndex)
+import org.springframework.jdbc.UncategorizedSQLException;           // 일괄 변경 실패 → 롤백되도록 런타임 예외로 변환
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy; // @Transactional 경계 안에서는 같은 커넥션 재사용
 import org.springframework.stereotype.Repository;                    // 영속 계층 컴포넌트 스테레오타입
 
+import com.example.demo.service.user.UserRolesChangedEvent;          // 사용자/권한 변경 알림
 import com.example.demo.sql.UsersRolesSql;                           // users_roles 관련 SQL 문자열 제공 유틸(정적 메서드 모음)
 
 @Repository(UserRoleDao.BEAN_QUALIFIER)                              // 스프링 빈으로 등록 + 빈 이름 지정(qualifier용)
 public class UserRoleDao implements IUserRoleDao {                   // IUserRoleDao 계약을 구현하는 구체 클래스
 
+  private static final Logger log = LoggerFactory.getLogger(UserRoleDao.class);
+
   public static final String BEAN_QUALIFIER = "userRoleDao";         // @Qualifier에서 사용할 빈 이름 상수
 
-  @Value("${app.db.url}")      private String url;                   // DB 접속 URL(예: jdbc:mysql://...)
-  @Value("${app.db.username}") private String username;              // DB 사용자명
-  @Value("${app.db.password}") private String password;              // DB 비밀번호
+  private static final int BATCH_SIZE = 500;                         // IN 자리표시자 수 / executeBatch 한 번에 보낼 문장 수
+
+  // 커넥션 풀(DataSource)에서 커넥션을 빌려 씀 → 동시 DB 작업 수는 풀 크기(spring.datasource.hikari.maximum-pool-size)가 제한
+  // TransactionAwareDataSourceProxy: 트랜잭션 중이면 close()가 실제 반납 대신 트랜잭션 커넥션 유지
+  private final DataSource dataSource;
+  private final ApplicationEventPublisher events;                      // 변경 이벤트 발행기(RoleIndex 가 커밋 후 반영)
+
+  public UserRoleDao(DataSource dataSource, ApplicationEventPublisher events) {
+    this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    this.events = events;
+  }
+
+  private int changed(String userId, int rows) {                       // 실제로 바뀐 경우에만 알림
+    if (rows > 0) events.publishEvent(new UserRolesChangedEvent(userId));
+    return rows;
+  }
 
   // ───────────────────── insert / delete ─────────────────────
 
@@ -31,14 +57,14 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
   public int insertUserRole(String userId, String roleId) {          // 사용자-권한 매핑 1건 추가
     final String sql = UsersRolesSql.insertUserRole();               // "INSERT INTO users_roles(user_id, role_id) VALUES (?, ?)"
     // getConnection은 데이터베이스(DB)에 접속(연결) 객체를 생성해서 돌려주는 메서드
-    try (Connection c = DriverManager.getConnection(url, username, password); // 커넥션 오픈(try-with-resources로 자동 close)
+    try (Connection c = dataSource.getConnection(); // 커넥션 오픈(try-with-resources로 자동 close)
          PreparedStatement ps = c.prepareStatement(sql)) {           // 프리페어드 스테이트먼트 생성
       ps.setString(1, userId);                                       // 1번 파라미터 바인딩: user_id
       ps.setString(2, roleId);                                       // 2번 파라미터 바인딩: role_id("USER"/"ADMIN" 등)
       // executeUpdate()는 JDBC에서 INSERT/UPDATE/DELETE/DDL을 실행할 때 쓰는 메서드
-      return ps.executeUpdate();                                     // 영향 행 수 반환(성공 1, 중복/제약 위반 시 0 또는 예외)
+      return changed(userId, ps.executeUpdate());                    // 영향 행 수 반환(성공 1, 중복/제약 위반 시 0 또는 예외)
     } catch (SQLException e) {                                       // JDBC 오류 처리
-      e.printStackTrace();                                           // 콘솔 로깅(실무에선 로거 사용 권장)
+      log.error("insertUserRole 실패", e);                             // 스택트레이스 포함 ERROR 로그
       return 0;                                                      // 예외가 났으면 0으로 실패 신호 반환
     }
   }
@@ -46,12 +72,12 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
   @Override
   public int deleteUserRolesByUserId(String userId) {                // 특정 사용자에게 부여된 모든 역할 삭제
     final String sql = UsersRolesSql.deleteUserRolesByUserId();      // "DELETE FROM users_roles WHERE user_id=?"
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, userId);                                       // WHERE user_id = ?
-      return ps.executeUpdate();                                     // 삭제된 행 수(0~N) 반환
+      return changed(userId, ps.executeUpdate());                    // 삭제된 행 수(0~N) 반환
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("deleteUserRolesByUserId 실패", e);
       return 0;                                                      // 실패 시 0
     }
   }
@@ -59,24 +85,82 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
   @Override
   public int deleteOneRole(String userId, String roleId) {           // 특정 사용자에게서 특정 역할만 제거
     final String sql = UsersRolesSql.deleteOneRole();                // "DELETE FROM users_roles WHERE user_id=? AND role_id=?"
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, userId);                                       // WHERE user_id = ?
       ps.setString(2, roleId);                                       //   AND role_id = ?
-      return ps.executeUpdate();                                     // 성공 1, 대상 없음 0
+      return changed(userId, ps.executeUpdate());                    // 성공 1, 대상 없음 0
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("deleteOneRole 실패", e);
       return 0;
     }
   }
 
+  @Override
+  public Set<String> replaceRoles(Map<String, String> roleByUser) {  // 여러 사용자 역할 일괄 치환
+    Set<String> applied = new LinkedHashSet<>();
+    if (roleByUser.isEmpty()) return applied;
+    List<String> requested = new ArrayList<>(roleByUser.keySet());
+    String sql = null;
+    try (Connection c = dataSource.getConnection()) {               // 트랜잭션 중이면 그 커넥션(세 단계가 한 트랜잭션)
+      // 1) 존재 확인: PK IN (...) 묶음 조회. 저장된 표기(대소문자)를 받아 두고 이후 쓰기에 사용
+      Map<String, String> stored = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      for (int from = 0; from < requested.size(); from += BATCH_SIZE) {
+        List<String> chunk = requested.subList(from, Math.min(from + BATCH_SIZE, requested.size()));
+        sql = UsersRolesSql.findExistingUserIds(chunk.size());
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+          for (int i = 0; i < chunk.size(); i++) ps.setString(i + 1, chunk.get(i));
+          try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) stored.put(rs.getString(1), rs.getString(1));
+          }
+        }
+      }
+      // 저장된 id 기준으로 한 번만: "Alice"/"alice" 처럼 같은 사용자가 여러 표기로 오면 마지막 것만 반영
+      Map<String, String> byId = new LinkedHashMap<>();              // 저장된 id → 요청 표기
+      for (String userId : requested) {
+        String id = stored.get(userId);
+        if (id != null) byId.put(id, userId);
+      }
+      if (byId.isEmpty()) return applied;
+      applied.addAll(byId.values());
+      List<String> ids = new ArrayList<>(byId.keySet());
+
+      // 2) 기존 역할 삭제, 3) 새 역할 1건 삽입 — 각각 배치로 전송(왕복 횟수 = 건수 / BATCH_SIZE)
+      sql = UsersRolesSql.deleteUserRolesByUserId();
+      try (PreparedStatement ps = c.prepareStatement(sql)) {
+        for (int i = 0; i < ids.size(); i++) {
+          ps.setString(1, ids.get(i));
+          ps.addBatch();
+          if ((i + 1) % BATCH_SIZE == 0) ps.executeBatch();
+        }
+        ps.executeBatch();
+      }
+      sql = UsersRolesSql.insertUserRole();
+      try (PreparedStatement ps = c.prepareStatement(sql)) {
+        int i = 0;
+        for (Map.Entry<String, String> e : byId.entrySet()) {
+          ps.setString(1, e.getKey());
+          ps.setString(2, roleByUser.get(e.getValue()));
+          ps.addBatch();
+          if (++i % BATCH_SIZE == 0) ps.executeBatch();
+        }
+        ps.executeBatch();
+      }
+      for (String id : ids) events.publishEvent(new UserRolesChangedEvent(id)); // 인덱스는 커밋 후 반영
+    } catch (SQLException e) {
+      log.error("replaceRoles 실패 ({}건)", roleByUser.size(), e);
+      throw new UncategorizedSQLException("replaceRoles", sql, e);   // 0 을 돌려주면 부분 반영이 커밋될 수 있음
+    }
+    return applied;
+  }
+
   // ───────────────────── select ─────────────────────
 
   @Override
   public List<String> findRolesByUserId(String userId) {             // user_id 기준 권한 목록 조회
     final String sql = UsersRolesSql.findRolesByUserId();            // "SELECT role_id FROM users_roles WHERE user_id=?"
     List<String> roles = new ArrayList<>();                          // 결과를 담을 리스트
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, userId);                                       // 바인딩: user_id
       try (ResultSet rs = ps.executeQuery()) {                       // SELECT 실행
@@ -85,7 +169,7 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
         }
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("findRolesByUserId 실패", e);
     }
     return roles;                                                    // 권한 문자열 목록 반환
   }
@@ -94,7 +178,7 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
   public List<String> findRolesByEmail(String email) {               // 이메일 기준 권한 목록 조회(조인 쿼리 사용)
     final String sql = UsersRolesSql.findRolesByEmail();             // "SELECT ur.role_id ... JOIN users u ON ... WHERE u.email=?"
     List<String> roles = new ArrayList<>();                          // 결과 리스트
-    try (Connection c = DriverManager.getConnection(url, username, password);
+    try (Connection c = dataSource.getConnection();
          PreparedStatement ps = c.prepareStatement(sql)) {
       ps.setString(1, email);                                        // WHERE u.email = ?
       try (ResultSet rs = ps.executeQuery()) {
@@ -103,7 +187,7 @@ public class UserRoleDao implements IUserRoleDao {                   // IUserRol
         }
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      log.error("조회 실패", e);
     }
     return roles;                                                    // 예: ["USER"], ["USER","ADMIN"]
   }
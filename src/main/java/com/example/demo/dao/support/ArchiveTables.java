@@ -0,0 +1,106 @@
+// src/main/java/com/example/demo/dao/support/ArchiveTables.java
+package com.example.demo.dao.support;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 테이블(<hot>_archive) — 오래된 글/댓글을 옮겨 두어 자주 읽는 테이블(hot)의 인덱스를 작게 유지
+ *
+ * - 보관 테이블은 기동 시 SchemaInitializer 가 만든다(hot 과 같은 컬럼/순서 — 옮길 때 INSERT ... SELECT *).
+ * - move    : hot → 보관(잠금 → 복사 → 삭제를 한 트랜잭션으로) — ArchiveService 가 배치로 호출
+ *   restore : 보관 → hot 한 행 — 보관된 행을 수정/삭제할 때 DAO 가 되돌린 뒤 평소 경로로 처리
+ * - 보관분 게시판별 건수는 count-ttl 동안 메모리에 둔다(보관 테이블 COUNT 를 목록 요청마다 하지 않도록).
+ *   이 인스턴스가 옮기거나 지우면 바로 비우고, 다른 인스턴스의 변경은 count-ttl 안에 반영된다.
+ * - app.archive.enabled=false 면 보관 테이블을 보지도 만들지도 않는다(예전 동작).
+ *
+ * 범위 파티션 대신 테이블을 나눈 이유: post/comment 의 PK 가 uuid 라 created_at 범위 파티션을 쓰려면
+ * PK 를 (uuid, created_at) 으로 바꿔야 한다(MariaDB: 파티션 키는 모든 유니크 키에 포함).
+ */
+@Component
+@DependsOn("schemaInitializer")                                           // 보관 테이블이 먼저 있어야 함
+public class ArchiveTables {
+
+  private final JdbcTemplate jdbc;
+  private final TransactionTemplate tx;
+  private final boolean enabled;
+  private final long countTtlMillis;
+  private final Map<String, long[]> counts = new ConcurrentHashMap<>();   // 키 → {건수, 읽은 시각}
+
+  public ArchiveTables(JdbcTemplate jdbc, PlatformTransactionManager txm,
+                       @Value("${app.archive.enabled:false}") boolean enabled,
+                       @Value("${app.archive.count-ttl:5m}") Duration countTtl) {
+    this.jdbc = jdbc;
+    this.tx = new TransactionTemplate(txm);
+    this.enabled = enabled;
+    this.countTtlMillis = Math.max(0, countTtl.toMillis());
+  }
+
+  /** 보관을 쓰는지(쓰면 보관 테이블이 있음) */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /** 보관 테이블 이름 */
+  public static String table(String hot) {
+    return hot.replace("`", "") + "_archive";
+  }
+
+  /** hot → 보관: ids 행을 옮기고 옮긴 건수 반환 */
+  public int move(String hot, String pk, List<?> ids) {
+    return ids.isEmpty() ? 0 : transfer(q(hot), q(table(hot)), pk, ids);
+  }
+
+  /** 보관 → hot: 한 행을 되돌림(없으면 false) */
+  public boolean restore(String hot, String pk, Object id) {
+    return id != null && transfer(q(table(hot)), q(hot), pk, List.of(id)) > 0;
+  }
+
+  /** 보관분 건수(캐시) — key 는 호출 측이 정함(예: "post:BUS") */
+  public long count(String key, LongSupplier loader) {
+    long now = System.currentTimeMillis();
+    long[] c = counts.get(key);
+    if (c != null && now - c[1] <= countTtlMillis) return c[0];
+    long n = loader.getAsLong();
+    counts.put(key, new long[] { n, now });
+    return n;
+  }
+
+  /** 보관분이 바뀜(옮김/삭제/되돌림) — 건수 캐시 비움 */
+  public void changed() {
+    counts.clear();
+  }
+
+  /* ----------------------- 내부 ----------------------- */
+
+  private int transfer(String from, String to, String pk, List<?> ids) {
+    String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+    Object[] args = ids.toArray();
+    Integer n = tx.execute(st -> {
+      List<Object> locked = jdbc.queryForList(
+          "SELECT " + pk + " FROM " + from + " WHERE " + pk + " IN (" + in + ") FOR UPDATE", Object.class, args);
+      if (locked.isEmpty()) return 0;                                  // 그 사이 지워졌거나 이미 옮겨짐
+      String lin = String.join(",", Collections.nCopies(locked.size(), "?"));
+      Object[] largs = locked.toArray();
+      jdbc.update("INSERT INTO " + to + " SELECT * FROM " + from + " WHERE " + pk + " IN (" + lin + ")", largs);
+      return jdbc.update("DELETE FROM " + from + " WHERE " + pk + " IN (" + lin + ")", largs);
+    });
+    changed();
+    return n == null ? 0 : n;
+  }
+
+  private static String q(String table) {
+    return table.startsWith("`") ? table : "`" + table + "`";
+  }
+}
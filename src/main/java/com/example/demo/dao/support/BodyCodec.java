@@ -0,0 +1,112 @@
+// src/main/java/com/example/demo/dao/support/BodyCodec.java
+package com.example.demo.dao.support;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글/댓글 본문 저장 형식 (app.body-compression.*)
+ *
+ * - 쓰기(PostDao/CommentDao): UTF-8 로 threshold-bytes 이상인 본문만 Deflate → "\u001Fz1:" + Base64 로 저장.
+ *   컬럼은 그대로 TEXT(스키마 변경 없음) — Base64 로 1/3 늘어나도 더 작아질 때만 압축본을 쓴다.
+ *   (한글은 UTF-8 3바이트라 긴 글은 보통 절반 이하로 줄어든다)
+ * - 읽기: 표식이 없으면 예전 평문 행 그대로, 있으면 풀어서 반환 → DTO 가 getContent() 처음 부를 때만 푼다(지연).
+ * - 표식으로 시작하는 평문이 들어오면 길이와 무관하게 압축해 저장(읽을 때 평문으로 오인하지 않도록).
+ * - "z1" 의 1 은 형식 버전 — 알고리즘을 바꾸면 새 표식을 추가하고 decode 는 예전 것도 계속 읽는다.
+ */
+@Component
+public class BodyCodec {
+
+  private static final Logger log = LoggerFactory.getLogger(BodyCodec.class);
+
+  public static final String MARKER = "\u001Fz1:";                   // 단위 구분 문자(폼 입력에 나오지 않음) + 형식
+
+  private final int threshold;                                       // UTF-8 바이트, 0 이하면 끔
+  private final int level;
+  private final LongAdder compressed = new LongAdder();              // 기동 후 압축해 쓴 건수/바이트(지표, 저장 공간 보고)
+  private final LongAdder rawBytes = new LongAdder();
+  private final LongAdder storedBytes = new LongAdder();
+
+  public BodyCodec(@Value("${app.body-compression.threshold-bytes:1024}") int threshold,
+                   @Value("${app.body-compression.level:6}") int level) {
+    this.threshold = threshold;
+    this.level = Math.min(Math.max(level, Deflater.BEST_SPEED), Deflater.BEST_COMPRESSION);
+  }
+
+  /** 저장할 값(짧거나 이득이 없으면 입력 그대로) */
+  public String encode(String text) {
+    if (text == null) return null;
+    boolean marked = text.startsWith(MARKER);
+    if (!marked && (threshold <= 0 || text.length() * 3 < threshold)) return text; // UTF-8 최대 3바이트 → 확실히 짧으면 바로 통과
+    byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+    if (!marked && raw.length < threshold) return text;
+    String out = MARKER + Base64.getEncoder().encodeToString(deflate(raw));
+    if (!marked && out.length() >= raw.length) return text;          // 압축본(ASCII)이 더 크면 평문 유지
+    compressed.increment();
+    rawBytes.add(raw.length);
+    storedBytes.add(out.length());
+    return out;
+  }
+
+  /** 압축 표식이 있는 값인지 */
+  public static boolean isEncoded(String stored) {
+    return stored != null && stored.startsWith(MARKER);
+  }
+
+  /** 저장된 값 → 본문(예전 평문 행은 그대로) */
+  public static String decode(String stored) {
+    if (!isEncoded(stored)) return stored;
+    try {
+      return new String(inflate(Base64.getDecoder().decode(stored.substring(MARKER.length()))), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException | DataFormatException e) {
+      log.warn("본문 압축 해제 실패 — 저장값 그대로 반환: {}", e.toString());
+      return stored;
+    }
+  }
+
+  public long compressedWrites() { return compressed.sum(); }
+  public long compressedRawBytes() { return rawBytes.sum(); }
+  public long compressedStoredBytes() { return storedBytes.sum(); }
+  public int threshold() { return threshold; }
+
+  private byte[] deflate(byte[] raw) {
+    Deflater d = new Deflater(level);
+    try {
+      d.setInput(raw);
+      d.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+      byte[] buf = new byte[4096];
+      while (!d.finished()) out.write(buf, 0, d.deflate(buf));
+      return out.toByteArray();
+    } finally {
+      d.end();                                                       // 네이티브 메모리 즉시 해제
+    }
+  }
+
+  private static byte[] inflate(byte[] packed) throws DataFormatException {
+    Inflater inf = new Inflater();
+    try {
+      inf.setInput(packed);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length * 3);
+      byte[] buf = new byte[4096];
+      while (!inf.finished()) {
+        int n = inf.inflate(buf);
+        if (n == 0 && (inf.needsInput() || inf.needsDictionary())) throw new DataFormatException("truncated");
+        out.write(buf, 0, n);
+      }
+      return out.toByteArray();
+    } finally {
+      inf.end();
+    }
+  }
+}
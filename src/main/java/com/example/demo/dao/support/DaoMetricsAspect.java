@@ -0,0 +1,68 @@
+// src/main/java/com/example/demo/dao/support/DaoMetricsAspect.java
+package com.example.demo.dao.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * DAO 공개 메서드 실행 시간 측정
+ *
+ * - 대상: com.example.demo.dao 패키지의 *Dao 클래스 public 메서드 전부
+ *   (PostDao, CommentDao, UserDao, UserRoleDao, RoleDao, MenuDao)
+ * - 지표: dao.calls{dao, method, outcome=success|error}
+ *   히스토그램/백분위는 management.metrics.distribution.* 설정으로 켠다.
+ * - Timer 는 메서드별로 한 번만 만들어 재사용(요청마다 빌더/태그 생성 비용 없음).
+ */
+@Aspect
+@Component
+public class DaoMetricsAspect {
+
+  /** 한 메서드의 성공/실패 타이머 쌍 */
+  private record Timers(Timer success, Timer error) {}
+
+  private final MeterRegistry registry;
+  private final ConcurrentMap<Method, Timers> timers = new ConcurrentHashMap<>();
+
+  public DaoMetricsAspect(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Around("execution(public * com.example.demo.dao.*Dao.*(..))")
+  public Object time(ProceedingJoinPoint pjp) throws Throwable {
+    Timers t = timers.computeIfAbsent(((MethodSignature) pjp.getSignature()).getMethod(), this::create);
+    long start = System.nanoTime();
+    try {
+      Object result = pjp.proceed();
+      t.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable e) {
+      t.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+  }
+
+  private Timers create(Method m) {
+    String dao = m.getDeclaringClass().getSimpleName();
+    return new Timers(build(dao, m.getName(), "success"), build(dao, m.getName(), "error"));
+  }
+
+  private Timer build(String dao, String method, String outcome) {
+    return Timer.builder("dao.calls")
+        .description("DAO 메서드 실행 시간")
+        .tag("dao", dao)
+        .tag("method", method)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+}
@@ -0,0 +1,93 @@
+// src/main/java/com/example/demo/dao/support/ReadCoalescer.java
+package com.example.demo.dao.support;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일 읽기 요청 합치기(single-flight)
+ *
+ * - 같은 (group, key) 조회가 동시에 여러 개 들어오면 첫 호출(leader)만 DB 를 조회하고,
+ *   나머지(follower)는 그 결과를 기다렸다가 **같은 객체**를 돌려받는다.
+ * - 캐시가 아니다: 조회가 끝나는 순간 항목이 사라지므로 이후 호출은 다시 DB 를 읽는다.
+ *   (폭주 직후 수 ms 동안 같은 쿼리가 수백 번 나가는 것만 막는다)
+ * - leader 가 예외로 끝나면 그 순간 기다리던 follower 도 같은 예외를 받는다.
+ *
+ * ⚠️ 결과 객체를 여러 요청이 공유하므로 호출 측에서 반환값을 수정하면 안 된다.
+ */
+@Component
+public class ReadCoalescer {
+
+  /** 그룹별 진행 중 조회 + 통계 */
+  private static final class Group {
+    final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    final LongAdder calls = new LongAdder();                         // 전체 호출 수
+    final LongAdder executed = new LongAdder();                      // 실제 DB 조회 수(leader)
+    final LongAdder coalesced = new LongAdder();                     // 합쳐진 호출 수(follower)
+  }
+
+  /** 조회용 통계 스냅샷 */
+  public record Stats(long calls, long executed, long coalesced, int inflight) {}
+
+  private final boolean enabled;
+  private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+  public ReadCoalescer(@Value("${app.coalesce.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * group/key 단위로 loader 실행을 합친다.
+   * @param group 통계 구분용 이름(예: "post.byKey", "comment.byPost")
+   * @param key   같은 결과를 돌려줘도 되는 조회를 식별하는 키(파라미터 전부 포함)
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V load(String group, String key, Supplier<V> loader) {
+    if (!enabled) return loader.get();
+
+    Group g = groups.computeIfAbsent(group, k -> new Group());
+    g.calls.increment();
+
+    CompletableFuture<Object> mine = new CompletableFuture<>();
+    CompletableFuture<Object> running = g.inflight.putIfAbsent(key, mine);
+    if (running != null) {                                           // follower: 진행 중인 조회 결과 공유
+      g.coalesced.increment();
+      try {
+        return (V) running.join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException re) throw re;
+        if (cause instanceof Error err) throw err;
+        throw e;
+      }
+    }
+
+    g.executed.increment();                                          // leader: 실제 조회
+    try {
+      V v = loader.get();
+      mine.complete(v);
+      return v;
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      g.inflight.remove(key, mine);                                  // 결과를 보관하지 않음(캐시 아님)
+    }
+  }
+
+  /** 그룹별 통계(이름순) */
+  public Map<String, Stats> stats() {
+    Map<String, Stats> out = new TreeMap<>();
+    groups.forEach((name, g) -> out.put(name,
+        new Stats(g.calls.sum(), g.executed.sum(), g.coalesced.sum(), g.inflight.size())));
+    return out;
+  }
+}
@@ -0,0 +1,145 @@
+// src/main/java/com/example/demo/dao/support/SlowQueryDataSource.java
+package com.example.demo.dao.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.example.demo.trace.Span;
+import com.example.demo.trace.Tracing;
+
+/**
+ * 느린 쿼리 로그 + 추적 구간용 DataSource 래퍼
+ *
+ * - JdbcTemplate(PostDao/CommentDao/...) 와 순수 JDBC(UserDao/UserRoleDao) 모두 이 DataSource 를 거치므로
+ *   Statement 실행(execute*) 시간을 한 곳에서 잰다.
+ * - 임계값 이상이면 WARN: 실행 시간, SQL 원문(공백 정리), 바인딩 "모양"(순번:타입(길이))
+ *   → 값 자체는 남기지 않는다(비밀번호 해시/개인정보 노출 방지).
+ * - 추적 중인 요청이면 실행마다 "jdbc {메서드}" 구간(db.statement 속성)을 남긴다.
+ * - unwrap() 은 원본(Hikari)으로 위임되므로 풀 지표/헬스 체크는 그대로 동작.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowQueryDataSource.class);
+
+  private static final Set<String> EXECUTE = Set.of(
+      "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+  private static final int MAX_SQL_LENGTH = 1000;
+
+  private final long thresholdNanos;
+
+  /** @param thresholdMillis 음수면 느린 쿼리 로그 끔(추적 구간만) */
+  public SlowQueryDataSource(DataSource target, long thresholdMillis) {
+    super(target);
+    this.thresholdNanos = thresholdMillis < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private Connection wrap(Connection target) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[] { Connection.class }, (proxy, m, args) -> {
+          Object result = invoke(target, m, args);
+          if (result instanceof PreparedStatement ps && args != null && args[0] instanceof String sql) {
+            // prepareStatement / prepareCall (CallableStatement 도 PreparedStatement 하위 타입)
+            Class<?> iface = m.getReturnType();
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { iface }, new StatementHandler(ps, sql));
+          }
+          if (result instanceof Statement st && "createStatement".equals(m.getName())) {
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Statement.class }, new StatementHandler(st, null));
+          }
+          return result;
+        });
+  }
+
+  /** Statement 실행 시간 측정 + 바인딩 모양 기록 */
+  private final class StatementHandler implements InvocationHandler {
+    private final Statement target;
+    private String sql;
+    private final TreeMap<Integer, String> binds = new TreeMap<>();
+    private int batches;
+
+    StatementHandler(Statement target, String sql) {
+      this.target = target;
+      this.sql = sql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+      String name = m.getName();
+      if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer idx) {
+        binds.put(idx, shape(name, args[1]));
+      } else if ("clearParameters".equals(name)) {
+        binds.clear();
+      } else if ("addBatch".equals(name)) {
+        batches++;
+        if (args != null && args.length == 1 && args[0] instanceof String s && sql == null) sql = s;
+      } else if (EXECUTE.contains(name)) {
+        if (args != null && args.length >= 1 && args[0] instanceof String s) sql = s;
+        long start = System.nanoTime();
+        try (Span span = Tracing.start("jdbc", name)) {
+          if (Tracing.active()) span.attr("db.statement", normalize(sql)).attr("db.binds", binds.values());
+          return SlowQueryDataSource.invoke(target, m, args);
+        } finally {
+          long took = System.nanoTime() - start;
+          if (took >= thresholdNanos) report(took);
+          if (name.endsWith("Batch")) batches = 0;
+        }
+      }
+      return SlowQueryDataSource.invoke(target, m, args);
+    }
+
+    private void report(long nanos) {
+      log.warn("slow query {}ms{} sql=[{}] binds={}",
+          TimeUnit.NANOSECONDS.toMillis(nanos),
+          batches > 0 ? " batch=" + batches : "",
+          normalize(sql), binds.isEmpty() ? "[]" : binds);
+    }
+  }
+
+  /** set*(idx, value) → "String(36)", "Long", "NULL" 등 */
+  private static String shape(String setter, Object value) {
+    if ("setNull".equals(setter) || value == null) return "NULL";
+    if (value instanceof String s) return "String(" + s.length() + ")";
+    if (value instanceof byte[] b) return "bytes(" + b.length + ")";
+    return value.getClass().getSimpleName();
+  }
+
+  private static String normalize(String sql) {
+    if (sql == null) return "?";
+    String s = sql.replaceAll("\\s+", " ").trim();
+    return s.length() > MAX_SQL_LENGTH ? s.substring(0, MAX_SQL_LENGTH) + "…" : s;
+  }
+
+  private static Object invoke(Object target, Method m, Object[] args) throws Throwable {
+    try {
+      return m.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
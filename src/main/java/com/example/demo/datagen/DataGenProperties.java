@@ -0,0 +1,67 @@
+// src/main/java/com/example/demo/datagen/DataGenProperties.java
+package com.example.demo.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 합성 데이터 생성 설정 (application.yml 또는 커맨드라인: app.datagen.*)
+ *
+ * 같은 seed + 같은 수치 → 항상 같은 행(키/본문/시각/트리 구조)이 만들어진다.
+ *   users        : 사용자 수(u0000001 ~), 전원 USER, admin-ratio 비율은 ADMIN 추가
+ *   boards       : 생성 게시판 수(G001 ~), 글 수는 지프 분포(board-skew 가 클수록 앞쪽 게시판에 몰림)
+ *   posts        : 게시글 수(작성자도 소수 사용자에 몰리도록 편향)
+ *   comments-per-post : 게시글당 평균 댓글 수(지수 분포 + 가끔 인기 글 폭증)
+ *   reply-ratio  : 댓글이 기존 댓글의 대댓글일 확률(최근 댓글에 달릴수록 깊어짐), max-depth 까지
+ *   ids          : board/post/comment uuid 형식 — ordered(행의 created_at 기반 UUID v7, 앱과 같은 방식) | random(v4)
+ *                  같은 규모로 두 번 적재해 속도(rows/min)와 끝에 로그되는 테이블/인덱스 크기를 비교
+ */
+@ConfigurationProperties(prefix = "app.datagen")
+public class DataGenProperties {
+
+  private long seed = 42;
+  private int users = 100_000;
+  private int boards = 20;
+  private int posts = 1_000_000;
+  private double commentsPerPost = 4.0;
+  private double replyRatio = 0.6;
+  private int maxDepth = 12;
+  private double boardSkew = 1.2;
+  private double adminRatio = 0.001;
+  private String password = "datagen1234";                           // 모든 생성 계정 공통(BCrypt 1회만 계산)
+  private int batchRows = 500;                                       // INSERT 1문장당 행 수(multi-row VALUES)
+  private int commitRows = 50_000;                                   // 커밋 주기(행)
+  private boolean truncate = false;                                  // true: 생성 전 대상 테이블 비움(벤치 전용 DB에서만!)
+  private String ids = "ordered";
+  private boolean exit = true;                                       // true: 생성 후 앱 종료(CLI 용도), false: 계속 기동(부하 하네스)
+
+  public long getSeed() { return seed; }
+  public void setSeed(long seed) { this.seed = seed; }
+  public int getUsers() { return users; }
+  public void setUsers(int users) { this.users = users; }
+  public int getBoards() { return boards; }
+  public void setBoards(int boards) { this.boards = boards; }
+  public int getPosts() { return posts; }
+  public void setPosts(int posts) { this.posts = posts; }
+  public double getCommentsPerPost() { return commentsPerPost; }
+  public void setCommentsPerPost(double commentsPerPost) { this.commentsPerPost = commentsPerPost; }
+  public double getReplyRatio() { return replyRatio; }
+  public void setReplyRatio(double replyRatio) { this.replyRatio = replyRatio; }
+  public int getMaxDepth() { return maxDepth; }
+  public void setMaxDepth(int maxDepth) { this.maxDepth = maxDepth; }
+  public double getBoardSkew() { return boardSkew; }
+  public void setBoardSkew(double boardSkew) { this.boardSkew = boardSkew; }
+  public double getAdminRatio() { return adminRatio; }
+  public void setAdminRatio(double adminRatio) { this.adminRatio = adminRatio; }
+  public String getPassword() { return password; }
+  public void setPassword(String password) { this.password = password; }
+  public int getBatchRows() { return batchRows; }
+  public void setBatchRows(int batchRows) { this.batchRows = batchRows; }
+  public int getCommitRows() { return commitRows; }
+  public void setCommitRows(int commitRows) { this.commitRows = commitRows; }
+  public boolean isTruncate() { return truncate; }
+  public void setTruncate(boolean truncate) { this.truncate = truncate; }
+  public String getIds() { return ids; }
+  public void setIds(String ids) { this.ids = ids; }
+  public boolean isExit() { return exit; }
+  public void setExit(boolean exit) { this.exit = exit; }
+}
@@ -0,0 +1,52 @@
+// src/main/java/com/example/demo/datagen/DataGenRunner.java
+package com.example.demo.datagen;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.user.UserRolesChangedEvent;
+
+/**
+ * datagen 프로필 전용: 기동 직후 합성 데이터를 적재 (벤치/부하 테스트용 DB 준비)
+ *
+ * CLI 예(웹 서버 없이 적재 후 종료):
+ *   java -jar demo.jar --spring.profiles.active=datagen --spring.main.web-application-type=none \
+ *        --app.datagen.seed=42 --app.datagen.posts=2000000 --app.datagen.truncate=true
+ * 부하 하네스(LoadHarness)에서는 --spring.profiles.active=datagen --app.datagen.exit=false 로
+ * 시나리오 전에 같은 데이터셋을 만든다.
+ */
+@Component
+@Profile("datagen")
+@Order(0)                                                            // 워밍업(WarmupRunner)보다 먼저 적재
+@EnableConfigurationProperties(DataGenProperties.class)
+public class DataGenRunner implements ApplicationRunner {
+
+  private final DataSource dataSource;
+  private final PasswordEncoder passwordEncoder;
+  private final DataGenProperties props;
+  private final ConfigurableApplicationContext context;
+
+  public DataGenRunner(DataSource dataSource, PasswordEncoder passwordEncoder,
+                       DataGenProperties props, ConfigurableApplicationContext context) {
+    this.dataSource = dataSource;
+    this.passwordEncoder = passwordEncoder;
+    this.props = props;
+    this.context = context;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    new DataGenerator(dataSource, passwordEncoder.encode(props.getPassword()), props).generate();
+    context.publishEvent(UserRolesChangedEvent.all());              // users/users_roles 를 통째로 바꿨으니 권한 인덱스 재적재
+    if (props.isExit()) System.exit(SpringApplication.exit(context, () -> 0));
+  }
+}
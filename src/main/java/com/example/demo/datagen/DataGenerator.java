@@ -0,0 +1,336 @@
+// src/main/java/com/example/demo/datagen/DataGenerator.java
+package com.example.demo.datagen;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.example.demo.id.TimeOrderedIdGenerator;
+
+/**
+ * 결정적 합성 데이터 생성기 (users / users_roles / board / post / comment)
+ *
+ * - 테이블마다 seed 에서 파생한 SplittableRandom 을 따로 쓰므로, 같은 설정이면 실행 순서/환경과 무관하게 같은 행이 나온다.
+ * - 댓글 트리는 CommentDao.insert 와 같은 규칙: 대댓글 depth = 부모 depth + 1, 부모는 같은 게시글의 댓글.
+ * - 적재: multi-row INSERT(MultiRowInserter) + commit-rows 마다 커밋, 연결 1개.
+ *   느린 쿼리/추적 래퍼(SlowQueryDataSource)는 건너뛰고 원본 풀에서 연결을 받는다(수백만 바인딩 기록 방지).
+ * - 게시글은 현재 스키마(uuid PK)만 지원: 댓글이 post_uuid 로 글을 가리키므로 키를 미리 알아야 한다.
+ * - uuid 는 ids=ordered 면 행의 created_at 을 앞자리로 쓰는 UUID v7(앱의 TimeOrderedIdGenerator 와 같은 형식), random 이면 v4.
+ *   끝나면 MariaDB information_schema 의 테이블/인덱스 크기를 로그로 남긴다(두 방식 비교용).
+ */
+public class DataGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+  private static final LocalDateTime EPOCH = LocalDateTime.of(2023, 1, 1, 0, 0);
+  private static final int POST_SPACING_SECONDS = 30;                // 게시글 간 평균 간격(created_at 이 글 순서와 대체로 일치)
+  private static final double HOT_POST_RATIO = 0.002;                // 댓글이 폭증하는 인기 글 비율
+  private static final int HOT_POST_FACTOR = 25;
+  private static final String[] WORDS = {
+      "버스", "노선", "정류장", "배차", "시간", "오늘", "출근", "퇴근", "환승", "지연",
+      "공지", "질문", "답변", "감사", "확인", "부탁", "정보", "변경", "운행", "안내"};
+
+  /** 생성 결과(행 수 + 소요 시간) */
+  public record Result(long users, long roles, long boards, long posts, long comments, int maxDepth, long millis) {
+    public long rows() { return users + roles + boards + posts + comments; }
+    public double rowsPerMinute() { return millis == 0 ? 0 : rows() * 60_000.0 / millis; }
+  }
+
+  private final DataSource dataSource;
+  private final String passwordHash;
+  private final DataGenProperties p;
+  private final boolean orderedIds;
+
+  private long rowsAdded;                                            // 진행 로그용(버퍼 포함)
+  private long sinceCommit;
+
+  public DataGenerator(DataSource dataSource, String passwordHash, DataGenProperties props) {
+    this.dataSource = dataSource instanceof DelegatingDataSource d && d.getTargetDataSource() != null
+        ? d.getTargetDataSource() : dataSource;
+    this.passwordHash = passwordHash;
+    this.p = props;
+    if (!"ordered".equalsIgnoreCase(props.getIds()) && !"random".equalsIgnoreCase(props.getIds())) {
+      throw new IllegalArgumentException("app.datagen.ids 는 ordered | random: " + props.getIds());
+    }
+    this.orderedIds = "ordered".equalsIgnoreCase(props.getIds());
+  }
+
+  public Result generate() throws SQLException {
+    long t0 = System.nanoTime();
+    try (Connection c = dataSource.getConnection()) {
+      boolean auto = c.getAutoCommit();
+      c.setAutoCommit(false);
+      try {
+        PostColumns pc = PostColumns.detect(c.getMetaData());
+        Set<String> boardCols = listColumns(c.getMetaData(), "board");
+        if (p.isTruncate()) truncate(c, pc.table);
+
+        long[] ur = users(c);
+        Boards boards = boards(c, boardCols);
+        long[] pcRows = postsAndComments(c, pc, boards);
+        c.commit();
+
+        Result r = new Result(ur[0], ur[1], boards.codes.length, pcRows[0], pcRows[1], (int) pcRows[2],
+            (System.nanoTime() - t0) / 1_000_000);
+        log.info("datagen done seed={} ids={} rows={} ({} users, {} roles, {} boards, {} posts, {} comments, max depth {}) in {}ms = {} rows/min",
+            p.getSeed(), p.getIds(), r.rows(), r.users(), r.roles(), r.boards(), r.posts(), r.comments(), r.maxDepth(),
+            r.millis(), Math.round(r.rowsPerMinute()));
+        logTableSizes(c, pc.table);
+        return r;
+      } catch (SQLException | RuntimeException e) {
+        c.rollback();
+        throw e;
+      } finally {
+        c.setAutoCommit(auto);
+      }
+    }
+  }
+
+  /* ----------------------- 테이블별 생성 ----------------------- */
+
+  private void truncate(Connection c, String postTable) throws SQLException {
+    try (Statement st = c.createStatement()) {
+      for (String t : List.of("`comment`", postTable, "board", "users_roles", "users")) {
+        st.executeUpdate("DELETE FROM " + t);                        // TRUNCATE 는 FK 가 있으면 실패하므로 DELETE
+      }
+    }
+    c.commit();
+    log.info("datagen truncated comment/{}/board/users_roles/users", postTable);
+  }
+
+  /** @return {users, roles} */
+  private long[] users(Connection c) throws SQLException {
+    SplittableRandom r = new SplittableRandom(p.getSeed() * 31 + 1);
+    try (MultiRowInserter users = new MultiRowInserter(c, "users",
+             List.of("user_id", "name", "phone", "email", "password"), p.getBatchRows());
+         MultiRowInserter roles = new MultiRowInserter(c, "users_roles",
+             List.of("user_id", "role_id"), p.getBatchRows())) {
+      for (int i = 1; i <= p.getUsers(); i++) {
+        String id = userId(i);
+        users.add(id, "사용자" + i, String.format("010-%04d-%04d", (i / 10_000) % 10_000, i % 10_000),
+            id + "@gen.test", passwordHash);
+        roles.add(id, "USER");
+        int added = 2;
+        if (r.nextDouble() < p.getAdminRatio()) { roles.add(id, "ADMIN"); added++; }
+        counted(c, added);
+      }
+      users.flush();
+      roles.flush();
+      return new long[] { users.total(), roles.total() };
+    }
+  }
+
+  /** 생성 게시판 코드/uuid + 지프 누적 분포 */
+  private record Boards(String[] codes, String[] uuids, double[] cumulative) {
+    int sample(SplittableRandom r) {
+      int i = Arrays.binarySearch(cumulative, r.nextDouble());
+      return i >= 0 ? i : Math.min(-i - 1, cumulative.length - 1);
+    }
+  }
+
+  private Boards boards(Connection c, Set<String> cols) throws SQLException {
+    SplittableRandom r = new SplittableRandom(p.getSeed() * 31 + 2);
+    int n = Math.max(1, p.getBoards());
+    String[] codes = new String[n];
+    String[] uuids = new String[n];
+    double[] cum = new double[n];
+    double sum = 0;
+    for (int k = 0; k < n; k++) {
+      codes[k] = String.format("G%03d", k + 1);
+      uuids[k] = uuid(r, EPOCH);
+      sum += 1.0 / Math.pow(k + 1, p.getBoardSkew());
+      cum[k] = sum;
+    }
+    for (int k = 0; k < n; k++) cum[k] /= sum;
+
+    boolean named = cols.contains("board_name");
+    List<String> columns = named ? List.of("uuid", "board_code", "board_name", "is_active")
+                                 : List.of("uuid", "board_code", "is_active");
+    try (MultiRowInserter ins = new MultiRowInserter(c, "board", columns, p.getBatchRows())) {
+      for (int k = 0; k < n; k++) {
+        if (named) ins.add(uuids[k], codes[k], "생성 게시판 " + (k + 1), 1);
+        else ins.add(uuids[k], codes[k], 1);
+      }
+      ins.flush();
+      counted(c, n);
+    }
+    return new Boards(codes, uuids, cum);
+  }
+
+  /** @return {posts, comments, maxDepth} */
+  private long[] postsAndComments(Connection c, PostColumns pc, Boards boards) throws SQLException {
+    SplittableRandom pr = new SplittableRandom(p.getSeed() * 31 + 3);
+    SplittableRandom cr = new SplittableRandom(p.getSeed() * 31 + 4);
+    String[] commentUuids = new String[64];
+    int[] depths = new int[64];
+    int maxDepthSeen = 0;
+
+    try (MultiRowInserter posts = new MultiRowInserter(c, pc.table, pc.columns(), p.getBatchRows());
+         MultiRowInserter comments = new MultiRowInserter(c, "`comment`",
+             List.of("uuid", "post_uuid", "parent_uuid", "depth", "author_id", "content", "status",
+                 "created_at", "updated_at"), p.getBatchRows())) {
+      for (int i = 1; i <= p.getPosts(); i++) {
+        int b = boards.sample(pr);
+        LocalDateTime created = EPOCH.plusSeconds((long) i * POST_SPACING_SECONDS + pr.nextInt(POST_SPACING_SECONDS));
+        String postUuid = uuid(pr, created);
+        Timestamp ts = Timestamp.valueOf(created);
+        List<Object> row = new ArrayList<>(8);
+        row.add(postUuid);
+        row.add(pc.boardIsUuid ? boards.uuids[b] : boards.codes[b]);
+        row.add("합성 글 #" + i + " " + sentence(pr, 2, 6));
+        row.add(sentence(pr, 10, 120));
+        if (pc.writer != null) row.add(userId(skewedUser(pr)));
+        if (pc.createdAt != null) row.add(ts);
+        if (pc.updatedAt != null) row.add(ts);
+        posts.add(row.toArray());
+
+        // 댓글 수: 평균 comments-per-post 인 지수 분포, 소수 인기 글은 폭증
+        int k = (int) (-Math.log(1.0 - cr.nextDouble()) * p.getCommentsPerPost());
+        if (cr.nextDouble() < HOT_POST_RATIO) k *= HOT_POST_FACTOR;
+        if (k > commentUuids.length) {
+          commentUuids = Arrays.copyOf(commentUuids, Integer.highestOneBit(k) << 1);
+          depths = Arrays.copyOf(depths, commentUuids.length);
+        }
+        for (int j = 0; j < k; j++) {
+          int parent = -1;
+          if (j > 0 && cr.nextDouble() < p.getReplyRatio()) {
+            int back = 0;                                            // 최근 댓글일수록 답글이 달릴 확률↑ → 깊은 사슬
+            while (back < j - 1 && cr.nextBoolean()) back++;
+            parent = j - 1 - back;
+            if (depths[parent] + 1 > p.getMaxDepth()) parent = -1;
+          }
+          LocalDateTime commented = created.plusSeconds(60L * (j + 1) + cr.nextInt(60));
+          Timestamp cts = Timestamp.valueOf(commented);
+          commentUuids[j] = uuid(cr, commented);
+          depths[j] = parent < 0 ? 0 : depths[parent] + 1;
+          maxDepthSeen = Math.max(maxDepthSeen, depths[j]);
+          comments.add(commentUuids[j], postUuid, parent < 0 ? null : commentUuids[parent], depths[j],
+              userId(skewedUser(cr)), sentence(cr, 1, 30), "PUBLISHED", cts, cts);
+        }
+        counted(c, 1 + k);
+      }
+      posts.flush();
+      comments.flush();
+      return new long[] { posts.total(), comments.total(), maxDepthSeen };
+    }
+  }
+
+  /* ----------------------- 보조 ----------------------- */
+
+  /** 적재한 테이블의 데이터/인덱스 크기(InnoDB 통계 기반 근사치) — information_schema 에 크기 컬럼이 없는 DB(H2 등)는 건너뜀 */
+  private void logTableSizes(Connection c, String postTable) {
+    String sql = "SELECT table_name, table_rows, data_length, index_length FROM information_schema.tables "
+        + "WHERE table_schema = DATABASE() AND table_name IN ('users', 'users_roles', 'board', ?, 'comment')";
+    try (PreparedStatement ps = c.prepareStatement(sql)) {
+      ps.setString(1, postTable.replace("`", ""));
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          log.info("datagen size {}: ~{} rows, data {} MB, index {} MB", rs.getString(1), rs.getLong(2),
+              rs.getLong(3) >> 20, rs.getLong(4) >> 20);
+        }
+      }
+    } catch (SQLException e) {
+      log.debug("datagen size report skipped: {}", e.toString());
+    }
+  }
+
+  /** 추가한 행 수 누적 → commit-rows 마다 커밋 + 진행 로그(아직 버퍼에 있는 행은 다음 커밋에 포함) */
+  private void counted(Connection c, int n) throws SQLException {
+    rowsAdded += n;
+    sinceCommit += n;
+    if (sinceCommit < p.getCommitRows()) return;
+    c.commit();
+    sinceCommit = 0;
+    log.info("datagen progress rows={}", rowsAdded);
+  }
+
+  static String userId(int i) {
+    return String.format("u%07d", i);
+  }
+
+  /** 사용자 편향: 앞쪽 사용자가 글/댓글 대부분을 씀(u^3 분포) */
+  private int skewedUser(SplittableRandom r) {
+    double u = r.nextDouble();
+    return 1 + (int) (u * u * u * Math.max(1, p.getUsers()));
+  }
+
+  /** ordered: 생성 시각 + 난수 → UUID v7, random: 난수 128비트 → 버전 4 형식 UUID 문자열 */
+  private String uuid(SplittableRandom r, LocalDateTime at) {
+    if (orderedIds) return TimeOrderedIdGenerator.uuidV7(Timestamp.valueOf(at).getTime(), r.nextInt(), r.nextLong());
+    long hi = (r.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    long lo = (r.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(hi, lo).toString();
+  }
+
+  private static String sentence(SplittableRandom r, int minWords, int maxWords) {
+    int n = minWords + r.nextInt(maxWords - minWords + 1);
+    StringBuilder sb = new StringBuilder(n * 4);
+    for (int i = 0; i < n; i++) {
+      if (i > 0) sb.append(' ');
+      sb.append(WORDS[r.nextInt(WORDS.length)]);
+    }
+    return sb.toString();
+  }
+
+  /** 게시글 테이블 컬럼 탐지(PostDao.ensurePostResolved 와 같은 후보 순서) */
+  private record PostColumns(String table, String board, boolean boardIsUuid, String title, String content,
+                             String writer, String createdAt, String updatedAt) {
+
+    static PostColumns detect(DatabaseMetaData md) throws SQLException {
+      String table = null;
+      for (String t : List.of("post", "posts")) {
+        if (!listColumns(md, t).isEmpty()) { table = t; break; }
+      }
+      if (table == null) throw new IllegalStateException("게시판 테이블(post|posts)을 찾을 수 없습니다.");
+      Set<String> cols = listColumns(md, table);
+      String id = pick(cols, "post_id", "id", "uuid");
+      if (!"uuid".equals(id)) throw new IllegalStateException("datagen 은 uuid PK 게시글 스키마만 지원합니다: " + id);
+      String board = pick(cols, "board_code", "board_uuid", "boardcd", "board");
+      return new PostColumns(table, board, "board_uuid".equals(board), pick(cols, "title"),
+          pick(cols, "content", "contents", "body"), pick(cols, "writer_id", "author_id"),
+          pick(cols, "created_at", "write_dt", "createdat"), pick(cols, "updated_at", "update_dt", "updatedat"));
+    }
+
+    List<String> columns() {
+      List<String> c = new ArrayList<>(List.of("uuid", board, title, content));
+      if (writer != null) c.add(writer);
+      if (createdAt != null) c.add(createdAt);
+      if (updatedAt != null) c.add(updatedAt);
+      return c;
+    }
+  }
+
+  private static Set<String> listColumns(DatabaseMetaData md, String table) throws SQLException {
+    Set<String> cols = new HashSet<>();
+    for (String t : List.of(table, table.toUpperCase())) {
+      try (ResultSet rs = md.getColumns(null, null, t, "%")) {
+        while (rs.next()) cols.add(rs.getString("COLUMN_NAME").toLowerCase());
+      }
+      if (!cols.isEmpty()) break;
+    }
+    return cols;
+  }
+
+  private static String pick(Set<String> cols, String... cands) {
+    for (String c : cands) if (cols.contains(c)) return c;
+    return null;
+  }
+}
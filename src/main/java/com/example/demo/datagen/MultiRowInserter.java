@@ -0,0 +1,80 @@
+// src/main/java/com/example/demo/datagen/MultiRowInserter.java
+package com.example.demo.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * multi-row INSERT 버퍼: INSERT INTO t (a,b) VALUES (?,?),(?,?),... 를 rowsPerStatement 행씩 실행
+ *
+ * - 가득 찬 문장은 PreparedStatement 1개를 재사용(파싱 1회), 마지막 자투리만 별도 문장
+ * - 커밋은 호출자(DataGenerator)가 전체 행 수 기준으로 수행
+ */
+final class MultiRowInserter implements AutoCloseable {
+
+  private final Connection conn;
+  private final String head;                                         // "INSERT INTO t (a, b) VALUES "
+  private final String tuple;                                        // "(?, ?)"
+  private final int width;
+  private final int rowsPerStatement;
+  private final Object[] buf;
+  private int rows;
+  private long total;
+  private PreparedStatement full;
+
+  MultiRowInserter(Connection conn, String table, List<String> columns, int rowsPerStatement) {
+    this.conn = conn;
+    this.head = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+    this.tuple = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    this.width = columns.size();
+    this.rowsPerStatement = Math.max(1, rowsPerStatement);
+    this.buf = new Object[width * this.rowsPerStatement];
+  }
+
+  /** 한 행 추가(값 개수 = 컬럼 수) — 버퍼가 차면 즉시 실행 */
+  void add(Object... values) throws SQLException {
+    if (values.length != width) throw new IllegalArgumentException("expected " + width + " values, got " + values.length);
+    System.arraycopy(values, 0, buf, rows * width, width);
+    if (++rows == rowsPerStatement) {
+      if (full == null) full = conn.prepareStatement(sql(rowsPerStatement));
+      execute(full, rows);
+    }
+  }
+
+  /** 남은 행 실행(커밋 전 호출) */
+  void flush() throws SQLException {
+    if (rows == 0) return;
+    try (PreparedStatement ps = conn.prepareStatement(sql(rows))) {
+      execute(ps, rows);
+    }
+  }
+
+  long total() {
+    return total;
+  }
+
+  private void execute(PreparedStatement ps, int n) throws SQLException {
+    for (int i = 0; i < n * width; i++) ps.setObject(i + 1, buf[i]);
+    ps.executeUpdate();
+    total += n;
+    rows = 0;
+  }
+
+  private String sql(int n) {
+    StringBuilder sb = new StringBuilder(head.length() + n * (tuple.length() + 1));
+    sb.append(head);
+    for (int i = 0; i < n; i++) {
+      if (i > 0) sb.append(',');
+      sb.append(tuple);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (full != null) full.close();
+  }
+}
@@ -3,6 +3,8 @@ package com.example.demo.dto;                           // DTO 패키지 위치
 
 import java.time.LocalDateTime;                         // 생성/수정 시각 표현용
 
+import com.example.demo.dao.support.BodyCodec;          // 압축 저장된 본문 풀기
+
 /**
  * 댓글 DTO (UUID 기반 스키마 + 레거시 스키마 동시 호환)
  *
@@ -38,7 +40,8 @@ public class CommentDto {
     /** 작성자 표시명 (현재 스키마에 별도 컬럼 없으면 writerId를 재사용) */
     private String writerName;                           // 화면에 표시할 이름(별도 컬럼 없으면 writerId 재사용 가능)
     /** 본문 내용 */
-    private String content;                              // 댓글 텍스트
+    private volatile String content;                     // 댓글 텍스트
+    private volatile String storedContent;               // DB 저장값(압축일 수 있음) — getContent() 첫 호출 때 풀기(공유 DTO 라 volatile)
     /** 상태(PUBLISHED, HIDDEN 등) — 스키마에 있으면 사용 */
     private String status;                               // 노출 상태(스키마 지원 시)
     /** 작성 시각 */
@@ -72,7 +75,14 @@ public class CommentDto {
 
     public String getWriterId() { return writerId; }     // 작성자 ID 읽기
     public String getWriterName() { return writerName; } // 작성자 표시명 읽기
-    public String getContent() { return content; }       // 본문 읽기
+    public String getContent() {                         // 본문 읽기(필요할 때만 압축 해제)
+        String stored = storedContent;
+        if (stored == null) return content;
+        String c = BodyCodec.decode(stored);
+        content = c;
+        storedContent = null;
+        return c;
+    }
     public String getStatus() { return status; }         // 상태 읽기
     public LocalDateTime getCreatedAt() { return createdAt; } // 생성시각 읽기
     public LocalDateTime getUpdatedAt() { return updatedAt; } // 수정시각 읽기
@@ -89,7 +99,9 @@ public class CommentDto {
 
     public void setWriterId(String writerId) { this.writerId = writerId; }       // 작성자 ID 쓰기
     public void setWriterName(String writerName) { this.writerName = writerName; } // 표시명 쓰기
-    public void setContent(String content) { this.content = content; }           // 본문 쓰기
+    public void setContent(String content) { this.content = content; this.storedContent = null; } // 본문 쓰기
+    /** DAO 전용: DB 저장값을 그대로 받아 두고 읽을 때 푼다(setter 이름이 아니라 JSON 바인딩 대상 아님) */
+    public void loadContent(String stored) { this.content = null; this.storedContent = stored; }
     public void setStatus(String status) { this.status = status; }               // 상태 쓰기
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; } // 생성시각 쓰기
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; } // 수정시각 쓰기
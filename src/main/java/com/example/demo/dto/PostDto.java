@@ -4,6 +4,8 @@ package com.example.demo.dto;                                      // DTO 클래
 
 import java.time.LocalDateTime;                                    // 생성/수정 시각 표현용 타입(java.time)
 
+import com.example.demo.dao.support.BodyCodec;                     // 압축 저장된 본문 풀기
+
 /**
  * 게시글 데이터 전송 객체(DTO)
  * - 숫자 PK(post_id 등)와 문자열/UUID PK 모두를 **동시에 호환**하도록 설계
@@ -21,7 +23,9 @@ public class PostDto {                                             // 게시글
     private String boardCode;                                      // 게시판 식별 코드(또는 매핑된 값)
 
     private String title;                                          // 제목
-    private String content;                                        // 본문(텍스트/HTML/마크다운 등)
+    private volatile String content;                               // 본문(텍스트/HTML/마크다운 등)
+    private volatile String storedContent;                         // DB 저장값(압축일 수 있음) — getContent() 첫 호출 때 풀기
+                                                                   // (합쳐진 조회는 한 DTO 를 여러 요청이 공유 → volatile)
 
     private String writerId;                                       // 작성자 ID(로그인 ID/이메일 등)
     private String writerName;                                     // 작성자 표시명(닉네임 등)
@@ -59,8 +63,17 @@ public class PostDto {                                             // 게시글
     public String getTitle() { return title; }                     // title 게터
     public void setTitle(String title) { this.title = title; }     // title 세터
 
-    public String getContent() { return content; }                 // content 게터
-    public void setContent(String content) { this.content = content; } // content 세터
+    public String getContent() {                                   // content 게터(필요할 때만 압축 해제)
+        String stored = storedContent;
+        if (stored == null) return content;
+        String c = BodyCodec.decode(stored);
+        content = c;
+        storedContent = null;
+        return c;
+    }
+    public void setContent(String content) { this.content = content; this.storedContent = null; } // content 세터
+    /** DAO 전용: DB 저장값을 그대로 받아 두고 읽을 때 푼다(setter 이름이 아니라 JSON 바인딩 대상 아님) */
+    public void loadContent(String stored) { this.content = null; this.storedContent = stored; }
 
     public String getWriterId() { return writerId; }               // writerId 게터
     public void setWriterId(String writerId) { this.writerId = writerId; } // writerId 세터
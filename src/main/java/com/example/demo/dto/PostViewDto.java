@@ -0,0 +1,32 @@
+// src/main/java/com/example/demo/dto/PostViewDto.java
+
+package com.example.demo.dto;                               // DTO 클래스가 속한 패키지
+
+import java.util.List;
+
+import com.example.demo.dao.AttachmentDao.Attachment;       // 첨부 메타데이터 행
+
+/**
+ * 글 열기 묶음 응답(GET /api/posts/{id}/view) — 글 + 첫 댓글 묶음 + 첨부 목록을 요청 한 번으로
+ *  - comments     : 댓글 목록 앞쪽 최대 N 건(정렬은 /api/posts/{id}/comments 와 같음)
+ *  - commentTotal : 전체 댓글 수(comments 보다 크면 나머지는 기존 댓글 목록 API 로 받음)
+ */
+public class PostViewDto {
+
+  private final PostDto post;
+  private final List<CommentDto> comments;
+  private final int commentTotal;
+  private final List<Attachment> attachments;
+
+  public PostViewDto(PostDto post, List<CommentDto> comments, int commentTotal, List<Attachment> attachments) {
+    this.post = post;
+    this.comments = comments;
+    this.commentTotal = commentTotal;
+    this.attachments = attachments;
+  }
+
+  public PostDto getPost() { return post; }
+  public List<CommentDto> getComments() { return comments; }
+  public int getCommentTotal() { return commentTotal; }
+  public List<Attachment> getAttachments() { return attachments; }
+}
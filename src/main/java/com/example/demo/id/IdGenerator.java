@@ -0,0 +1,15 @@
+// src/main/java/com/example/demo/id/IdGenerator.java
+package com.example.demo.id;
+
+/**
+ * 새 행의 기본키 생성기 (IdConfig 에서 app.ids.strategy 로 구현 선택)
+ *
+ * - uuid()    : 36자 UUID 문자열 — post.uuid / comment.uuid (CHAR(36))
+ * - shortId() : 16자 — users.user_id (UserServiceImpl.create, 스키마 VARCHAR(16) 기준)
+ */
+public interface IdGenerator {
+
+  String uuid();
+
+  String shortId();
+}
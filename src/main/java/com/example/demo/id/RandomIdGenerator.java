@@ -0,0 +1,21 @@
+// src/main/java/com/example/demo/id/RandomIdGenerator.java
+package com.example.demo.id;
+
+import java.util.UUID;
+
+/**
+ * 예전 방식: 랜덤 UUID(v4), 사용자 아이디는 그 앞 16자(hex)
+ * app.ids.strategy=random — 비교 측정이나 되돌리기용
+ */
+public class RandomIdGenerator implements IdGenerator {
+
+  @Override
+  public String uuid() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Override
+  public String shortId() {
+    return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+  }
+}
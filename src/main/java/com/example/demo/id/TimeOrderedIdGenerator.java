@@ -0,0 +1,70 @@
+// src/main/java/com/example/demo/id/TimeOrderedIdGenerator.java
+package com.example.demo.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 기본키 (app.ids.strategy=ordered, 기본)
+ *
+ * 랜덤 UUID(v4) 는 InnoDB 클러스터 인덱스(PK) 아무 곳에나 끼어들어 페이지 분할/캐시 미스를 만들고,
+ * PK 를 품는 보조 인덱스까지 부풀린다. 여기서는 앞자리가 생성 시각이라 새 행이 항상 인덱스 오른쪽 끝에 붙는다.
+ *
+ * - 틱 = (epoch ms << 12) | 순번 — 같은 ms 안에서는 순번 증가, 시계가 뒤로 가도 직전 틱 + 1 → 프로세스 안에서 단조 증가
+ * - uuid()    : UUID v7(RFC 9562) — 48비트 ms + rand_a 자리에 12비트 순번 + 62비트 난수, 36자 소문자 hex
+ * - shortId() : 80비트 = 틱 60비트 + 노드 10비트 + 난수 10비트 → Crockford base32 16자(소문자)
+ *               노드 비트로 여러 인스턴스가 같은 틱을 내도 겹치지 않음(Snowflake 방식)
+ * 두 형식 모두 문자열 정렬 순서 = 생성 순서(대소문자 무시 컬레이션에서도 동일).
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+  public static final int MAX_NODE = (1 << 10) - 1;
+
+  private static final int SEQ_BITS = 12;
+  private static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+  private static final char[] BASE32 = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray(); // Crockford(I L O U 제외)
+
+  private final AtomicLong last = new AtomicLong();                  // 마지막으로 낸 틱
+  private final long node;
+  private final LongSupplier clock;
+
+  public TimeOrderedIdGenerator(int node) {
+    this(node, System::currentTimeMillis);
+  }
+
+  TimeOrderedIdGenerator(int node, LongSupplier clock) {
+    if (node < 0 || node > MAX_NODE) throw new IllegalArgumentException("node 는 0~" + MAX_NODE + ": " + node);
+    this.node = node;
+    this.clock = clock;
+  }
+
+  @Override
+  public String uuid() {
+    long tick = nextTick();
+    return uuidV7(tick >>> SEQ_BITS, tick & SEQ_MASK, ThreadLocalRandom.current().nextLong());
+  }
+
+  @Override
+  public String shortId() {
+    long tick = nextTick();
+    long tail = (node << 10) | ThreadLocalRandom.current().nextInt(1 << 10);
+    char[] out = new char[16];
+    for (int i = 11; i >= 0; i--, tick >>>= 5) out[i] = BASE32[(int) (tick & 31)];   // 앞 12자 = 틱 60비트
+    for (int i = 15; i >= 12; i--, tail >>>= 5) out[i] = BASE32[(int) (tail & 31)];  // 뒤 4자 = 노드 + 난수
+    return new String(out);
+  }
+
+  /** 다음 틱 — 시계 기준값과 직전 틱 + 1 중 큰 값(한 ms 에 4096개를 넘기면 다음 ms 를 미리 씀) */
+  private long nextTick() {
+    return last.accumulateAndGet(clock.getAsLong() << SEQ_BITS, (prev, now) -> Math.max(now, prev + 1));
+  }
+
+  /** UUID v7 문자열 (datagen 이 행의 created_at 으로 같은 형식의 키를 만들 때도 사용) */
+  public static String uuidV7(long millis, long randA, long randB) {
+    long hi = (millis << 16) | 0x7000L | (randA & 0xFFFL);           // ver = 7
+    long lo = (randB & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;  // variant = 10
+    return new UUID(hi, lo).toString();
+  }
+}
@@ -0,0 +1,80 @@
+// src/main/java/com/example/demo/logging/SamplingTurboFilter.java
+package com.example.demo.logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 로거별 로그 샘플링 (logback-spring.xml 에서 등록, 규칙은 app.logging.sampling)
+ *
+ * 규칙: "로거(접두사)=비율" 을 쉼표로 나열. 예) com.example.demo.dao.support.SlowQueryDataSource=0.1,org.springframework.security=0.01
+ *   - 가장 긴 접두사 규칙이 적용, 비율 0.1 = 10% 만 남김
+ *   - ERROR 는 샘플링하지 않음(항상 기록)
+ * TurboFilter 는 이벤트 객체를 만들기 전에 호출되므로 버려지는 로그는 포맷/할당 비용이 없다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+  private static final LongAdder DROPPED = new LongAdder();
+  private static final double NO_RULE = 2.0;                         // 규칙 없음(항상 통과)
+
+  private record Rule(String prefix, double rate) {}
+
+  private final List<Rule> rules = new ArrayList<>();
+  private final Map<String, Double> byLogger = new ConcurrentHashMap<>(); // 로거 이름 → 적용 비율(규칙 검색 1회)
+
+  /** logback <rules> 값 */
+  public void setRules(String spec) {
+    rules.clear();
+    byLogger.clear();
+    if (spec == null) return;
+    for (String item : spec.split(",")) {
+      int eq = item.indexOf('=');
+      if (eq <= 0) continue;
+      try {
+        double rate = Double.parseDouble(item.substring(eq + 1).trim());
+        rules.add(new Rule(item.substring(0, eq).trim(), Math.max(0, Math.min(1, rate))));
+      } catch (NumberFormatException e) {
+        addWarn("잘못된 샘플링 규칙 무시: " + item);
+      }
+    }
+    rules.sort(Comparator.comparingInt((Rule r) -> r.prefix().length()).reversed());
+  }
+
+  /** 샘플링으로 버린 로그 수(기동 후 누적) — MetricsConfig 지표 */
+  public static long dropped() {
+    return DROPPED.sum();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (rules.isEmpty() || level == null || level.levelInt >= Level.ERROR_INT) return FilterReply.NEUTRAL;
+    if (format == null) return FilterReply.NEUTRAL;                   // isDebugEnabled() 등 레벨 확인 — 실제 기록 호출에서만 샘플링(중복 적용 방지)
+    if (level.levelInt < logger.getEffectiveLevel().levelInt) return FilterReply.NEUTRAL; // 어차피 레벨에서 걸러짐
+    double rate = byLogger.computeIfAbsent(logger.getName(), this::rateFor);
+    if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) return FilterReply.NEUTRAL;
+    DROPPED.increment();
+    return FilterReply.DENY;
+  }
+
+  private double rateFor(String name) {
+    for (Rule r : rules) {
+      if (name.startsWith(r.prefix())
+          && (name.length() == r.prefix().length() || name.charAt(r.prefix().length()) == '.')) {
+        return r.rate();
+      }
+    }
+    return NO_RULE;
+  }
+}
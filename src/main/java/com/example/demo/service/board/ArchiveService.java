@@ -0,0 +1,156 @@
+// src/main/java/com/example/demo/service/board/ArchiveService.java
+
+package com.example.demo.service.board;                              // 게시판 관련 서비스 패키지
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.CommentDao;
+import com.example.demo.dao.PostDao;
+import com.example.demo.dao.support.ArchiveTables;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 오래된 글/댓글 보관 (백그라운드) — post → post_archive, `comment` → comment_archive
+ *
+ * - interval 마다(또는 POST /api/admin/archive/run) 작성일이 older-than 보다 오래된 글을 batch-size 개씩 골라
+ *     1) 그 글들의 댓글을 batch-size 건씩 보관 테이블로 옮기고
+ *     2) 글을 옮긴다(글마다 잠금 → 복사 → 삭제가 한 트랜잭션, ArchiveTables.move)
+ *   배치 사이 pause 만큼 쉬어 다른 쓰기에 양보한다. 중간에 끊겨도 글이 아직 hot 에 있으므로 다음 회차에 이어서 처리.
+ * - 읽기는 DAO 가 알아서 보관 테이블로 대체한다(단건/일괄 조회는 hot 에 없을 때, 목록은 hot 글 뒤에 이어서,
+ *   댓글은 두 테이블을 함께). 보관된 글/댓글을 수정·삭제하면 hot 으로 되돌린 뒤 처리 → 다음 회차에 다시 보관.
+ * - 보관 대상 조회용 인덱스 권장: post(created_at)
+ * - 진행 현황: GET /api/admin/archive
+ */
+@Service
+public class ArchiveService {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+  /** 관리자 진행 현황 */
+  public record Status(boolean enabled, boolean running, Duration olderThan,
+                       LocalDateTime lastStartedAt, LocalDateTime lastFinishedAt,
+                       long lastRunPosts, long lastRunComments, long totalPosts, long totalComments,
+                       String lastError) {}
+
+  private final PostDao postDao;
+  private final CommentDao commentDao;
+  private final ArchiveTables archive;
+  private final Duration olderThan;
+  private final int batchSize;
+  private final long pauseMillis;
+  private final Duration interval;                                   // 회차 주기(0 이면 수동 실행만)
+  private final ScheduledExecutorService worker;                     // 보관 전용 스레드(한 번에 한 회차)
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private final LongAdder totalPosts = new LongAdder();
+  private final LongAdder totalComments = new LongAdder();
+  private volatile LocalDateTime lastStartedAt;
+  private volatile LocalDateTime lastFinishedAt;
+  private volatile long lastRunPosts;
+  private volatile long lastRunComments;
+  private volatile String lastError;
+
+  public ArchiveService(PostDao postDao, CommentDao commentDao, ArchiveTables archive,
+                        @Value("${app.archive.older-than:180d}") Duration olderThan,
+                        @Value("${app.archive.batch-size:200}") int batchSize,
+                        @Value("${app.archive.pause:50ms}") Duration pause,
+                        @Value("${app.archive.interval:1h}") Duration interval) {
+    this.postDao = postDao;
+    this.commentDao = commentDao;
+    this.archive = archive;
+    this.olderThan = olderThan;
+    this.batchSize = Math.max(1, batchSize);
+    this.pauseMillis = Math.max(0, pause.toMillis());
+    this.interval = interval;
+    this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "archive");
+      t.setDaemon(true);                                             // 종료를 막지 않도록(끊긴 회차는 다음 회차에 이어서)
+      return t;
+    });
+  }
+
+  @PostConstruct
+  void start() {
+    if (archive.enabled() && !interval.isZero() && !interval.isNegative()) {
+      worker.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** 지금 한 회차 실행(이미 도는 중이면 그 회차가 끝까지 처리) — 보관을 안 쓰면 false */
+  public boolean trigger() {
+    if (!archive.enabled()) return false;
+    worker.execute(this::run);
+    return true;
+  }
+
+  public Status status() {
+    return new Status(archive.enabled(), running.get(), olderThan, lastStartedAt, lastFinishedAt,
+        lastRunPosts, lastRunComments, totalPosts.sum(), totalComments.sum(), lastError);
+  }
+
+  /** 한 회차: 기준보다 오래된 글이 없을 때까지 배치로 옮김(처음부터 다시 돌려도 안전) */
+  void run() {
+    if (!running.compareAndSet(false, true)) return;
+    long t0 = System.nanoTime();
+    long posts = 0;
+    long comments = 0;
+    lastStartedAt = LocalDateTime.now();
+    lastError = null;
+    try {
+      LocalDateTime cutoff = LocalDateTime.now().minus(olderThan);
+      while (true) {
+        List<String> keys = postDao.findArchivableKeys(cutoff, batchSize);
+        if (keys.isEmpty()) break;
+        int n;
+        do {                                                         // 인기 글은 댓글이 많으므로 댓글도 배치로
+          n = commentDao.archiveByPosts(keys, batchSize);
+          comments += n;
+          if (n > 0) pause();
+        } while (n == batchSize);
+        int moved = postDao.archive(keys);
+        posts += moved;
+        if (moved == 0) break;                                       // 고른 글을 못 옮김(동시 삭제 등) — 무한 반복 방지, 다음 회차에 다시
+        pause();
+      }
+      if (posts > 0 || comments > 0) {
+        log.info("archive: {} posts, {} comments moved in {}ms (older than {})", posts, comments,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0), olderThan);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();                            // 종료 중 — 다음 기동 후 회차에서 이어서
+    } catch (RuntimeException e) {
+      lastError = e.toString();
+      log.warn("archive 회차 실패(다음 회차에 재시도): {}", e.toString());
+    } finally {
+      totalPosts.add(posts);
+      totalComments.add(comments);
+      lastRunPosts = posts;
+      lastRunComments = comments;
+      lastFinishedAt = LocalDateTime.now();
+      running.set(false);
+    }
+  }
+
+  private void pause() throws InterruptedException {
+    if (pauseMillis > 0) Thread.sleep(pauseMillis);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+}
@@ -0,0 +1,247 @@
+// src/main/java/com/example/demo/service/board/AttachmentService.java
+
+package com.example.demo.service.board;                              // 게시판 관련 서비스 패키지
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.demo.dao.AttachmentDao;
+import com.example.demo.dao.AttachmentDao.Attachment;
+import com.example.demo.id.IdGenerator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 게시글 첨부파일 — 로컬 내용 주소(content-addressed) 저장소 + 메타데이터(AttachmentDao)
+ *
+ * - 저장 위치: app.attachments.dir/ab/cd/<sha256> (파일명 = 내용 해시 → 같은 파일은 한 번만 저장)
+ * - 업로드: 멀티파트 파트는 Undertow 가 임시 파일로 받는다(spring.servlet.multipart.file-size-threshold=0, 힙에 안 올림)
+ *     1) 임시 파일을 64KB 버퍼로 읽으며 SHA-256 계산
+ *     2) 이미 있는 해시면 파일은 그대로(수정 시각만 갱신), 없으면 파트를 tmp 로 옮긴 뒤(같은 파일시스템이면 rename) 제자리로 이동
+ * - 다운로드는 BoardController 가 path() 의 파일을 sendfile 로 보낸다(ZeroCopyFileSender).
+ * - 정리: 글 삭제(PostChangedEvent DELETED) / 첨부 삭제 시 행을 지우고, 더 이상 참조가 없는 파일만 지운다.
+ *   방금 같은 내용을 올리는 중인 업로드와 겹치지 않도록 최근 grace 안에 쓰인(갱신된) 파일은 남긴다.
+ *   그래서 grace 안에 지워진 파일, 업로드 도중 죽어 남은 tmp/ 파일은 sweep-interval 마다 저장소 전체를 훑어 지운다.
+ */
+@Service
+public class AttachmentService {
+
+  private static final Logger log = LoggerFactory.getLogger(AttachmentService.class);
+
+  private static final int MAX_FILENAME = 255;
+
+  private final AttachmentDao dao;
+  private final IdGenerator ids;
+  private final Path root;
+  private final int maxPerPost;
+  private final Duration grace;
+  private final Duration sweepInterval;
+  private final ScheduledExecutorService worker;                     // 저장소 전체 정리 전용 스레드
+
+  public AttachmentService(AttachmentDao dao, IdGenerator ids,
+                           @Value("${app.attachments.dir:./data/attachments}") String dir,
+                           @Value("${app.attachments.max-per-post:20}") int maxPerPost,
+                           @Value("${app.attachments.orphan-grace:10m}") Duration grace,
+                           @Value("${app.attachments.sweep-interval:1h}") Duration sweepInterval) {
+    this.dao = dao;
+    this.ids = ids;
+    this.root = Paths.get(dir).toAbsolutePath().normalize();
+    this.maxPerPost = Math.max(1, maxPerPost);
+    this.grace = grace;
+    this.sweepInterval = sweepInterval;
+    this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "attachment-sweep");
+      t.setDaemon(true);                                             // 종료를 막지 않도록(남은 파일은 다음 회차에)
+      return t;
+    });
+  }
+
+  @PostConstruct
+  void start() {
+    if (!sweepInterval.isZero() && !sweepInterval.isNegative()) {
+      worker.scheduleWithFixedDelay(this::sweepAll, sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** 글 한 개의 첨부 목록 */
+  public List<Attachment> list(String postKey) {
+    return dao.findByPost(postKey);
+  }
+
+  public Attachment find(String uuid) {
+    return dao.find(uuid);
+  }
+
+  /** 글에 더 올릴 수 있는 개수 */
+  public int remaining(String postKey) {
+    return Math.max(0, maxPerPost - list(postKey).size());
+  }
+
+  /** 파일 하나 저장 + 메타데이터 행 추가 */
+  public Attachment save(String postKey, String uploaderId, MultipartFile file) throws IOException {
+    long size = file.getSize();                                      // transferTo 로 옮긴 뒤에는 파트 크기를 못 읽음
+    String sha = sha256(file);
+    Path target = path(sha);
+    if (Files.exists(target)) {
+      Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis())); // 정리 유예(grace) 갱신
+    } else {
+      Files.createDirectories(target.getParent());
+      Path tmp = Files.createDirectories(root.resolve("tmp")).resolve(ids.uuid());
+      try {
+        file.transferTo(tmp.toFile());                               // Undertow: 임시 파일 rename(다른 파일시스템이면 복사)
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException raced) {                   // 같은 내용을 동시에 올림 — 먼저 온 쪽 파일 사용
+        log.debug("첨부 파일이 이미 있음: {}", sha);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    }
+
+    String uuid = ids.uuid();
+    dao.insert(new Attachment(uuid, postKey, sha, filename(file.getOriginalFilename()),
+        contentType(file.getContentType()), size, uploaderId, null));
+    return dao.find(uuid);
+  }
+
+  /** 첨부 한 건 삭제(참조 없는 파일 정리 포함) */
+  public boolean remove(Attachment a) {
+    if (dao.delete(a.uuid()) == 0) return false;
+    sweep(List.of(a.sha256()));
+    return true;
+  }
+
+  /** 내용 해시 → 저장소 파일 경로 */
+  public Path path(String sha256) {
+    return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+  }
+
+  /** 글이 지워지면 첨부 행/파일 정리(커밋 후, 트랜잭션 밖이면 즉시) */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent e) {
+    if (e.type() != PostChangedEvent.Type.DELETED || e.key() == null) return;
+    try {
+      sweep(dao.deleteByPost(e.key()));
+    } catch (DataAccessException ex) {
+      log.warn("삭제된 글의 첨부 정리 실패 key={}: {}", e.key(), ex.toString());
+    }
+  }
+
+  private void sweep(List<String> shas) {
+    long cutoff = System.currentTimeMillis() - grace.toMillis();
+    for (String sha : shas) sweepOne(sha, cutoff);
+  }
+
+  /** 참조가 없고 cutoff 전에 쓰인 파일이면 지움(지웠으면 true) */
+  private boolean sweepOne(String sha, long cutoff) {
+    if (dao.isReferenced(sha)) return false;                         // 다른 글/첨부가 같은 파일을 씀
+    Path p = path(sha);
+    try {
+      if (Files.exists(p) && Files.getLastModifiedTime(p).toMillis() < cutoff) {
+        Files.delete(p);
+        return true;
+      }
+    } catch (IOException ex) {
+      log.warn("첨부 파일 삭제 실패 {}: {}", p, ex.toString());
+    }
+    return false;
+  }
+
+  /** 저장소 전체 정리 — 참조 없는 내용 파일 + tmp/ 에 남은 파일, 둘 다 grace 보다 오래된 것만. 지운 파일 수 반환 */
+  int sweepAll() {
+    long cutoff = System.currentTimeMillis() - grace.toMillis();
+    Path tmpDir = root.resolve("tmp");
+    List<String> candidates = new ArrayList<>();
+    int removed = 0;
+    try (Stream<Path> walk = Files.walk(root, 3)) {                  // root/ab/cd/<sha256>, root/tmp/<uuid>
+      for (Path p : (Iterable<Path>) walk::iterator) {
+        String name = p.getFileName().toString();
+        try {
+          if (!Files.isRegularFile(p) || Files.getLastModifiedTime(p).toMillis() >= cutoff) continue;
+          if (tmpDir.equals(p.getParent())) {                        // 업로드 도중 중단된 파일
+            if (Files.deleteIfExists(p)) removed++;
+          } else if (name.matches("[0-9a-f]{64}") && path(name).equals(p)) {
+            candidates.add(name);                                    // 참조 확인은 아래에서(DB)
+          }
+        } catch (IOException ex) {                                   // 그 사이 지워짐 등 — 이 파일만 건너뜀
+          log.debug("첨부 저장소 정리 건너뜀 {}: {}", p, ex.toString());
+        }
+      }
+    } catch (IOException | UncheckedIOException ex) {
+      log.warn("첨부 저장소 정리 중 파일을 읽지 못함 {}: {}", root, ex.toString());
+    }
+    try {
+      for (String sha : candidates) if (sweepOne(sha, cutoff)) removed++;
+    } catch (DataAccessException ex) {
+      log.warn("첨부 저장소 정리 실패(다음 회차에 다시): {}", ex.toString());
+    }
+    if (removed > 0) log.info("첨부 저장소 정리: 파일 {}개 삭제", removed);
+    return removed;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+
+  private static String sha256(MultipartFile file) throws IOException {
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);                            // JDK 필수 알고리즘
+    }
+    byte[] buf = new byte[64 * 1024];
+    try (InputStream in = file.getInputStream()) {
+      for (int n; (n = in.read(buf)) > 0; ) md.update(buf, 0, n);
+    }
+    return HexFormat.of().formatHex(md.digest());
+  }
+
+  /** 경로 부분/제어 문자를 뺀 파일명 */
+  static String filename(String original) {
+    String name = original == null ? "" : original;
+    name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+    name = name.replaceAll("[\\p{Cntrl}\"]", "_").strip();
+    if (name.isEmpty()) name = "file";
+    return name.length() > MAX_FILENAME ? name.substring(name.length() - MAX_FILENAME) : name;
+  }
+
+  /** 클라이언트가 보낸 형식(잘못되었으면 application/octet-stream) */
+  static String contentType(String given) {
+    if (given == null || given.length() > 100) return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    try {
+      MediaType t = MediaType.parseMediaType(given);
+      return t.isConcrete() ? t.toString() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    } catch (InvalidMediaTypeException e) {
+      return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+  }
+}
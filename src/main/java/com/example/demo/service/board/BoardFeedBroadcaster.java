@@ -0,0 +1,263 @@
+// src/main/java/com/example/demo/service/board/BoardFeedBroadcaster.java
+
+package com.example.demo.service.board;                              // 게시판 관련 서비스 패키지
+
+import java.io.IOException;                                          // SSE 전송 실패(연결 끊김 등)
+import java.util.ArrayDeque;                                         // 최근 이벤트 링 버퍼
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;                       // 게시판 코드 → 구독자 집합
+import java.util.concurrent.CopyOnWriteArraySet;                     // 구독자 집합(읽기 위주: 전송 순회가 대부분)
+import java.util.concurrent.ExecutorService;                         // 연결별 전송 스레드 풀
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;                // 하트비트 주기 스레드
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;                       // 단조 증가 이벤트 id
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;              // PostDao가 발행한 이벤트 수신
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // Server-Sent Events 응답 객체
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 게시판별 실시간 피드(SSE) 공용 브로드캐스터.
+ *
+ * - 구독: GET /api/boards/{code}/events → subscribe(code, lastEventId)
+ * - 발행: PostDao 쓰기 → PostChangedEvent → 해당 게시판 구독자에게 팬아웃
+ *         (boardCode 를 모르면 모든 구독자에게 전달)
+ * - 하트비트: 일정 주기로 SSE 주석(": hb")을 보내 프록시/LB 유휴 타임아웃 방지 + 끊긴 연결 정리
+ * - 재개: 최근 replaySize 개 이벤트를 링 버퍼에 보관 → Last-Event-ID 이후 이벤트를 재전송.
+ *         버퍼보다 오래된 id 로 재접속하면 "reset" 이벤트를 보내 목록 전체 재조회를 유도
+ *
+ * 전송: 연결마다 보낼 항목 큐(최대 max-pending)를 두고 senders 스레드 풀이 연결별로 순서대로 보낸다.
+ *   DAO 호출 스레드(요청 스레드)와 하트비트 스레드는 큐에 넣기만 하고 전송을 기다리지 않는다.
+ *   소켓 버퍼가 찬(멈춘) 연결은 전송 스레드 하나만 붙잡고, 큐가 넘치면 구독에서 빼고 닫는다
+ *   → 브라우저가 Last-Event-ID 로 재접속해 놓친 이벤트를 받는다.
+ *   멈춘 연결이 senders 개 이상이면 그 전송들이 오류/타임아웃으로 끝날 때까지 나머지 연결의 전송이 늦어진다.
+ * 재전송분 등록과 링 버퍼 기록은 같은 잠금(this) 안에서 하므로 구독 직후의 이벤트가 빠지거나 겹치지 않는다.
+ * 게시판 코드가 있는지는 호출 측(BoardController)이 확인하고, 마지막 연결이 끊긴 게시판은 맵에서 뺀다.
+ */
+@Service
+public class BoardFeedBroadcaster {
+
+  /** SSE data 로 직렬화되는 한 건의 이벤트 */
+  public record FeedEvent(long id, String type, String boardCode, String key) {}
+
+  private static final Supplier<SseEmitter.SseEventBuilder> CONNECTED = () -> SseEmitter.event().comment("connected");
+  private static final Supplier<SseEmitter.SseEventBuilder> HEARTBEAT = () -> SseEmitter.event().comment("hb");
+
+  private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>(); // 게시판 코드(대문자) → 연결들
+  private final Deque<FeedEvent> recent = new ArrayDeque<>();        // 최근 이벤트(재개용) — this 로 보호
+  private final AtomicLong seq = new AtomicLong();                   // 이벤트 id 발급기
+  private final ScheduledExecutorService worker;                     // 하트비트 주기 스레드
+  private final ExecutorService senders;                             // 연결별 전송(블로킹 send)
+
+  private final long heartbeatMs;
+  private final int replaySize;                                      // 링 버퍼 크기
+  private final long timeoutMs;                                      // SSE 연결 최대 유지 시간(만료 시 브라우저가 자동 재접속)
+  private final int maxPending;                                      // 연결 하나에 쌓아 둘 최대 항목 수
+
+  public BoardFeedBroadcaster(
+      @Value("${app.feed.heartbeat-ms:15000}") long heartbeatMs,
+      @Value("${app.feed.replay-size:256}") int replaySize,
+      @Value("${app.feed.timeout-ms:1800000}") long timeoutMs,
+      @Value("${app.feed.senders:4}") int senders,
+      @Value("${app.feed.max-pending:64}") int maxPending) {
+    this.heartbeatMs = heartbeatMs;
+    this.replaySize = Math.max(1, replaySize);
+    this.timeoutMs = timeoutMs;
+    this.maxPending = Math.max(1, maxPending);
+    this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "board-feed");
+      t.setDaemon(true);                                             // 종료를 막지 않도록 데몬 스레드
+      return t;
+    });
+    AtomicInteger n = new AtomicInteger();
+    this.senders = Executors.newFixedThreadPool(Math.max(1, senders), r -> {
+      Thread t = new Thread(r, "board-feed-send-" + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  @PostConstruct
+  void start() {
+    worker.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+  }
+
+  private static String norm(String boardCode) {                     // 게시판 코드 정규화(대소문자 무시)
+    return boardCode == null ? null : boardCode.trim().toUpperCase(Locale.ROOT);
+  }
+
+  /* ----------------------- 연결 ----------------------- */
+
+  /** 연결 하나 — 보낼 항목 큐(this 로 보호), 전송은 senders 에서 한 번에 하나씩 순서대로 */
+  private final class Subscriber {
+    final String code;
+    final SseEmitter emitter;
+    private final Deque<Supplier<SseEmitter.SseEventBuilder>> pending = new ArrayDeque<>(); // 빌더는 보낼 때 만듦(재사용 불가)
+    private boolean draining;                                        // senders 에서 drain 중
+    private boolean closed;
+
+    Subscriber(String code, SseEmitter emitter) {
+      this.code = code;
+      this.emitter = emitter;
+    }
+
+    void offer(Supplier<SseEmitter.SseEventBuilder> item) {
+      synchronized (this) {
+        if (closed) return;
+        if (pending.size() >= maxPending) {                          // 못 따라오는 연결 → 끊고 재접속(재전송)에 맡김
+          close();
+          return;
+        }
+        pending.addLast(item);
+        if (draining) return;
+        draining = true;
+      }
+      senders.execute(this::drain);
+    }
+
+    private void drain() {
+      while (true) {
+        Supplier<SseEmitter.SseEventBuilder> item;
+        synchronized (this) {
+          item = closed ? null : pending.pollFirst();
+          if (item == null) {
+            draining = false;
+            break;
+          }
+        }
+        try {
+          emitter.send(item.get());
+        } catch (IOException | IllegalStateException e) {            // 끊긴 연결 → 정리
+          close();
+          emitter.completeWithError(e);
+          return;
+        }
+      }
+      if (isClosed()) emitter.complete();                            // 큐가 넘쳐 닫힘 — 전송이 끝난 뒤에 응답 종료
+    }
+
+    private synchronized boolean isClosed() {
+      return closed;
+    }
+
+    /** 구독 해제(종료/타임아웃/오류/큐 넘침) — 집합이 비면 게시판 항목도 제거 */
+    void close() {
+      synchronized (this) {
+        if (closed) return;
+        closed = true;
+        pending.clear();
+      }
+      subscribers.computeIfPresent(code, (k, set) -> {
+        set.remove(this);
+        return set.isEmpty() ? null : set;
+      });
+    }
+  }
+
+  /* ----------------------- 구독 ----------------------- */
+
+  /**
+   * 게시판 구독 시작.
+   * @param lastEventId 브라우저 EventSource 가 재접속 시 보내는 Last-Event-ID(없으면 null)
+   */
+  public SseEmitter subscribe(String boardCode, String lastEventId) {
+    final String code = norm(boardCode);
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    Subscriber sub = new Subscriber(code, emitter);
+    emitter.onCompletion(sub::close);                                // 종료/타임아웃/오류 시 구독 해제
+    emitter.onTimeout(sub::close);
+    emitter.onError(e -> sub.close());
+
+    final Long lastId = parseId(lastEventId);
+    synchronized (this) {                                            // onPostChanged 와 같은 잠금: 재전송분 다음에 새 이벤트
+      if (lastId != null) replay(sub, code, lastId);
+      else sub.offer(CONNECTED);                                     // 응답 헤더를 즉시 플러시
+      subscribers.compute(code, (k, set) -> {
+        Set<Subscriber> s = set != null ? set : new CopyOnWriteArraySet<>();
+        s.add(sub);
+        return s;
+      });
+    }
+    return emitter;
+  }
+
+  private static Long parseId(String s) {
+    if (s == null || s.isBlank()) return null;
+    try { return Long.parseLong(s.trim()); } catch (NumberFormatException e) { return null; }
+  }
+
+  /** this 잠금 안에서 호출 */
+  private void replay(Subscriber sub, String code, long lastId) {
+    FeedEvent oldest = recent.peekFirst();
+    // 버퍼에 남은 가장 오래된 이벤트보다 더 이전 id 이거나, 서버 재시작으로 id 가 되돌아간 경우
+    if (lastId > seq.get() || (oldest != null && lastId < oldest.id() - 1)) {
+      String id = String.valueOf(seq.get());                         // 재개 불가 → 클라이언트가 목록 전체를 다시 읽도록
+      sub.offer(() -> SseEmitter.event().id(id).name("reset").data("{}"));
+      return;
+    }
+    for (FeedEvent e : recent) {
+      if (e.id() > lastId && (e.boardCode() == null || e.boardCode().equals(code))) sub.offer(() -> event(e));
+    }
+  }
+
+  /* ----------------------- 발행 ----------------------- */
+
+  /** PostDao 쓰기 이벤트 수신 → 링 버퍼 기록 + 구독자 큐에 넣음(전송은 senders) */
+  @EventListener
+  public void onPostChanged(PostChangedEvent ev) {
+    final String code = norm(ev.boardCode());
+    synchronized (this) {
+      FeedEvent fe = new FeedEvent(seq.incrementAndGet(), ev.type().name().toLowerCase(Locale.ROOT), code, ev.key());
+      recent.addLast(fe);
+      while (recent.size() > replaySize) recent.removeFirst();       // 고정 크기 유지
+      fanOut(fe);                                                    // 큐에 넣기만 하므로 잠금 안에서도 짧음
+    }
+  }
+
+  private void fanOut(FeedEvent fe) {
+    Supplier<SseEmitter.SseEventBuilder> item = () -> event(fe);
+    if (fe.boardCode() == null) {                                    // 게시판을 모르면 전 게시판에 전달
+      subscribers.values().forEach(set -> set.forEach(sub -> sub.offer(item)));
+    } else {
+      Set<Subscriber> set = subscribers.get(fe.boardCode());
+      if (set != null) set.forEach(sub -> sub.offer(item));
+    }
+  }
+
+  private static SseEmitter.SseEventBuilder event(FeedEvent fe) {
+    return SseEmitter.event()
+        .id(String.valueOf(fe.id()))                                 // Last-Event-ID 로 되돌아오는 값
+        .name(fe.type())                                             // created | updated | deleted
+        .data(fe, MediaType.APPLICATION_JSON);
+  }
+
+  /* ----------------------- 하트비트 ----------------------- */
+
+  private void sendHeartbeats() {
+    subscribers.values().forEach(set -> set.forEach(sub -> sub.offer(HEARTBEAT)));
+  }
+
+  /** 현재 연결 수(모니터링용) */
+  public int subscriberCount() {
+    return subscribers.values().stream().mapToInt(Set::size).sum();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+    senders.shutdownNow();
+    subscribers.values().forEach(set -> set.forEach(sub -> sub.emitter.complete()));
+    subscribers.clear();
+  }
+}
@@ -0,0 +1,213 @@
+// src/main/java/com/example/demo/service/board/BoardFrontPage.java
+
+package com.example.demo.service.board;                              // 게시판 관련 서비스 패키지
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;                       // 게시판 코드 → 스냅샷
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dao.PostDao;
+import com.example.demo.dto.PageDTO;
+import com.example.demo.dto.PostDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 게시판 첫 페이지 스냅샷 — GET /api/boards/{code}/posts?page=0 을 DB 없이 응답
+ *
+ * - 게시판마다 최신 depth(= sizes 중 최댓값) 개 글 + 전체 건수를 메모리에 두고,
+ *   app.front-page.sizes 의 각 크기로 직렬화한 PageDTO JSON(byte[])을 미리 만들어 둔다(불변, 요청은 바이트만 복사).
+ * - 갱신은 PostDao 가 발행한 PostChangedEvent 를 커밋 후 같은 스레드에서 반영 → 글쓴이의 바로 다음 목록 조회에 보인다.
+ *     CREATED : 새 글 한 건만 읽어 정렬 위치(목록과 같은 PK 내림차순)에 끼움, 건수 +1
+ *     UPDATED : 창 안의 글이면 그 글만 다시 읽어 교체
+ *     DELETED : 창 안의 글이면 빼고(창 밖에 글이 더 있으면 채우려고 다시 만듦), 건수 -1
+ *   이벤트가 이미 반영됐는지 창만 보고 알 수 없을 때(창 밖 글)는 건수만 다시 센다.
+ *   게시판별 갱신/재구성은 ConcurrentHashMap.compute 로 직렬화되고, 읽기는 잠금 없이 get 한 번.
+ * - max-age: 다른 인스턴스에서 쓴 글이나 이벤트 없이 바뀐 행(datagen 등)은 이 시간 안에 다시 만들어 반영.
+ * - sizes 에 없는 크기, 두 번째 페이지부터는 기존처럼 DB 조회(null 반환).
+ * - 글이 없는 게시판(없는 코드 포함)은 두지 않는다 — URL 에 아무 코드나 넣어 max-boards 를 채우지 못하게.
+ *   max-boards 가 차면 max-age 가 지난 스냅샷부터 비운다.
+ */
+@Service
+public class BoardFrontPage {
+
+  private static final Logger log = LoggerFactory.getLogger(BoardFrontPage.class);
+
+  /** 게시판 하나의 첫 페이지 — 만든 뒤로 바뀌지 않음(갱신 = 새 객체로 교체) */
+  private record Snapshot(List<PostDto> posts, long total, long builtAt, Map<Integer, byte[]> json) {}
+
+  private final PostDao postDao;
+  private final ObjectMapper mapper;                                 // MVC 응답과 같은 ObjectMapper → 같은 JSON
+  private final boolean enabled;
+  private final List<Integer> sizes;
+  private final int depth;
+  private final long maxAgeMillis;
+  private final int maxBoards;                                       // 게시판 수 상한(글이 있는 게시판만 들어옴)
+  private final Map<String, Snapshot> boards = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder rebuilds = new LongAdder();
+
+  public BoardFrontPage(PostDao postDao, ObjectMapper mapper,
+                        @Value("${app.front-page.enabled:true}") boolean enabled,
+                        @Value("${app.front-page.sizes:5,10,15,20}") List<Integer> sizes,
+                        @Value("${app.front-page.max-age:30s}") Duration maxAge,
+                        @Value("${app.front-page.max-boards:64}") int maxBoards) {
+    this.postDao = postDao;
+    this.mapper = mapper;
+    this.enabled = enabled && !sizes.isEmpty();
+    this.sizes = sizes.stream().filter(s -> s > 0).distinct().sorted().collect(Collectors.toUnmodifiableList());
+    this.depth = this.sizes.isEmpty() ? 0 : this.sizes.get(this.sizes.size() - 1);
+    this.maxAgeMillis = maxAge.toMillis();
+    this.maxBoards = Math.max(1, maxBoards);
+  }
+
+  /** 첫 페이지 JSON(PageDTO 직렬화 결과) — 스냅샷으로 답할 수 없으면 null */
+  public byte[] json(String code, int size) {
+    if (!enabled || code == null || !sizes.contains(size)) return null;
+    Snapshot s = boards.get(code);
+    if (s == null || expired(s)) {
+      if (s == null && boards.size() >= maxBoards) {
+        boards.values().removeIf(this::expired);                     // 오래된 것부터 자리 비움
+        if (boards.size() >= maxBoards) {
+          misses.increment();
+          return null;
+        }
+      }
+      Snapshot[] built = new Snapshot[1];
+      s = boards.compute(code, (k, cur) -> {                         // 같은 게시판 동시 요청은 한 번만 만듦
+        if (cur != null && !expired(cur)) return cur;
+        built[0] = build(k);
+        return built[0].total() > 0 ? built[0] : null;               // 빈 게시판/없는 코드는 맵에 남기지 않음
+      });
+      if (s == null) s = built[0];
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return s.json().get(size);
+  }
+
+  /** 커밋 후(트랜잭션 밖이면 즉시) 글 변경 반영 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent e) {
+    if (!enabled || boards.isEmpty()) return;
+    if (e.boardCode() == null || e.key() == null) {                  // 어느 게시판/글인지 모름 → 전부 다시 만들게 함
+      boards.clear();
+      return;
+    }
+    for (String code : boards.keySet()) {
+      if (!code.equalsIgnoreCase(e.boardCode())) continue;
+      boards.computeIfPresent(code, (k, cur) -> {
+        try {
+          return apply(k, cur, e);
+        } catch (DataAccessException ex) {
+          log.warn("첫 페이지 스냅샷 갱신 실패 board={} — 다음 요청에서 다시 만듦: {}", k, ex.toString());
+          return null;                                               // null = 항목 제거
+        }
+      });
+    }
+  }
+
+  public long hits() { return hits.sum(); }
+  public long misses() { return misses.sum(); }
+  public long rebuilds() { return rebuilds.sum(); }
+
+  /* ----------------------- 내부 ----------------------- */
+
+  private Snapshot apply(String code, Snapshot cur, PostChangedEvent e) {
+    List<PostDto> posts = cur.posts();
+    int at = indexOf(posts, e.key());
+    boolean complete = posts.size() < depth;                         // 창에 게시판 글이 전부 들어 있음
+
+    switch (e.type()) {
+      case CREATED -> {
+        if (at >= 0) return cur;                                     // 재구성 때 이미 읽힘
+        PostDto p = postDao.findOneByAnyId(e.key());
+        if (p == null) return cur;
+        if (complete || newer(p, posts.get(posts.size() - 1))) {
+          List<PostDto> next = new ArrayList<>(posts.size() + 1);
+          next.addAll(posts);
+          int pos = 0;
+          while (pos < next.size() && newer(next.get(pos), p)) pos++;
+          next.add(pos, p);
+          if (next.size() > depth) next.remove(next.size() - 1);
+          return snapshot(next, cur.total() + 1, cur.builtAt());
+        }
+        return snapshot(posts, postDao.countByBoard(code), cur.builtAt()); // 창 밖 — 반영 여부를 몰라 다시 셈
+      }
+      case UPDATED -> {
+        if (at < 0) return cur;
+        PostDto p = postDao.findOneByAnyId(e.key());
+        if (p == null) return build(code);
+        List<PostDto> next = new ArrayList<>(posts);
+        next.set(at, p);
+        return snapshot(next, cur.total(), cur.builtAt());
+      }
+      case DELETED -> {
+        if (at < 0) return complete ? cur : snapshot(posts, postDao.countByBoard(code), cur.builtAt());
+        if (cur.total() > posts.size()) return build(code);          // 빈자리를 다음 글로 채워야 함
+        List<PostDto> next = new ArrayList<>(posts);
+        next.remove(at);
+        return snapshot(next, Math.max(0, cur.total() - 1), cur.builtAt());
+      }
+      default -> {
+        return cur;
+      }
+    }
+  }
+
+  private Snapshot build(String code) {
+    rebuilds.increment();
+    long total = postDao.countByBoard(code);
+    List<PostDto> posts = postDao.findByBoardPaged(code, 0, depth);
+    return snapshot(posts, total, System.currentTimeMillis());
+  }
+
+  private Snapshot snapshot(List<PostDto> posts, long total, long builtAt) {
+    List<PostDto> list = List.copyOf(posts);
+    Map<Integer, byte[]> json = new HashMap<>();
+    for (int size : sizes) {
+      PageDTO<PostDto> page = new PageDTO<>(list.subList(0, Math.min(size, list.size())), total, 0, size);
+      try {
+        json.put(size, mapper.writeValueAsBytes(page));
+      } catch (JsonProcessingException ex) {
+        throw new IllegalStateException("첫 페이지 직렬화 실패", ex);
+      }
+    }
+    return new Snapshot(list, total, builtAt, Collections.unmodifiableMap(json));
+  }
+
+  private boolean expired(Snapshot s) {
+    return maxAgeMillis > 0 && System.currentTimeMillis() - s.builtAt() > maxAgeMillis;
+  }
+
+  private static String keyOf(PostDto p) {
+    return p.getUuid() != null ? p.getUuid() : String.valueOf(p.getPostId());
+  }
+
+  private static int indexOf(List<PostDto> posts, String key) {
+    for (int i = 0; i < posts.size(); i++) if (keyOf(posts.get(i)).equals(key)) return i;
+    return -1;
+  }
+
+  /** 목록 정렬(PK 내림차순)에서 a 가 b 보다 앞인지 */
+  private static boolean newer(PostDto a, PostDto b) {
+    if (a.getPostId() != null && b.getPostId() != null) return a.getPostId() > b.getPostId();
+    return keyOf(a).compareToIgnoreCase(keyOf(b)) > 0;
+  }
+}
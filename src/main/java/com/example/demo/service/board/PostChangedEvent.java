@@ -0,0 +1,16 @@
+// src/main/java/com/example/demo/service/board/PostChangedEvent.java
+
+package com.example.demo.service.board;                              // 게시판 관련 서비스 패키지
+
+/**
+ * 게시글 쓰기(등록/수정/삭제) 후 PostDao가 발행하는 애플리케이션 이벤트.
+ * - type      : CREATED | UPDATED | DELETED
+ * - boardCode : 게시판 코드(BUS, NORM 등). 알 수 없으면 null → 모든 게시판 구독자에게 전달
+ * - key       : 게시글 키(uuid 또는 숫자 PK 문자열)
+ *
+ * 본문/제목은 싣지 않는 "가벼운 알림"이며, 클라이언트는 필요할 때만 목록을 다시 읽는다.
+ */
+public record PostChangedEvent(Type type, String boardCode, String key) {
+
+  public enum Type { CREATED, UPDATED, DELETED }                     // SSE event 이름으로 그대로 사용(소문자 변환)
+}
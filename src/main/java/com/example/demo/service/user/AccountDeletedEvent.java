@@ -0,0 +1,9 @@
+// src/main/java/com/example/demo/service/user/AccountDeletedEvent.java
+
+package com.example.demo.service.user;                               // 사용자 관련 서비스 패키지
+
+/**
+ * 계정(users 행) 삭제 후 AccountPurgeService 가 발행하는 이벤트.
+ * 커밋된 뒤에만 글/댓글 정리 작업을 시작하도록 @TransactionalEventListener 로 받는다.
+ */
+public record AccountDeletedEvent(String userId) {}
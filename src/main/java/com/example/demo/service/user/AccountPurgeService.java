@@ -0,0 +1,171 @@
+// src/main/java/com/example/demo/service/user/AccountPurgeService.java
+
+package com.example.demo.service.user;                               // 사용자 관련 서비스 패키지
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dao.AccountPurgeDao;
+import com.example.demo.dao.CommentDao;
+import com.example.demo.dao.PostDao;
+import com.example.demo.dao.PostDao.PostKey;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 계정 삭제 후 그 사용자의 글/댓글 정리 (백그라운드)
+ *
+ * - DELETE /api/me 는 권한/사용자 행만 지우고 작업을 등록(enqueue)한 뒤 바로 응답한다.
+ * - 커밋 후 전용 스레드가 배치(app.account-purge.batch-size) 단위로 처리, 배치 사이 pause 만큼 쉬어 다른 쓰기에 양보:
+ *     1) 사용자의 글: 그 글의 댓글(남의 댓글 포함) 삭제 → 글 삭제(게시판 피드에 DELETED 알림)
+ *     2) 남의 글에 단 사용자의 댓글: 탈퇴 표시(DELETED, 내용/작성자 제거) — 대댓글 트리 유지
+ *   각 배치는 독립 문장이라 한 번에 잡는 잠금은 배치 크기만큼뿐이다.
+ * - 진행 건수는 account_purge 에 배치마다 누적(GET /api/admin/account-purges).
+ * - 재개: 처리는 "남은 행을 다시 찾아 지우기"라 몇 번을 돌려도 같다 → 기동 시와 retry 주기마다
+ *   끝나지 않은 작업(중단된 RUNNING, FAILED 는 max-attempts 까지)을 다시 돌린다.
+ * - 작성자 조회용 인덱스 권장: post(author_id), `comment`(author_id)
+ */
+@Service
+public class AccountPurgeService {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountPurgeService.class);
+
+  private final AccountPurgeDao jobs;
+  private final PostDao postDao;
+  private final CommentDao commentDao;
+  private final ApplicationEventPublisher events;
+  private final int batchSize;
+  private final long pauseMillis;
+  private final int maxAttempts;
+  private final long retryMillis;                                    // 0 이면 기동 시 한 번만 재개
+  private final ScheduledExecutorService worker;                     // 정리 전용 스레드(한 번에 한 배치)
+  private final Set<String> queued = ConcurrentHashMap.newKeySet();  // 대기/실행 중 아이디(중복 제출 방지)
+
+  public AccountPurgeService(AccountPurgeDao jobs, PostDao postDao, CommentDao commentDao,
+                             ApplicationEventPublisher events,
+                             @Value("${app.account-purge.batch-size:200}") int batchSize,
+                             @Value("${app.account-purge.pause:50ms}") Duration pause,
+                             @Value("${app.account-purge.retry:5m}") Duration retry,
+                             @Value("${app.account-purge.max-attempts:5}") int maxAttempts) {
+    this.jobs = jobs;
+    this.postDao = postDao;
+    this.commentDao = commentDao;
+    this.events = events;
+    this.batchSize = Math.max(1, batchSize);
+    this.pauseMillis = Math.max(0, pause.toMillis());
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryMillis = retry.isNegative() ? 0 : retry.toMillis();
+    this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "account-purge");
+      t.setDaemon(true);                                             // 종료를 막지 않도록 데몬 스레드(중단분은 다음 기동 때 재개)
+      return t;
+    });
+  }
+
+  /** 작업 등록 — 계정 삭제 트랜잭션 안에서 호출(삭제가 롤백되면 작업도 없음) */
+  public void enqueue(String userId) {
+    jobs.enqueue(userId);
+    events.publishEvent(new AccountDeletedEvent(userId));
+  }
+
+  /** 커밋 후(트랜잭션 밖이면 즉시) 백그라운드 시작 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDeleted(AccountDeletedEvent e) {
+    submit(e.userId());
+  }
+
+  /** 관리자 진행 현황 */
+  public List<AccountPurgeDao.Job> recent(int limit) {
+    return jobs.findRecent(limit);
+  }
+
+  /** 기동이 끝나면 바로 한 번, 이후 retry 주기마다 재개 */
+  @EventListener(ApplicationReadyEvent.class)
+  void resumeOnStartup() {
+    if (retryMillis > 0) worker.scheduleWithFixedDelay(this::resumeQuietly, 0, retryMillis, TimeUnit.MILLISECONDS);
+    else worker.execute(this::resumeQuietly);
+  }
+
+  private void resumeQuietly() {
+    try {
+      for (String userId : jobs.findUnfinished(maxAttempts)) submit(userId);
+    } catch (DataAccessException e) {
+      log.warn("account purge 재개 목록 조회 실패: {}", e.toString());
+    }
+  }
+
+  private void submit(String userId) {
+    if (!queued.add(userId)) return;                                 // 이미 대기/실행 중
+    worker.execute(() -> {
+      try {
+        run(userId);
+      } finally {
+        queued.remove(userId);
+      }
+    });
+  }
+
+  /** 한 사용자 정리(처음부터 다시 돌려도 안전) */
+  void run(String userId) {
+    long t0 = System.nanoTime();
+    try {
+      jobs.start(userId);
+      while (true) {
+        List<PostKey> batch = postDao.findKeysByWriter(userId, batchSize);
+        if (batch.isEmpty()) break;
+        List<String> keys = new ArrayList<>(batch.size());
+        for (PostKey k : batch) keys.add(k.key());
+        int n;
+        do {                                                         // 인기 글은 댓글이 많으므로 댓글도 배치로
+          n = commentDao.deleteByPosts(keys, batchSize);
+          if (n > 0) step(userId, 0, n, 0);
+        } while (n == batchSize);
+        int posts = postDao.deleteByKeys(userId, batch);
+        step(userId, posts, 0, 0);
+        if (posts == 0) break;                                       // 고른 글을 못 지움(동시 변경 등) — 무한 반복 방지, 다음 재개 때 다시
+      }
+      int n;
+      while ((n = commentDao.tombstoneByAuthor(userId, batchSize)) > 0) step(userId, 0, 0, n);
+      jobs.finish(userId);
+      AccountPurgeDao.Job j = jobs.find(userId);
+      log.info("account purge {} done in {}ms: {} posts, {} comments deleted, {} comments tombstoned", userId,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0),
+          j == null ? 0 : j.postsDeleted(), j == null ? 0 : j.commentsDeleted(), j == null ? 0 : j.commentsTombstoned());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();                            // 종료 중 — RUNNING 으로 남아 다음 기동 때 재개
+      log.info("account purge {} 중단 — 다음 기동 때 이어서 처리", userId);
+    } catch (RuntimeException e) {
+      log.warn("account purge {} 실패(재시도 예정): {}", userId, e.toString());
+      try {
+        jobs.fail(userId, e.toString());
+      } catch (DataAccessException ignore) {}
+    }
+  }
+
+  /** 배치 하나의 건수 기록 후 잠깐 양보 */
+  private void step(String userId, long posts, long deleted, long tombstoned) throws InterruptedException {
+    jobs.progress(userId, posts, deleted, tombstoned);
+    if (pauseMillis > 0) Thread.sleep(pauseMillis);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+}
@@ -0,0 +1,272 @@
+// src/main/java/com/example/demo/service/user/RoleIndex.java
+
+package com.example.demo.service.user;                               // 사용자 관련 서비스 패키지
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dao.RoleDao;
+import com.example.demo.dto.RoleRow;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자별 대표 권한(ROLE_ADMIN / ROLE_USER) 메모리 인덱스.
+ *
+ * - 적재: 기동 직후(또는 첫 조회 시) users, users_roles(ADMIN 계열)를 조인 없이 한 번씩 스트리밍
+ * - 증분: 사용자/권한 쓰기 → UserRolesChangedEvent → 커밋 후 그 사용자 한 명만 PK 로 다시 읽어 반영
+ * - 재동기화: app.roles.resync 주기로 전체 재적재(다른 노드나 DB 를 직접 고친 경우 보정)
+ * - 조회: 아이디 정렬(대소문자 무시) 키셋 페이지 — after 다음부터 size 건, 권한/아이디 접두사 필터.
+ *         전체/권한별 건수는 유지 중인 카운터라 사용자 수와 무관하게 일정 시간
+ *
+ * 읽기는 잠금 없이 ConcurrentSkipList 를 그대로 순회하고, 쓰기(증분/교체)만 writeLock 으로 직렬화한다.
+ */
+@Service
+public class RoleIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(RoleIndex.class);
+
+  public static final String ROLE_ADMIN = "ROLE_ADMIN";
+  public static final String ROLE_USER = "ROLE_USER";
+
+  /** 아이디 정렬: 대소문자 무시(MariaDB 기본 컬레이션과 같은 순서) → 같으면 원문 순 */
+  private static final Comparator<String> ORDER =
+      String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+  /** 키셋 페이지 한 장 — next 가 null 이면 마지막 페이지, total 은 아이디 검색(q) 시 null */
+  public record Slice(List<RoleRow> items, String next, Long total) {}
+
+  /** 한 시점의 인덱스(전체 재적재 때 통째로 교체) */
+  private static final class State {
+    final ConcurrentSkipListMap<String, Boolean> users = new ConcurrentSkipListMap<>(ORDER); // 아이디 → ADMIN 여부
+    final ConcurrentSkipListSet<String> admins = new ConcurrentSkipListSet<>(ORDER);          // ADMIN 만(권한 필터용)
+    volatile long total;                                             // skip list 의 size() 는 O(n) 이라 직접 센다
+    volatile long adminCount;
+
+    /** writeLock 안에서만 호출 */
+    void put(String userId, boolean exists, boolean admin) {
+      Boolean prev = exists ? users.put(userId, admin) : users.remove(userId);
+      if (prev == null && exists) total++;
+      if (prev != null && !exists) total--;
+      boolean was = Boolean.TRUE.equals(prev);
+      boolean now = exists && admin;
+      if (was == now) return;
+      if (now) {
+        admins.add(userId);
+        adminCount++;
+      } else {
+        admins.remove(userId);
+        adminCount--;
+      }
+    }
+  }
+
+  private final RoleDao roleDao;
+  private final int defaultPageSize;                                 // size 미지정 시
+  private final int maxPageSize;                                     // size 상한(한 응답이 커지지 않도록)
+  private final ScheduledExecutorService worker;                     // 기동 적재 + 주기 재동기화 전용 스레드
+
+  private final Object loadLock = new Object();                      // 전체 적재는 한 번에 하나
+  private final Object writeLock = new Object();                     // 증분 반영/교체 직렬화
+  private volatile State state;                                      // null = 아직 적재 전
+  private Set<String> pending;                                       // 전체 적재 중 바뀐 아이디(교체 후 다시 반영) — writeLock 으로 보호
+
+  public RoleIndex(RoleDao roleDao,
+                   @Value("${app.roles.resync:10m}") Duration resync,
+                   @Value("${app.roles.page-size:50}") int defaultPageSize,
+                   @Value("${app.roles.max-page-size:500}") int maxPageSize) {
+    this.roleDao = roleDao;
+    this.maxPageSize = Math.max(1, maxPageSize);
+    this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+    this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "role-index");
+      t.setDaemon(true);                                             // 종료를 막지 않도록 데몬 스레드
+      return t;
+    });
+    if (!resync.isZero() && !resync.isNegative()) {
+      worker.scheduleWithFixedDelay(this::rebuildQuietly, resync.toMillis(), resync.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /* ----------------------- 조회 ----------------------- */
+
+  /**
+   * 키셋 페이지 조회.
+   * @param after 이전 페이지의 next(없으면 처음부터)
+   * @param size  페이지 크기(null 이면 app.roles.page-size, 최대 app.roles.max-page-size)
+   * @param role  ADMIN | USER (ROLE_ 접두어/대소문자 무관, 그 밖의 값이나 null 은 전체)
+   * @param q     아이디 접두사(대소문자 무시, 없으면 전체)
+   */
+  public Slice page(String after, Integer size, String role, String q) {
+    int limit = size == null ? defaultPageSize : Math.min(Math.max(1, size), maxPageSize);
+    State s = state();
+    Boolean admin = roleFilter(role);
+    NavigableSet<String> keys = Boolean.TRUE.equals(admin) ? s.admins : s.users.navigableKeySet();
+
+    String from = null;
+    boolean fromInclusive = true;
+    String to = null;
+    if (q != null && !q.isBlank()) {
+      from = q.trim().toUpperCase(Locale.ROOT);                      // 대소문자 변형 중 가장 앞선 것
+      to = q.trim() + Character.MAX_VALUE;                           // 접두사 범위의 끝(미포함)
+    }
+    if (after != null && !after.isEmpty() && (from == null || ORDER.compare(after, from) >= 0)) {
+      from = after;
+      fromInclusive = false;
+    }
+    if (from != null && to != null) {
+      keys = ORDER.compare(from, to) >= 0 ? new ConcurrentSkipListSet<>(ORDER) : keys.subSet(from, fromInclusive, to, false);
+    } else if (from != null) {
+      keys = keys.tailSet(from, fromInclusive);
+    }
+
+    List<RoleRow> items = new ArrayList<>(limit);
+    String next = null;
+    for (String id : keys) {
+      Boolean isAdmin = s.users.get(id);
+      if (isAdmin == null) continue;                                 // 순회 중 삭제됨
+      if (Boolean.FALSE.equals(admin) && isAdmin) continue;          // USER 필터: ADMIN 건너뜀(ADMIN 은 소수)
+      if (items.size() == limit) {                                    // 한 건 더 있으면 다음 페이지 존재
+        next = items.get(limit - 1).getUsername();
+        break;
+      }
+      items.add(new RoleRow(id, isAdmin ? ROLE_ADMIN : ROLE_USER));
+    }
+
+    Long total = null;
+    if (q == null || q.isBlank()) {
+      total = admin == null ? s.total : admin ? s.adminCount : s.total - s.adminCount;
+    }
+    return new Slice(items, next, total);
+  }
+
+  /** 예전 응답 형식(전체 목록) — 페이지 파라미터 없이 호출하는 기존 화면용 */
+  public List<RoleRow> all() {
+    State s = state();
+    List<RoleRow> rows = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, s.total));
+    s.users.forEach((id, admin) -> rows.add(new RoleRow(id, admin ? ROLE_ADMIN : ROLE_USER)));
+    return rows;
+  }
+
+  /** 한 사용자의 대표 권한(인덱스에 없으면 ROLE_USER) */
+  public String roleOf(String userId) {
+    return Boolean.TRUE.equals(state().users.get(userId)) ? ROLE_ADMIN : ROLE_USER;
+  }
+
+  /** ADMIN 사용자 아이디 스냅숏(소수 — 사용자 목록 권한 필터의 IN 목록용) */
+  public List<String> adminIds() {
+    return new ArrayList<>(state().admins);
+  }
+
+  private static Boolean roleFilter(String role) {
+    if (role == null || role.isBlank()) return null;
+    String r = role.trim().toUpperCase(Locale.ROOT);
+    if (r.contains("ADMIN")) return Boolean.TRUE;
+    if (r.contains("USER")) return Boolean.FALSE;
+    return null;
+  }
+
+  private State state() {
+    State s = state;
+    if (s != null) return s;
+    synchronized (loadLock) {                                        // 기동 적재 전에 들어온 첫 조회 — 진행 중인 적재가 있으면 기다림
+      if (state == null) rebuild();
+    }
+    return state;
+  }
+
+  /* ----------------------- 갱신 ----------------------- */
+
+  @EventListener(ApplicationReadyEvent.class)
+  void loadOnStartup() {
+    worker.execute(this::rebuildQuietly);
+  }
+
+  /** 쓰기 트랜잭션 커밋 후(트랜잭션 밖이면 즉시) 반영 — 롤백된 쓰기는 반영하지 않음 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChanged(UserRolesChangedEvent e) {
+    if (e.userId() == null) {
+      worker.execute(this::rebuildQuietly);
+      return;
+    }
+    try {
+      refresh(e.userId());
+    } catch (DataAccessException ex) {
+      log.warn("role index: {} 갱신 실패 — 다음 재동기화 때 반영: {}", e.userId(), ex.toString());
+    }
+  }
+
+  /** 한 사용자만 다시 읽어 반영(DB 읽기까지 writeLock 안 — 같은 사용자에 대한 늦은 결과가 새 결과를 덮지 않도록) */
+  private void refresh(String userId) {
+    synchronized (writeLock) {
+      if (pending != null) pending.add(userId);
+      State s = state;
+      if (s == null) return;                                         // 아직 적재 전 — 적재가 DB 를 그대로 읽음
+      boolean exists = roleDao.userExists(userId);
+      s.put(userId, exists, exists && roleDao.hasAdminRole(userId));
+    }
+  }
+
+  /** 전체 재적재 후 교체 — 적재하는 동안 들어온 변경은 교체 뒤 다시 반영 */
+  private void rebuild() {
+    synchronized (loadLock) {
+      synchronized (writeLock) {
+        pending = new HashSet<>();
+      }
+      long t0 = System.nanoTime();
+      State fresh = new State();
+      List<String> replay;
+      boolean loaded = false;
+      try {
+        roleDao.forEachUserId(id -> fresh.users.put(id, Boolean.FALSE));
+        roleDao.forEachAdminUserId(id -> {
+          if (fresh.users.replace(id, Boolean.TRUE) != null && fresh.admins.add(id)) fresh.adminCount++;
+        });
+        fresh.total = fresh.users.size();
+        loaded = true;
+      } finally {
+        synchronized (writeLock) {                                   // 교체와 pending 해제를 한 번에(그 사이 변경 유실 방지)
+          replay = new ArrayList<>(pending);
+          pending = null;
+          if (loaded) state = fresh;
+        }
+      }
+      for (String id : replay) refresh(id);                          // 적재 중 바뀐 사용자는 새 인덱스에 다시 반영
+      log.info("role index loaded: {} users, {} admins in {}ms (replayed {})", fresh.total, fresh.adminCount,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0), replay.size());
+    }
+  }
+
+  private void rebuildQuietly() {
+    try {
+      rebuild();
+    } catch (RuntimeException e) {                                   // DB 장애 등 — 이전 인덱스 유지, 다음 주기에 재시도
+      log.warn("role index 재적재 실패: {}", e.toString());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+}
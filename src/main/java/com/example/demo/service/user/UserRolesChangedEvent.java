@@ -0,0 +1,17 @@
+// src/main/java/com/example/demo/service/user/UserRolesChangedEvent.java
+
+package com.example.demo.service.user;                               // 사용자 관련 서비스 패키지
+
+/**
+ * 사용자/권한 쓰기(가입, 삭제, users_roles 추가·삭제·치환) 후 발행하는 애플리케이션 이벤트.
+ * - userId : 바뀐 사용자 아이디. null 이면 "대량 변경"(datagen 적재 등) → RoleIndex 전체 재적재
+ *
+ * 무엇이 바뀌었는지는 싣지 않는다 — RoleIndex 가 커밋 후 해당 사용자 한 명만 다시 읽는다.
+ */
+public record UserRolesChangedEvent(String userId) {
+
+  /** 대량 변경 알림 */
+  public static UserRolesChangedEvent all() {
+    return new UserRolesChangedEvent(null);
+  }
+}
@@ -4,7 +4,7 @@ package com.example.demo.service.user.impl;                                // 
 
 import java.util.List;                                                    // 목록 반환용 컬렉션 인터페이스
 import java.util.Optional;                                                // 널-안전 단건 반환 컨테이너
-import java.util.UUID;                                                    // 랜덤 고유값 생성 유틸(임시 PK/패스워드 등)
+import java.util.UUID;                                                    // 랜덤 고유값 생성 유틸(임시 패스워드)
 import java.util.stream.Collectors;                                       // Stream → List 수집 유틸
 
 import org.springframework.beans.factory.annotation.Qualifier;            // 동일 타입 빈 중 특정 빈 선택 주입
@@ -14,6 +14,7 @@ import com.example.demo.dao.IUserDao;                                     // 사
 import com.example.demo.dao.UserDao;                                      // 구현체의 @Qualifier 상수 사용을 위해 import
 import com.example.demo.domain.User;                                      // 영속 모델(도메인 엔티티)
 import com.example.demo.dto.UserDTO;                                      // 표현/전송 모델(DTO)
+import com.example.demo.id.IdGenerator;                                   // 시간순 기본키 생성기(IdConfig)
 import com.example.demo.service.user.IUserService;                        // 서비스 계층 인터페이스(계약)
 
 /**
@@ -27,9 +28,11 @@ public class UserServiceImpl implements IUserService {                    // IUs
   public static final String BEAN_QUALIFIER = "userService";              // @Qualifier에서 사용할 빈 이름 상수
 
   private final IUserDao userDao;                                         // 사용자 DAO 의존성
+  private final IdGenerator ids;                                          // user_id 생성
 
-  public UserServiceImpl(@Qualifier(UserDao.BEAN_QUALIFIER) IUserDao userDao) {
+  public UserServiceImpl(@Qualifier(UserDao.BEAN_QUALIFIER) IUserDao userDao, IdGenerator ids) {
     this.userDao = userDao;                                               // 생성자 주입(권장)으로 의존성 확정
+    this.ids = ids;
   }
 
   // ────────────── DTO ↔ Entity 변환 유틸 ──────────────
@@ -80,8 +83,7 @@ public class UserServiceImpl implements IUserService {                    // IUs
     }
 
     // ── 2) PK 생성(스키마: VARCHAR(16)) ─────────────────────────────────
-    String userId = UUID.randomUUID().toString().replace("-", "");        // 32자 랜덤(하이픈 제거)
-    if (userId.length() > 16) userId = userId.substring(0, 16);           // 길이 제한 맞춤(16자)
+    String userId = ids.shortId();                                        // 16자 시간순(인덱스 끝에 추가되도록)
 
     // ── 3) DTO → 엔티티로 변환 + 생성 값 주입 ────────────────────────────
     User u = toEntity(in);                                                // 변환
@@ -18,6 +18,7 @@ package com.example.demo.sql;                                   // SQL 유틸 
  *  - deleteOneRole()             : user_id, role_id
  *  - findRolesByUserId()         : user_id
  *  - findRolesByEmail()          : email
+ *  - findExistingUserIds(n)      : user_id × n
  *
  * 목적:
  *  - DAO에서 사용할 **SQL 문자열을 한곳에 모아 상수화** → 오타/중복/유지보수 비용 절감
@@ -70,4 +71,10 @@ public final class UsersRolesSql {                               // 인스턴스
                "WHERE u.email = ? " +                            // 바인딩 파라미터: email
                "ORDER BY ur.role_id";                            // 역할명 사전순 정렬
     }
+
+    /** 주어진 user_id 들 중 users 에 실제로 있는 것만 (일괄 권한 변경의 존재 확인, PK IN 조회) */
+    public static String findExistingUserIds(int n) {
+        // 자리표시자(?) n개 — 호출 측이 n 을 적당한 크기(수백)로 나눠 부른다
+        return "SELECT user_id FROM users WHERE user_id IN (" + "?,".repeat(n - 1) + "?)";
+    }
 }
@@ -2,6 +2,8 @@
 
 package com.example.demo.sql;                                     // SQL 문자열 유틸                      // SQL 상수들을 모아두는 패키지/클래스
 
+import java.util.Set;                                            // 정렬/검색 허용 컬럼 목록
+
 /**
  * users 테이블용 SQL 모음
  *
@@ -20,6 +22,12 @@ package com.example.demo.sql;                                     // SQL 문자
  *  - selectById():    user_id
  *  - selectByEmail(): email
  *  - delete():        user_id
+ *  - adminPage(...):  [prefix] [afterValue, afterValue, afterId | afterId] [includeIds...] [excludeIds...] limit
+ *
+ * 관리자 사용자 목록(adminPage) 인덱스 — 정렬/접두사 검색 컬럼마다 B-Tree 가 있어야 키셋 페이지가 범위 스캔이 된다.
+ *  - user_id : PK
+ *  - email   : UNIQUE 인덱스(이미 있음)
+ *  - name    : CREATE INDEX idx_users_name ON users (name);   -- InnoDB 보조 인덱스는 PK 를 포함 → (name, user_id) 순서로 읽힘
  */
 public final class UsersSql {                                    // 인스턴스화 불가능한 순수 유틸 클래스(상수/정적 메서드만)
 
@@ -69,4 +77,30 @@ public final class UsersSql {                                    // 인스턴스
         // 외래키가 없다면 순수 삭제 가능. 외래키가 있다면 ON DELETE CASCADE 또는 선행 삭제 필요.
     }
 
+    /** 관리자 목록에서 정렬/검색에 쓸 수 있는 컬럼(화이트리스트 — SQL 에 그대로 들어감) */
+    public static final Set<String> ADMIN_PAGE_COLUMNS = Set.of("user_id", "name", "email");
+
+    /**
+     * 관리자 사용자 목록 키셋 페이지 (비밀번호 제외)
+     *  - sort / field 는 ADMIN_PAGE_COLUMNS 중 하나여야 함(호출 측 검증)
+     *  - 정렬은 (sort, user_id) — user_id 로 동률을 끊어 커서가 항상 한 행을 가리킴
+     *  - 접두사 검색은 LIKE 'q%' → 해당 컬럼 인덱스 범위 스캔
+     */
+    public static String adminPage(String sort, boolean desc, String field, boolean prefix, boolean after,
+                                   int includeCount, int excludeCount) {
+        String cmp = desc ? "<" : ">";
+        String dir = desc ? " DESC" : " ASC";
+        StringBuilder sql = new StringBuilder("SELECT user_id, name, phone, email FROM users WHERE 1 = 1");
+        if (prefix) sql.append(" AND ").append(field).append(" LIKE ?");           // 이스케이프된 접두사 + '%'
+        if (after) {
+            if (sort.equals("user_id")) sql.append(" AND user_id ").append(cmp).append(" ?");
+            else sql.append(" AND (").append(sort).append(' ').append(cmp).append(" ? OR (")
+                    .append(sort).append(" = ? AND user_id ").append(cmp).append(" ?))");
+        }
+        if (includeCount > 0) sql.append(" AND user_id IN (").append("?,".repeat(includeCount - 1)).append("?)");
+        if (excludeCount > 0) sql.append(" AND user_id NOT IN (").append("?,".repeat(excludeCount - 1)).append("?)");
+        sql.append(" ORDER BY ");
+        if (!sort.equals("user_id")) sql.append(sort).append(dir).append(", ");
+        return sql.append("user_id").append(dir).append(" LIMIT ?").toString();
+    }
 }
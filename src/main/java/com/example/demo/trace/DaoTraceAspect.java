@@ -0,0 +1,30 @@
+// src/main/java/com/example/demo/trace/DaoTraceAspect.java
+package com.example.demo.trace;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * DAO 공개 메서드 구간("dao PostDao.findByBoardPaged" 등)
+ * 추적 중이 아닌 요청은 ThreadLocal 조회 1회 후 그대로 진행.
+ */
+@Aspect
+@Component
+public class DaoTraceAspect {
+
+  @Around("execution(public * com.example.demo.dao.*Dao.*(..))")
+  public Object trace(ProceedingJoinPoint pjp) throws Throwable {
+    if (!Tracing.active()) return pjp.proceed();
+    try (Span s = Tracing.start("dao " + pjp.getSignature().getDeclaringType().getSimpleName()
+        + "." + pjp.getSignature().getName())) {
+      try {
+        return pjp.proceed();
+      } catch (Throwable e) {
+        s.attr("exception", e.getClass().getSimpleName());
+        throw e;
+      }
+    }
+  }
+}
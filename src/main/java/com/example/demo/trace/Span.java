@@ -0,0 +1,47 @@
+// src/main/java/com/example/demo/trace/Span.java
+package com.example.demo.trace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 추적의 한 구간(span)
+ *
+ * - Tracing.start(..) 로 열고 try-with-resources 로 닫는다.
+ * - 샘플링되지 않은 요청에서는 NOOP 을 돌려주므로 호출 측은 분기 없이 사용.
+ * - 한 요청 스레드 안에서만 쓰이므로 동기화하지 않는다.
+ */
+public final class Span implements AutoCloseable {
+
+  /** 샘플링 안 된 요청용(아무것도 기록하지 않음) */
+  static final Span NOOP = new Span(null, 0, 0, "noop", 0);
+
+  final Tracing.ActiveTrace trace;
+  final long id;
+  final long parentId;
+  final String name;
+  final long startNanos;
+  long endNanos = -1;
+  Map<String, String> attrs;                                         // 필요할 때만 생성
+
+  Span(Tracing.ActiveTrace trace, long id, long parentId, String name, long startNanos) {
+    this.trace = trace;
+    this.id = id;
+    this.parentId = parentId;
+    this.name = name;
+    this.startNanos = startNanos;
+  }
+
+  /** 속성 추가(NOOP 이면 무시) */
+  public Span attr(String key, Object value) {
+    if (trace == null || value == null) return this;
+    if (attrs == null) attrs = new LinkedHashMap<>(4);
+    attrs.put(key, String.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public void close() {
+    if (trace != null && endNanos < 0) trace.close(this, System.nanoTime());
+  }
+}
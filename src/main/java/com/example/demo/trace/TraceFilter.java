@@ -0,0 +1,52 @@
+// src/main/java/com/example/demo/trace/TraceFilter.java
+package com.example.demo.trace;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 추적 시작/종료 필터(가장 바깥쪽)
+ *
+ * 구간 구성:
+ *   HTTP {method} {path}          : 루트(요청 전체)
+ *     filters                     : 이 필터 ~ 컨트롤러 진입 전(요청 제한, 시큐리티 체인 등) — TraceInterceptor 가 닫음
+ *     controller {Bean.method}    : 핸들러 실행(아래 DAO/JDBC/JSON 구간 포함)
+ *       dao / jdbc / json.write
+ */
+public class TraceFilter extends OncePerRequestFilter {
+
+  static final String FILTERS_SPAN = TraceFilter.class.getName() + ".filters";
+
+  private final TraceRecorder recorder;
+
+  public TraceFilter(TraceRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+    if (!recorder.shouldSample(req.getHeader(TraceRecorder.FORCE_HEADER))) {
+      chain.doFilter(req, res);
+      return;
+    }
+    String path = req.getRequestURI().substring(req.getContextPath().length());
+    Span root = Tracing.begin("HTTP " + req.getMethod() + " " + path)
+        .attr("http.request.method", req.getMethod())
+        .attr("url.path", path);
+    req.setAttribute(FILTERS_SPAN, Tracing.start("filters"));
+    try {
+      chain.doFilter(req, res);
+    } finally {
+      root.attr("http.response.status_code", res.getStatus());
+      root.close();
+      recorder.finish(Tracing.end());
+    }
+  }
+}
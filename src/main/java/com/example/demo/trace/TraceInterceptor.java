@@ -0,0 +1,36 @@
+// src/main/java/com/example/demo/trace/TraceInterceptor.java
+package com.example.demo.trace;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러 구간: "filters" 구간을 닫고 "controller Bean.method" 구간을 연다.
+ * @ResponseBody JSON 직렬화는 핸들러 처리 안에서 일어나므로 이 구간의 자식으로 잡힌다.
+ */
+public class TraceInterceptor implements HandlerInterceptor {
+
+  private static final String CONTROLLER_SPAN = TraceInterceptor.class.getName() + ".controller";
+
+  @Override
+  public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
+    if (!Tracing.active()) return true;
+    if (req.getAttribute(TraceFilter.FILTERS_SPAN) instanceof Span filters) filters.close();
+    String name = handler instanceof HandlerMethod hm
+        ? hm.getBeanType().getSimpleName() + "." + hm.getMethod().getName()
+        : handler.getClass().getSimpleName();
+    req.setAttribute(CONTROLLER_SPAN, Tracing.start("controller " + name));
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest req, HttpServletResponse res, Object handler, Exception ex) {
+    if (req.getAttribute(CONTROLLER_SPAN) instanceof Span s) {
+      if (ex != null) s.attr("exception", ex.getClass().getSimpleName());
+      s.close();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/example/demo/trace/TraceRecord.java
+package com.example.demo.trace;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 완료된 요청 추적(불변) — 관리자 API 응답/OTLP 내보내기 원본
+ *
+ * @param traceId         32자리 16진수
+ * @param startEpochNanos 요청 시작 시각(epoch ns)
+ * @param durationNanos   루트 구간 길이
+ * @param droppedSpans    MAX_SPANS 초과로 버린 구간 수
+ */
+public record TraceRecord(String traceId, String name, long startEpochNanos, long durationNanos,
+                          int droppedSpans, List<SpanRecord> spans) {
+
+  /**
+   * @param offsetNanos 요청 시작 기준 구간 시작 오프셋
+   */
+  public record SpanRecord(long spanId, long parentSpanId, String name, long offsetNanos,
+                           long durationNanos, Map<String, String> attributes) {}
+
+  public double durationMillis() {
+    return durationNanos / 1e6;
+  }
+}
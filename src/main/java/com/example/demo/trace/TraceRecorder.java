@@ -0,0 +1,132 @@
+// src/main/java/com/example/demo/trace/TraceRecorder.java
+package com.example.demo.trace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 요청 추적 수집기: 샘플링 결정, 느린 추적 보관(링 버퍼), OTLP JSON 내보내기
+ *
+ * - app.trace.sample-rate 비율(또는 X-Trace-Sample: 1 헤더)로 요청을 추적
+ * - 추적된 요청 중 app.trace.slow-ms 이상인 것만 최근 ring-size 개 보관
+ * - 내보내기: OTLP/JSON(resourceSpans → scopeSpans → spans) 형식으로 로컬 파일 저장
+ *   → 외부 수집기 없이 파일을 Jaeger/Tempo 등에 그대로 올려 볼 수 있다.
+ */
+@Component
+public class TraceRecorder {
+
+  public static final String FORCE_HEADER = "X-Trace-Sample";
+
+  /** 조회용 통계 */
+  public record Stats(long sampled, long kept, int ringSize) {}
+
+  private final boolean enabled;
+  private final double sampleRate;
+  private final long slowNanos;
+  private final int ringSize;
+  private final Path exportDir;
+  private final String serviceName;
+  private final ObjectMapper mapper;
+  private final TraceRing<TraceRecord> ring;
+  private final LongAdder sampled = new LongAdder();
+
+  public TraceRecorder(@Value("${app.trace.enabled:true}") boolean enabled,
+                       @Value("${app.trace.sample-rate:0.05}") double sampleRate,
+                       @Value("${app.trace.slow-ms:300}") long slowMs,
+                       @Value("${app.trace.ring-size:128}") int ringSize,
+                       @Value("${app.trace.export-dir:./traces}") String exportDir,
+                       @Value("${spring.application.name:demo}") String serviceName,
+                       ObjectMapper mapper) {
+    this.enabled = enabled;
+    this.sampleRate = sampleRate;
+    this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMs);
+    this.ringSize = ringSize;
+    this.exportDir = Paths.get(exportDir);
+    this.serviceName = serviceName;
+    this.mapper = mapper;
+    this.ring = new TraceRing<>(ringSize);
+  }
+
+  /** 이 요청을 추적할지(강제 헤더 > 비율) */
+  boolean shouldSample(String forceHeader) {
+    if (!enabled) return false;
+    if ("1".equals(forceHeader)) return true;
+    return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  /** 추적 완료: 느린 것만 링에 보관 */
+  void finish(TraceRecord rec) {
+    if (rec == null) return;
+    sampled.increment();
+    if (rec.durationNanos() >= slowNanos) ring.add(rec);
+  }
+
+  /** 최근 느린 추적(최신순) */
+  public List<TraceRecord> recent() {
+    return ring.snapshot();
+  }
+
+  public TraceRecord find(String traceId) {
+    for (TraceRecord r : ring.snapshot()) if (r.traceId().equals(traceId)) return r;
+    return null;
+  }
+
+  public Stats stats() {
+    return new Stats(sampled.sum(), ring.total(), ringSize);
+  }
+
+  /** 현재 링 내용을 OTLP JSON 파일로 저장하고 경로 반환 */
+  public Path exportToFile() throws IOException {
+    Files.createDirectories(exportDir);
+    Path file = exportDir.resolve("traces-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+    mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), toOtlp(recent()));
+    return file.toAbsolutePath();
+  }
+
+  /** OTLP/JSON(ExportTraceServiceRequest) 구조로 변환 — id 는 16진수, 64비트 정수는 문자열 */
+  public Map<String, Object> toOtlp(List<TraceRecord> traces) {
+    List<Map<String, Object>> spans = new ArrayList<>();
+    for (TraceRecord t : traces) {
+      for (TraceRecord.SpanRecord s : t.spans()) {
+        long start = t.startEpochNanos() + s.offsetNanos();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("traceId", t.traceId());
+        m.put("spanId", String.format("%016x", s.spanId()));
+        m.put("parentSpanId", s.parentSpanId() == 0 ? "" : String.format("%016x", s.parentSpanId()));
+        m.put("name", s.name());
+        m.put("kind", s.parentSpanId() == 0 ? 2 : s.name().startsWith("jdbc") ? 3 : 1); // SERVER / CLIENT / INTERNAL
+        m.put("startTimeUnixNano", Long.toString(start));
+        m.put("endTimeUnixNano", Long.toString(start + s.durationNanos()));
+        m.put("attributes", attributes(s.attributes()));
+        spans.add(m);
+      }
+    }
+    return Map.of("resourceSpans", List.of(Map.of(
+        "resource", Map.of("attributes", attributes(Map.of("service.name", serviceName))),
+        "scopeSpans", List.of(Map.of(
+            "scope", Map.of("name", "com.example.demo.trace"),
+            "spans", spans)))));
+  }
+
+  private static List<Map<String, Object>> attributes(Map<String, String> attrs) {
+    List<Map<String, Object>> out = new ArrayList<>(attrs.size());
+    attrs.forEach((k, v) -> out.add(Map.of("key", k, "value", Map.of("stringValue", v))));
+    return out;
+  }
+}
@@ -0,0 +1,46 @@
+// src/main/java/com/example/demo/trace/TraceRing.java
+package com.example.demo.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 무잠금(lock-free) 링 버퍼 — 최근 N 개만 보관
+ *
+ * - add: 순번 getAndIncrement 후 해당 칸에 set(잠금/대기 없음, 가장 오래된 것을 덮어씀)
+ * - snapshot: 최신 → 과거 순으로 읽는다. 읽는 도중 덮어쓰인 칸은 더 새 값이 보일 수 있다(조회용이라 허용).
+ */
+final class TraceRing<T> {
+
+  private final AtomicReferenceArray<T> slots;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+
+  TraceRing(int capacity) {
+    int n = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;   // 2의 거듭제곱으로 올림
+    this.slots = new AtomicReferenceArray<>(n);
+    this.mask = n - 1;
+  }
+
+  void add(T item) {
+    long i = next.getAndIncrement();
+    slots.set((int) (i & mask), item);
+  }
+
+  List<T> snapshot() {
+    long end = next.get();
+    long start = Math.max(0, end - slots.length());
+    List<T> out = new ArrayList<>((int) (end - start));
+    for (long i = end - 1; i >= start; i--) {
+      T v = slots.get((int) (i & mask));
+      if (v != null) out.add(v);
+    }
+    return out;
+  }
+
+  long total() {
+    return next.get();
+  }
+}
@@ -0,0 +1,106 @@
+// src/main/java/com/example/demo/trace/Tracing.java
+package com.example.demo.trace;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 추적 정적 진입점(스레드 로컬)
+ *
+ * - TraceFilter 가 샘플링된 요청에서만 begin() → 그 스레드의 start() 호출이 구간을 기록
+ * - 샘플링 안 된 요청: start() 는 ThreadLocal 조회 1회 후 Span.NOOP 반환(할당 없음)
+ * - DAO/JDBC/JSON 직렬화 등 빈 주입이 어려운 곳에서도 호출할 수 있도록 static 으로 둔다.
+ */
+public final class Tracing {
+
+  private Tracing() {}
+
+  static final int MAX_SPANS = 256;                                  // N+1 루프 등에서 메모리 폭주 방지
+
+  private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+
+  /** 현재 스레드가 추적 중인지 */
+  public static boolean active() {
+    return CURRENT.get() != null;
+  }
+
+  /** 현재 구간의 자식 구간 시작(추적 중이 아니면 NOOP) */
+  public static Span start(String name) {
+    ActiveTrace t = CURRENT.get();
+    return t == null ? Span.NOOP : t.open(name);
+  }
+
+  /** start(prefix + " " + name) — 추적 중일 때만 문자열을 만든다(요청마다 호출되는 JDBC/DAO 경로용) */
+  public static Span start(String prefix, String name) {
+    ActiveTrace t = CURRENT.get();
+    return t == null ? Span.NOOP : t.open(prefix + " " + name);
+  }
+
+  /** 루트 구간 시작(TraceFilter 전용) */
+  static Span begin(String rootName) {
+    ActiveTrace t = new ActiveTrace();
+    CURRENT.set(t);
+    return t.open(rootName);
+  }
+
+  /** 추적 종료 후 완료 레코드 반환(TraceFilter 전용) */
+  static TraceRecord end() {
+    ActiveTrace t = CURRENT.get();
+    if (t == null) return null;
+    CURRENT.remove();
+    return t.toRecord();
+  }
+
+  /** 진행 중인 한 요청의 구간 목록 + 열린 구간 스택 */
+  static final class ActiveTrace {
+    final long traceIdHi = ThreadLocalRandom.current().nextLong();
+    final long traceIdLo = ThreadLocalRandom.current().nextLong() | 1L; // 0 이 아니도록
+    final long startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+    final long startNanos = System.nanoTime();
+    final List<Span> spans = new ArrayList<>();
+    final ArrayDeque<Span> open = new ArrayDeque<>();
+    int dropped;
+
+    Span open(String name) {
+      if (spans.size() >= MAX_SPANS) {
+        dropped++;
+        return Span.NOOP;
+      }
+      Span parent = open.peek();
+      Span s = new Span(this, spans.size() + 1, parent == null ? 0 : parent.id, name, System.nanoTime());
+      spans.add(s);
+      open.push(s);
+      return s;
+    }
+
+    /** 닫는 구간 위에 열린 채 남은 구간(예외로 빠져나온 경우)도 함께 닫는다 */
+    void close(Span s, long now) {
+      if (!open.contains(s)) {
+        s.endNanos = now;
+        return;
+      }
+      while (!open.isEmpty()) {
+        Span top = open.pop();
+        if (top.endNanos < 0) top.endNanos = now;
+        if (top == s) break;
+      }
+    }
+
+    TraceRecord toRecord() {
+      long now = System.nanoTime();
+      List<TraceRecord.SpanRecord> out = new ArrayList<>(spans.size());
+      for (Span s : spans) {
+        long end = s.endNanos < 0 ? now : s.endNanos;
+        out.add(new TraceRecord.SpanRecord(s.id, s.parentId, s.name,
+            s.startNanos - startNanos, end - s.startNanos, s.attrs == null ? Map.of() : Map.copyOf(s.attrs)));
+      }
+      Span root = spans.isEmpty() ? null : spans.get(0);
+      long duration = (root == null || root.endNanos < 0 ? now : root.endNanos) - startNanos;
+      return new TraceRecord(String.format("%016x%016x", traceIdHi, traceIdLo),
+          root == null ? "?" : root.name, startEpochNanos, duration, dropped, out);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/example/demo/trace/TracingJacksonConverter.java
+package com.example.demo.trace;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON 응답 직렬화 구간("json.write") — 기본 Jackson 컨버터를 대체(같은 ObjectMapper 사용)
+ */
+public class TracingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+  public TracingJacksonConverter(ObjectMapper mapper) {
+    super(mapper);
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    if (!Tracing.active()) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+    try (Span s = Tracing.start("json.write")) {
+      if (object != null) s.attr("type", object.getClass().getSimpleName());
+      super.writeInternal(object, type, outputMessage);
+    }
+  }
+}
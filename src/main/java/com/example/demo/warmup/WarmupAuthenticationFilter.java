@@ -0,0 +1,84 @@
+// src/main/java/com/example/demo/warmup/WarmupAuthenticationFilter.java
+package com.example.demo.warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 워밍업 요청 인증 (SecurityConfig 가 체인에 직접 추가, 빈 아님)
+ *
+ * WarmupRunner 가 실행되는 동안에만 기동마다 새로 만든 임의 토큰(X-Warmup-Token)을 받고,
+ * 루프백 주소에서 온 GET 요청만 가상 사용자(app.warmup.principal/roles)로 인증한다.
+ * 워밍업이 끝나면(close) 토큰이 사라져 아무것도 하지 않는 필터가 된다. 세션은 만들지 않음.
+ */
+public class WarmupAuthenticationFilter extends OncePerRequestFilter {
+
+  static final String HEADER = "X-Warmup-Token";
+
+  private final String principal;
+  private final List<GrantedAuthority> authorities;
+  private volatile byte[] token;                                     // null = 워밍업 중 아님
+
+  WarmupAuthenticationFilter(String principal, List<String> roles) {
+    this.principal = principal;
+    this.authorities = roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+  }
+
+  /** 워밍업 시작: 새 토큰 발급 */
+  String open() {
+    byte[] raw = new byte[32];
+    new SecureRandom().nextBytes(raw);
+    String hex = HexFormat.of().formatHex(raw);
+    token = hex.getBytes(StandardCharsets.US_ASCII);
+    return hex;
+  }
+
+  /** 워밍업 종료: 이후 토큰 무효 */
+  void close() {
+    token = null;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return token == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+    byte[] expected = token;
+    String h = req.getHeader(HEADER);
+    if (expected != null && h != null && "GET".equals(req.getMethod()) && isLoopback(req.getRemoteAddr())
+        && MessageDigest.isEqual(expected, h.getBytes(StandardCharsets.US_ASCII))) {
+      SecurityContext ctx = SecurityContextHolder.createEmptyContext();
+      ctx.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+      SecurityContextHolder.setContext(ctx);
+    }
+    chain.doFilter(req, res);
+  }
+
+  private static boolean isLoopback(String addr) {
+    try {
+      return addr != null && InetAddress.getByName(addr).isLoopbackAddress();   // 숫자 주소라 DNS 조회 없음
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+// src/main/java/com/example/demo/warmup/WarmupProperties.java
+package com.example.demo.warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 워밍업 설정 (application.yml: app.warmup.*)
+ *
+ * requests 의 자리표시자:
+ *   {board} → board 값, {post} → {board} 목록 첫 글의 키(uuid 또는 post_id)
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+  private boolean enabled = true;
+  private int iterations = 200;                                      // 요청(경로)마다 반복 횟수
+  private int concurrency = 4;                                       // 동시에 보내는 요청 수
+  private Duration timeout = Duration.ofSeconds(60);                 // 전체 상한 — 넘으면 남은 반복은 건너뛰고 준비 완료
+  private String board = "BUS";
+  private String principal = "warmup";                               // 워밍업 요청의 인증 주체(가상 사용자)
+  private List<String> roles = new ArrayList<>(List.of("ROLE_USER", "ROLE_ADMIN")); // 글 상세는 작성자/관리자만 200
+  private List<String> requests = new ArrayList<>(List.of(
+      "/api/boards/{board}/posts?page=0&size=10",
+      "/api/posts/{post}",
+      "/api/posts/{post}/comments",
+      "/api/menus",
+      "/api/me"));
+
+  public boolean isEnabled() { return enabled; }
+  public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  public int getIterations() { return iterations; }
+  public void setIterations(int iterations) { this.iterations = iterations; }
+  public int getConcurrency() { return concurrency; }
+  public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+  public Duration getTimeout() { return timeout; }
+  public void setTimeout(Duration timeout) { this.timeout = timeout; }
+  public String getBoard() { return board; }
+  public void setBoard(String board) { this.board = board; }
+  public String getPrincipal() { return principal; }
+  public void setPrincipal(String principal) { this.principal = principal; }
+  public List<String> getRoles() { return roles; }
+  public void setRoles(List<String> roles) { this.roles = roles; }
+  public List<String> getRequests() { return requests; }
+  public void setRequests(List<String> requests) { this.requests = requests; }
+}
@@ -0,0 +1,184 @@
+// src/main/java/com/example/demo/warmup/WarmupRunner.java
+package com.example.demo.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 준비(readiness) 전 워밍업: 대표 읽기 요청을 자기 자신(루프백)에게 반복해서 보낸다.
+ *
+ * 스프링 부트는 ApplicationRunner 가 모두 끝난 뒤에야 ReadinessState.ACCEPTING_TRAFFIC 을 발행하므로
+ * (/actuator/health/readiness = OUT_OF_SERVICE 유지) 로드밸런서는 워밍업이 끝난 노드에만 트래픽을 보낸다.
+ * 실제 HTTP 로 보내므로 필터/시큐리티 체인, MVC, PostDao 스키마 탐지, 커넥션 풀, Jackson 직렬화기,
+ * 그리고 그 경로의 JIT 컴파일까지 한 번에 데워진다. 인증은 WarmupAuthenticationFilter(일회용 토큰).
+ *
+ * 결과는 경로별 첫 요청(차가운) / 마지막 절반의 중앙값(데워진) 지연과 전체 소요 시간으로 INFO 로그에 남긴다.
+ * 실패(오류 응답/시간 초과)해도 기동은 계속한다 — 워밍업은 최선 노력.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)                                    // 다른 러너(datagen 적재 등) 다음
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+  private final WarmupProperties props;
+  private final ApplicationContext context;
+  private final Environment env;
+  private final ObjectMapper objectMapper;
+  private final WarmupAuthenticationFilter filter;
+
+  public WarmupRunner(WarmupProperties props, ApplicationContext context, Environment env, ObjectMapper objectMapper) {
+    this.props = props;
+    this.context = context;
+    this.env = env;
+    this.objectMapper = objectMapper;
+    this.filter = new WarmupAuthenticationFilter(props.getPrincipal(), props.getRoles());
+  }
+
+  /** SecurityConfig 가 체인에 넣는 필터(워밍업 중에만 동작) */
+  public WarmupAuthenticationFilter authenticationFilter() {
+    return filter;
+  }
+
+  /** 한 경로의 결과 */
+  record PathResult(String path, int requests, int errors, double firstMs, double warmP50Ms) {}
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    if (!props.isEnabled() || props.getRequests().isEmpty()) return;
+    if (!(context instanceof WebServerApplicationContext web) || web.getWebServer() == null
+        || web.getWebServer().getPort() <= 0) {
+      return;                                                        // 웹 서버 없이 실행(datagen CLI 등)
+    }
+    String base = "http://127.0.0.1:" + web.getWebServer().getPort()
+        + env.getProperty("server.servlet.context-path", "");
+
+    long t0 = System.nanoTime();
+    long deadline = t0 + props.getTimeout().toNanos();
+    String token = filter.open();
+    List<PathResult> results = new ArrayList<>();
+    double firstMs;
+    try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+         ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, props.getConcurrency()))) {
+      long d0 = System.nanoTime();
+      String post = firstPostKey(client, base, token);               // 가장 차가운 첫 요청(스키마 탐지/풀 연결/직렬화기 생성)
+      firstMs = (System.nanoTime() - d0) / 1e6;
+      for (String template : props.getRequests()) {
+        if (template.contains("{post}") && post == null) continue;     // 게시글이 없으면 상세/댓글은 건너뜀
+        String path = template.replace("{board}", props.getBoard()).replace("{post}", post == null ? "" : post);
+        results.add(replay(pool, client, base + path, path, token, deadline));
+        if (System.nanoTime() > deadline) break;
+      }
+    } finally {
+      filter.close();
+    }
+
+    long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+    StringBuilder sb = new StringBuilder();
+    for (PathResult r : results) {
+      sb.append(String.format("%n  %-50s %5d req %4d err  first %8.1fms  warm p50 %6.2fms",
+          r.path(), r.requests(), r.errors(), r.firstMs(), r.warmP50Ms()));
+    }
+    log.info("warmup done in {}ms{} (very first request {}ms, timeout {}s, iterations {}, concurrency {}){}", totalMs,
+        System.nanoTime() > deadline ? " — TIMED OUT" : "", String.format("%.1f", firstMs), props.getTimeout().toSeconds(),
+        props.getIterations(), props.getConcurrency(), sb);
+  }
+
+  /** {post} 자리표시자: 게시판 목록 첫 글의 uuid(없으면 postId) */
+  private String firstPostKey(HttpClient client, String base, String token) {
+    try {
+      HttpResponse<byte[]> res = client.send(get(base + "/api/boards/" + props.getBoard() + "/posts?page=0&size=1", token),
+          HttpResponse.BodyHandlers.ofByteArray());
+      if (res.statusCode() != 200) return null;
+      JsonNode first = objectMapper.readTree(res.body()).path("content").path(0);
+      String key = first.path("uuid").asText(null);
+      if (key == null && first.hasNonNull("postId")) key = first.get("postId").asText();
+      return key;
+    } catch (Exception e) {
+      log.warn("warmup: {} 게시판 첫 글 조회 실패 — {post} 요청 생략: {}", props.getBoard(), e.toString());
+      return null;
+    }
+  }
+
+  /** 같은 요청을 iterations 번(동시 concurrency) 보내고 지연을 모은다 */
+  private PathResult replay(ExecutorService pool, HttpClient client, String url, String path, String token, long deadline)
+      throws InterruptedException {
+    HttpRequest req = get(url, token);
+    int n = Math.max(1, props.getIterations());
+    double[] lat = new double[n];
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger done = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+
+    lat[0] = send(client, req, errors);                              // 첫 요청은 단독으로(차가운 지연 측정)
+    done.incrementAndGet();
+    if (errors.get() > 0) return new PathResult(path, 1, 1, lat[0], lat[0]); // DB 장애 등 — 반복해 봐야 준비만 늦어짐
+    next.set(1);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int w = 0; w < Math.max(1, props.getConcurrency()); w++) {
+      workers.add(pool.submit(() -> {
+        int i;
+        while (System.nanoTime() < deadline && (i = next.getAndIncrement()) < n) {   // 가져간 번호는 반드시 채움
+          lat[i] = send(client, req, errors);
+          done.incrementAndGet();
+        }
+      }));
+    }
+    for (Future<?> f : workers) {
+      try {
+        f.get();
+      } catch (Exception e) {
+        errors.incrementAndGet();
+      }
+    }
+    int count = done.get();
+    double[] warm = Arrays.copyOfRange(lat, count / 2, count);      // 뒤쪽 절반 = 데워진 뒤
+    Arrays.sort(warm);
+    return new PathResult(path, count, errors.get(), lat[0], warm.length == 0 ? lat[0] : warm[warm.length / 2]);
+  }
+
+  private static double send(HttpClient client, HttpRequest req, AtomicInteger errors) {
+    long s = System.nanoTime();
+    try {
+      int status = client.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+      if (status >= 400) errors.incrementAndGet();
+    } catch (Exception e) {
+      errors.incrementAndGet();
+    }
+    return (System.nanoTime() - s) / 1e6;
+  }
+
+  private static HttpRequest get(String url, String token) {
+    return HttpRequest.newBuilder(URI.create(url)).GET()
+        .header(WarmupAuthenticationFilter.HEADER, token)
+        .header("Accept", "application/json")
+        .timeout(Duration.ofSeconds(10)).build();
+  }
+}
@@ -0,0 +1,110 @@
+// src/main/java/com/example/demo/web/AdaptiveLimit.java
+package com.example.demo.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연시간 기울기(gradient) 기반 동시 처리 한도 + 실패 시 곱셈 감소(AIMD)
+ *
+ * - longRtt  : 요청 지연의 장기 지수이동평균(부하 없을 때의 기준선 역할)
+ * - shortRtt : 최근 윈도우(windowSamples 건) 평균
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ *     지연이 기준선보다 늘면 1 미만 → 한도 축소, 그대로면 1 → 한도 + sqrt(limit) 만큼 증가 여지
+ * - 5xx/예외(drop) 가 윈도우에 있으면 limit *= backoffRatio (빠른 축소)
+ * - 윈도우 동안 inflight 가 한도 절반도 못 쓰면(부하가 적음) 늘리지 않는다.
+ *
+ * 우선순위: tryAcquire(share) — 현재 inflight 가 floor(limit * share) 미만일 때만 통과.
+ *   share 가 작은 요청(관리자 목록 등)일수록 먼저 거절된다.
+ */
+final class AdaptiveLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int windowSamples;
+  private final double tolerance;                                    // 기준선 대비 허용 지연 배율(1.5 = 50%까지 허용)
+  private final double smoothing;                                    // 새 한도 반영 비율(0~1)
+  private final double backoffRatio;
+  private final double longDecay;                                    // longRtt EWMA 계수(1/샘플 수)
+
+  private final AtomicInteger inflight = new AtomicInteger();
+  private volatile double limit;
+
+  // 아래 필드는 synchronized(this) 안에서만 갱신
+  private double longRtt;                                            // 나노초, 0 이면 아직 없음
+  private long windowSum;
+  private int windowCount;
+  private int windowMaxInflight;
+  private boolean windowDropped;
+  private volatile double lastShortRtt;
+
+  AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, int windowSamples,
+                double tolerance, double smoothing, double backoffRatio, int longWindowSamples) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.windowSamples = Math.max(1, windowSamples);
+    this.tolerance = Math.max(1.0, tolerance);
+    this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+    this.backoffRatio = Math.min(0.99, Math.max(0.1, backoffRatio));
+    this.longDecay = 1.0 / Math.max(1, longWindowSamples);
+    this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+  }
+
+  /** 자리 확보 시도(share = 이 우선순위가 쓸 수 있는 한도 비율). 성공하면 반드시 release 호출 */
+  boolean tryAcquire(double share) {
+    int allowed = Math.max(1, (int) (limit * share));
+    while (true) {
+      int cur = inflight.get();
+      if (cur >= allowed) return false;
+      if (inflight.compareAndSet(cur, cur + 1)) return true;
+    }
+  }
+
+  /** 처리 완료 — 측정 지연 반영 */
+  void release(long rttNanos, boolean dropped) {
+    int before = inflight.getAndDecrement();
+    sample(Math.max(1, rttNanos), before, dropped);
+  }
+
+  /** 측정 없이 자리만 반납(비동기 시작 등 지연이 의미 없는 경우) */
+  void releaseWithoutSample() {
+    inflight.decrementAndGet();
+  }
+
+  private synchronized void sample(long rtt, int inflightAtEnd, boolean dropped) {
+    windowSum += rtt;
+    windowCount++;
+    windowMaxInflight = Math.max(windowMaxInflight, inflightAtEnd);
+    windowDropped |= dropped;
+    if (windowCount < windowSamples) return;
+
+    double shortRtt = (double) windowSum / windowCount;
+    lastShortRtt = shortRtt;
+    if (longRtt == 0) longRtt = shortRtt;
+    else longRtt += (shortRtt - longRtt) * Math.min(1.0, longDecay * windowCount);
+
+    // 부하가 빠진 뒤 기준선이 높게 남아 있으면 빨리 끌어내림(다음 과부하 감지 지연 방지)
+    if (longRtt / shortRtt > 2.0) longRtt *= 0.95;
+
+    double cur = limit;
+    double next;
+    if (windowDropped) {
+      next = cur * backoffRatio;
+    } else {
+      double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+      next = cur * gradient + Math.sqrt(cur);                        // sqrt(limit) = 허용 대기열
+      if (gradient >= 1.0 && windowMaxInflight < cur / 2) next = cur; // 여유 상태에서는 늘리지 않음
+      next = cur * (1 - smoothing) + next * smoothing;
+    }
+    limit = Math.min(maxLimit, Math.max(minLimit, next));
+
+    windowSum = 0;
+    windowCount = 0;
+    windowMaxInflight = 0;
+    windowDropped = false;
+  }
+
+  int limit() { return (int) limit; }
+  int inflight() { return inflight.get(); }
+  synchronized double longRttMillis() { return longRtt / 1e6; }
+  double shortRttMillis() { return lastShortRtt / 1e6; }
+}
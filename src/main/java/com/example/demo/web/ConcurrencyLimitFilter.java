@@ -0,0 +1,127 @@
+// src/main/java/com/example/demo/web/ConcurrencyLimitFilter.java
+package com.example.demo.web;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 적응형 동시 처리 한도 필터(컨트롤러 앞단)
+ *
+ * - 과부하 시 Undertow 워커/커넥션 풀 대기열에 쌓여 전부 함께 타임아웃되는 대신,
+ *   한도를 넘는 요청은 즉시 503 + Retry-After 로 돌려보낸다.
+ * - 한도는 AdaptiveLimit 이 측정 지연으로 계속 조정(MariaDB 가 느려지면 자동 축소).
+ * - 우선순위별 사용 가능 비율이 달라 관리자 목록 → 쓰기 → 읽기 순으로 먼저 잘린다.
+ *   → DB 가 느려져도 게시판 목록/본문 읽기 p99 를 지킨다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  public enum Priority { READ, WRITE, LOW }
+
+  /** 조회용 통계 스냅샷 */
+  public record Stats(int limit, int inflight, double longRttMs, double shortRttMs,
+                      Map<String, Counts> byPriority) {}
+  public record Counts(long accepted, long shed) {}
+
+  private final AntPathMatcher matcher = new AntPathMatcher();
+  private final AdaptiveLimit limit;
+  private final boolean enabled;
+  private final List<String> paths;
+  private final List<String> excludedPaths;
+  private final List<String> lowPaths;
+  private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+  private final Map<Priority, LongAdder> accepted = new EnumMap<>(Priority.class);
+  private final Map<Priority, LongAdder> shed = new EnumMap<>(Priority.class);
+
+  public ConcurrencyLimitFilter(ConcurrencyLimitProperties p) {
+    this.enabled = p.isEnabled();
+    this.limit = new AdaptiveLimit(p.getInitialLimit(), p.getMinLimit(), p.getMaxLimit(),
+        p.getWindowSamples(), p.getTolerance(), p.getSmoothing(), p.getBackoffRatio(), p.getLongWindowSamples());
+    this.paths = List.copyOf(p.getPaths());
+    this.excludedPaths = List.copyOf(p.getExcludedPaths());
+    this.lowPaths = List.copyOf(p.getLowPaths());
+    shares.put(Priority.READ, p.getReadShare());
+    shares.put(Priority.WRITE, p.getWriteShare());
+    shares.put(Priority.LOW, p.getLowShare());
+    for (Priority pr : Priority.values()) {
+      accepted.put(pr, new LongAdder());
+      shed.put(pr, new LongAdder());
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!enabled) return true;
+    String path = path(request);
+    return !matchesAny(paths, path) || matchesAny(excludedPaths, path);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+    Priority pr = classify(req);
+    if (!limit.tryAcquire(shares.get(pr))) {
+      shed.get(pr).increment();
+      reject(req, res);
+      return;
+    }
+    accepted.get(pr).increment();
+
+    long start = System.nanoTime();
+    boolean dropped = true;                                          // 예외로 빠져나가면 실패로 간주
+    try {
+      chain.doFilter(req, res);
+      dropped = res.getStatus() >= 500;
+    } finally {
+      if (req.isAsyncStarted()) limit.releaseWithoutSample();        // 비동기 응답은 지연 측정 의미 없음
+      else limit.release(System.nanoTime() - start, dropped);
+    }
+  }
+
+  private Priority classify(HttpServletRequest req) {
+    if (matchesAny(lowPaths, path(req))) return Priority.LOW;
+    String m = req.getMethod();
+    return ("GET".equals(m) || "HEAD".equals(m)) ? Priority.READ : Priority.WRITE;
+  }
+
+  private boolean matchesAny(List<String> patterns, String path) {
+    for (String p : patterns) if (matcher.match(p, path)) return true;
+    return false;
+  }
+
+  private static String path(HttpServletRequest req) {
+    return req.getRequestURI().substring(req.getContextPath().length());
+  }
+
+  private static void reject(HttpServletRequest req, HttpServletResponse res) throws IOException {
+    res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    res.setHeader("Retry-After", "1");
+    if (path(req).startsWith("/api/")) {
+      res.setContentType("application/json;charset=UTF-8");
+      res.getWriter().write("{\"error\":\"overloaded\",\"retryAfter\":1}");
+    } else {
+      res.setContentType("text/plain;charset=UTF-8");
+      res.getWriter().write("서버가 혼잡합니다. 잠시 후 다시 시도하세요.");
+    }
+  }
+
+  /** 현재 한도/지연/우선순위별 통과·거절 수 */
+  public Stats stats() {
+    Map<String, Counts> by = new LinkedHashMap<>();
+    for (Priority pr : Priority.values()) {
+      by.put(pr.name().toLowerCase(), new Counts(accepted.get(pr).sum(), shed.get(pr).sum()));
+    }
+    return new Stats(limit.limit(), limit.inflight(), limit.longRttMillis(), limit.shortRttMillis(), by);
+  }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/example/demo/web/ConcurrencyLimitProperties.java
+package com.example.demo.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적응형 동시 처리 한도 설정 (application.yml: app.concurrency-limit.*)
+ *
+ * 우선순위 분류(위에서부터 처음 맞는 것):
+ *   excluded-paths : 한도 적용 안 함(SSE, 운영 지표 등)
+ *   low-paths      : 관리자 목록/내보내기 등 — low-share 만큼만 사용, 과부하 시 가장 먼저 503
+ *   GET/HEAD       : 읽기 — read-share(보통 1.0)
+ *   그 외 메서드    : 쓰기 — write-share
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  private boolean enabled = true;
+  private int initialLimit = 20;
+  private int minLimit = 4;
+  private int maxLimit = 200;
+  private int windowSamples = 50;                                    // 한도 재계산 주기(완료 요청 수)
+  private int longWindowSamples = 600;                               // 기준선(longRtt) 평균 길이
+  private double tolerance = 1.5;
+  private double smoothing = 0.2;
+  private double backoffRatio = 0.9;
+
+  private double readShare = 1.0;
+  private double writeShare = 0.8;
+  private double lowShare = 0.3;
+
+  private List<String> paths = new ArrayList<>(List.of("/api/**", "/user/**", "/users/**"));
+  private List<String> excludedPaths = new ArrayList<>();
+  private List<String> lowPaths = new ArrayList<>();
+
+  public boolean isEnabled() { return enabled; }
+  public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  public int getInitialLimit() { return initialLimit; }
+  public void setInitialLimit(int initialLimit) { this.initialLimit = initialLimit; }
+  public int getMinLimit() { return minLimit; }
+  public void setMinLimit(int minLimit) { this.minLimit = minLimit; }
+  public int getMaxLimit() { return maxLimit; }
+  public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+  public int getWindowSamples() { return windowSamples; }
+  public void setWindowSamples(int windowSamples) { this.windowSamples = windowSamples; }
+  public int getLongWindowSamples() { return longWindowSamples; }
+  public void setLongWindowSamples(int longWindowSamples) { this.longWindowSamples = longWindowSamples; }
+  public double getTolerance() { return tolerance; }
+  public void setTolerance(double tolerance) { this.tolerance = tolerance; }
+  public double getSmoothing() { return smoothing; }
+  public void setSmoothing(double smoothing) { this.smoothing = smoothing; }
+  public double getBackoffRatio() { return backoffRatio; }
+  public void setBackoffRatio(double backoffRatio) { this.backoffRatio = backoffRatio; }
+  public double getReadShare() { return readShare; }
+  public void setReadShare(double readShare) { this.readShare = readShare; }
+  public double getWriteShare() { return writeShare; }
+  public void setWriteShare(double writeShare) { this.writeShare = writeShare; }
+  public double getLowShare() { return lowShare; }
+  public void setLowShare(double lowShare) { this.lowShare = lowShare; }
+  public List<String> getPaths() { return paths; }
+  public void setPaths(List<String> paths) { this.paths = paths; }
+  public List<String> getExcludedPaths() { return excludedPaths; }
+  public void setExcludedPaths(List<String> excludedPaths) { this.excludedPaths = excludedPaths; }
+  public List<String> getLowPaths() { return lowPaths; }
+  public void setLowPaths(List<String> lowPaths) { this.lowPaths = lowPaths; }
+}
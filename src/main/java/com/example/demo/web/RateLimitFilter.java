@@ -0,0 +1,193 @@
+// src/main/java/com/example/demo/web/RateLimitFilter.java
+package com.example.demo.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 쓰기 경로 요청 제한(토큰 버킷) 서블릿 필터
+ *
+ * - 대상: 글 작성, 댓글/답글 작성, 회원가입, 폼 로그인 등(app.rate-limit.groups 로 설정)
+ * - 키: IP 버킷 + (로그인 상태면) 사용자 버킷 — 둘 중 하나라도 비면 거절(거절된 요청은 어느 버킷도 쓰지 않음)
+ * - 거절: 429 Too Many Requests + Retry-After(초), DB/BCrypt 작업 전에 끊는다
+ * - 스프링 시큐리티 필터 체인보다 앞에서 동작(폼 로그인 POST /login 도 막기 위함)하므로
+ *   사용자는 세션에 저장된 SecurityContext 에서 읽는다(무상태 모드면 토큰 subject).
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  /** 설정 한 그룹 = 매칭 규칙 + 버킷 표 + 통계 */
+  private static final class Route {
+    final String name;
+    final Set<String> methods;
+    final List<String> paths;
+    final TokenBucketTable ipTable;                                  // null 이면 IP 제한 없음
+    final TokenBucketTable userTable;                                // null 이면 사용자 제한 없음
+    final long idleNanos;                                            // 버킷이 가득 찰 때까지 걸리는 시간 이상
+    final LongAdder allowed = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+
+    Route(String name, RateLimitProperties.Group g, RateLimitProperties p) {
+      this.name = name;
+      this.methods = g.getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+      this.paths = List.copyOf(g.getPaths());
+      this.ipTable = table(g.getIp(), p);
+      this.userTable = table(g.getUser(), p);
+      long idle = TimeUnit.SECONDS.toNanos(p.getIdleEvictSeconds());
+      this.idleNanos = Math.max(idle, Math.max(fullRefillNanos(g.getIp()), fullRefillNanos(g.getUser())));
+    }
+
+    private static TokenBucketTable table(RateLimitProperties.Limit l, RateLimitProperties p) {
+      return l == null ? null : new TokenBucketTable(p.getStripes(), l.getCapacity(), l.getRefillPerSecond());
+    }
+
+    private static long fullRefillNanos(RateLimitProperties.Limit l) {
+      return l == null ? 0 : (long) (l.getCapacity() / Math.max(1e-9, l.getRefillPerSecond()) * 1e9);
+    }
+  }
+
+  /** 조회용 통계 스냅샷 */
+  public record Stats(long allowed, long rejected, int ipBuckets, int userBuckets) {}
+
+  private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private final AntPathMatcher matcher = new AntPathMatcher();
+  private final List<Route> routes = new ArrayList<>();
+  private final boolean enabled;
+  private final boolean trustForwardedFor;
+  private final Function<HttpServletRequest, String> tokenUser;
+  private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+  public RateLimitFilter(RateLimitProperties props) {
+    this(props, null);
+  }
+
+  /** @param tokenUser 무상태 모드의 토큰 → 사용자명 해석기(세션 모드면 null) */
+  public RateLimitFilter(RateLimitProperties props, Function<HttpServletRequest, String> tokenUser) {
+    this.tokenUser = tokenUser;
+    this.enabled = props.isEnabled();
+    this.trustForwardedFor = props.isTrustForwardedFor();
+    props.getGroups().forEach((name, g) -> routes.add(new Route(name, g, props)));
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled || routes.isEmpty();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+    Route route = match(req);
+    if (route == null) {                                             // 제한 대상 아님(읽기 등)
+      chain.doFilter(req, res);
+      return;
+    }
+
+    long now = System.nanoTime();
+    maybeSweep(now);
+
+    long waitNanos = 0;
+    String ip = route.ipTable != null ? clientIp(req) : null;
+    if (ip != null) waitNanos = route.ipTable.tryAcquire(ip, now);
+    if (waitNanos == 0 && route.userTable != null) {
+      String user = currentUser(req);
+      if (user == null && tokenUser != null) user = tokenUser.apply(req);
+      if (user != null) waitNanos = route.userTable.tryAcquire(user, now);
+      if (waitNanos > 0 && ip != null) route.ipTable.refund(ip);    // 사용자 버킷에서 거절 → 같은 IP 의 다른 사용자 몫은 돌려줌
+    }
+
+    if (waitNanos > 0) {
+      route.rejected.increment();
+      reject(req, res, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+      return;
+    }
+    route.allowed.increment();
+    chain.doFilter(req, res);
+  }
+
+  private Route match(HttpServletRequest req) {
+    String method = req.getMethod();
+    String path = req.getRequestURI().substring(req.getContextPath().length());
+    for (Route r : routes) {
+      if (!r.methods.isEmpty() && !r.methods.contains(method)) continue;
+      for (String p : r.paths) if (matcher.match(p, path)) return r;
+    }
+    return null;
+  }
+
+  private String clientIp(HttpServletRequest req) {
+    if (trustForwardedFor) {
+      String xff = req.getHeader("X-Forwarded-For");
+      if (xff != null && !xff.isBlank()) {
+        int comma = xff.indexOf(',');
+        return (comma < 0 ? xff : xff.substring(0, comma)).trim();
+      }
+    }
+    return req.getRemoteAddr();
+  }
+
+  /** 세션에 저장된 인증 정보에서 사용자명 추출(비로그인/세션 없음이면 null) */
+  private static String currentUser(HttpServletRequest req) {
+    HttpSession session = req.getSession(false);
+    if (session == null) return null;
+    Object ctx = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+    if (!(ctx instanceof SecurityContext sc)) return null;
+    Authentication auth = sc.getAuthentication();
+    return (auth != null && auth.isAuthenticated()) ? auth.getName() : null;
+  }
+
+  private static void reject(HttpServletRequest req, HttpServletResponse res, long retryAfterSec) throws IOException {
+    res.setStatus(429);
+    res.setHeader("Retry-After", String.valueOf(retryAfterSec));
+    if (req.getRequestURI().startsWith(req.getContextPath() + "/api/")) {
+      res.setContentType("application/json;charset=UTF-8");
+      res.getWriter().write("{\"error\":\"too_many_requests\",\"retryAfter\":" + retryAfterSec + "}");
+    } else {
+      res.setContentType("text/plain;charset=UTF-8");
+      res.getWriter().write("요청이 너무 많습니다. " + retryAfterSec + "초 후 다시 시도하세요.");
+    }
+  }
+
+  /** 30초마다 한 스레드만 유휴 버킷 정리(별도 스레드 없이 요청 경로에서 처리) */
+  private void maybeSweep(long now) {
+    long at = nextSweep.get();
+    if (now < at || !nextSweep.compareAndSet(at, now + SWEEP_INTERVAL_NANOS)) return;
+    for (Route r : routes) {
+      if (r.ipTable != null) r.ipTable.evictIdle(now, r.idleNanos);
+      if (r.userTable != null) r.userTable.evictIdle(now, r.idleNanos);
+    }
+  }
+
+  /** 그룹별 통계(설정 순서) */
+  public Map<String, Stats> stats() {
+    Map<String, Stats> out = new LinkedHashMap<>();
+    for (Route r : routes) {
+      out.put(r.name, new Stats(r.allowed.sum(), r.rejected.sum(),
+          r.ipTable == null ? 0 : r.ipTable.size(),
+          r.userTable == null ? 0 : r.userTable.size()));
+    }
+    return out;
+  }
+}
@@ -0,0 +1,65 @@
+// src/main/java/com/example/demo/web/RateLimitProperties.java
+package com.example.demo.web;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 쓰기 경로 요청 제한 설정 (application.yml: app.rate-limit.*)
+ *
+ * groups.<이름>:
+ *   methods : 대상 HTTP 메서드(비우면 전부)
+ *   paths   : Ant 패턴 목록(/api/boards/&#42;/posts 등)
+ *   ip      : IP 기준 버킷(capacity = 순간 허용량, refill-per-second = 초당 충전)
+ *   user    : 로그인 사용자 기준 버킷(비로그인 요청에는 적용 안 됨)
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  private int stripes = 64;                                          // 버킷 표 잠금 분할 수
+  private long idleEvictSeconds = 600;                               // 이 시간 이상 안 쓰인 버킷 제거
+  private boolean trustForwardedFor = false;                         // 프록시 뒤라면 X-Forwarded-For 첫 IP 사용
+  private Map<String, Group> groups = new LinkedHashMap<>();
+
+  public static class Group {
+    private List<String> methods = new ArrayList<>();
+    private List<String> paths = new ArrayList<>();
+    private Limit ip;
+    private Limit user;
+
+    public List<String> getMethods() { return methods; }
+    public void setMethods(List<String> methods) { this.methods = methods; }
+    public List<String> getPaths() { return paths; }
+    public void setPaths(List<String> paths) { this.paths = paths; }
+    public Limit getIp() { return ip; }
+    public void setIp(Limit ip) { this.ip = ip; }
+    public Limit getUser() { return user; }
+    public void setUser(Limit user) { this.user = user; }
+  }
+
+  public static class Limit {
+    private int capacity = 10;
+    private double refillPerSecond = 1.0;
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public double getRefillPerSecond() { return refillPerSecond; }
+    public void setRefillPerSecond(double refillPerSecond) { this.refillPerSecond = refillPerSecond; }
+  }
+
+  public boolean isEnabled() { return enabled; }
+  public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  public int getStripes() { return stripes; }
+  public void setStripes(int stripes) { this.stripes = stripes; }
+  public long getIdleEvictSeconds() { return idleEvictSeconds; }
+  public void setIdleEvictSeconds(long idleEvictSeconds) { this.idleEvictSeconds = idleEvictSeconds; }
+  public boolean isTrustForwardedFor() { return trustForwardedFor; }
+  public void setTrustForwardedFor(boolean trustForwardedFor) { this.trustForwardedFor = trustForwardedFor; }
+  public Map<String, Group> getGroups() { return groups; }
+  public void setGroups(Map<String, Group> groups) { this.groups = groups; }
+}
@@ -0,0 +1,99 @@
+// src/main/java/com/example/demo/web/TokenBucketTable.java
+package com.example.demo.web;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 키(사용자/IP)별 토큰 버킷 표 — 잠금 분할(striped) + 유휴 항목 제거
+ *
+ * - 키 해시로 stripe 를 고르고 그 stripe 잠금 안에서 조회/충전/소비를 한 번에 처리
+ *   → 버킷마다 잠금 객체를 두지 않고, 서로 다른 키끼리는 거의 경합하지 않는다.
+ * - evictIdle() 는 stripe 하나씩 잠그며 오래 안 쓰인(=이미 가득 찬) 버킷을 지운다.
+ *   스팸 IP 가 수십만 개 들어와도 메모리는 "최근 활동 키" 수만큼만 쓴다.
+ */
+final class TokenBucketTable {
+
+  /** 한 키의 버킷 상태(충전은 조회 시점에 경과 시간만큼 계산) */
+  private static final class Bucket {
+    double tokens;
+    long lastNanos;
+  }
+
+  private static final class Stripe {
+    final Map<String, Bucket> map = new HashMap<>();
+  }
+
+  private final Stripe[] stripes;
+  private final int capacity;                                        // 최대 토큰(순간 허용량)
+  private final double refillPerNano;                                // 초당 충전량 / 1e9
+
+  TokenBucketTable(int stripeCount, int capacity, double refillPerSecond) {
+    int n = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1; // 2의 거듭제곱으로 올림
+    this.stripes = new Stripe[n];
+    for (int i = 0; i < n; i++) stripes[i] = new Stripe();
+    this.capacity = Math.max(1, capacity);
+    this.refillPerNano = Math.max(1e-9, refillPerSecond) / 1e9;
+  }
+
+  private Stripe stripe(String key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);                                                 // 상위 비트 섞기
+    return stripes[h & (stripes.length - 1)];
+  }
+
+  /**
+   * 토큰 1개 소비 시도.
+   * @return 0 이면 허용, 양수면 다음 토큰까지 남은 나노초(거절)
+   */
+  long tryAcquire(String key, long now) {
+    Stripe s = stripe(key);
+    synchronized (s) {
+      Bucket b = s.map.get(key);
+      if (b == null) {
+        b = new Bucket();
+        b.tokens = capacity;
+        b.lastNanos = now;
+        s.map.put(key, b);
+      } else {
+        b.tokens = Math.min(capacity, b.tokens + (now - b.lastNanos) * refillPerNano);
+        b.lastNanos = now;
+      }
+      if (b.tokens >= 1.0) {
+        b.tokens -= 1.0;
+        return 0L;
+      }
+      return (long) Math.ceil((1.0 - b.tokens) / refillPerNano);
+    }
+  }
+
+  /** tryAcquire 로 가져간 토큰 1개 되돌림(다른 버킷에서 거절돼 요청을 받지 않았을 때) */
+  void refund(String key) {
+    Stripe s = stripe(key);
+    synchronized (s) {
+      Bucket b = s.map.get(key);
+      if (b != null) b.tokens = Math.min(capacity, b.tokens + 1.0);
+    }
+  }
+
+  /** idleNanos 이상 사용되지 않은 버킷 제거(그동안 가득 찼을 것이므로 지워도 동작은 동일) */
+  int evictIdle(long now, long idleNanos) {
+    int removed = 0;
+    for (Stripe s : stripes) {
+      synchronized (s) {
+        Iterator<Bucket> it = s.map.values().iterator();
+        while (it.hasNext()) {
+          if (now - it.next().lastNanos > idleNanos) { it.remove(); removed++; }
+        }
+      }
+    }
+    return removed;
+  }
+
+  int size() {
+    int n = 0;
+    for (Stripe s : stripes) synchronized (s) { n += s.map.size(); }
+    return n;
+  }
+}
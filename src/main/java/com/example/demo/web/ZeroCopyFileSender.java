@@ -0,0 +1,146 @@
+// src/main/java/com/example/demo/web/ZeroCopyFileSender.java
+package com.example.demo.web;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 로컬 파일 응답 — 조건부 요청(ETag) + 단일 Range + Undertow sendfile
+ *
+ * - If-None-Match 가 ETag 와 맞으면 304(본문 없음)
+ * - Range: bytes=a-b | a- | -n 하나만 지원 → 206 + Content-Range. 여러 구간이나 해석 불가한 값은 무시하고 200 전체
+ *   (RFC 9110 허용), 범위 밖이면 416. If-Range 가 ETag 와 다르면 Range 무시(파일이 바뀐 경우).
+ * - 본문: 헤더를 먼저 커밋(시큐리티 헤더 포함)한 뒤 Undertow 출력 스트림의 transferFrom(FileChannel) 로 보낸다.
+ *   Undertow 는 이를 FileChannel.transferTo(리눅스 sendfile)로 소켓에 바로 넘긴다 → 힙/사용자 공간 복사 없음.
+ *   보낼 양은 Content-Length(=구간 길이)에서 남은 만큼으로 잘린다. TLS 등 sendfile 을 못 쓰는 채널은 XNIO 가 버퍼 복사로 대체.
+ *   다른 컨테이너면 transferTo + 스트림 채널(고정 버퍼)로 보낸다.
+ */
+public final class ZeroCopyFileSender {
+
+  private ZeroCopyFileSender() {}
+
+  /**
+   * @param etag         따옴표 포함 강한 ETag(예: "\"abc\"")
+   * @param contentType  Content-Type
+   * @param disposition  Content-Disposition 값(null 이면 생략)
+   * @param cacheControl Cache-Control 값(null 이면 생략)
+   * @return false = 파일 없음(아무것도 쓰지 않음 → 호출 측이 404)
+   */
+  public static boolean send(HttpServletRequest req, HttpServletResponse res, Path file, String etag,
+                             String contentType, String disposition, String cacheControl) throws IOException {
+    FileChannel ch;
+    try {
+      ch = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+    try (ch) {
+      long size = ch.size();
+      res.setHeader(HttpHeaders.ETAG, etag);
+      res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+      if (cacheControl != null) res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+      if (matches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+        res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        return true;
+      }
+
+      long start = 0;
+      long length = size;
+      String range = req.getHeader(HttpHeaders.RANGE);
+      String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+      if (range != null && (ifRange == null || ifRange.trim().equals(etag))) {
+        long[] r = parseRange(range, size);
+        if (r == UNSATISFIABLE) {
+          res.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+          res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+          return true;
+        }
+        if (r != null) {
+          start = r[0];
+          length = r[1] - r[0] + 1;
+          res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+          res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r[0] + "-" + r[1] + "/" + size);
+        }
+      }
+
+      res.setContentType(contentType);
+      if (disposition != null) res.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+      res.setContentLengthLong(length);
+      if ("HEAD".equalsIgnoreCase(req.getMethod()) || length == 0) return true;
+
+      res.flushBuffer();                                             // 래퍼(시큐리티 헤더 등)를 거쳐 헤더 먼저 커밋
+      ServletOutputStream out = unwrap(res).getOutputStream();
+      ch.position(start);
+      if (out instanceof ServletOutputStreamImpl undertow) {
+        undertow.transferFrom(ch);                                   // sendfile — Content-Length 만큼만 전송
+      } else {
+        WritableByteChannel sink = Channels.newChannel(out);
+        for (long sent = 0; sent < length; ) sent += ch.transferTo(start + sent, length - sent, sink);
+      }
+      return true;
+    }
+  }
+
+  private static final long[] UNSATISFIABLE = new long[0];
+
+  /** bytes=a-b 하나 → {시작, 끝(포함)}, 무시할 값이면 null, 범위 밖이면 UNSATISFIABLE */
+  static long[] parseRange(String header, long size) {
+    String h = header.trim();
+    if (!h.regionMatches(true, 0, "bytes=", 0, 6)) return null;
+    String spec = h.substring(6).trim();
+    if (spec.indexOf(',') >= 0) return null;                         // 여러 구간은 지원하지 않음 → 전체
+    int dash = spec.indexOf('-');
+    if (dash < 0) return null;
+    String a = spec.substring(0, dash).trim();
+    String b = spec.substring(dash + 1).trim();
+    try {
+      if (a.isEmpty()) {                                             // -n : 마지막 n 바이트
+        if (b.isEmpty()) return null;
+        long n = Long.parseLong(b);
+        if (n <= 0 || size == 0) return UNSATISFIABLE;
+        return new long[] { Math.max(0, size - n), size - 1 };
+      }
+      long from = Long.parseLong(a);
+      long to = b.isEmpty() ? size - 1 : Math.min(Long.parseLong(b), size - 1);
+      if (from < 0 || (!b.isEmpty() && Long.parseLong(b) < from)) return null;
+      if (from >= size) return UNSATISFIABLE;
+      return new long[] { from, to };
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /** If-None-Match: "*" 또는 목록 중 하나가 같으면(약한 비교) true */
+  static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) return false;
+    String bare = etag.startsWith("W/") ? etag.substring(2) : etag;
+    for (String t : ifNoneMatch.split(",")) {
+      String v = t.trim();
+      if (v.equals("*")) return true;
+      if (v.startsWith("W/")) v = v.substring(2);
+      if (v.equals(bare)) return true;
+    }
+    return false;
+  }
+
+  private static ServletResponse unwrap(ServletResponse res) {
+    while (res instanceof ServletResponseWrapper w) res = w.getResponse();
+    return res;
+  }
+}
@@ -4,6 +4,31 @@
 
     const app = angular.module('busApp', ['ngRoute']);
 
+    // ───────────────── 토큰 재발급(무상태 모드) ─────────────────
+    // access 토큰(쿠키) 만료로 /api/** 가 401 이면 /api/auth/refresh 한 번 호출 후 원 요청 재시도.
+    // 세션 모드에서는 refresh 가 404/401 → 원래 401 그대로 전달.
+    app.factory('TokenRefreshInterceptor', function ($q, $injector) {
+        let refreshing = null;
+        return {
+            responseError: function (res) {
+                const cfg = res.config || {};
+                const url = String(cfg.url || '');
+                if (res.status !== 401 || cfg._retried || !url.startsWith('/api/') || url.startsWith('/api/auth/')) {
+                    return $q.reject(res);
+                }
+                const $http = $injector.get('$http');
+                refreshing = refreshing || $http.post('/api/auth/refresh').finally(() => (refreshing = null));
+                return refreshing.then(
+                    () => $http(angular.extend({}, cfg, { _retried: true })),
+                    () => $q.reject(res)
+                );
+            },
+        };
+    });
+    app.config(function ($httpProvider) {
+        $httpProvider.interceptors.push('TokenRefreshInterceptor');
+    });
+
     // ───────────────── AuthService ─────────────────
     app.factory('AuthService', function ($http, $q) {
         let me = null;
@@ -150,6 +175,22 @@
         });
     });
 
+    // ───────────────── 파일 선택(input type=file 은 ng-model 을 지원하지 않음) ─────────────────
+    // 사용: <input type="file" multiple file-select="upload(p, $files)">
+    app.directive('fileSelect', function () {
+        return {
+            restrict: 'A',
+            link: function (scope, el, attrs) {
+                el.on('change', function () {
+                    const files = Array.prototype.slice.call(el[0].files || []);
+                    if (!files.length) return;
+                    scope.$apply(() => scope.$eval(attrs.fileSelect, { $files: files }));
+                    el[0].value = ''; // 같은 파일을 다시 골라도 change 가 나도록 초기화
+                });
+            },
+        };
+    });
+
     // ───────────────── Root (탭/메뉴 제어) ─────────────────
     app.controller('RootCtrl', function ($scope, $location, $document, $timeout, AuthService, MenuService) {
         $scope.me = null;
@@ -923,6 +964,27 @@
             $scope.loadPosts();
         };
 
+        // 📡 실시간 피드(SSE): 새 글/수정/삭제 알림을 받아 목록 갱신(폴링 대체)
+        //  - 첫 페이지 + 비검색 상태에서만 자동 갱신, 짧은 시간 내 여러 이벤트는 한 번으로 합침
+        //  - 재접속/Last-Event-ID 는 브라우저 EventSource 가 자동 처리
+        let feed = null;
+        let feedTimer = null;
+        $scope.subscribeFeed = function () {
+            if (feed || !$scope.boardCode || typeof EventSource === 'undefined') return;
+            feed = new EventSource('/api/boards/' + encodeURIComponent($scope.boardCode) + '/events');
+            const onChange = function () {
+                if ($scope.page !== 0 || $scope.searchActive()) return;
+                if (feedTimer) clearTimeout(feedTimer);
+                feedTimer = setTimeout(() => $scope.$applyAsync(() => $scope.loadPosts()), 300);
+            };
+            ['created', 'updated', 'deleted', 'reset'].forEach((t) => feed.addEventListener(t, onChange));
+        };
+        $scope.$on('$destroy', function () {
+            if (feedTimer) clearTimeout(feedTimer);
+            if (feed) feed.close();
+            feed = null;
+        });
+
         // 페이지 이동/사이즈 변경 ------------------------------
         $scope.first = function () {
             if ($scope.page > 0) {
@@ -979,7 +1041,81 @@
         $scope.toggleComments = function (p) {
             // 특정 게시글 p의 댓글 영역 열기/닫기 토글
             p._showComments = !p._showComments; // 현재 표시 상태를 반전
-            if (p._showComments && !p._commentsLoaded) $scope.loadComments(p); // 처음 열 때만 서버에서 댓글을 로드
+            if (!p._showComments) return;
+            if (!p._commentsLoaded && !p._attachmentsLoaded) return $scope.loadPostView(p); // 처음 열 때: 댓글+첨부를 요청 한 번으로
+            if (!p._commentsLoaded) $scope.loadComments(p);
+            if (!p._attachmentsLoaded) $scope.loadAttachments(p);
+        };
+
+        // 글 열기 묶음(/api/posts/{id}/view): 댓글 앞쪽 일부 + 첨부 목록 — 댓글이 더 있으면 전체 목록을 이어서 받음
+        $scope.loadPostView = function (p) {
+            if (p._key == null || p._key === '') {
+                $scope.loadComments(p);
+                $scope.loadAttachments(p);
+                return;
+            }
+            $http
+                .get('/api/posts/' + encodeURIComponent(p._key) + '/view')
+                .then((res) => {
+                    const v = res.data || {};
+                    const comments = Array.isArray(v.comments) ? v.comments : [];
+                    p.attachments = Array.isArray(v.attachments) ? v.attachments : [];
+                    p._attachmentsLoaded = true;
+                    if (v.commentTotal > comments.length) return $scope.loadComments(p);
+                    p.comments = decorateComments(comments);
+                    p._commentsLoaded = true;
+                    p._newComment = '';
+                })
+                .catch(() => {
+                    $scope.loadComments(p);
+                    $scope.loadAttachments(p);
+                });
+        };
+
+        // ====== 첨부파일 ======
+        function attachmentsUrl(p) {
+            // /api/posts/{id}/attachments 는 숫자 PK 와 uuid 를 모두 받는다
+            return p._key != null && p._key !== '' ? '/api/posts/' + encodeURIComponent(p._key) + '/attachments' : null;
+        }
+
+        $scope.attachmentUrl = (a) => '/api/attachments/' + encodeURIComponent(a.uuid);
+
+        $scope.loadAttachments = function (p) {
+            const url = attachmentsUrl(p);
+            if (!url) {
+                p.attachments = [];
+                p._attachmentsLoaded = true;
+                return;
+            }
+            $http.get(url).then((res) => {
+                p.attachments = Array.isArray(res.data) ? res.data : [];
+                p._attachmentsLoaded = true;
+            });
+        };
+
+        $scope.uploadAttachments = function (p, files) {
+            const url = attachmentsUrl(p);
+            if (!url || !files || !files.length) return;
+            const form = new FormData();
+            files.forEach((f) => form.append('file', f));
+            p._uploading = true;
+            $http
+                .post(url, form, { headers: { 'Content-Type': undefined }, transformRequest: angular.identity }) // 브라우저가 boundary 포함 헤더 생성
+                .then((res) => {
+                    p.attachments = (p.attachments || []).concat(Array.isArray(res.data) ? res.data : []);
+                })
+                .catch((err) => {
+                    const msg = err && err.status === 413 ? '파일이 너무 큽니다.' : (err && typeof err.data === 'string' && err.data) || '업로드에 실패했습니다.';
+                    alert(msg);
+                })
+                .finally(() => (p._uploading = false));
+        };
+
+        $scope.deleteAttachment = function (p, a) {
+            if (!confirm('첨부파일 "' + a.filename + '"을(를) 삭제할까요?')) return;
+            $http.delete($scope.attachmentUrl(a)).then(() => {
+                p.attachments = (p.attachments || []).filter((x) => x.uuid !== a.uuid);
+            });
         };
 
         function decorateComments(arr) {
@@ -991,6 +1127,11 @@
                 c._uid = (c.uuid && 'c-' + c.uuid) || (typeof c.commentId === 'number' && isFinite(c.commentId) && 'c-' + c.commentId) || 'c-tmp-' + baseTs + '-' + i;
                 c._replying = false; // 대댓글 입력창 표시 상태(기본 숨김)
                 c._replyText = ''; // 대댓글 입력값(초기 공란)
+                if (c.status === 'DELETED') {
+                    // 탈퇴한 사용자의 댓글(AccountPurgeService) — 대댓글 트리 유지용으로 행만 남음
+                    c.writerName = '탈퇴한 사용자';
+                    c.content = '(삭제된 댓글입니다)';
+                }
                 return c; // 가공된 댓글 반환
             });
         }
@@ -1159,7 +1300,7 @@
             else return alert('이 글의 수정용 키를 알 수 없습니다.');
 
             $http
-                .put(url, { title, content })
+                .put(url, { title, content, boardCode: $scope.boardCode }) // 게시판 코드: 서버가 이벤트용으로 따로 조회하지 않도록
                 .then(function () {
                     p._editing = false;
                     p._editTitle = '';
@@ -1326,7 +1467,7 @@
             else url = '/api/posts/key/' + encodeURIComponent(key);
 
             $http
-                .put(url, { title, content }) // PUT 요청으로 서버에 수정 내용 전송
+                .put(url, { title, content, boardCode: code }) // PUT 요청으로 서버에 수정 내용 전송(게시판 코드 포함)
                 .then(function () {
                     // 성공 시
                     backToList(); // 다시 목록 화면으로 이동 (수정된 내용은 목록을 새로 로드해서 보여주게 됨)
@@ -1376,11 +1517,13 @@
         angular.extend(this, $controller('BoardBaseCtrl', { $scope })); // extend:상속
         $scope.boardCode = 'BUS';
         $scope.loadPosts();
+        $scope.subscribeFeed();
     });
     app.controller('BoardNormalCtrl', function ($scope, $controller) {
         angular.extend(this, $controller('BoardBaseCtrl', { $scope }));
         $scope.boardCode = 'NORM';
         $scope.loadPosts();
+        $scope.subscribeFeed();
     });
 
     // ───────────────── Roles ─────────────────
@@ -1389,8 +1532,9 @@
         $scope.loading = true;
         $scope.saving = false;
 
-        $scope.rows = []; // 화면용 데이터
-        $scope.sourceRows = []; // 서버 전체 원본
+        // 서버 키셋 페이지: /api/admin/roles?after=&size=&role=&q= → { items, next, total }
+        $scope.rows = []; // 화면용 데이터(현재 페이지)
+        $scope.paged = [];
 
         $scope.msg = '';
         $scope.msgType = 'info';
@@ -1399,9 +1543,11 @@
         $scope.pageSizes = [5, 10, 15, 20];
         $scope.pageSize = 10;
         $scope.page = 0;
-        $scope.filtered = [];
-        $scope.paged = [];
-        $scope.pages = 1;
+        $scope.total = null; // 아이디 검색 중에는 서버가 건수를 주지 않음(null)
+        $scope.hasNext = false;
+
+        let cursors = [null]; // cursors[p] = p 페이지를 여는 after 값(방문한 페이지까지만 앎)
+        let applied = { type: 'username', keyword: '' }; // 검색 버튼으로 확정된 조건
 
         function notify(type, text, ms) {
             $scope.msgType = type;
@@ -1417,120 +1563,81 @@
             return Math.max(1, num($scope.pageSize, 10));
         };
         $scope.pagesCount = function () {
-            const total = ($scope.filtered || []).length;
-            const size = $scope.pageSizeNum();
-            return Math.max(1, Math.ceil(total / size));
+            if ($scope.total != null) return Math.max(1, Math.ceil($scope.total / $scope.pageSizeNum()));
+            return cursors.length; // 건수를 모르면 알고 있는 페이지까지
         };
 
-        function matchRow(row, q) {
-            const kw = String(q.keyword || '')
-                .trim()
-                .toLowerCase();
-            if (!kw) return true;
-            if (q.type === 'username') {
-                const userStr = [row.username, row.userId, row.name, row.email].filter(Boolean).join(' ').toLowerCase();
-                return userStr.indexOf(kw) >= 0;
-            }
-            if (q.type === 'role') {
-                const roleStr = String(row.role || 'ROLE_USER').toLowerCase();
-                return roleStr.indexOf(kw) >= 0;
-            }
-            return true;
+        function params() {
+            const p = { size: $scope.pageSizeNum() };
+            if (cursors[$scope.page]) p.after = cursors[$scope.page];
+            const kw = String(applied.keyword || '').trim();
+            if (kw && applied.type === 'role') p.role = kw;
+            else if (kw) p.q = kw;
+            return p;
         }
 
-        function repage() {
-            const size = $scope.pageSizeNum();
-            const pages = $scope.pagesCount();
-            if ($scope.page >= pages) $scope.page = pages - 1;
-            if ($scope.page < 0) $scope.page = 0;
-
-            const start = $scope.page * size;
-            $scope.paged = ($scope.filtered || []).slice(start, start + size);
-            $scope.rows = $scope.paged;
-            $scope.pages = pages;
-        }
-        function refilter() {
-            $scope.filtered = ($scope.sourceRows || []).filter((r) => matchRow(r, $scope.q));
+        function restart() {
+            cursors = [null];
             $scope.page = 0;
-            repage();
+            $scope.load();
         }
 
         $scope.applySearch = function () {
-            refilter();
+            applied = angular.copy($scope.q);
+            restart();
         };
         $scope.resetSearch = function () {
             $scope.q = { type: 'username', keyword: '' };
-            refilter();
+            $scope.applySearch();
         };
 
         $scope.onSize = function () {
-            $scope.page = 0;
-            repage();
+            restart();
         };
         $scope.first = function () {
-            if ($scope.page > 0) {
-                $scope.page = 0;
-                repage();
-            }
+            if ($scope.page > 0) $scope.go(0);
         };
         $scope.prev = function () {
-            if ($scope.page > 0) {
-                $scope.page--;
-                repage();
-            }
+            if ($scope.page > 0) $scope.go($scope.page - 1);
         };
         $scope.next = function () {
-            const pages = $scope.pagesCount();
-            if ($scope.page < pages - 1) {
-                $scope.page++;
-                repage();
-            }
-        };
-        $scope.last = function () {
-            const pages = $scope.pagesCount();
-            if ($scope.page < pages - 1) {
-                $scope.page = pages - 1;
-                repage();
-            }
+            if ($scope.hasNext) $scope.go($scope.page + 1);
         };
         $scope.go = function (p) {
-            const pages = $scope.pagesCount();
             p = num(p, 0);
-            if (p >= 0 && p < pages && p !== $scope.page) {
+            if (p >= 0 && p < cursors.length && p !== $scope.page) {
                 $scope.page = p;
-                repage();
+                $scope.load();
             }
         };
         $scope.pageRange = function () {
-            const pages = $scope.pagesCount();
-            const cur = num($scope.page, 0);
             const arr = [];
+            const cur = num($scope.page, 0);
             const start = Math.max(0, cur - 2);
-            const end = Math.min(pages - 1, cur + 2);
+            const end = Math.min(cursors.length - 1, cur + 2);
             for (let i = start; i <= end; i++) arr.push(i);
             return arr;
         };
 
-        $scope.$watchGroup(['pageSize', () => ($scope.filtered || []).length], repage);
-
         $scope.load = function () {
             $scope.loading = true;
             $http
-                .get('/api/admin/roles')
+                .get('/api/admin/roles', { params: params() })
                 .then((res) => {
-                    $scope.sourceRows = Array.isArray(res.data) ? res.data : [];
-                    $scope.rows = $scope.sourceRows.slice(0);
-                    notify('info', '권한 목록을 불러왔습니다.', 1200);
-                    refilter();
+                    const data = res.data || {};
+                    $scope.paged = Array.isArray(data.items) ? data.items : [];
+                    $scope.rows = $scope.paged;
+                    $scope.total = data.total == null ? null : data.total;
+                    $scope.hasNext = !!data.next;
+                    cursors = cursors.slice(0, $scope.page + 1);
+                    if (data.next) cursors.push(data.next);
                 })
                 .catch((err) => {
                     if (err && err.status === 403) notify('error', '관리자 전용 페이지입니다.', 2500);
                     else notify('error', '권한 목록을 불러오지 못했습니다.', 2500);
-                    $scope.sourceRows = [];
-                    $scope.rows = [];
-                    $scope.filtered = [];
                     $scope.paged = [];
-                    $scope.pages = 1;
+                    $scope.rows = [];
+                    $scope.hasNext = false;
                 })
                 .finally(() => {
                     $scope.loading = false;
@@ -1548,9 +1655,7 @@
                 .then(() => {
                     row.role = target;
                     notify('success', '저장되었습니다.', 1200);
-                    const idx = ($scope.sourceRows || []).findIndex((r) => r.username === row.username);
-                    if (idx >= 0) $scope.sourceRows[idx].role = target;
-                    refilter();
+                    if (applied.type === 'role' && String(applied.keyword || '').trim()) $scope.load(); // 필터에서 빠질 수 있음
                 })
                 .catch((err) => notify('error', err && err.data ? err.data : '저장 중 오류가 발생했습니다.', 2500))
                 .finally(() => {
@@ -1563,29 +1668,30 @@
             if ($scope.isAdmin) $scope.load();
             else {
                 $scope.loading = false;
-                $scope.sourceRows = [];
                 $scope.rows = [];
-                $scope.filtered = [];
                 $scope.paged = [];
-                $scope.pages = 1;
             }
         });
     });
 
     // ───────────────── DB Users ─────────────────
-    app.controller('DbUsersCtrl', function ($scope, $http, $q, $location, AuthService) {
+    app.controller('DbUsersCtrl', function ($scope, $http, $location, AuthService) {
         $scope.isAdmin = false;
         $scope.users = [];
         $scope.userStatusMessage = '';
         $scope.userStatusType = '';
 
-        $scope.q = { type: 'username', keyword: '' };
+        // 서버 키셋 페이지: /api/admin/users?after=&size=&sort=&dir=&field=&q=&role= → { items, next }
+        $scope.q = { type: 'user_id', keyword: '' };
         $scope.pageSizes = [5, 10, 15, 20];
         $scope.pageSize = 10;
         $scope.page = 0;
-        $scope.pages = 1;
-        $scope.filtered = [];
+        $scope.hasNext = false;
         $scope.paged = [];
+        $scope.sort = { col: 'user_id', dir: 'asc' };
+
+        let cursors = [null]; // cursors[p] = p 페이지를 여는 after 값(방문한 페이지까지만 앎)
+        let applied = { type: 'user_id', keyword: '' }; // 검색 버튼으로 확정된 조건
 
         function toIntLocal(v, def) {
             if (typeof v === 'number' && isFinite(v)) return v;
@@ -1598,143 +1704,88 @@
             $scope.userStatusMessage = msg;
             if (ms) setTimeout(() => $scope.$applyAsync(() => ($scope.userStatusMessage = '')), ms);
         }
-        function buildKeySet(obj) {
-            if (!obj) return new Set();
-            return new Set([obj.user_id, obj.userId, obj.id, obj.email, obj.username, obj.name].filter(Boolean).map((s) => String(s).trim().toLowerCase()));
-        }
-        function makeRoleIndex(roleRows) {
-            const idx = new Map();
-            (roleRows || []).forEach((r) => buildKeySet(r).forEach((k) => idx.set(k, { role: r.role })));
-            return idx;
-        }
-        function attachRolesToUsers(users, roleIndex) {
-            (users || []).forEach((u) => {
-                let matched = null;
-                buildKeySet(u).forEach((k) => {
-                    if (!matched && roleIndex.has(k)) matched = roleIndex.get(k);
-                });
-                const role = matched ? matched.role : null;
-                u._role = role;
-                u._isAdmin = !!(role && String(role).toUpperCase().includes('ADMIN'));
-                u.roleLabel = roleToLabel(role);
-                u.roleClass = roleToClass(role);
-            });
+        function decorate(u) {
+            u._role = u.role || null;
+            u._isAdmin = !!(u.role && String(u.role).toUpperCase().includes('ADMIN'));
+            u.roleLabel = roleToLabel(u.role);
+            u.roleClass = roleToClass(u.role);
+            return u;
         }
 
-        function matchUser(u, q) {
-            const kw = String(q.keyword || '')
-                .trim()
-                .toLowerCase();
-            if (!kw) return true;
-
-            if (q.type === 'username') {
-                const userStr = [u.name, u.username, u.user_id, u.userId, u.id].filter(Boolean).join(' ').toLowerCase();
-                return userStr.indexOf(kw) >= 0;
-            }
-            if (q.type === 'email') {
-                return (
-                    String(u.email || '')
-                        .toLowerCase()
-                        .indexOf(kw) >= 0
-                );
+        function params() {
+            const p = { size: Math.max(1, toIntLocal($scope.pageSize, 10)), sort: $scope.sort.col, dir: $scope.sort.dir };
+            if (cursors[$scope.page]) p.after = cursors[$scope.page];
+            const kw = String(applied.keyword || '').trim();
+            if (kw && applied.type === 'role') p.role = kw;
+            else if (kw) {
+                p.field = applied.type;
+                p.q = kw;
             }
-            if (q.type === 'phone') {
-                const phoneStr = [u.phone, u.tel, u.phoneNumber].filter(Boolean).join(' ').toLowerCase();
-                return phoneStr.indexOf(kw) >= 0;
-            }
-            if (q.type === 'role') {
-                const roleRaw = String(u._role || u.role || '').toLowerCase();
-                const roleLabel = String(u.roleLabel || '').toLowerCase();
-                return roleRaw.indexOf(kw) >= 0 || roleLabel.indexOf(kw) >= 0;
-            }
-            return true;
-        }
-
-        function repage() {
-            const size = Math.max(1, toIntLocal($scope.pageSize, 10));
-            const total = ($scope.filtered || []).length;
-            $scope.pages = Math.max(1, Math.ceil(total / size));
-            if ($scope.page >= $scope.pages) $scope.page = $scope.pages - 1;
-            if ($scope.page < 0) $scope.page = 0;
-
-            const start = $scope.page * size;
-            $scope.paged = ($scope.filtered || []).slice(start, start + size);
+            return p;
         }
-
-        function refilter() {
-            $scope.filtered = ($scope.users || []).filter((u) => matchUser(u, $scope.q));
+        function restart() {
+            cursors = [null];
             $scope.page = 0;
-            repage();
+            $scope.loadUsers();
         }
 
         $scope.applySearch = function () {
-            refilter();
+            applied = angular.copy($scope.q);
+            restart();
         };
         $scope.resetSearch = function () {
-            $scope.q = { type: 'username', keyword: '' };
-            refilter();
+            $scope.q = { type: 'user_id', keyword: '' };
+            $scope.applySearch();
+        };
+        $scope.sortBy = function (col) {
+            $scope.sort = { col, dir: $scope.sort.col === col && $scope.sort.dir === 'asc' ? 'desc' : 'asc' };
+            restart();
+        };
+        $scope.sortMark = function (col) {
+            return $scope.sort.col !== col ? '' : $scope.sort.dir === 'asc' ? ' ▲' : ' ▼';
         };
 
         $scope.onSize = function () {
             $scope.pageSize = toIntLocal($scope.pageSize, 10);
-            $scope.page = 0;
-            repage();
+            restart();
         };
         $scope.first = function () {
-            if ($scope.page > 0) {
-                $scope.page = 0;
-                repage();
-            }
+            if ($scope.page > 0) $scope.go(0);
         };
         $scope.prev = function () {
-            if ($scope.page > 0) {
-                $scope.page--;
-                repage();
-            }
+            if ($scope.page > 0) $scope.go($scope.page - 1);
         };
         $scope.next = function () {
-            if ($scope.page < $scope.pages - 1) {
-                $scope.page++;
-                repage();
-            }
-        };
-        $scope.last = function () {
-            if ($scope.page < $scope.pages - 1) {
-                $scope.page = $scope.pages - 1;
-                repage();
-            }
+            if ($scope.hasNext) $scope.go($scope.page + 1);
         };
         $scope.go = function (p) {
             p = toIntLocal(p, 0);
-            if (p >= 0 && p < $scope.pages && p !== $scope.page) {
+            if (p >= 0 && p < cursors.length && p !== $scope.page) {
                 $scope.page = p;
-                repage();
+                $scope.loadUsers();
             }
         };
         $scope.pageRange = function () {
             const arr = [];
             const start = Math.max(0, $scope.page - 2);
-            const end = Math.min($scope.pages - 1, $scope.page + 2);
+            const end = Math.min(cursors.length - 1, $scope.page + 2);
             for (let i = start; i <= end; i++) arr.push(i);
             return arr;
         };
 
-        $scope.$watchGroup(['page', 'pageSize', () => ($scope.filtered || []).length], repage);
-
         $scope.loadUsers = function () {
             if (!$scope.isAdmin) return;
             setUserStatus('info', '⏳ 사용자 목록을 불러오는 중...');
-            const usersP = $http.get('/user').then((res) => normalizeList(res.data));
-            const rolesP = $http
-                .get('/api/roles')
-                .then((res) => (Array.isArray(res.data) ? res.data : []))
-                .catch(() => []);
-            $q.all([usersP, rolesP])
-                .then(function ([users, roles]) {
-                    attachRolesToUsers(users, makeRoleIndex(roles));
-                    $scope.users = users;
-                    setUserStatus('success', `👤 사용자 ${$scope.users.length}명 불러왔습니다.`, 1500);
-                    refilter();
+            $http
+                .get('/api/admin/users', { params: params() })
+                .then(function (res) {
+                    const data = res.data || {};
+                    $scope.paged = (Array.isArray(data.items) ? data.items : []).map(decorate);
+                    $scope.users = $scope.paged;
+                    $scope.hasNext = !!data.next;
+                    cursors = cursors.slice(0, $scope.page + 1);
+                    if (data.next) cursors.push(data.next);
+                    setUserStatus('success', `👤 사용자 ${$scope.paged.length}명 불러왔습니다.`, 1500);
                 })
                 .catch(function () {
                     setUserStatus('error', '❌ 사용자 목록을 불러오지 못했습니다.', 2500);
@@ -1781,7 +1832,6 @@
                     u.email = updated.email ?? email ?? u.email;
                     $scope.cancelEdit(u);
                     setUserStatus('success', `✅ 수정 완료 (ID: ${idKey})`, 1500);
-                    refilter();
                 })
                 .catch(function () {
                     setUserStatus('error', '❌ 수정에 실패했습니다.', 2500);
@@ -1796,9 +1846,8 @@
             $http
                 .delete('/user/' + encodeURIComponent(idKey))
                 .then(function () {
-                    $scope.users = $scope.users.filter((row) => (row.user_id || row.userId || row.id) !== idKey);
                     setUserStatus('success', `🗑️ 삭제 완료 (ID: ${idKey})`, 1500);
-                    refilter();
+                    $scope.loadUsers(); // 현재 페이지 다시 읽기(다음 행이 당겨짐)
                 })
                 .catch(function () {
                     setUserStatus('error', '❌ 삭제에 실패했습니다.', 2500);
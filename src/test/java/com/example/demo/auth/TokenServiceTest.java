@@ -0,0 +1,74 @@
+package com.example.demo.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TokenServiceTest {
+
+	private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+	private static TokenProperties props(String secret) {
+		TokenProperties p = new TokenProperties();
+		p.setEnabled(true);
+		p.setSecret(secret);
+		return p;
+	}
+
+	@Test
+	void accessTokenRoundTripsClaims() {
+		TokenService t = new TokenService(props(KEY));
+		String token = t.issueAccess("alice", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+		TokenService.Claims c = t.verify(token, TokenService.ACCESS);
+		assertNotNull(c);
+		assertEquals("alice", c.subject());
+		assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), c.roles());
+		assertEquals(c.issuedAt() + 15 * 60, c.expiresAt());
+
+		// 다른 노드(같은 secret)도 검증 가능
+		assertNotNull(new TokenService(props(KEY)).verify(token, TokenService.ACCESS));
+	}
+
+	@Test
+	void rejectsTamperedWrongTypeExpiredAndForeignTokens() {
+		TokenService t = new TokenService(props(KEY));
+		String access = t.issueAccess("alice", List.of("ROLE_USER"));
+		String refresh = t.issueRefresh("alice");
+
+		// payload 를 다른 사용자로 바꿔치기 → 서명 불일치
+		String[] parts = access.split("\\.");
+		String forged = parts[0] + "." + t.issueAccess("admin", List.of("ROLE_ADMIN")).split("\\.")[1] + "." + parts[2];
+		assertNull(t.verify(forged, TokenService.ACCESS));
+
+		assertNull(t.verify(refresh, TokenService.ACCESS));
+		assertNull(t.verify(access, TokenService.REFRESH));
+		assertNull(t.verify("not-a-token", TokenService.ACCESS));
+		assertNull(new TokenService(props("ffffffffffffffffffffffffffffffff")).verify(access, TokenService.ACCESS));
+
+		TokenProperties shortLived = props(KEY);
+		shortLived.setAccessTtl(Duration.ofSeconds(-120));
+		TokenService expired = new TokenService(shortLived);
+		assertNull(expired.verify(expired.issueAccess("alice", List.of()), TokenService.ACCESS));
+	}
+
+	@Test
+	void previousSecretStillVerifiesDuringRotation() {
+		String oldToken = new TokenService(props(KEY)).issueAccess("alice", List.of("ROLE_USER"));
+
+		TokenProperties rotated = props("fedcba9876543210fedcba9876543210");
+		rotated.setPreviousSecret(KEY);
+		assertNotNull(new TokenService(rotated).verify(oldToken, TokenService.ACCESS));
+	}
+
+	@Test
+	void shortSecretIsRejected() {
+		assertThrows(IllegalStateException.class, () -> new TokenService(props("too-short")));
+	}
+}
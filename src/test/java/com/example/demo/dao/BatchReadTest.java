@@ -0,0 +1,63 @@
+package com.example.demo.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.PostDto;
+import com.example.demo.id.TimeOrderedIdGenerator;
+
+class BatchReadTest {
+
+	@Test
+	void batchReadsMatchSingleReadsInRequestOrder() {
+		H2Fixture db = new H2Fixture("batch-read", new TimeOrderedIdGenerator(0), false);
+		PostDao posts = db.posts(e -> {});
+		CommentDao comments = db.comments();
+
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			PostDto d = new PostDto();
+			d.setBoardCode("NORM");
+			d.setTitle("t" + i);
+			d.setContent("본문 " + i);
+			d.setWriterId("alice");
+			posts.insert(d);
+			keys.add(d.getUuid());
+		}
+		CommentDto root = comment(keys.get(0), null);
+		comments.insert(root);
+		comments.insert(comment(keys.get(0), root.getUuid()));
+		comments.insert(comment(keys.get(2), null));
+
+		List<String> asked = List.of(keys.get(2), "missing", keys.get(0), keys.get(2));
+		List<PostDto> got = posts.findByKeys(asked);
+		assertEquals(List.of(keys.get(2), keys.get(0)), got.stream().map(PostDto::getUuid).toList()); // 없는 키 빠짐, 중복 한 번
+		assertEquals(posts.findByKey(keys.get(0)).getContent(), got.get(1).getContent());
+
+		Map<String, List<CommentDto>> byPost = comments.findByPosts(keys);
+		assertEquals(keys, List.copyOf(byPost.keySet()));
+		for (String k : keys) {
+			assertEquals(uuids(comments.findByPost(k)), uuids(byPost.get(k)));                   // 단건 조회와 같은 순서
+		}
+		assertEquals(0, byPost.get(keys.get(1)).size());
+	}
+
+	private static CommentDto comment(String post, String parent) {
+		CommentDto c = new CommentDto();
+		c.setPostUuid(post);
+		c.setParentUuid(parent);
+		c.setWriterId("bob");
+		c.setContent("댓글");
+		return c;
+	}
+
+	private static List<String> uuids(List<CommentDto> list) {
+		return list.stream().map(CommentDto::getUuid).toList();
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.demo.dao;
+
+import java.time.Duration;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.example.demo.dao.support.ArchiveTables;
+import com.example.demo.dao.support.BodyCodec;
+import com.example.demo.dao.support.ReadCoalescer;
+import com.example.demo.id.IdGenerator;
+import com.example.demo.id.RandomIdGenerator;
+
+/**
+ * DAO 테스트 공용 H2 — loadtest/schema.sql + SchemaInitializer + 게시판 b1(NORM), 스프링 없이 DAO 를 조립한다.
+ * DAO 생성자가 바뀌면 여기만 고친다.
+ */
+public final class H2Fixture {
+
+	public final JdbcDataSource ds = new JdbcDataSource();
+	public final JdbcTemplate jdbc;
+	public final ReadCoalescer coalescer = new ReadCoalescer(false);
+	public final BodyCodec body = new BodyCodec(1024, 6);
+	public final IdGenerator ids;
+	public final ArchiveTables archive;
+
+	/** 랜덤 uuid, 보관 테이블 없음 */
+	public H2Fixture(String name) {
+		this(name, new RandomIdGenerator(), false);
+	}
+
+	public H2Fixture(String name, IdGenerator ids, boolean archive) {
+		ds.setURL("jdbc:h2:mem:" + name + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		new ResourceDatabasePopulator(new ClassPathResource("loadtest/schema.sql")).execute(ds);
+		this.jdbc = new JdbcTemplate(ds);
+		new SchemaInitializer(jdbc, true, archive).create();
+		this.ids = ids;
+		this.archive = new ArchiveTables(jdbc, new DataSourceTransactionManager(ds), archive, Duration.ofMinutes(5));
+		jdbc.update("INSERT INTO board(uuid, board_code, board_name) VALUES ('b1', 'NORM', 'n')");
+	}
+
+	public PostDao posts(ApplicationEventPublisher events) {
+		return new PostDao(jdbc, events, coalescer, ids, body, archive);
+	}
+
+	public CommentDao comments() {
+		return new CommentDao(jdbc, coalescer, ids, body, archive);
+	}
+}
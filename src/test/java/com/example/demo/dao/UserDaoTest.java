@@ -0,0 +1,66 @@
+package com.example.demo.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class UserDaoTest {
+
+	private static UserDao dao() {
+		JdbcDataSource ds = new JdbcDataSource();
+		ds.setURL("jdbc:h2:mem:users-page;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		new ResourceDatabasePopulator(new ClassPathResource("loadtest/schema.sql")).execute(ds);
+		JdbcTemplate jdbc = new JdbcTemplate(ds);
+		String[][] users = { { "u1", "kim" }, { "u2", "lee" }, { "u3", "kim" }, { "u4", "park" }, { "u5", "k_m" } };
+		for (String[] u : users) {
+			jdbc.update("INSERT INTO users(user_id, name, email, password) VALUES (?, ?, ?, 'x')", u[0], u[1], u[0] + "@t");
+		}
+		return new UserDao(ds, e -> {});
+	}
+
+	private static List<String> ids(List<UserDao.UserRow> rows) {
+		List<String> out = new ArrayList<>();
+		rows.forEach(r -> out.add(r.user_id));
+		return out;
+	}
+
+	@Test
+	void walksNameOrderWithTiesBrokenByUserId() {
+		UserDao dao = dao();
+		List<String> seen = new ArrayList<>();
+		String afterName = null;
+		String afterId = null;
+		for (int page = 0; page < 5; page++) {
+			List<UserDao.UserRow> rows = dao.findAdminPage(new UserDao.AdminPageQuery(
+					"name", false, "user_id", null, afterName, afterId, List.of(), List.of(), 2));
+			if (rows.isEmpty()) break;
+			seen.addAll(ids(rows));
+			afterName = rows.get(rows.size() - 1).name;
+			afterId = rows.get(rows.size() - 1).user_id;
+		}
+		assertEquals(List.of("u5", "u1", "u3", "u2", "u4"), seen); // k_m < kim(u1) < kim(u3) < lee < park
+
+		assertEquals(List.of("u3", "u1"), ids(dao.findAdminPage(new UserDao.AdminPageQuery(
+				"name", true, "user_id", null, "lee", "u2", List.of(), List.of(), 2))));
+	}
+
+	@Test
+	void prefixSearchEscapesWildcardsAndAppliesRoleLists() {
+		UserDao dao = dao();
+		assertEquals(List.of("u5"), ids(dao.findAdminPage(new UserDao.AdminPageQuery(
+				"user_id", false, "name", "k_", null, null, List.of(), List.of(), 10))));
+		assertEquals(List.of("u1", "u3", "u5"), ids(dao.findAdminPage(new UserDao.AdminPageQuery(
+				"user_id", false, "name", "k", null, null, List.of(), List.of(), 10))));
+		assertEquals(List.of("u3"), ids(dao.findAdminPage(new UserDao.AdminPageQuery(
+				"user_id", false, "name", "k", null, null, List.of("u3", "u4"), List.of(), 10))));
+		assertEquals(List.of("u1", "u5"), ids(dao.findAdminPage(new UserDao.AdminPageQuery(
+				"user_id", false, "name", "k", null, null, List.of(), List.of("u3"), 10))));
+	}
+}
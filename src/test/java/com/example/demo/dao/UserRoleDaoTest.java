@@ -0,0 +1,90 @@
+package com.example.demo.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.service.user.UserRolesChangedEvent;
+
+class UserRoleDaoTest {
+
+	private static JdbcDataSource db(String name) {
+		JdbcDataSource ds = new JdbcDataSource();
+		ds.setURL("jdbc:h2:mem:roles-" + name + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		new ResourceDatabasePopulator(new ClassPathResource("loadtest/schema.sql")).execute(ds);
+		JdbcTemplate jdbc = new JdbcTemplate(ds);
+		for (int i = 1; i <= 1200; i++) {
+			jdbc.update("INSERT INTO users(user_id, name, email, password) VALUES (?, ?, ?, 'x')",
+					"u" + i, "n" + i, "u" + i + "@t");
+			jdbc.update("INSERT INTO users_roles(user_id, role_id) VALUES (?, 'USER')", "u" + i);
+		}
+		return ds;
+	}
+
+	@Test
+	void replacesRolesInBatchesAndSkipsUnknownUsers() {
+		JdbcDataSource ds = db("batch");
+		List<Object> events = new ArrayList<>();
+		UserRoleDao dao = new UserRoleDao(ds, events::add);
+
+		Map<String, String> changes = new LinkedHashMap<>();
+		for (int i = 1; i <= 1100; i++) changes.put("u" + i, i % 2 == 0 ? "ADMIN" : "USER"); // BATCH_SIZE(500) 경계 넘김
+		changes.put("nobody", "ADMIN");
+		Set<String> applied = dao.replaceRoles(changes);
+
+		assertEquals(1100, applied.size());
+		assertEquals(1100, events.size());
+		assertEquals(new UserRolesChangedEvent("u1"), events.get(0));
+		JdbcTemplate jdbc = new JdbcTemplate(ds);
+		assertEquals(550, jdbc.queryForObject("SELECT COUNT(*) FROM users_roles WHERE role_id = 'ADMIN'", Integer.class));
+		assertEquals(1200, jdbc.queryForObject("SELECT COUNT(*) FROM users_roles", Integer.class)); // 사용자당 1건
+		assertEquals(List.of("USER"), dao.findRolesByUserId("u1101"));                          // 요청 밖 사용자는 그대로
+	}
+
+	@Test
+	void sameUserSpelledDifferentlyIsAppliedOnceLastWins() {
+		JdbcDataSource ds = db("dup");
+		List<Object> events = new ArrayList<>();
+		UserRoleDao dao = new UserRoleDao(ds, events::add);
+
+		Map<String, String> changes = new LinkedHashMap<>();
+		changes.put("u1", "ADMIN");
+		changes.put("U1", "USER");                                       // 저장된 id 는 같음 → 이쪽만 반영
+		changes.put("u2", "ADMIN");
+		Set<String> applied = dao.replaceRoles(changes);
+
+		assertEquals(Set.of("U1", "u2"), applied);
+		assertEquals(2, events.size());
+		assertEquals(List.of("USER"), dao.findRolesByUserId("u1"));
+		assertEquals(List.of("ADMIN"), dao.findRolesByUserId("u2"));
+	}
+
+	@Test
+	void failureRollsBackTheWholeBatch() {
+		JdbcDataSource ds = db("rollback");
+		UserRoleDao dao = new UserRoleDao(ds, e -> {});
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(ds));
+
+		Map<String, String> changes = new LinkedHashMap<>();
+		changes.put("u1", "ADMIN");
+		changes.put("u2", "X".repeat(80)); // role_id VARCHAR(50) 초과 → INSERT 배치 실패
+		assertThrows(DataAccessException.class, () -> tx.executeWithoutResult(s -> dao.replaceRoles(changes)));
+
+		assertEquals(List.of("USER"), dao.findRolesByUserId("u1"));
+		assertEquals(List.of("USER"), dao.findRolesByUserId("u2"));
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.demo.dao.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BodyCodecTest {
+
+	private final BodyCodec codec = new BodyCodec(1024, 6);
+
+	@Test
+	void longBodiesRoundTripSmallerAndShortOnesStayPlain() {
+		String text = "오늘 커뮤니티 게시판에 올라온 긴 글입니다. ".repeat(200);
+		String stored = codec.encode(text);
+		assertTrue(BodyCodec.isEncoded(stored));
+		assertTrue(stored.length() < text.getBytes(StandardCharsets.UTF_8).length / 2);
+		assertEquals(text, BodyCodec.decode(stored));
+		assertEquals(1, codec.compressedWrites());
+
+		assertSame("짧은 댓글", codec.encode("짧은 댓글"));
+		assertSame("예전 평문 행", BodyCodec.decode("예전 평문 행")); // 압축 도입 전 행은 그대로
+	}
+
+	@Test
+	void markerPrefixedTextIsAlwaysEncodedAndIncompressibleTextStaysPlain() {
+		String tricky = BodyCodec.MARKER + "abc";
+		String stored = codec.encode(tricky);
+		assertFalse(stored.equals(tricky));
+		assertEquals(tricky, BodyCodec.decode(stored));
+
+		StringBuilder noise = new StringBuilder();
+		Random r = new Random(7);
+		for (int i = 0; i < 2000; i++) noise.append((char) ('!' + r.nextInt(90)));
+		String plain = noise.toString();
+		assertSame(plain, codec.encode(plain)); // Base64 로 늘어나면 평문 유지
+	}
+}
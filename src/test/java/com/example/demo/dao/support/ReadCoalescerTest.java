@@ -0,0 +1,54 @@
+package com.example.demo.dao.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ReadCoalescerTest {
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		ReadCoalescer c = new ReadCoalescer(true);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Object result = new Object();
+
+		List<Future<Object>> futures = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+			for (int i = 0; i < 8; i++) {
+				futures.add(pool.submit(() -> c.load("g", "k", () -> {
+					loads.incrementAndGet();
+					try { release.await(); } catch (InterruptedException e) { throw new IllegalStateException(e); }
+					return result;
+				})));
+			}
+			while (c.stats().get("g") == null || c.stats().get("g").coalesced() < 7) Thread.onSpinWait(); // follower 7개가 진행 중인 로드를 찾을 때까지
+			release.countDown();
+			for (Future<Object> f : futures) assertSame(result, f.get());
+		}
+
+		assertEquals(1, loads.get());
+		ReadCoalescer.Stats s = c.stats().get("g");
+		assertEquals(1, s.executed());
+		assertEquals(7, s.coalesced());
+		assertEquals(0, s.inflight());
+	}
+
+	@Test
+	void failureIsNotRemembered() {
+		ReadCoalescer c = new ReadCoalescer(true);
+		assertThrows(IllegalStateException.class,
+				() -> c.load("g", "k", () -> { throw new IllegalStateException("db down"); }));
+		assertEquals("ok", c.load("g", "k", () -> "ok"));
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.demo.datagen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class DataGeneratorTest {
+
+	@Test
+	void sameSeedProducesIdenticalRows() throws Exception {
+		JdbcTemplate a = generate("a", 7);
+		JdbcTemplate b = generate("b", 7);
+		JdbcTemplate c = generate("c", 8);
+
+		assertEquals(dump(a), dump(b));
+		assertNotEquals(dump(a), dump(c));
+	}
+
+	@Test
+	void commentTreesFollowCommentDaoRules() throws Exception {
+		JdbcTemplate db = generate("tree", 1);
+
+		// 대댓글: 부모와 같은 글, depth = 부모 depth + 1
+		Integer broken = db.queryForObject(
+				"SELECT COUNT(*) FROM `comment` c JOIN `comment` p ON c.parent_uuid = p.uuid "
+						+ "WHERE c.post_uuid <> p.post_uuid OR c.depth <> p.depth + 1", Integer.class);
+		assertEquals(0, broken);
+		Integer orphans = db.queryForObject(
+				"SELECT COUNT(*) FROM `comment` c LEFT JOIN `comment` p ON c.parent_uuid = p.uuid "
+						+ "WHERE c.parent_uuid IS NOT NULL AND p.uuid IS NULL", Integer.class);
+		assertEquals(0, orphans);
+		Integer maxDepth = db.queryForObject("SELECT MAX(depth) FROM `comment`", Integer.class);
+		assertTrue(maxDepth >= 3 && maxDepth <= 12, "max depth " + maxDepth);
+
+		// 게시판 크기 편향: 첫 게시판이 마지막 게시판보다 훨씬 큼
+		List<Integer> sizes = db.queryForList(
+				"SELECT COUNT(*) FROM post p JOIN board b ON p.board_uuid = b.uuid GROUP BY b.board_code ORDER BY b.board_code",
+				Integer.class);
+		assertTrue(sizes.get(0) > 3 * sizes.get(sizes.size() - 1), "board sizes " + sizes);
+	}
+
+	private static JdbcTemplate generate(String name, long seed) throws Exception {
+		JdbcDataSource ds = new JdbcDataSource();
+		ds.setURL("jdbc:h2:mem:datagen-" + name + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		new ResourceDatabasePopulator(new ClassPathResource("loadtest/schema.sql")).execute(ds);
+
+		DataGenProperties p = new DataGenProperties();
+		p.setSeed(seed);
+		p.setUsers(200);
+		p.setBoards(8);
+		p.setPosts(2_000);
+		p.setBatchRows(64);
+		p.setCommitRows(1_000);
+		DataGenerator.Result r = new DataGenerator(ds, "{noop}x", p).generate();
+		assertEquals(2_000, r.posts());
+		assertEquals(200, r.users());
+
+		JdbcTemplate db = new JdbcTemplate(ds);
+		assertEquals(r.comments(), db.queryForObject("SELECT COUNT(*) FROM `comment`", Long.class));
+		return db;
+	}
+
+	private static List<String> dump(JdbcTemplate db) {
+		return db.queryForList(
+				"SELECT CONCAT(c.uuid, '|', c.post_uuid, '|', COALESCE(c.parent_uuid, '-'), '|', c.depth, '|', c.author_id, '|', "
+						+ "c.content, '|', c.created_at, '|', p.title, '|', p.board_uuid) "
+						+ "FROM `comment` c JOIN post p ON c.post_uuid = p.uuid ORDER BY c.uuid",
+				String.class);
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.demo.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	@Test
+	void idsSortInGenerationOrderEvenWhenTheClockStallsOrGoesBack() {
+		AtomicLong now = new AtomicLong(1_700_000_000_000L);
+		TimeOrderedIdGenerator gen = new TimeOrderedIdGenerator(5, now::get);
+		List<String> uuids = new ArrayList<>();
+		List<String> shortIds = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) { // 한 ms 순번(4096)을 넘김
+			uuids.add(gen.uuid());
+			shortIds.add(gen.shortId());
+			if (i == 9_000) now.addAndGet(-60_000); // 시계 역행
+		}
+		now.addAndGet(3_600_000);
+		uuids.add(gen.uuid());
+		shortIds.add(gen.shortId());
+
+		assertEquals(uuids, uuids.stream().sorted().toList());
+		assertEquals(shortIds, shortIds.stream().sorted(String.CASE_INSENSITIVE_ORDER).toList());
+
+		UUID u = UUID.fromString(uuids.get(0));
+		assertEquals(7, u.version());
+		assertEquals(2, u.variant());
+		assertEquals(1_700_000_000_000L, u.getMostSignificantBits() >>> 16);
+		assertTrue(shortIds.stream().allMatch(s -> s.length() == 16 && s.matches("[0-9a-hjkmnp-tv-z]+")));
+	}
+}
@@ -0,0 +1,204 @@
+// src/test/java/com/example/demo/loadtest/LoadDriver.java
+package com.example.demo.loadtest;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단순 HTTP 부하 발생기 (JDK HttpClient + 가상 스레드, 외부 도구 불필요)
+ *
+ * 사용 예:
+ *   java -cp target/test-classes com.example.demo.loadtest.LoadDriver \
+ *     --base=http://localhost:8091 --user=admin --password=1234 \
+ *     --concurrency=200 --duration=30 \
+ *     --path=/api/boards/NORM/posts --path=/api/menus
+ *
+ * - --user 가 있으면 폼 로그인(CSRF 토큰 포함) 후 같은 세션 쿠키로 요청
+ * - 경로별 처리량(req/s), 지연 p50/p95/p99/max(ms), 오류 수를 출력
+ * - --label 을 주면 결과 줄 앞에 붙여 두 실행(예: platform / virtual)을 비교하기 쉽게 함
+ */
+public final class LoadDriver {
+
+  private LoadDriver() {}
+
+  /** 한 경로(엔드포인트)의 측정 결과 */
+  public record Stats(String path, long requests, long errors, double rps,
+                      double p50, double p95, double p99, double max) {
+
+    public String line(String label) {
+      return String.format("%-10s %-40s %9d %7d %10.1f %8.2f %8.2f %8.2f %8.2f",
+          label, path, requests, errors, rps, p50, p95, p99, max);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, List<String>> opt = parse(args);
+    String base = first(opt, "base", "http://localhost:8091");
+    int concurrency = Integer.parseInt(first(opt, "concurrency", "100"));
+    int seconds = Integer.parseInt(first(opt, "duration", "30"));
+    String label = first(opt, "label", "-");
+    List<String> paths = opt.getOrDefault("path", List.of("/api/menus"));
+
+    HttpClient client = client();
+    String user = first(opt, "user", null);
+    if (user != null) login(client, base, user, first(opt, "password", ""));
+
+    List<Stats> result = run(client, base, paths, concurrency, Duration.ofSeconds(seconds));
+    System.out.println(header());
+    result.forEach(s -> System.out.println(s.line(label)));
+  }
+
+  public static String header() {
+    return String.format("%-10s %-40s %9s %7s %10s %8s %8s %8s %8s",
+        "label", "path", "requests", "errors", "req/s", "p50ms", "p95ms", "p99ms", "maxms");
+  }
+
+  /** 세션 쿠키를 유지하는 HTTP 클라이언트 */
+  public static HttpClient client() {
+    return HttpClient.newBuilder()
+        .cookieHandler(new CookieManager())
+        .connectTimeout(Duration.ofSeconds(5))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+  }
+
+  /** 폼 로그인: GET /login 에서 CSRF 토큰을 읽고 POST /login */
+  public static void login(HttpClient client, String base, String user, String password) throws Exception {
+    String page = client.send(HttpRequest.newBuilder(URI.create(base + "/login")).GET().build(),
+        HttpResponse.BodyHandlers.ofString()).body();
+    Matcher m = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"").matcher(page);
+    String form = "username=" + enc(user) + "&password=" + enc(password)
+        + (m.find() ? "&_csrf=" + enc(m.group(1)) : "");
+    HttpResponse<Void> res = client.send(HttpRequest.newBuilder(URI.create(base + "/login"))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form)).build(),
+        HttpResponse.BodyHandlers.discarding());
+    String loc = res.headers().firstValue("Location").orElse("");
+    if (loc.contains("error")) throw new IllegalStateException("login failed for " + user);
+  }
+
+  /** 한 번의 요청 — HTTP 상태 코드 반환(400 이상 또는 예외 = 오류). worker/seq 로 대상 키를 분산 */
+  @FunctionalInterface
+  public interface Call {
+    int send(HttpClient client, int worker, long seq) throws Exception;
+  }
+
+  /** 결과 표의 한 줄(이름) + 요청 방법 */
+  public record Endpoint(String name, Call call) {}
+
+  /** 같은 세션 쿠키로 base + path GET */
+  public static Endpoint get(String base, String path) {
+    URI uri = URI.create(base + path);
+    return new Endpoint(path, (c, w, i) -> c.send(HttpRequest.newBuilder(uri).GET()
+        .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding()).statusCode());
+  }
+
+  /**
+   * concurrency 개의 가상 스레드가 duration 동안 paths 를 번갈아 GET 호출.
+   * 2xx/3xx 외 응답과 예외는 오류로 집계(지연 시간 통계에서는 제외).
+   */
+  public static List<Stats> run(HttpClient client, String base, List<String> paths,
+                                int concurrency, Duration duration) throws InterruptedException {
+    return runEndpoints(client, paths.stream().map(p -> get(base, p)).toList(), concurrency, duration);
+  }
+
+  /** run() 의 일반형: 엔드포인트(GET/POST/로그인 등 임의 호출)를 워커마다 번갈아 실행 */
+  public static List<Stats> runEndpoints(HttpClient client, List<Endpoint> endpoints,
+                                         int concurrency, Duration duration) throws InterruptedException {
+    final long deadline = System.nanoTime() + duration.toNanos();
+    final List<long[]>[] samples = newSampleLists(endpoints.size()); // 엔드포인트별: 스레드마다 long[] 버퍼
+    final long[][] errors = new long[concurrency][endpoints.size()];
+
+    try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int w = 0; w < concurrency; w++) {
+        final int worker = w;
+        final LongBuf[] local = new LongBuf[endpoints.size()];
+        for (int p = 0; p < local.length; p++) local[p] = new LongBuf();
+        pool.submit(() -> {
+          long i = worker;
+          while (System.nanoTime() < deadline) {
+            long seq = i++;
+            int p = (int) (seq % endpoints.size());
+            long t0 = System.nanoTime();
+            try {
+              int status = endpoints.get(p).call().send(client, worker, seq);
+              if (status >= 400) errors[worker][p]++;
+              else local[p].add(System.nanoTime() - t0);
+            } catch (Exception e) {
+              errors[worker][p]++;
+            }
+          }
+          for (int p = 0; p < local.length; p++) {
+            synchronized (samples[p]) { samples[p].add(local[p].toArray()); }
+          }
+        });
+      }
+    }                                                                 // close() = 모든 작업 종료 대기
+
+    double secs = duration.toNanos() / 1e9;
+    List<Stats> out = new ArrayList<>();
+    for (int p = 0; p < endpoints.size(); p++) {
+      long[] all = samples[p].stream().flatMapToLong(Arrays::stream).sorted().toArray();
+      long err = 0;
+      for (long[] e : errors) err += e[p];
+      out.add(new Stats(endpoints.get(p).name(), all.length, err, all.length / secs,
+          pct(all, 50), pct(all, 95), pct(all, 99), all.length == 0 ? 0 : all[all.length - 1] / 1e6));
+    }
+    return out;
+  }
+
+  private static double pct(long[] sorted, double q) {
+    if (sorted.length == 0) return 0;
+    int idx = (int) Math.min(sorted.length - 1, Math.ceil(q / 100.0 * sorted.length) - 1);
+    return sorted[Math.max(0, idx)] / 1e6;                            // ns → ms
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<long[]>[] newSampleLists(int n) {
+    List<long[]>[] arr = new List[n];
+    for (int i = 0; i < n; i++) arr[i] = new ArrayList<>();
+    return arr;
+  }
+
+  /** 박싱 없는 가변 long 버퍼(측정 오버헤드 최소화) */
+  static final class LongBuf {
+    private long[] a = new long[1024];
+    private int n;
+    void add(long v) { if (n == a.length) a = Arrays.copyOf(a, n * 2); a[n++] = v; }
+    long[] toArray() { return Arrays.copyOf(a, n); }
+  }
+
+  private static String enc(String s) { return URLEncoder.encode(s, StandardCharsets.UTF_8); }
+
+  static Map<String, List<String>> parse(String[] args) {
+    Map<String, List<String>> m = new LinkedHashMap<>();
+    for (String a : args) {
+      if (!a.startsWith("--")) continue;
+      int eq = a.indexOf('=');
+      String k = eq < 0 ? a.substring(2) : a.substring(2, eq);
+      String v = eq < 0 ? "true" : a.substring(eq + 1);
+      m.computeIfAbsent(k, x -> new ArrayList<>()).add(v);
+    }
+    return m;
+  }
+
+  static String first(Map<String, List<String>> opt, String key, String def) {
+    List<String> v = opt.get(key);
+    return (v == null || v.isEmpty()) ? def : v.get(0);
+  }
+}
@@ -0,0 +1,174 @@
+// src/test/java/com/example/demo/loadtest/LoadHarness.java
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.DemoApplication;
+
+/**
+ * 운영 MariaDB 없이 앱 전체를 띄워 시나리오 부하를 거는 하네스 (네트워크/외부 DB 불필요)
+ *
+ * - 내장 H2(MariaDB 호환 모드)로 DemoApplication 을 임의 포트에 부팅
+ *   → loadtest/schema.sql + data.sql 로 users/users_roles/board/post/comment/menu 시드
+ * - 시나리오마다 워밍업 후 측정, 엔드포인트별 처리량/지연 p50/p95/p99/max 출력(LoadDriver 표 형식)
+ *
+ * 실행:
+ *   mvn -Ploadtest verify
+ *   mvn -Ploadtest verify -Dload.args="--scenario=browse --scenario=login --concurrency=50 --duration=20"
+ *   (의존성을 한 번 받아 둔 뒤에는 mvn -o 로 오프라인 실행 가능)
+ *
+ * 옵션:
+ *   --scenario=browse|front|comments|login|admin|static (반복 가능, 기본 전부)
+ *   --concurrency=N(기본 32) --duration=초(기본 15) --warmup=초(기본 5)
+ *   그 밖의 --key=value 는 앱 설정으로 전달(예: --app.rate-limit.enabled=true --spring.threads.virtual.enabled=true)
+ *
+ * 대용량 데이터셋: --spring.profiles.active=datagen --app.datagen.exit=false --app.datagen.posts=1000000 ...
+ *   → 시나리오 전에 DataGenerator 가 seed 기준 같은 데이터를 추가 적재(G001~ 게시판)
+ */
+public final class LoadHarness {
+
+  private LoadHarness() {}
+
+  static final String PASSWORD = "load1234";                         // data.sql 의 모든 계정 비밀번호
+  static final int USERS = 500;                                      // user0001 ~ user0500
+  static final int POSTS_PER_BOARD = 2000;
+  static final int POSTS_WITH_COMMENTS = 100;                        // 게시판마다 앞쪽 100개 글에 댓글 10건
+  static final int HOT_POSTS = 10;                                   // 댓글 폭주 대상 글 수
+
+  /** data.sql 의 게시글 uuid 규칙(board: BUS=1, NORM=2 / n: 1부터) */
+  static String postKey(int board, int n) {
+    return String.format("00000000-0000-4000-8000-%d%011d", board, n);
+  }
+
+  /** 이름 + (로그인 필요 여부) + 엔드포인트 묶음 */
+  record Scenario(String name, boolean admin, List<LoadDriver.Endpoint> endpoints) {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, List<String>> opt = LoadDriver.parse(args);
+    int concurrency = Integer.parseInt(LoadDriver.first(opt, "concurrency", "32"));
+    int seconds = Integer.parseInt(LoadDriver.first(opt, "duration", "15"));
+    int warmup = Integer.parseInt(LoadDriver.first(opt, "warmup", "5"));
+    List<String> names = opt.getOrDefault("scenario", List.of("browse", "front", "comments", "login", "admin", "static"));
+
+    System.setProperty("spring.devtools.restart.enabled", "false"); // devtools 재시작 클래스로더 끔(테스트 클래스패스에 있음)
+    try (ConfigurableApplicationContext app = new SpringApplicationBuilder(DemoApplication.class)
+        .run(appArgs(opt))) {
+      int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+      String base = "http://localhost:" + port;
+
+      List<String> lines = new ArrayList<>();
+      for (String name : names) {
+        Scenario sc = scenario(name, base);
+        HttpClient client = LoadDriver.client();
+        if (sc.admin()) LoadDriver.login(client, base, "admin", PASSWORD);
+        if (warmup > 0) LoadDriver.runEndpoints(client, sc.endpoints(), concurrency, Duration.ofSeconds(warmup));
+        for (LoadDriver.Stats s : LoadDriver.runEndpoints(client, sc.endpoints(), concurrency, Duration.ofSeconds(seconds))) {
+          lines.add(s.line(sc.name()));
+        }
+      }
+      System.out.println();
+      System.out.printf("load harness: H2(MariaDB mode), concurrency=%d, duration=%ds, warmup=%ds%n",
+          concurrency, seconds, warmup);
+      System.out.println(LoadDriver.header());
+      lines.forEach(System.out::println);
+    }
+  }
+
+  /** 하네스 기본 설정 + 사용자가 준 --a.b=c (같은 키는 사용자 값 우선) → 앱 커맨드라인 인자 */
+  static String[] appArgs(Map<String, List<String>> opt) {
+    Map<String, String> props = new LinkedHashMap<>();
+    props.put("spring.datasource.url", "jdbc:h2:mem:load;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+    props.put("spring.datasource.username", "sa");
+    props.put("spring.datasource.password", "");
+    props.put("spring.sql.init.mode", "always");
+    props.put("spring.sql.init.schema-locations", "classpath:loadtest/schema.sql");
+    props.put("spring.sql.init.data-locations", "classpath:loadtest/data.sql");
+    props.put("spring.sql.init.encoding", "UTF-8");
+    props.put("server.port", "0");                                   // 임의 포트
+    props.put("management.server.port", "-1");                       // Actuator 별도 포트 끔
+    props.put("app.rate-limit.enabled", "false");                    // 한 계정으로 몰아 쏘므로 기본은 끔(--app.rate-limit.enabled=true 로 측정 가능)
+    props.put("logging.level.root", "WARN");
+    props.put("logging.level.org.springframework.security", "WARN");
+    props.put("logging.level.org.springframework.beans.factory.support.DisposableBeanAdapter", "ERROR"); // 종료 시 H2 이중 SHUTDOWN 경고
+    props.put("spring.main.banner-mode", "off");
+    opt.forEach((k, v) -> { if (k.contains(".")) props.put(k, v.get(v.size() - 1)); });
+
+    return props.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new);
+  }
+
+  static Scenario scenario(String name, String base) {
+    return switch (name) {
+      // 게시판 탐색: 목록(앞쪽 20페이지) → 글 상세 → 댓글 목록 → 메뉴
+      case "browse" -> new Scenario(name, true, List.of(
+          new LoadDriver.Endpoint("GET /api/boards/{code}/posts", (c, w, i) -> get(c, base
+              + "/api/boards/" + (i % 2 == 0 ? "BUS" : "NORM") + "/posts?page=" + rnd(20) + "&size=10")),
+          new LoadDriver.Endpoint("GET /api/posts/{id}", (c, w, i) -> get(c, base
+              + "/api/posts/" + postKey(1 + rnd(2), 1 + rnd(POSTS_PER_BOARD)))),
+          new LoadDriver.Endpoint("GET /api/posts/{id}/comments", (c, w, i) -> get(c, base
+              + "/api/posts/" + postKey(1 + rnd(2), 1 + rnd(POSTS_WITH_COMMENTS)) + "/comments")),
+          LoadDriver.get(base, "/api/menus")));
+
+      // 게시판 첫 화면: 첫 페이지 목록(BoardFrontPage 스냅샷 경로) — --app.front-page.enabled=false 와 비교
+      case "front" -> new Scenario(name, true, List.of(
+          new LoadDriver.Endpoint("GET /api/boards/{code}/posts?page=0", (c, w, i) -> get(c, base
+              + "/api/boards/" + (i % 2 == 0 ? "BUS" : "NORM") + "/posts?page=0&size=10"))));
+
+      // 댓글 폭주: 소수의 인기 글에 쓰기 + 같은 글의 댓글 목록 읽기
+      case "comments" -> new Scenario(name, true, List.of(
+          new LoadDriver.Endpoint("POST /api/posts/key/{key}/comments", (c, w, i) -> c.send(
+              HttpRequest.newBuilder(URI.create(base + "/api/posts/key/" + postKey(1, 1 + rnd(HOT_POSTS)) + "/comments"))
+                  .header("Content-Type", "application/json")
+                  .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"load " + w + "-" + i + "\"}"))
+                  .timeout(Duration.ofSeconds(30)).build(),
+              HttpResponse.BodyHandlers.discarding()).statusCode()),
+          new LoadDriver.Endpoint("GET /api/posts/{hot}/comments", (c, w, i) -> get(c, base
+              + "/api/posts/" + postKey(1, 1 + rnd(HOT_POSTS)) + "/comments"))));
+
+      // 로그인 폭주: 매번 새 클라이언트(새 세션)로 GET /login(CSRF) + POST /login — BCrypt 검증 비용 포함
+      case "login" -> new Scenario(name, false, List.of(
+          new LoadDriver.Endpoint("GET+POST /login", (c, w, i) -> {
+            LoadDriver.login(LoadDriver.client(), base, String.format("user%04d", 1 + rnd(USERS)), PASSWORD);
+            return 200;
+          })));
+
+      // 관리자 화면: 권한 목록(RoleIndex 키셋 첫 페이지 / 전체 배열), 사용자 목록 첫 페이지(이름순)
+      case "admin" -> new Scenario(name, true, List.of(
+          LoadDriver.get(base, "/api/admin/roles"),
+          LoadDriver.get(base, "/api/roles"),
+          LoadDriver.get(base, "/api/admin/users?size=10&sort=name"),
+          LoadDriver.get(base, "/user")));
+
+      // 정적 리소스(로그인 세션 쿠키를 가진 브라우저가 받는 것과 같은 요청) — 전체 요청 수의 대부분
+      case "static" -> new Scenario(name, true, List.of(
+          LoadDriver.get(base, "/app.js"),
+          LoadDriver.get(base, "/lib/angular.js"),
+          LoadDriver.get(base, "/index.html"),
+          LoadDriver.get(base, "/tpl/board/bus.html")));
+
+      default -> throw new IllegalArgumentException("unknown scenario: " + name);
+    };
+  }
+
+  private static int get(HttpClient c, String url) throws Exception {
+    return c.send(HttpRequest.newBuilder(URI.create(url)).GET().timeout(Duration.ofSeconds(30)).build(),
+        HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private static int rnd(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+}
@@ -0,0 +1,145 @@
+// src/test/java/com/example/demo/loadtest/StartupProbe.java
+package com.example.demo.loadtest;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시간 측정기 (mvn -Pfast-start verify 의 마지막 단계)
+ *
+ * 같은 앱을 세 가지 방식으로 번갈아 띄우고 각각
+ *   - started : 로그의 "Started DemoApplication in X seconds"(스프링 컨텍스트 + 웹서버 준비)
+ *   - first   : 프로세스 시작 → 첫 GET(기본 /login, DB 불필요) 200 응답까지(JVM 기동 포함, 노드가 트래픽을 받기 시작하는 시점)
+ * 을 잰다.
+ *   jar     : 지금 배포하는 실행 jar 그대로(java -jar)
+ *   aot     : 풀린 jar + -Dspring.aot.enabled=true
+ *   aot+cds : 위 + -XX:SharedArchiveFile(학습 실행으로 만든 application.jsa)
+ *
+ * 옵션: --jar=실행 jar --dir=풀린 디렉터리 --runs=N(기본 3) --path=/login --timeout=초(기본 120)
+ *       그 밖의 --a.b=c 는 앱 인자로 전달(포트는 매번 빈 포트, Actuator 포트는 끔)
+ */
+public final class StartupProbe {
+
+  private StartupProbe() {}
+
+  private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+
+  /** dir = 작업 디렉터리(null 이면 현재) — CDS 는 학습 때와 같은 클래스패스 문자열이어야 아카이브를 씀 */
+  record Mode(String name, File dir, List<String> command) {}
+
+  record Result(double startedSec, long firstRequestMs) {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, List<String>> opt = LoadDriver.parse(args);
+    String jar = LoadDriver.first(opt, "jar", "target/demo-0.0.1-SNAPSHOT.jar");
+    File dir = new File(LoadDriver.first(opt, "dir", "target/fast-start"));
+    int runs = Integer.parseInt(LoadDriver.first(opt, "runs", "3"));
+    String path = LoadDriver.first(opt, "path", "/login");
+    int timeout = Integer.parseInt(LoadDriver.first(opt, "timeout", "120"));
+    List<String> appArgs = new ArrayList<>();
+    opt.forEach((k, v) -> { if (k.contains(".")) appArgs.add("--" + k + "=" + v.get(v.size() - 1)); });
+
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    String extracted = new File(jar).getName();                       // dir 안에서 상대 경로로 실행(학습 실행과 동일)
+
+    List<Mode> modes = new ArrayList<>();
+    modes.add(new Mode("jar", null, List.of(java, "-jar", jar)));
+    modes.add(new Mode("aot", dir, List.of(java, "-Dspring.aot.enabled=true", "-jar", extracted)));
+    if (new File(dir, "application.jsa").isFile()) {
+      modes.add(new Mode("aot+cds", dir, List.of(java, "-XX:SharedArchiveFile=application.jsa", "-Xshare:auto",
+          "-Dspring.aot.enabled=true", "-jar", extracted)));
+    } else {
+      System.out.println("CDS 아카이브 없음(" + dir + "/application.jsa) — aot+cds 생략");
+    }
+
+    Map<String, List<Result>> results = new LinkedHashMap<>();
+    for (int r = 0; r < runs; r++) {                                 // 방식별로 번갈아 실행(캐시/부하 편향 완화)
+      for (Mode m : modes) {
+        Result res = launch(m, appArgs, path, timeout);
+        results.computeIfAbsent(m.name(), x -> new ArrayList<>()).add(res);
+        System.out.printf("run %d %-8s started=%.2fs first=%dms%n", r + 1, m.name(), res.startedSec(), res.firstRequestMs());
+      }
+    }
+
+    System.out.println();
+    System.out.printf("startup probe: GET %s, runs=%d (median)%n", path, runs);
+    System.out.printf("%-10s %12s %14s%n", "mode", "started(s)", "first-req(ms)");
+    results.forEach((name, list) -> System.out.printf("%-10s %12.2f %14d%n", name,
+        median(list.stream().mapToDouble(Result::startedSec).toArray()),
+        (long) median(list.stream().mapToDouble(Result::firstRequestMs).toArray())));
+  }
+
+  /** 한 번 기동 → 첫 200 까지 대기 → 종료 */
+  private static Result launch(Mode mode, List<String> appArgs, String path, int timeoutSec) throws Exception {
+    int port;
+    try (ServerSocket s = new ServerSocket(0)) {
+      port = s.getLocalPort();
+    }
+    List<String> cmd = new ArrayList<>(mode.command());
+    cmd.add("--server.port=" + port);
+    cmd.add("--management.server.port=-1");
+    cmd.addAll(appArgs);
+
+    long t0 = System.nanoTime();
+    Process p = new ProcessBuilder(cmd).directory(mode.dir()).redirectErrorStream(true).start();
+    double[] started = { -1 };
+    Thread reader = Thread.ofVirtual().start(() -> {                   // 출력 소비(파이프가 차서 앱이 멈추지 않게) + Started 줄 찾기
+      try (BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = in.readLine()) != null) {
+          Matcher m = STARTED.matcher(line);
+          if (started[0] < 0 && m.find()) started[0] = Double.parseDouble(m.group(1));
+        }
+      } catch (Exception ignore) {
+        // 프로세스 종료
+      }
+    });
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(500)).build();
+    HttpRequest req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(10)).GET().build();
+    long deadline = t0 + TimeUnit.SECONDS.toNanos(timeoutSec);
+    long firstMs = -1;
+    try {
+      while (System.nanoTime() < deadline && p.isAlive()) {
+        try {
+          if (client.send(req, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            firstMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+            break;
+          }
+        } catch (IOException notYet) {
+          // 아직 포트가 안 열림
+        }
+        Thread.sleep(20);
+      }
+    } finally {
+      p.destroy();
+      if (!p.waitFor(20, TimeUnit.SECONDS)) p.destroyForcibly().waitFor();
+      reader.join(5000);
+    }
+    if (firstMs < 0) throw new IllegalStateException(mode.name() + ": " + timeoutSec + "초 안에 " + path + " 200 응답 없음");
+    return new Result(started[0], firstMs);
+  }
+
+  private static double median(double[] v) {
+    Arrays.sort(v);
+    return v.length == 0 ? 0 : v[v.length / 2];
+  }
+}
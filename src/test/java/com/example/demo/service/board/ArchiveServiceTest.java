@@ -0,0 +1,111 @@
+package com.example.demo.service.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dao.CommentDao;
+import com.example.demo.dao.H2Fixture;
+import com.example.demo.dao.PostDao;
+import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.PostDto;
+import com.example.demo.id.TimeOrderedIdGenerator;
+
+class ArchiveServiceTest {
+
+	@Test
+	void movesOldPostsAndCommentsWithoutChangingWhatReadersSee() {
+		H2Fixture db = new H2Fixture("archive", new TimeOrderedIdGenerator(0), true);
+		JdbcTemplate jdbc = db.jdbc;
+		PostDao posts = db.posts(e -> {});
+		CommentDao comments = db.comments();
+
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			PostDto d = new PostDto();
+			d.setBoardCode("NORM");
+			d.setTitle("t" + i);
+			d.setContent("본문 " + i);
+			d.setWriterId("alice");
+			posts.insert(d);
+			keys.add(d.getUuid());
+			for (int c = 0; c < 3; c++) comments.insert(comment(d.getUuid()));
+		}
+		jdbc.update("UPDATE post SET created_at = ? WHERE uuid IN (?, ?, ?)",             // 앞의 3개만 오래된 글
+				Timestamp.valueOf(LocalDateTime.now().minusDays(400)), keys.get(0), keys.get(1), keys.get(2));
+
+		List<String> page1 = uuids(posts.findByBoardPaged("NORM", 1, 2));
+		List<String> page2 = uuids(posts.findByBoardPaged("NORM", 2, 2));
+		List<String> page3 = uuids(posts.findByBoardPaged("NORM", 3, 2));
+		List<String> all = uuids(posts.findByBoard("NORM"));
+		Map<String, List<CommentDto>> before = comments.findByPosts(keys);
+
+		ArchiveService service = new ArchiveService(posts, comments, db.archive,
+				Duration.ofDays(180), 2, Duration.ZERO, Duration.ZERO);         // 배치 2건 → 글/댓글 모두 여러 배치
+		service.run();
+
+		assertEquals(3, service.status().lastRunPosts());
+		assertEquals(9, service.status().lastRunComments());
+		assertEquals(2L, jdbc.queryForObject("SELECT COUNT(*) FROM post", Long.class));
+		assertEquals(3L, jdbc.queryForObject("SELECT COUNT(*) FROM post_archive", Long.class));
+		assertEquals(9L, jdbc.queryForObject("SELECT COUNT(*) FROM comment_archive", Long.class));
+
+		PostDto others = posts.findByKey(keys.get(0));                        // 남의 보관된 글 — 되돌리지도, 댓글을 지우지도 않음
+		assertEquals(0, posts.updateIfOwner(others, "bob"));
+		assertEquals(0, posts.deleteIfOwner(keys.get(0), "bob"));
+		String archived = before.get(keys.get(0)).get(0).getUuid();          // bob 이 쓴 보관된 댓글 — alice 는 못 건드림
+		assertEquals(0, comments.updateContentByUuidAndAuthor(archived, "수정", "alice"));
+		assertEquals(0, comments.deleteByUuidAndAuthor(archived, "alice"));
+		assertEquals(1L, jdbc.queryForObject("SELECT COUNT(*) FROM comment_archive WHERE uuid = ?", Long.class, archived));
+		assertEquals(3L, jdbc.queryForObject("SELECT COUNT(*) FROM post_archive", Long.class));
+		assertEquals(9L, jdbc.queryForObject("SELECT COUNT(*) FROM comment_archive", Long.class));
+
+		assertEquals(5, posts.countByBoard("NORM"));                       // 읽는 쪽에서는 그대로
+		assertEquals(page1, uuids(posts.findByBoardPaged("NORM", 1, 2)));
+		assertEquals(page2, uuids(posts.findByBoardPaged("NORM", 2, 2)));
+		assertEquals(page3, uuids(posts.findByBoardPaged("NORM", 3, 2)));
+		assertEquals(all, uuids(posts.findByBoard("NORM")));
+		assertEquals("본문 0", posts.findByKey(keys.get(0)).getContent());
+		assertEquals(keys, uuids(posts.findByKeys(keys)));
+		for (String k : keys) {
+			assertEquals(commentUuids(before.get(k)), commentUuids(comments.findByPost(k)));
+		}
+
+		PostDto edit = posts.findByKey(keys.get(1));                          // 보관된 글 수정 → hot 으로 되돌림
+		edit.setTitle("수정");
+		assertEquals(1, posts.update(edit));
+		assertEquals("수정", jdbc.queryForObject("SELECT title FROM post WHERE uuid = ?", String.class, keys.get(1)));
+		assertEquals(0L, jdbc.queryForObject("SELECT COUNT(*) FROM post_archive WHERE uuid = ?", Long.class, keys.get(1)));
+
+		service.run();                                                        // 다시 돌리면 되돌린 글만 다시 보관
+		assertEquals(1, service.status().lastRunPosts());
+		assertEquals(1, posts.deleteAny(keys.get(2)));
+		assertNull(posts.findByKey(keys.get(2)));
+		assertEquals(4, posts.countByBoard("NORM"));
+	}
+
+	private static CommentDto comment(String post) {
+		CommentDto c = new CommentDto();
+		c.setPostUuid(post);
+		c.setWriterId("bob");
+		c.setContent("댓글");
+		return c;
+	}
+
+	private static List<String> uuids(List<PostDto> list) {
+		return list.stream().map(PostDto::getUuid).toList();
+	}
+
+	private static List<String> commentUuids(List<CommentDto> list) {
+		return list.stream().map(CommentDto::getUuid).toList();
+	}
+}
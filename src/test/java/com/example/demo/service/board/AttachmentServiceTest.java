@@ -0,0 +1,61 @@
+package com.example.demo.service.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.dao.AttachmentDao;
+import com.example.demo.dao.AttachmentDao.Attachment;
+import com.example.demo.dao.H2Fixture;
+
+class AttachmentServiceTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void sweepRemovesOldUnreferencedFilesAndLeftoverTmp() throws Exception {
+		H2Fixture db = new H2Fixture("attachments");
+		AttachmentDao dao = new AttachmentDao(db.jdbc);
+		AttachmentService service = new AttachmentService(dao, db.ids, dir.toString(), 20,
+				Duration.ofMinutes(10), Duration.ZERO);                       // 주기 실행 없음 — 직접 호출
+
+		Path kept = file(service.path(sha('a')), true);                  // 참조 있음
+		dao.insert(new Attachment("u1", "p1", sha('a'), "a.txt", "text/plain", 1, "alice", null));
+		Path orphan = file(service.path(sha('b')), true);                // 참조 없음 + 오래됨 → 지움
+		Path recent = file(service.path(sha('c')), false);               // 참조 없음 + grace 안 → 남김
+		Path tmpOld = file(dir.resolve("tmp").resolve("crashed"), true);
+		Path tmpNew = file(dir.resolve("tmp").resolve("uploading"), false);
+		Path other = file(dir.resolve("README"), true);                  // 저장소 형식이 아닌 파일은 건드리지 않음
+
+		assertEquals(2, service.sweepAll());
+		assertTrue(Files.exists(kept));
+		assertFalse(Files.exists(orphan));
+		assertTrue(Files.exists(recent));
+		assertFalse(Files.exists(tmpOld));
+		assertTrue(Files.exists(tmpNew));
+		assertTrue(Files.exists(other));
+
+		assertEquals(0, service.sweepAll());                             // 다시 돌려도 같음
+		service.shutdown();
+	}
+
+	private static String sha(char c) {
+		return String.valueOf(c).repeat(64);
+	}
+
+	private static Path file(Path p, boolean old) throws Exception {
+		Files.createDirectories(p.getParent());
+		Files.writeString(p, "x");
+		if (old) Files.setLastModifiedTime(p, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+		return p;
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.demo.service.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dao.H2Fixture;
+import com.example.demo.dao.PostDao;
+import com.example.demo.dto.PageDTO;
+import com.example.demo.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BoardFrontPageTest {
+
+	private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void incrementalUpdatesMatchWhatTheDatabaseWouldServe() throws Exception {
+		H2Fixture db = new H2Fixture("frontpage");                       // 랜덤 uuid → 새 글이 창 밖에도 들어감
+		BoardFrontPage[] front = new BoardFrontPage[1];
+		PostDao posts = db.posts(e -> { if (e instanceof PostChangedEvent p) front[0].onPostChanged(p); });
+		front[0] = new BoardFrontPage(posts, mapper, true, List.of(5, 10), Duration.ZERO, 8);
+
+		for (int i = 0; i < 12; i++) posts.insert(post("t" + i));
+		assertMatchesDb(posts, front[0]);                                // 첫 조회에서 한 번 만듦
+		assertEquals(1, front[0].rebuilds());
+
+		for (int i = 0; i < 20; i++) posts.insert(post("n" + i));        // 창 안(끼워 넣기) / 창 밖(건수만) 모두 발생
+		assertMatchesDb(posts, front[0]);
+
+		List<PostDto> top = posts.findByBoardPaged("NORM", 0, 10);
+		PostDto edit = top.get(3);
+		edit.setTitle("수정됨");
+		posts.update(edit);
+		assertMatchesDb(posts, front[0]);
+
+		posts.deleteAny(top.get(0).getUuid());                           // 창 안 → 뒤 글로 채우려고 다시 만듦
+		posts.deleteAny(posts.findByBoardPaged("NORM", 0, 40).get(25).getUuid()); // 창 밖 → 건수만
+		assertMatchesDb(posts, front[0]);
+		assertEquals(2, front[0].rebuilds());
+
+		assertNull(front[0].json("NORM", 7));                            // 설정에 없는 크기는 DB 경로
+	}
+
+	@Test
+	void unknownBoardCodesAreNotCached() throws Exception {
+		H2Fixture db = new H2Fixture("frontpage_unknown");
+		PostDao posts = db.posts(e -> {});
+		BoardFrontPage front = new BoardFrontPage(posts, mapper, true, List.of(5, 10), Duration.ofMinutes(1), 1);
+		posts.insert(post("t"));
+
+		for (int i = 0; i < 3; i++) {                                    // 없는 코드 → 빈 페이지로 답하되 맵에는 안 남김
+			PageDTO<PostDto> empty = new PageDTO<>(List.of(), 0, 0, 5);
+			assertEquals(mapper.writeValueAsString(empty), new String(front.json("NOPE" + i, 5), "UTF-8"));
+		}
+		assertMatchesDb(posts, front);                                   // 자리가 1개여도 실제 게시판은 스냅샷으로
+		assertMatchesDb(posts, front);
+		assertEquals(4, front.rebuilds());
+		assertEquals(3, front.hits());                                   // 두 크기 × 두 번 중 첫 조회만 새로 만듦
+	}
+
+	private void assertMatchesDb(PostDao posts, BoardFrontPage front) throws Exception {
+		for (int size : new int[] { 5, 10 }) {
+			PageDTO<PostDto> db = new PageDTO<>(posts.findByBoardPaged("NORM", 0, size), posts.countByBoard("NORM"), 0, size);
+			assertEquals(mapper.writeValueAsString(db), new String(front.json("NORM", size), "UTF-8"));
+		}
+	}
+
+	private static PostDto post(String title) {
+		PostDto d = new PostDto();
+		d.setBoardCode("NORM");
+		d.setTitle(title);
+		d.setContent("본문 " + title);
+		d.setWriterId("alice");
+		return d;
+	}
+}
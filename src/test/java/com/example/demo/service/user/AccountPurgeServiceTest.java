@@ -0,0 +1,64 @@
+package com.example.demo.service.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dao.AccountPurgeDao;
+import com.example.demo.dao.H2Fixture;
+import com.example.demo.service.board.PostChangedEvent;
+
+class AccountPurgeServiceTest {
+
+	@Test
+	void deletesPostsAndTombstonesCommentsInBatchesAndCanRerun() {
+		H2Fixture db = new H2Fixture("purge");
+		JdbcTemplate jdbc = db.jdbc;
+		for (String[] p : new String[][] { { "p1", "gone" }, { "p2", "gone" }, { "p3", "gone" }, { "pa", "alice" } }) {
+			jdbc.update("INSERT INTO post(uuid, board_uuid, title, content, author_id) VALUES (?, 'b1', 't', 'c', ?)", p[0], p[1]);
+		}
+		String[][] comments = { // uuid, post, parent, depth, author
+				{ "c1", "p1", null, "0", "alice" }, { "c2", "p1", "c1", "1", "bob" }, { "c3", "p1", null, "0", "gone" },
+				{ "g1", "pa", null, "0", "gone" }, { "r1", "pa", "g1", "1", "alice" }, { "g2", "pa", null, "0", "gone" } };
+		for (String[] c : comments) {
+			jdbc.update("INSERT INTO `comment`(uuid, post_uuid, parent_uuid, depth, author_id, content) VALUES (?, ?, ?, ?, ?, 'x')",
+					c[0], c[1], c[2], Integer.parseInt(c[3]), c[4]);
+		}
+
+		List<Object> events = new ArrayList<>();
+		AccountPurgeDao jobs = new AccountPurgeDao(jdbc);
+		AccountPurgeService purge = new AccountPurgeService(jobs, db.posts(events::add), db.comments(), events::add,
+				2, Duration.ZERO, Duration.ZERO, 5);
+
+		purge.enqueue("gone");
+		assertEquals(new AccountDeletedEvent("gone"), events.get(0));
+		assertEquals(List.of("gone"), jobs.findUnfinished(5));
+		purge.run("gone"); // 배치 2건: 글 3개 → 2 + 1, 댓글도 나눠서
+
+		assertEquals(List.of("pa"), jdbc.queryForList("SELECT uuid FROM post ORDER BY uuid", String.class));
+		assertEquals(List.of("g1", "g2", "r1"), jdbc.queryForList("SELECT uuid FROM `comment` ORDER BY uuid", String.class));
+		Map<String, Object> g1 = jdbc.queryForMap("SELECT * FROM `comment` WHERE uuid = 'g1'");
+		assertEquals("DELETED", g1.get("status"));
+		assertNull(g1.get("author_id"));
+		assertEquals("alice", jdbc.queryForObject("SELECT author_id FROM `comment` WHERE uuid = 'r1'", String.class));
+		assertEquals(3, events.stream().filter(e -> e instanceof PostChangedEvent p && p.type() == PostChangedEvent.Type.DELETED).count());
+
+		AccountPurgeDao.Job job = jobs.find("gone");
+		assertEquals("DONE", job.status());
+		assertEquals(3, job.postsDeleted());
+		assertEquals(3, job.commentsDeleted());
+		assertEquals(2, job.commentsTombstoned());
+		assertEquals(List.of(), jobs.findUnfinished(5));
+
+		purge.run("gone"); // 재실행해도 남은 것이 없으니 그대로
+		assertEquals(3, jobs.find("gone").postsDeleted());
+		assertEquals("DONE", jobs.find("gone").status());
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.demo.service.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dao.RoleDao;
+import com.example.demo.dto.RoleRow;
+
+class RoleIndexTest {
+
+	/** users / users_roles(ADMIN) 를 메모리로 흉내 */
+	static class FakeRoleDao extends RoleDao {
+		final Set<String> users = new TreeSet<>();
+		final Set<String> admins = new HashSet<>();
+
+		FakeRoleDao() {
+			super(null);
+		}
+
+		@Override
+		public void forEachUserId(Consumer<String> action) {
+			users.forEach(action);
+		}
+
+		@Override
+		public void forEachAdminUserId(Consumer<String> action) {
+			admins.forEach(action);
+		}
+
+		@Override
+		public boolean userExists(String userId) {
+			return users.contains(userId);
+		}
+
+		@Override
+		public boolean hasAdminRole(String userId) {
+			return admins.contains(userId);
+		}
+	}
+
+	private static List<String> names(RoleIndex.Slice s) {
+		List<String> out = new ArrayList<>();
+		for (RoleRow r : s.items()) out.add(r.getUsername() + ":" + r.getRole());
+		return out;
+	}
+
+	@Test
+	void pagesByCursorAndFiltersByRoleAndPrefix() {
+		FakeRoleDao dao = new FakeRoleDao();
+		dao.users.addAll(List.of("alice", "Bob", "carol", "dave", "erin"));
+		dao.admins.addAll(List.of("carol", "ghost")); // ghost: users 에 없는 매핑 → 무시
+		RoleIndex index = new RoleIndex(dao, Duration.ZERO, 2, 10);
+
+		RoleIndex.Slice p1 = index.page(null, null, null, null);
+		assertEquals(List.of("alice:ROLE_USER", "Bob:ROLE_USER"), names(p1));
+		assertEquals("Bob", p1.next());
+		assertEquals(5L, p1.total());
+		RoleIndex.Slice p3 = index.page(index.page(p1.next(), null, null, null).next(), null, null, null);
+		assertEquals(List.of("erin:ROLE_USER"), names(p3));
+		assertNull(p3.next());
+
+		assertEquals(List.of("carol:ROLE_ADMIN"), names(index.page(null, 10, "ROLE_ADMIN", null)));
+		assertEquals(1L, index.page(null, 10, "admin", null).total());
+		assertEquals(4L, index.page(null, 10, "USER", null).total());
+		assertEquals(List.of("dave:ROLE_USER", "erin:ROLE_USER"), names(index.page("carol", 10, "USER", null)));
+
+		RoleIndex.Slice b = index.page(null, 10, null, "b");
+		assertEquals(List.of("Bob:ROLE_USER"), names(b));
+		assertNull(b.total());
+		assertEquals(List.of(), names(index.page("dave", 10, null, "b")));
+	}
+
+	@Test
+	void appliesIncrementalChanges() {
+		FakeRoleDao dao = new FakeRoleDao();
+		dao.users.addAll(List.of("alice", "bob"));
+		RoleIndex index = new RoleIndex(dao, Duration.ZERO, 50, 500);
+		assertEquals(2L, index.page(null, null, null, null).total());
+
+		dao.users.add("carol");
+		dao.admins.add("carol");
+		index.onChanged(new UserRolesChangedEvent("carol"));
+		dao.admins.add("alice");
+		index.onChanged(new UserRolesChangedEvent("alice"));
+		assertEquals(List.of("alice:ROLE_ADMIN", "carol:ROLE_ADMIN"), names(index.page(null, null, "ADMIN", null)));
+
+		dao.users.remove("carol");
+		dao.admins.remove("carol");
+		index.onChanged(new UserRolesChangedEvent("carol"));
+		dao.admins.remove("alice");
+		index.onChanged(new UserRolesChangedEvent("alice"));
+		RoleIndex.Slice all = index.page(null, null, null, null);
+		assertEquals(List.of("alice:ROLE_USER", "bob:ROLE_USER"), names(all));
+		assertEquals(2L, all.total());
+		assertEquals(0L, index.page(null, null, "ADMIN", null).total());
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.demo.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TracingTest {
+
+	@Test
+	void spansNestUnderTheOpenParent() {
+		Span root = Tracing.begin("HTTP GET /x");
+		try (Span dao = Tracing.start("dao", "PostDao.findById")) {
+			try (Span jdbc = Tracing.start("jdbc", "executeQuery")) {
+				jdbc.attr("db.statement", "SELECT 1");
+			}
+		}
+		Tracing.start("json.write").close();
+		root.close();
+		TraceRecord rec = Tracing.end();
+
+		assertFalse(Tracing.active());
+		List<TraceRecord.SpanRecord> s = rec.spans();
+		assertEquals(4, s.size());
+		assertEquals(0, s.get(0).parentSpanId());
+		assertEquals(1, s.get(1).parentSpanId());                  // dao → root
+		assertEquals(2, s.get(2).parentSpanId());                  // jdbc → dao
+		assertEquals(1, s.get(3).parentSpanId());                  // json.write → root
+		assertEquals("SELECT 1", s.get(2).attributes().get("db.statement"));
+		assertEquals(32, rec.traceId().length());
+	}
+
+	@Test
+	void untracedThreadGetsNoop() {
+		assertSame(Span.NOOP, Tracing.start("dao", "x"));
+		assertNull(Tracing.end());
+	}
+
+	@Test
+	void ringKeepsNewestFirst() {
+		TraceRing<Integer> ring = new TraceRing<>(4);
+		for (int i = 0; i < 10; i++) ring.add(i);
+		assertEquals(List.of(9, 8, 7, 6), ring.snapshot());
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.demo.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimitTest {
+
+	private static final long MS = 1_000_000L;
+
+	@Test
+	void lowShareIsShedBeforeReads() {
+		AdaptiveLimit l = new AdaptiveLimit(10, 1, 100, 10, 1.5, 0.2, 0.9, 100);
+		for (int i = 0; i < 3; i++) assertTrue(l.tryAcquire(0.3));
+		assertFalse(l.tryAcquire(0.3));
+		for (int i = 0; i < 7; i++) assertTrue(l.tryAcquire(1.0));
+		assertFalse(l.tryAcquire(1.0));
+		assertEquals(10, l.inflight());
+	}
+
+	@Test
+	void limitShrinksWhenLatencyRises() {
+		AdaptiveLimit l = new AdaptiveLimit(40, 4, 100, 10, 1.5, 0.5, 0.9, 100);
+		drive(l, 40, 10 * MS, 20);                 // 기준선 10ms
+		int before = l.limit();
+		drive(l, 40, 100 * MS, 3);                 // DB 지연 10배(기준선이 따라오기 전)
+		assertTrue(l.limit() < before, "limit " + l.limit() + " should drop below " + before);
+	}
+
+	@Test
+	void failuresBackOffMultiplicatively() {
+		AdaptiveLimit l = new AdaptiveLimit(50, 4, 100, 10, 1.5, 0.2, 0.5, 100);
+		for (int i = 0; i < 10; i++) {
+			assertTrue(l.tryAcquire(1.0));
+			l.release(10 * MS, i == 0);
+		}
+		assertEquals(25, l.limit());
+	}
+
+	/** concurrency 개를 동시에 잡았다가 같은 지연으로 반납하는 것을 rounds 번 반복 */
+	private static void drive(AdaptiveLimit l, int concurrency, long rtt, int rounds) {
+		for (int r = 0; r < rounds; r++) {
+			int n = 0;
+			while (n < concurrency && l.tryAcquire(1.0)) n++;
+			for (int i = 0; i < n; i++) l.release(rtt, false);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+class RateLimitFilterTest {
+
+	@Test
+	void rejectsWith429AndRetryAfterOnceTheBucketIsEmpty() throws Exception {
+		RateLimitFilter f = filter(limit(2, 0.01), null);         // 100초에 한 개
+		assertEquals(200, post(f, "/api/boards/BUS/posts", null).getStatus());
+		assertEquals(200, post(f, "/api/boards/BUS/posts", null).getStatus());
+
+		MockHttpServletResponse res = post(f, "/api/boards/BUS/posts", null);
+		assertEquals(429, res.getStatus());
+		long retryAfter = Long.parseLong(res.getHeader("Retry-After"));
+		assertTrue(retryAfter > 90 && retryAfter <= 100, "Retry-After " + retryAfter);
+		assertTrue(res.getContentAsString().contains("too_many_requests"));
+		assertEquals(new RateLimitFilter.Stats(2, 1, 1, 0), f.stats().get("posts"));
+	}
+
+	@Test
+	void onlyMatchingMethodAndPathAreLimited() throws Exception {
+		RateLimitFilter f = filter(limit(1, 0.01), null);
+		assertEquals(200, post(f, "/api/boards/BUS/posts", null).getStatus());
+		assertEquals(429, post(f, "/api/boards/BUS/posts", null).getStatus());
+
+		MockHttpServletResponse get = run(f, new MockHttpServletRequest("GET", "/api/boards/BUS/posts"));
+		assertEquals(200, get.getStatus());                        // 읽기는 대상 아님
+		assertEquals(200, post(f, "/api/posts/1/comments", null).getStatus()); // 다른 경로
+		assertNull(post(f, "/api/posts/1/comments", null).getHeader("Retry-After"));
+	}
+
+	@Test
+	void userRejectionDoesNotSpendTheIpToken() throws Exception {
+		RateLimitFilter f = filter(limit(2, 0.01), limit(1, 0.01));
+		assertEquals(200, post(f, "/api/boards/BUS/posts", "alice").getStatus());
+		assertEquals(429, post(f, "/api/boards/BUS/posts", "alice").getStatus()); // 사용자 버킷에서 거절
+
+		assertEquals(200, post(f, "/api/boards/BUS/posts", "bob").getStatus());   // 같은 IP 의 남은 한 개
+		assertEquals(429, post(f, "/api/boards/BUS/posts", "carol").getStatus());
+	}
+
+	private static RateLimitProperties.Limit limit(int capacity, double refillPerSecond) {
+		RateLimitProperties.Limit l = new RateLimitProperties.Limit();
+		l.setCapacity(capacity);
+		l.setRefillPerSecond(refillPerSecond);
+		return l;
+	}
+
+	private static RateLimitFilter filter(RateLimitProperties.Limit ip, RateLimitProperties.Limit user) {
+		RateLimitProperties.Group g = new RateLimitProperties.Group();
+		g.setMethods(List.of("post"));
+		g.setPaths(List.of("/api/boards/*/posts"));
+		g.setIp(ip);
+		g.setUser(user);
+		RateLimitProperties p = new RateLimitProperties();
+		p.getGroups().put("posts", g);
+		return new RateLimitFilter(p);
+	}
+
+	/** user 가 있으면 세션에 로그인 상태를 넣어 보냄 */
+	private static MockHttpServletResponse post(RateLimitFilter f, String path, String user) throws Exception {
+		MockHttpServletRequest req = new MockHttpServletRequest("POST", path);
+		if (user != null) {
+			MockHttpSession session = new MockHttpSession();
+			session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+					new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, List.of())));
+			req.setSession(session);
+		}
+		return run(f, req);
+	}
+
+	private static MockHttpServletResponse run(RateLimitFilter f, MockHttpServletRequest req) throws Exception {
+		MockHttpServletResponse res = new MockHttpServletResponse();
+		f.doFilter(req, res, new MockFilterChain());
+		return res;
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.demo.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+
+	private static final long SEC = 1_000_000_000L;
+
+	@Test
+	void burstThenRefillAtConfiguredRate() {
+		TokenBucketTable t = new TokenBucketTable(4, 2, 1.0);
+		assertEquals(0, t.tryAcquire("a", 0));
+		assertEquals(0, t.tryAcquire("a", 0));
+		assertEquals(SEC, t.tryAcquire("a", 0));                 // 비었음 → 1초 뒤 한 개
+		assertEquals(SEC / 2, t.tryAcquire("a", SEC / 2));       // 반 개 찼음
+		assertEquals(0, t.tryAcquire("a", SEC));
+		assertEquals(0, t.tryAcquire("b", SEC));                 // 다른 키는 따로
+	}
+
+	@Test
+	void refillNeverExceedsCapacity() {
+		TokenBucketTable t = new TokenBucketTable(4, 2, 1.0);
+		t.tryAcquire("a", 0);
+		for (int i = 0; i < 2; i++) assertEquals(0, t.tryAcquire("a", 100 * SEC));
+		assertTrue(t.tryAcquire("a", 100 * SEC) > 0);
+	}
+
+	@Test
+	void refundReturnsOneToken() {
+		TokenBucketTable t = new TokenBucketTable(4, 1, 0.001);
+		assertEquals(0, t.tryAcquire("a", 0));
+		assertTrue(t.tryAcquire("a", 0) > 0);
+		t.refund("a");
+		assertEquals(0, t.tryAcquire("a", 0));
+		t.refund("a");
+		t.refund("a");                                           // 가득 찬 뒤로는 늘지 않음
+		assertEquals(0, t.tryAcquire("a", 0));
+		assertTrue(t.tryAcquire("a", 0) > 0);
+	}
+
+	@Test
+	void idleBucketsAreEvicted() {
+		TokenBucketTable t = new TokenBucketTable(4, 2, 1.0);
+		for (int i = 0; i < 100; i++) t.tryAcquire("ip" + i, 0);
+		t.tryAcquire("recent", 9 * SEC);
+		assertEquals(101, t.size());
+		assertEquals(100, t.evictIdle(10 * SEC, 5 * SEC));
+		assertEquals(1, t.size());
+	}
+}
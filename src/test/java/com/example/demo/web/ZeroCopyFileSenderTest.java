@@ -0,0 +1,38 @@
+package com.example.demo.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ZeroCopyFileSenderTest {
+
+	@Test
+	void parsesSingleByteRanges() {
+		assertArrayEquals(new long[] { 0, 99 }, ZeroCopyFileSender.parseRange("bytes=0-99", 1000));
+		assertArrayEquals(new long[] { 900, 999 }, ZeroCopyFileSender.parseRange("bytes=900-", 1000));
+		assertArrayEquals(new long[] { 950, 999 }, ZeroCopyFileSender.parseRange("bytes=-50", 1000));
+		assertArrayEquals(new long[] { 0, 999 }, ZeroCopyFileSender.parseRange("bytes=-5000", 1000));
+		assertArrayEquals(new long[] { 990, 999 }, ZeroCopyFileSender.parseRange("bytes=990-5000", 1000)); // 끝은 파일 끝으로 잘림
+
+		assertNull(ZeroCopyFileSender.parseRange("bytes=0-1,5-6", 1000)); // 여러 구간 → 전체
+		assertNull(ZeroCopyFileSender.parseRange("items=0-1", 1000));
+		assertNull(ZeroCopyFileSender.parseRange("bytes=9-1", 1000));
+		assertNull(ZeroCopyFileSender.parseRange("bytes=x-1", 1000));
+
+		long[] none = ZeroCopyFileSender.parseRange("bytes=1000-", 1000);
+		assertSame(none, ZeroCopyFileSender.parseRange("bytes=-0", 1000));
+		assertTrue(none.length == 0);
+	}
+
+	@Test
+	void ifNoneMatchComparesWeakly() {
+		assertTrue(ZeroCopyFileSender.matches("\"a\", W/\"b\"", "\"b\""));
+		assertTrue(ZeroCopyFileSender.matches("*", "\"b\""));
+		assertFalse(ZeroCopyFileSender.matches("\"a\"", "\"b\""));
+		assertFalse(ZeroCopyFileSender.matches(null, "\"b\""));
+	}
+}
@@ -0,0 +1,52 @@
+-- src/test/resources/loadtest/data.sql
+-- 부하 하네스 시드 데이터(결정적: 매 실행 같은 행/키)
+--   - 계정: admin(ADMIN,USER) + user0001~user0500(USER), 비밀번호는 모두 load1234 (BCrypt cost 10)
+--   - 게시판: BUS / NORM, 게시판마다 게시글 2,000건
+--   - 댓글: 각 게시판 앞쪽 100개 글에 10건씩
+--   - 게시글 uuid 규칙: 00000000-0000-4000-8000-{게시판번호 1자리}{글번호 11자리} → LoadHarness.postKey()
+
+INSERT INTO users (user_id, name, phone, email, password) VALUES
+  ('admin', '관리자', '010-0000-0000', 'admin@load.test', '$2a$10$R1HOnujVEHwg5DEh0q6aGuKL2S8HDe.LDII5SVrJC4Qhh3Xncg1WC');
+
+INSERT INTO users (user_id, name, phone, email, password)
+SELECT CONCAT('user', LPAD(x, 4, '0')),
+       CONCAT('사용자', x),
+       CONCAT('010-1000-', LPAD(x, 4, '0')),
+       CONCAT('user', x, '@load.test'),
+       '$2a$10$R1HOnujVEHwg5DEh0q6aGuKL2S8HDe.LDII5SVrJC4Qhh3Xncg1WC'
+  FROM SYSTEM_RANGE(1, 500) r(x);
+
+INSERT INTO users_roles (user_id, role_id) VALUES ('admin', 'ADMIN'), ('admin', 'USER');
+INSERT INTO users_roles (user_id, role_id) SELECT user_id, 'USER' FROM users WHERE user_id <> 'admin';
+
+INSERT INTO board (uuid, board_code, board_name, is_active) VALUES
+  ('b0000000-0000-4000-8000-000000000001', 'BUS',  '버스',   1),
+  ('b0000000-0000-4000-8000-000000000002', 'NORM', '일반',   1);
+
+INSERT INTO post (uuid, board_uuid, title, content, author_id, created_at, updated_at)
+SELECT CONCAT('00000000-0000-4000-8000-', b.n, LPAD(r.x, 11, '0')),
+       b.uuid,
+       CONCAT('부하 테스트 글 ', r.x),
+       REPEAT('본문 내용 ', 40),
+       CONCAT('user', LPAD(MOD(r.x, 500) + 1, 4, '0')),
+       DATEADD('MINUTE', r.x, TIMESTAMP '2024-01-01 00:00:00'),
+       DATEADD('MINUTE', r.x, TIMESTAMP '2024-01-01 00:00:00')
+  FROM SYSTEM_RANGE(1, 2000) r(x)
+  CROSS JOIN (SELECT uuid, RIGHT(uuid, 1) AS n FROM board) b;
+
+INSERT INTO `comment` (uuid, post_uuid, parent_uuid, depth, author_id, content, status, created_at, updated_at)
+SELECT CONCAT('c0000000-0000-4000-8', LPAD(c.x, 3, '0'), '-', RIGHT(p.uuid, 12)),
+       p.uuid, NULL, 0,
+       CONCAT('user', LPAD(c.x, 4, '0')),
+       CONCAT('댓글 ', c.x), 'PUBLISHED', p.created_at, p.created_at
+  FROM post p
+  CROSS JOIN SYSTEM_RANGE(1, 10) c(x)
+ WHERE CAST(RIGHT(p.uuid, 11) AS INT) <= 100;
+
+INSERT INTO menu (uuid, menu_name, depth, priority, path, template_url, parent_uuid, is_active) VALUES
+  ('m0000000-0000-4000-8000-000000000001', '게시판', 1, 1, NULL,            NULL,                  NULL, TRUE),
+  ('m0000000-0000-4000-8000-000000000011', '버스',   2, 1, '/boards/BUS',  '/tpl/board.html',     'm0000000-0000-4000-8000-000000000001', TRUE),
+  ('m0000000-0000-4000-8000-000000000012', '일반',   2, 2, '/boards/NORM', '/tpl/board.html',     'm0000000-0000-4000-8000-000000000001', TRUE),
+  ('m0000000-0000-4000-8000-000000000002', '관리',   1, 2, NULL,            NULL,                  NULL, TRUE),
+  ('m0000000-0000-4000-8000-000000000021', '권한',   2, 1, '/roles',        '/roles.html',         'm0000000-0000-4000-8000-000000000002', TRUE),
+  ('m0000000-0000-4000-8000-000000000022', '회원',   2, 2, '/db-users',     '/db-users.html',      'm0000000-0000-4000-8000-000000000002', TRUE);
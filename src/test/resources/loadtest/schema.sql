@@ -0,0 +1,71 @@
+-- src/test/resources/loadtest/schema.sql
+-- 부하 하네스(LoadHarness) 전용 스키마 — H2 MariaDB 호환 모드(MODE=MariaDB;DATABASE_TO_LOWER=TRUE)
+-- 운영 MariaDB 의 컬럼명/타입을 따른다(PostDao 는 메타데이터로 post.uuid / post.board_uuid / author_id 를 탐지).
+
+DROP TABLE IF EXISTS `comment`;
+DROP TABLE IF EXISTS post;
+DROP TABLE IF EXISTS board;
+DROP TABLE IF EXISTS menu;
+DROP TABLE IF EXISTS users_roles;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+  user_id  VARCHAR(50)  NOT NULL PRIMARY KEY,
+  name     VARCHAR(100) NOT NULL,
+  phone    VARCHAR(30),
+  email    VARCHAR(255) NOT NULL UNIQUE,
+  password VARCHAR(100) NOT NULL
+);
+
+CREATE INDEX idx_users_name ON users (name);   -- 관리자 사용자 목록 이름 정렬/접두사 검색(UsersSql.adminPage)
+
+CREATE TABLE users_roles (
+  user_id VARCHAR(50) NOT NULL,
+  role_id VARCHAR(50) NOT NULL,
+  PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE board (
+  uuid       CHAR(36)     NOT NULL PRIMARY KEY,
+  board_code VARCHAR(20)  NOT NULL UNIQUE,
+  board_name VARCHAR(100),
+  is_active  TINYINT      NOT NULL DEFAULT 1
+);
+
+CREATE TABLE post (
+  uuid       CHAR(36)     NOT NULL PRIMARY KEY,
+  board_uuid CHAR(36)     NOT NULL,
+  title      VARCHAR(200) NOT NULL,
+  content    TEXT,
+  author_id  VARCHAR(50),
+  created_at TIMESTAMP    DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP    DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_post_board ON post (board_uuid);
+CREATE INDEX idx_post_author ON post (author_id);
+
+CREATE TABLE `comment` (
+  uuid        CHAR(36)    NOT NULL PRIMARY KEY,
+  post_uuid   VARCHAR(36) NOT NULL,
+  post_id     BIGINT,                                      -- PostDao.deleteIfOwner 의 구 스키마 호환 조건용
+  parent_uuid CHAR(36),
+  depth       INT         NOT NULL DEFAULT 0,
+  author_id   VARCHAR(50),
+  content     TEXT,
+  status      VARCHAR(20) DEFAULT 'PUBLISHED',
+  created_at  TIMESTAMP   DEFAULT CURRENT_TIMESTAMP,
+  updated_at  TIMESTAMP   DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_comment_post ON `comment` (post_uuid);
+CREATE INDEX idx_comment_author ON `comment` (author_id);
+
+CREATE TABLE menu (
+  uuid         CHAR(36)     NOT NULL PRIMARY KEY,
+  menu_name    VARCHAR(100) NOT NULL,
+  depth        INT          NOT NULL,
+  priority     INT          NOT NULL DEFAULT 0,
+  path         VARCHAR(200),
+  template_url VARCHAR(200),
+  parent_uuid  CHAR(36),
+  is_active    BOOLEAN      NOT NULL DEFAULT TRUE
+);